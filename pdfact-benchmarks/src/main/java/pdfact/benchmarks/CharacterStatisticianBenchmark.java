@@ -0,0 +1,104 @@
+package pdfact.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pdfact.benchmarks.documents.BenchmarkDocumentType;
+import pdfact.benchmarks.util.PdfActStage;
+import pdfact.core.model.CharacterStatistic;
+import pdfact.core.model.Page;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.statistician.CharacterStatistician;
+
+/**
+ * A benchmark of computing the character statistics of the pages of a
+ * document and of aggregating the statistics of the pages to the statistic
+ * of the document.
+ *
+ * @author Claudius Korzen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CharacterStatisticianBenchmark extends PdfActBenchmark {
+  /**
+   * The type of the document whose characters are processed.
+   */
+  @Param({ "SINGLE_COLUMN", "TWO_COLUMN", "TABLES", "TYPE3", "IMAGES",
+      "THOUSAND_PAGES" })
+  public BenchmarkDocumentType documentType;
+
+  /**
+   * The pages of the parsed document (with computed character statistics).
+   */
+  protected List<Page> pages;
+
+  /**
+   * The statistician to benchmark.
+   */
+  protected CharacterStatistician statistician;
+
+  // ==========================================================================
+
+  /**
+   * Sets up the benchmark.
+   *
+   * @throws IOException
+   *         If the document couldn't be generated.
+   * @throws PdfActException
+   *         If the document couldn't be parsed.
+   */
+  @Setup
+  public void setUp() throws IOException, PdfActException {
+    setUpInjector();
+    PdfDocument pdf = createPdfDocument(getDocumentPath(this.documentType));
+    // The parser computes the character statistics of the pages.
+    pdf = PdfActStage.executeUntil(this.injector, pdf,
+        PdfActStage.MERGE_DIACRITICS);
+    this.pages = pdf.getPages();
+    this.statistician = this.injector.getInstance(CharacterStatistician.class);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Computes the character statistic of each page.
+   *
+   * @param blackhole
+   *        The blackhole that consumes the computed statistics.
+   */
+  @Benchmark
+  public void compute(Blackhole blackhole) {
+    for (Page page : this.pages) {
+      blackhole.consume(this.statistician.compute(page));
+    }
+  }
+
+  /**
+   * Aggregates the character statistics of the pages.
+   *
+   * @return The aggregated statistic.
+   */
+  @Benchmark
+  public CharacterStatistic aggregate() {
+    return this.statistician.aggregate(this.pages);
+  }
+}
@@ -0,0 +1,129 @@
+package pdfact.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pdfact.benchmarks.documents.BenchmarkDocumentType;
+import pdfact.benchmarks.util.ModelFactoryType;
+import pdfact.core.model.Page;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.pipes.parse.stream.PdfStreamsParser.PdfStreamsParserFactory;
+import pdfact.core.util.exception.PdfActException;
+
+/**
+ * A benchmark of the throughput of glyphs on parsing the streams of a PDF file
+ * (with a single thread), with the different implementations of the factories
+ * that create the characters and their positions. Besides the number of parsed
+ * documents per second, the secondary metric "glyphs" reports the number of
+ * created characters per second.
+ *
+ * @author Claudius Korzen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GlyphBenchmark extends PdfActBenchmark {
+  /**
+   * The type of the document to parse.
+   */
+  @Param({ "SINGLE_COLUMN", "TWO_COLUMN", "TABLES" })
+  public BenchmarkDocumentType documentType;
+
+  /**
+   * The implementation of the factories of the models.
+   */
+  @Param({ "ASSISTED_INJECT", "DIRECT" })
+  public ModelFactoryType modelFactoryType;
+
+  /**
+   * The path to the document to parse.
+   */
+  protected Path path;
+
+  /**
+   * The factory to create parsers.
+   */
+  protected PdfStreamsParserFactory parserFactory;
+
+  // ==========================================================================
+
+  /**
+   * Sets up the benchmark.
+   *
+   * @throws IOException
+   *         If the document to parse couldn't be generated.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    setUpInjector(this.modelFactoryType.createModule());
+    this.path = getDocumentPath(this.documentType);
+    this.parserFactory =
+        this.injector.getInstance(PdfStreamsParserFactory.class);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Parses the document and counts the parsed glyphs.
+   *
+   * @param counter
+   *        The counter of the parsed glyphs.
+   *
+   * @return The parsed document.
+   *
+   * @throws PdfActException
+   *         If the document couldn't be parsed.
+   */
+  @Benchmark
+  public PdfDocument parse(GlyphCounter counter) throws PdfActException {
+    PdfDocument pdf = createPdfDocument(this.path);
+    this.parserFactory.create().parse(pdf);
+    for (Page page : pdf.getPages()) {
+      counter.glyphs += page.getCharacters().size();
+    }
+    return pdf;
+  }
+
+  // ==========================================================================
+
+  /**
+   * The counter of the parsed glyphs, reported by JMH as a secondary metric
+   * (per second).
+   *
+   * @author Claudius Korzen
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class GlyphCounter {
+    /**
+     * The number of parsed glyphs.
+     */
+    public long glyphs;
+
+    /**
+     * Resets the counter before each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+      this.glyphs = 0;
+    }
+  }
+}
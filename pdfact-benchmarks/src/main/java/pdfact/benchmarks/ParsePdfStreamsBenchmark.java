@@ -0,0 +1,86 @@
+package pdfact.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pdfact.benchmarks.documents.BenchmarkDocumentType;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.pipes.parse.stream.PdfStreamsParser.PdfStreamsParserFactory;
+import pdfact.core.util.exception.PdfActException;
+
+/**
+ * A benchmark of parsing the streams of a PDF file into characters, figures
+ * and shapes (with a single thread).
+ *
+ * @author Claudius Korzen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParsePdfStreamsBenchmark extends PdfActBenchmark {
+  /**
+   * The type of the document to parse.
+   */
+  @Param({ "SINGLE_COLUMN", "TWO_COLUMN", "TABLES", "TYPE3", "IMAGES",
+      "THOUSAND_PAGES" })
+  public BenchmarkDocumentType documentType;
+
+  /**
+   * The path to the document to parse.
+   */
+  protected Path path;
+
+  /**
+   * The factory to create parsers.
+   */
+  protected PdfStreamsParserFactory parserFactory;
+
+  // ==========================================================================
+
+  /**
+   * Sets up the benchmark.
+   *
+   * @throws IOException
+   *         If the document to parse couldn't be generated.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    setUpInjector();
+    this.path = getDocumentPath(this.documentType);
+    this.parserFactory =
+        this.injector.getInstance(PdfStreamsParserFactory.class);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Parses the document.
+   *
+   * @return The parsed document.
+   *
+   * @throws PdfActException
+   *         If the document couldn't be parsed.
+   */
+  @Benchmark
+  public PdfDocument parse() throws PdfActException {
+    PdfDocument pdf = createPdfDocument(this.path);
+    this.parserFactory.create().parse(pdf);
+    return pdf;
+  }
+}
@@ -0,0 +1,92 @@
+package pdfact.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Module;
+import com.google.inject.util.Modules;
+
+import pdfact.benchmarks.documents.BenchmarkDocumentGenerator;
+import pdfact.benchmarks.documents.BenchmarkDocumentType;
+import pdfact.cli.guice.PdfActCliGuiceModule;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.model.PdfDocument.PdfDocumentFactory;
+
+/**
+ * The base class of all benchmarks, which provides the injector and the
+ * generated input documents.
+ *
+ * @author Claudius Korzen
+ */
+public abstract class PdfActBenchmark {
+  /**
+   * The generator of the input documents, shared by all benchmarks.
+   */
+  protected static final BenchmarkDocumentGenerator DOCUMENT_GENERATOR =
+      new BenchmarkDocumentGenerator();
+
+  /**
+   * The injector to create the components of PdfAct.
+   */
+  protected Injector injector;
+
+  /**
+   * The factory to create PDF documents.
+   */
+  protected PdfDocumentFactory pdfFactory;
+
+  // ==========================================================================
+
+  /**
+   * Creates the injector. Must be called on setting up each benchmark.
+   */
+  protected void setUpInjector() {
+    this.injector = Guice.createInjector(new PdfActCliGuiceModule());
+    this.pdfFactory = this.injector.getInstance(PdfDocumentFactory.class);
+  }
+
+  /**
+   * Creates the injector, with the bindings of the given module in place of
+   * the default bindings. Must be called on setting up each benchmark that
+   * compares alternative implementations.
+   *
+   * @param overridingModule
+   *        The module whose bindings override the default bindings.
+   */
+  protected void setUpInjector(Module overridingModule) {
+    this.injector = Guice.createInjector(
+        Modules.override(new PdfActCliGuiceModule()).with(overridingModule));
+    this.pdfFactory = this.injector.getInstance(PdfDocumentFactory.class);
+  }
+
+  /**
+   * Returns the path to the input document of the given type. Generates the
+   * document if it doesn't exist yet.
+   *
+   * @param type
+   *        The type of the document.
+   *
+   * @return The path to the input document of the given type.
+   *
+   * @throws IOException
+   *         If the document couldn't be generated.
+   */
+  protected Path getDocumentPath(BenchmarkDocumentType type)
+      throws IOException {
+    return DOCUMENT_GENERATOR.getDocument(type);
+  }
+
+  /**
+   * Creates a new (unprocessed) PDF document for the given path.
+   *
+   * @param path
+   *        The path to the PDF file.
+   *
+   * @return The created PDF document.
+   */
+  protected PdfDocument createPdfDocument(Path path) {
+    return this.pdfFactory.create(path);
+  }
+}
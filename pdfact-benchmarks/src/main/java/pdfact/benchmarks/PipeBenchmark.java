@@ -0,0 +1,117 @@
+package pdfact.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pdfact.benchmarks.documents.BenchmarkDocumentType;
+import pdfact.benchmarks.util.PdfActStage;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.pipeline.Pipe;
+
+/**
+ * A benchmark of each pipe of the core pipeline in isolation. Before each
+ * invocation, a fresh document is processed by all stages in front of the
+ * benchmarked stage, such that only the benchmarked pipe is measured.
+ *
+ * <p>
+ * The 1000-page document isn't benchmarked by default, because preparing it
+ * for each invocation takes long. Run with "-p documentType=THOUSAND_PAGES"
+ * to benchmark it.
+ *
+ * @author Claudius Korzen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PipeBenchmark extends PdfActBenchmark {
+  /**
+   * The stage to benchmark.
+   */
+  @Param({ "MERGE_DIACRITICS", "SPLIT_LIGATURES", "STANDARDIZE_CHARACTERS",
+      "FILTER_CHARACTERS", "FILTER_FIGURES", "FILTER_SHAPES",
+      "TOKENIZE_TO_TEXT_AREAS", "TOKENIZE_TO_TEXT_LINES", "TOKENIZE_TO_WORDS",
+      "TOKENIZE_TO_TEXT_BLOCKS", "DETECT_SEMANTICS", "TOKENIZE_TO_PARAGRAPHS",
+      "DEHYPHENATE_WORDS" })
+  public PdfActStage stage;
+
+  /**
+   * The type of the document to process.
+   */
+  @Param({ "SINGLE_COLUMN", "TWO_COLUMN", "TABLES", "TYPE3", "IMAGES" })
+  public BenchmarkDocumentType documentType;
+
+  /**
+   * The path to the document to process.
+   */
+  protected Path path;
+
+  /**
+   * The document in the state that is expected by the benchmarked stage.
+   */
+  protected PdfDocument pdf;
+
+  /**
+   * The pipe of the benchmarked stage.
+   */
+  protected Pipe pipe;
+
+  // ==========================================================================
+
+  /**
+   * Sets up the benchmark.
+   *
+   * @throws IOException
+   *         If the document to process couldn't be generated.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    setUpInjector();
+    this.path = getDocumentPath(this.documentType);
+  }
+
+  /**
+   * Prepares the document for the next invocation.
+   *
+   * @throws PdfActException
+   *         If the document couldn't be prepared.
+   */
+  @Setup(Level.Invocation)
+  public void setUpInvocation() throws PdfActException {
+    PdfDocument pdf = createPdfDocument(this.path);
+    this.pdf = PdfActStage.executeUntil(this.injector, pdf, this.stage);
+    this.pipe = this.stage.createPipe(this.injector);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Executes the pipe of the benchmarked stage.
+   *
+   * @return The processed document.
+   *
+   * @throws PdfActException
+   *         If the document couldn't be processed.
+   */
+  @Benchmark
+  public PdfDocument execute() throws PdfActException {
+    return this.pipe.execute(this.pdf);
+  }
+}
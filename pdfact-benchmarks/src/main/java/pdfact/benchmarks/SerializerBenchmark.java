@@ -0,0 +1,122 @@
+package pdfact.benchmarks;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+
+import pdfact.benchmarks.documents.BenchmarkDocumentType;
+import pdfact.benchmarks.util.CountingNullOutputStream;
+import pdfact.benchmarks.util.PdfActStage;
+import pdfact.cli.PdfActCLISettings;
+import pdfact.cli.model.SerializeFormat;
+import pdfact.cli.model.TextUnit;
+import pdfact.cli.pipes.serialize.PdfSerializer.SerializerFactory;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.util.exception.PdfActException;
+
+/**
+ * A benchmark of serializing a fully processed document in each
+ * serialization format. The serializations are written to a stream that
+ * discards them, such that only the serializers are measured.
+ *
+ * @author Claudius Korzen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SerializerBenchmark extends PdfActBenchmark {
+  /**
+   * The serialization format.
+   */
+  @Param({ "TXT", "XML", "JSON", "BINARY" })
+  public SerializeFormat format;
+
+  /**
+   * The text unit to serialize.
+   */
+  @Param({ "PARAGRAPH", "WORD", "CHARACTER" })
+  public TextUnit textUnit;
+
+  /**
+   * The type of the document to serialize.
+   */
+  @Param({ "SINGLE_COLUMN", "TWO_COLUMN", "TABLES", "TYPE3", "IMAGES",
+      "THOUSAND_PAGES" })
+  public BenchmarkDocumentType documentType;
+
+  /**
+   * The fully processed document.
+   */
+  protected PdfDocument pdf;
+
+  /**
+   * The factory to create serializers of the benchmarked format.
+   */
+  protected SerializerFactory serializerFactory;
+
+  /**
+   * The semantic roles to serialize.
+   */
+  protected Set<SemanticRole> roles;
+
+  // ==========================================================================
+
+  /**
+   * Sets up the benchmark.
+   *
+   * @throws IOException
+   *         If the document couldn't be generated.
+   * @throws PdfActException
+   *         If the document couldn't be processed.
+   */
+  @Setup
+  public void setUp() throws IOException, PdfActException {
+    setUpInjector();
+    PdfDocument pdf = createPdfDocument(getDocumentPath(this.documentType));
+    this.pdf = PdfActStage.executeAll(this.injector, pdf);
+
+    Map<SerializeFormat, SerializerFactory> factories = this.injector
+        .getInstance(Key.get(
+            new TypeLiteral<Map<SerializeFormat, SerializerFactory>>() {}));
+    this.serializerFactory = factories.get(this.format);
+    this.roles = PdfActCLISettings.DEFAULT_SEMANTIC_ROLES_TO_INCLUDE;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Serializes the document.
+   *
+   * @return The number of bytes of the serialization.
+   *
+   * @throws PdfActException
+   *         If the document couldn't be serialized.
+   */
+  @Benchmark
+  public long serialize() throws PdfActException {
+    CountingNullOutputStream stream = new CountingNullOutputStream();
+    this.serializerFactory.create(this.textUnit, this.roles)
+        .serialize(this.pdf, stream);
+    return stream.getNumWrittenBytes();
+  }
+}
@@ -0,0 +1,112 @@
+package pdfact.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+
+import pdfact.benchmarks.util.CharacterCloudGenerator;
+import pdfact.core.model.Character;
+import pdfact.core.model.Page;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.pipes.tokenize.areas.XYCutTokenizeToTextAreasPipe;
+import pdfact.core.util.list.ElementList;
+import pdfact.core.util.list.ElementList.ElementListFactory;
+import pdfact.core.util.xycut.XYCut;
+
+/**
+ * A benchmark of cutting synthetic clouds of characters into text areas with
+ * the XY-cut algorithm.
+ *
+ * @author Claudius Korzen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class XYCutBenchmark extends PdfActBenchmark {
+  /**
+   * The seed of the pseudo-random generator.
+   */
+  protected static final long SEED = 42;
+
+  /**
+   * The number of characters in the cloud.
+   */
+  @Param({ "1000", "10000", "100000" })
+  public int numCharacters;
+
+  /**
+   * The number of columns in the cloud.
+   */
+  @Param({ "1", "2", "4" })
+  public int numColumns;
+
+  /**
+   * The document that contains the cloud.
+   */
+  protected PdfDocument pdf;
+
+  /**
+   * The page that contains the cloud.
+   */
+  protected Page page;
+
+  /**
+   * The factory to create lists of characters.
+   */
+  protected ElementListFactory<Character> characterListFactory;
+
+  /**
+   * The XY-cut implementation to benchmark.
+   */
+  protected XYCut xyCut;
+
+  // ==========================================================================
+
+  /**
+   * Sets up the benchmark.
+   */
+  @Setup
+  public void setUp() {
+    setUpInjector();
+    CharacterCloudGenerator generator =
+        this.injector.getInstance(CharacterCloudGenerator.class);
+    this.pdf = generator.generate(this.numCharacters, this.numColumns, SEED);
+    this.page = this.pdf.getFirstPage();
+    this.characterListFactory = this.injector.getInstance(
+        Key.get(new TypeLiteral<ElementListFactory<Character>>() {}));
+    this.xyCut = this.injector.getInstance(XYCutTokenizeToTextAreasPipe.class);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Cuts the cloud into text areas. The cut sorts the given characters, so
+   * it is applied to a copy of the cloud, in the original extraction order.
+   *
+   * @return The resulting blocks of characters.
+   */
+  @Benchmark
+  public List<ElementList<Character>> cut() {
+    ElementList<Character> chars =
+        this.characterListFactory.create(this.numCharacters);
+    chars.addAll(this.page.getCharacters());
+    return this.xyCut.cut(this.pdf, this.page, chars);
+  }
+}
@@ -0,0 +1,824 @@
+package pdfact.benchmarks.documents;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.PDType3Font;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+
+/**
+ * A generator of the PDF documents that are used as inputs for the
+ * benchmarks. The documents are generated with PDFBox from pseudo-random text
+ * with a fixed seed, such that the same document is generated on each run.
+ * Each document is generated only once and is stored in a directory, from
+ * which it is read on subsequent runs.
+ *
+ * @author Claudius Korzen
+ */
+public class BenchmarkDocumentGenerator {
+  /**
+   * The name of the default directory (in the temporary directory of the
+   * system) in which the generated documents are stored.
+   */
+  protected static final String DEFAULT_DIRECTORY_NAME = "pdfact-benchmarks";
+
+  /**
+   * The seed of the pseudo-random generator.
+   */
+  protected static final long SEED = 42;
+
+  /**
+   * The words from which the text of the documents is composed.
+   */
+  protected static final String[] WORDS = { "lorem", "ipsum", "dolor", "sit",
+      "amet", "consectetur", "adipiscing", "elit", "sed", "do", "eiusmod",
+      "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna",
+      "aliqua", "enim", "ad", "minim", "veniam", "quis", "nostrud",
+      "exercitation", "ullamco", "laboris", "nisi", "aliquip", "ex", "ea",
+      "commodo", "consequat", "duis", "aute", "irure", "in", "reprehenderit",
+      "voluptate", "velit", "esse", "cillum", "fugiat", "nulla", "pariatur",
+      "excepteur", "sint", "occaecat", "cupidatat", "non", "proident", "sunt",
+      "culpa", "qui", "officia", "deserunt", "mollit", "anim", "id", "est",
+      "laborum" };
+
+  /**
+   * The format of the pages.
+   */
+  protected static final PDRectangle PAGE_FORMAT = PDRectangle.LETTER;
+
+  /**
+   * The margin of the pages.
+   */
+  protected static final float MARGIN = 72;
+
+  /**
+   * The font of the headings.
+   */
+  protected static final PDFont HEADING_FONT = PDType1Font.HELVETICA_BOLD;
+
+  /**
+   * The font size of the headings.
+   */
+  protected static final float HEADING_FONT_SIZE = 16;
+
+  /**
+   * The font of the body text.
+   */
+  protected static final PDFont BODY_FONT = PDType1Font.TIMES_ROMAN;
+
+  /**
+   * The font size of the body text.
+   */
+  protected static final float BODY_FONT_SIZE = 10;
+
+  /**
+   * The distance between two baselines of the body text.
+   */
+  protected static final float LEADING = 12;
+
+  /**
+   * The number of lines of a paragraph of the body text.
+   */
+  protected static final int NUM_LINES_PER_PARAGRAPH = 8;
+
+  /**
+   * The space between two columns of text.
+   */
+  protected static final float COLUMN_GAP = 24;
+
+  /**
+   * The number of columns of a table.
+   */
+  protected static final int NUM_TABLE_COLUMNS = 5;
+
+  /**
+   * The number of rows of a table.
+   */
+  protected static final int NUM_TABLE_ROWS = 25;
+
+  /**
+   * The first character code of the Type3 font.
+   */
+  protected static final int TYPE3_FIRST_CHAR = 32;
+
+  /**
+   * The last character code of the Type3 font.
+   */
+  protected static final int TYPE3_LAST_CHAR = 126;
+
+  /**
+   * The size of the images.
+   */
+  protected static final int IMAGE_SIZE = 160;
+
+  /**
+   * The directory in which the generated documents are stored.
+   */
+  protected Path directory;
+
+  // ==========================================================================
+
+  /**
+   * Creates a new generator that stores the generated documents in the
+   * default directory.
+   */
+  public BenchmarkDocumentGenerator() {
+    this(Paths.get(System.getProperty("java.io.tmpdir"),
+        DEFAULT_DIRECTORY_NAME));
+  }
+
+  /**
+   * Creates a new generator that stores the generated documents in the given
+   * directory.
+   *
+   * @param directory
+   *        The directory in which the generated documents should be stored.
+   */
+  public BenchmarkDocumentGenerator(Path directory) {
+    this.directory = directory;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the path to the document of the given type. Generates the
+   * document if it doesn't exist yet.
+   *
+   * @param type
+   *        The type of the document.
+   *
+   * @return The path to the document of the given type.
+   *
+   * @throws IOException
+   *         If the document couldn't be generated.
+   */
+  public synchronized Path getDocument(BenchmarkDocumentType type)
+      throws IOException {
+    Path path = this.directory.resolve(type.getFileName());
+    if (!Files.exists(path)) {
+      Files.createDirectories(this.directory);
+      // Generate the document into a temporary file first, such that an
+      // aborted run doesn't leave an incomplete document.
+      Path tmp = Files.createTempFile(this.directory, type.getName(), ".tmp");
+      try (PDDocument doc = generate(type)) {
+        doc.save(tmp.toFile());
+      }
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+    return path;
+  }
+
+  /**
+   * Generates the document of the given type.
+   *
+   * @param type
+   *        The type of the document.
+   *
+   * @return The generated document.
+   *
+   * @throws IOException
+   *         If the document couldn't be generated.
+   */
+  protected PDDocument generate(BenchmarkDocumentType type)
+      throws IOException {
+    PDDocument doc = new PDDocument();
+    Random random = new Random(SEED);
+    PDType3Font type3Font = null;
+    PDImageXObject logo = null;
+
+    for (int i = 0; i < type.getNumPages(); i++) {
+      PDPage page = new PDPage(PAGE_FORMAT);
+      doc.addPage(page);
+
+      switch (type) {
+        case TWO_COLUMN:
+          addTwoColumnPage(doc, page, random, i);
+          break;
+        case TABLES:
+          addTablePage(doc, page, random, i);
+          break;
+        case TYPE3:
+          if (type3Font == null) {
+            type3Font = createType3Font(doc);
+          }
+          addType3Page(doc, page, type3Font, random, i);
+          break;
+        case IMAGES:
+          if (logo == null) {
+            logo = createLogo(doc);
+          }
+          addImagePage(doc, page, logo, random, i);
+          break;
+        case SINGLE_COLUMN:
+        case THOUSAND_PAGES:
+        default:
+          addSingleColumnPage(doc, page, random, i);
+          break;
+      }
+    }
+    return doc;
+  }
+
+  // ==========================================================================
+  // Methods to generate pages.
+
+  /**
+   * Adds a heading and a single column of text to the given page.
+   *
+   * @param doc
+   *        The document to which the page belongs to.
+   * @param page
+   *        The page to fill.
+   * @param random
+   *        The pseudo-random generator.
+   * @param pageIndex
+   *        The index of the page.
+   *
+   * @throws IOException
+   *         If the page couldn't be filled.
+   */
+  protected void addSingleColumnPage(PDDocument doc, PDPage page,
+      Random random, int pageIndex) throws IOException {
+    float maxX = PAGE_FORMAT.getWidth() - MARGIN;
+    float maxY = PAGE_FORMAT.getHeight() - MARGIN;
+
+    try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+      writeHeading(cs, "Section " + (pageIndex + 1), MARGIN, maxY);
+      writeColumn(cs, random, MARGIN, maxX, maxY - 2 * LEADING, MARGIN);
+    }
+  }
+
+  /**
+   * Adds a heading and two columns of text to the given page.
+   *
+   * @param doc
+   *        The document to which the page belongs to.
+   * @param page
+   *        The page to fill.
+   * @param random
+   *        The pseudo-random generator.
+   * @param pageIndex
+   *        The index of the page.
+   *
+   * @throws IOException
+   *         If the page couldn't be filled.
+   */
+  protected void addTwoColumnPage(PDDocument doc, PDPage page, Random random,
+      int pageIndex) throws IOException {
+    float maxX = PAGE_FORMAT.getWidth() - MARGIN;
+    float maxY = PAGE_FORMAT.getHeight() - MARGIN;
+    float columnWidth = (maxX - MARGIN - COLUMN_GAP) / 2;
+
+    try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+      writeHeading(cs, "Section " + (pageIndex + 1), MARGIN, maxY);
+      writeColumn(cs, random, MARGIN, MARGIN + columnWidth,
+          maxY - 2 * LEADING, MARGIN);
+      writeColumn(cs, random, maxX - columnWidth, maxX, maxY - 2 * LEADING,
+          MARGIN);
+    }
+  }
+
+  /**
+   * Adds a heading, a short paragraph and a ruled table to the given page.
+   *
+   * @param doc
+   *        The document to which the page belongs to.
+   * @param page
+   *        The page to fill.
+   * @param random
+   *        The pseudo-random generator.
+   * @param pageIndex
+   *        The index of the page.
+   *
+   * @throws IOException
+   *         If the page couldn't be filled.
+   */
+  protected void addTablePage(PDDocument doc, PDPage page, Random random,
+      int pageIndex) throws IOException {
+    float maxX = PAGE_FORMAT.getWidth() - MARGIN;
+    float maxY = PAGE_FORMAT.getHeight() - MARGIN;
+    float tableMaxY = maxY - 2 * LEADING - NUM_LINES_PER_PARAGRAPH * LEADING;
+    float rowHeight = 1.5f * LEADING;
+    float columnWidth = (maxX - MARGIN) / NUM_TABLE_COLUMNS;
+    float tableMinY = tableMaxY - NUM_TABLE_ROWS * rowHeight;
+
+    try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+      writeHeading(cs, "Table " + (pageIndex + 1), MARGIN, maxY);
+      writeColumn(cs, random, MARGIN, maxX, maxY - 2 * LEADING,
+          tableMaxY + LEADING);
+
+      // Write the cells.
+      for (int row = 0; row < NUM_TABLE_ROWS; row++) {
+        float y = tableMaxY - (row + 1) * rowHeight + LEADING / 2;
+        for (int col = 0; col < NUM_TABLE_COLUMNS; col++) {
+          String text;
+          if (row == 0) {
+            text = capitalize(nextWord(random));
+          } else if (col == 0) {
+            text = nextWord(random);
+          } else {
+            text = String.format("%.2f", random.nextFloat() * 1000);
+          }
+          PDFont font = row == 0 ? HEADING_FONT : BODY_FONT;
+          writeText(cs, font, BODY_FONT_SIZE, text,
+              MARGIN + col * columnWidth + 4, y);
+        }
+      }
+
+      // Draw the rulings.
+      cs.setLineWidth(0.5f);
+      for (int row = 0; row <= NUM_TABLE_ROWS; row++) {
+        float y = tableMaxY - row * rowHeight;
+        cs.moveTo(MARGIN, y);
+        cs.lineTo(maxX, y);
+      }
+      for (int col = 0; col <= NUM_TABLE_COLUMNS; col++) {
+        float x = MARGIN + col * columnWidth;
+        cs.moveTo(x, tableMinY);
+        cs.lineTo(x, tableMaxY);
+      }
+      cs.stroke();
+    }
+  }
+
+  /**
+   * Adds a heading and a single column of text, both written in the given
+   * Type3 font, to the given page.
+   *
+   * @param doc
+   *        The document to which the page belongs to.
+   * @param page
+   *        The page to fill.
+   * @param font
+   *        The Type3 font.
+   * @param random
+   *        The pseudo-random generator.
+   * @param pageIndex
+   *        The index of the page.
+   *
+   * @throws IOException
+   *         If the page couldn't be filled.
+   */
+  protected void addType3Page(PDDocument doc, PDPage page, PDType3Font font,
+      Random random, int pageIndex) throws IOException {
+    float maxX = PAGE_FORMAT.getWidth() - MARGIN;
+    float maxY = PAGE_FORMAT.getHeight() - MARGIN;
+
+    PDResources resources = new PDResources();
+    COSName fontName = resources.add(font);
+    page.setResources(resources);
+
+    // PDFBox can't encode text in Type3 fonts, so the content stream is
+    // written by hand.
+    StringBuilder content = new StringBuilder();
+    content.append("BT\n");
+    content.append("/").append(fontName.getName()).append(" ")
+        .append(HEADING_FONT_SIZE).append(" Tf\n");
+    content.append(LEADING).append(" TL\n");
+    content.append(MARGIN).append(" ").append(maxY).append(" Td\n");
+    content.append("(Section ").append(pageIndex + 1).append(") Tj\n");
+    content.append("/").append(fontName.getName()).append(" ")
+        .append(BODY_FONT_SIZE).append(" Tf\n");
+    content.append("T* T*\n");
+
+    int numLines = (int) ((maxY - 2 * LEADING - MARGIN) / LEADING);
+    for (int i = 0; i < numLines; i++) {
+      StringBuilder line = new StringBuilder();
+      float width = 0;
+      while (true) {
+        String word = (line.length() > 0 ? " " : "") + nextWord(random);
+        float wordWidth = getType3Width(word) * BODY_FONT_SIZE / 1000;
+        if (line.length() > 0 && width + wordWidth > maxX - MARGIN) {
+          break;
+        }
+        line.append(word);
+        width += wordWidth;
+      }
+      content.append("(").append(line).append(") Tj T*\n");
+    }
+    content.append("ET\n");
+
+    PDStream stream = new PDStream(doc);
+    try (OutputStream out = stream.createOutputStream()) {
+      out.write(content.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+    page.setContents(stream);
+  }
+
+  /**
+   * Adds a heading, some text and some images (a multi-colored image, a
+   * single-colored image, a gradient and the given logo, which is shared by
+   * all pages) with captions to the given page.
+   *
+   * @param doc
+   *        The document to which the page belongs to.
+   * @param page
+   *        The page to fill.
+   * @param logo
+   *        The logo to draw on the page.
+   * @param random
+   *        The pseudo-random generator.
+   * @param pageIndex
+   *        The index of the page.
+   *
+   * @throws IOException
+   *         If the page couldn't be filled.
+   */
+  protected void addImagePage(PDDocument doc, PDPage page,
+      PDImageXObject logo, Random random, int pageIndex) throws IOException {
+    float maxX = PAGE_FORMAT.getWidth() - MARGIN;
+    float maxY = PAGE_FORMAT.getHeight() - MARGIN;
+    float imagesMaxY = maxY - 2 * LEADING - NUM_LINES_PER_PARAGRAPH * LEADING;
+
+    List<PDImageXObject> images = new ArrayList<>();
+    images.add(LosslessFactory.createFromImage(doc, createNoiseImage(random)));
+    images.add(LosslessFactory.createFromImage(doc,
+        createSingleColoredImage(random)));
+    images.add(LosslessFactory.createFromImage(doc, createGradientImage()));
+    images.add(logo);
+
+    try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+      writeHeading(cs, "Figures " + (pageIndex + 1), MARGIN, maxY);
+      writeColumn(cs, random, MARGIN, maxX, maxY - 2 * LEADING,
+          imagesMaxY + LEADING);
+
+      // Draw the images in a 2x2 grid.
+      float cellWidth = (maxX - MARGIN) / 2;
+      float cellHeight = IMAGE_SIZE + 3 * LEADING;
+      for (int i = 0; i < images.size(); i++) {
+        float x = MARGIN + (i % 2) * cellWidth;
+        float y = imagesMaxY - (i / 2 + 1) * cellHeight + 2 * LEADING;
+        cs.drawImage(images.get(i), x, y, IMAGE_SIZE, IMAGE_SIZE);
+        writeText(cs, BODY_FONT, BODY_FONT_SIZE, "Figure " + (pageIndex + 1)
+            + "." + (i + 1) + ": " + nextWord(random) + " "
+            + nextWord(random), x, y - LEADING);
+      }
+    }
+  }
+
+  // ==========================================================================
+  // Methods to write text.
+
+  /**
+   * Writes the given heading at the given position.
+   *
+   * @param cs
+   *        The content stream to write to.
+   * @param heading
+   *        The heading to write.
+   * @param x
+   *        The x-coordinate of the start of the baseline.
+   * @param y
+   *        The y-coordinate of the baseline.
+   *
+   * @throws IOException
+   *         If the heading couldn't be written.
+   */
+  protected void writeHeading(PDPageContentStream cs, String heading, float x,
+      float y) throws IOException {
+    writeText(cs, HEADING_FONT, HEADING_FONT_SIZE, heading, x, y);
+  }
+
+  /**
+   * Fills the given area with paragraphs of pseudo-random text. The first
+   * line of each paragraph is indented and each paragraph ends with a shorter
+   * line.
+   *
+   * @param cs
+   *        The content stream to write to.
+   * @param random
+   *        The pseudo-random generator.
+   * @param minX
+   *        The minimum x-coordinate of the area.
+   * @param maxX
+   *        The maximum x-coordinate of the area.
+   * @param maxY
+   *        The y-coordinate of the first baseline.
+   * @param minY
+   *        The minimum y-coordinate of the area.
+   *
+   * @throws IOException
+   *         If the text couldn't be written.
+   */
+  protected void writeColumn(PDPageContentStream cs, Random random,
+      float minX, float maxX, float maxY, float minY) throws IOException {
+    int lineIndex = 0;
+    for (float y = maxY; y >= minY; y -= LEADING) {
+      int lineInParagraph = lineIndex % NUM_LINES_PER_PARAGRAPH;
+      boolean isFirstLine = lineInParagraph == 0;
+      boolean isLastLine = lineInParagraph == NUM_LINES_PER_PARAGRAPH - 1;
+
+      float x = isFirstLine ? minX + 2 * BODY_FONT_SIZE : minX;
+      float width = isLastLine ? (maxX - minX) / 2 : maxX - x;
+
+      String line = nextLine(random, width);
+      if (isFirstLine) {
+        line = capitalize(line);
+      }
+      if (isLastLine) {
+        line += ".";
+      }
+      writeText(cs, BODY_FONT, BODY_FONT_SIZE, line, x, y);
+      lineIndex++;
+    }
+  }
+
+  /**
+   * Writes the given text at the given position.
+   *
+   * @param cs
+   *        The content stream to write to.
+   * @param font
+   *        The font of the text.
+   * @param fontSize
+   *        The font size of the text.
+   * @param text
+   *        The text to write.
+   * @param x
+   *        The x-coordinate of the start of the baseline.
+   * @param y
+   *        The y-coordinate of the baseline.
+   *
+   * @throws IOException
+   *         If the text couldn't be written.
+   */
+  protected void writeText(PDPageContentStream cs, PDFont font,
+      float fontSize, String text, float x, float y) throws IOException {
+    cs.beginText();
+    cs.setFont(font, fontSize);
+    cs.newLineAtOffset(x, y);
+    cs.showText(text);
+    cs.endText();
+  }
+
+  /**
+   * Composes a line of pseudo-random words that fits into the given width.
+   *
+   * @param random
+   *        The pseudo-random generator.
+   * @param width
+   *        The available width.
+   *
+   * @return The composed line.
+   *
+   * @throws IOException
+   *         If the width of a word couldn't be computed.
+   */
+  protected String nextLine(Random random, float width) throws IOException {
+    StringBuilder line = new StringBuilder(nextWord(random));
+    while (true) {
+      String word = nextWord(random);
+      String candidate = line + " " + word;
+      float candidateWidth =
+          BODY_FONT.getStringWidth(candidate) * BODY_FONT_SIZE / 1000;
+      if (candidateWidth > width) {
+        return line.toString();
+      }
+      line.append(" ").append(word);
+    }
+  }
+
+  /**
+   * Returns a pseudo-random word.
+   *
+   * @param random
+   *        The pseudo-random generator.
+   *
+   * @return A pseudo-random word.
+   */
+  protected String nextWord(Random random) {
+    return WORDS[random.nextInt(WORDS.length)];
+  }
+
+  /**
+   * Returns the given text with its first character in upper case.
+   *
+   * @param text
+   *        The text to capitalize.
+   *
+   * @return The capitalized text.
+   */
+  protected String capitalize(String text) {
+    if (text == null || text.isEmpty()) {
+      return text;
+    }
+    return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+  }
+
+  // ==========================================================================
+  // Methods to create fonts and images.
+
+  /**
+   * Creates a Type3 font with a glyph for each printable ASCII character. The
+   * glyphs are filled boxes, which are high for upper case characters and
+   * descend below the baseline for some lower case characters.
+   *
+   * @param doc
+   *        The document to which the font should be added.
+   *
+   * @return The created font.
+   *
+   * @throws IOException
+   *         If the font couldn't be created.
+   */
+  protected PDType3Font createType3Font(PDDocument doc) throws IOException {
+    COSDictionary charProcs = new COSDictionary();
+    COSArray differences = new COSArray();
+    COSArray widths = new COSArray();
+
+    differences.add(COSInteger.get(TYPE3_FIRST_CHAR));
+    for (int code = TYPE3_FIRST_CHAR; code <= TYPE3_LAST_CHAR; code++) {
+      String glyphName = "g" + code;
+      int width = getType3Width((char) code);
+      differences.add(COSName.getPDFName(glyphName));
+      widths.add(COSInteger.get(width));
+
+      // Compute the bounding box of the glyph.
+      int minY = 0;
+      int maxY = Character.isUpperCase(code) ? 700 : 500;
+      if ("gjpqy".indexOf(code) >= 0) {
+        minY = -200;
+      }
+
+      StringBuilder proc = new StringBuilder();
+      if (code == ' ') {
+        proc.append(width).append(" 0 0 0 0 0 d1\n");
+      } else {
+        proc.append(width).append(" 0 50 ").append(minY).append(" ")
+            .append(width - 50).append(" ").append(maxY).append(" d1\n");
+        proc.append("50 ").append(minY).append(" ").append(width - 100)
+            .append(" ").append(maxY - minY).append(" re f\n");
+      }
+
+      PDStream stream = new PDStream(doc);
+      try (OutputStream out = stream.createOutputStream()) {
+        out.write(proc.toString().getBytes(StandardCharsets.US_ASCII));
+      }
+      charProcs.setItem(glyphName, stream.getCOSObject());
+    }
+
+    COSDictionary encoding = new COSDictionary();
+    encoding.setItem(COSName.TYPE, COSName.ENCODING);
+    encoding.setItem(COSName.DIFFERENCES, differences);
+
+    COSArray fontMatrix = new COSArray();
+    fontMatrix.add(new COSFloat(0.001f));
+    fontMatrix.add(COSInteger.ZERO);
+    fontMatrix.add(COSInteger.ZERO);
+    fontMatrix.add(new COSFloat(0.001f));
+    fontMatrix.add(COSInteger.ZERO);
+    fontMatrix.add(COSInteger.ZERO);
+
+    COSDictionary font = new COSDictionary();
+    font.setItem(COSName.TYPE, COSName.FONT);
+    font.setItem(COSName.SUBTYPE, COSName.TYPE3);
+    font.setItem(COSName.FONT_BBOX, new PDRectangle(0, -200, 700, 900));
+    font.setItem(COSName.FONT_MATRIX, fontMatrix);
+    font.setItem(COSName.CHAR_PROCS, charProcs);
+    font.setItem(COSName.ENCODING, encoding);
+    font.setInt(COSName.FIRST_CHAR, TYPE3_FIRST_CHAR);
+    font.setInt(COSName.LAST_CHAR, TYPE3_LAST_CHAR);
+    font.setItem(COSName.WIDTHS, widths);
+    font.setItem(COSName.RESOURCES, new COSDictionary());
+
+    return new PDType3Font(font);
+  }
+
+  /**
+   * Returns the width of the given text in the Type3 font, in glyph space.
+   *
+   * @param text
+   *        The text.
+   *
+   * @return The width of the given text in glyph space.
+   */
+  protected int getType3Width(String text) {
+    int width = 0;
+    for (int i = 0; i < text.length(); i++) {
+      width += getType3Width(text.charAt(i));
+    }
+    return width;
+  }
+
+  /**
+   * Returns the width of the given character in the Type3 font, in glyph
+   * space.
+   *
+   * @param c
+   *        The character.
+   *
+   * @return The width of the given character in glyph space.
+   */
+  protected int getType3Width(char c) {
+    if (c == ' ') {
+      return 250;
+    }
+    return Character.isUpperCase(c) ? 650 : 500;
+  }
+
+  /**
+   * Creates an image with pixels of pseudo-random colors.
+   *
+   * @param random
+   *        The pseudo-random generator.
+   *
+   * @return The created image.
+   */
+  protected BufferedImage createNoiseImage(Random random) {
+    BufferedImage image =
+        new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < IMAGE_SIZE; y++) {
+      for (int x = 0; x < IMAGE_SIZE; x++) {
+        image.setRGB(x, y, random.nextInt(0xffffff));
+      }
+    }
+    return image;
+  }
+
+  /**
+   * Creates an image whose pixels all have the same pseudo-random color.
+   *
+   * @param random
+   *        The pseudo-random generator.
+   *
+   * @return The created image.
+   */
+  protected BufferedImage createSingleColoredImage(Random random) {
+    BufferedImage image =
+        new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
+    int rgb = random.nextInt(0xffffff);
+    for (int y = 0; y < IMAGE_SIZE; y++) {
+      for (int x = 0; x < IMAGE_SIZE; x++) {
+        image.setRGB(x, y, rgb);
+      }
+    }
+    return image;
+  }
+
+  /**
+   * Creates a grayscale image with a horizontal gradient.
+   *
+   * @return The created image.
+   */
+  protected BufferedImage createGradientImage() {
+    BufferedImage image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE,
+        BufferedImage.TYPE_BYTE_GRAY);
+    for (int y = 0; y < IMAGE_SIZE; y++) {
+      for (int x = 0; x < IMAGE_SIZE; x++) {
+        int gray = x * 255 / IMAGE_SIZE;
+        image.setRGB(x, y, (gray << 16) | (gray << 8) | gray);
+      }
+    }
+    return image;
+  }
+
+  /**
+   * Creates a logo image that is shared by all pages of a document.
+   *
+   * @param doc
+   *        The document to which the logo should be added.
+   *
+   * @return The created logo.
+   *
+   * @throws IOException
+   *         If the logo couldn't be created.
+   */
+  protected PDImageXObject createLogo(PDDocument doc) throws IOException {
+    BufferedImage image =
+        new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < IMAGE_SIZE; y++) {
+      for (int x = 0; x < IMAGE_SIZE; x++) {
+        // A ring around the center of the image.
+        int dx = x - IMAGE_SIZE / 2;
+        int dy = y - IMAGE_SIZE / 2;
+        int d = (int) Math.sqrt(dx * dx + dy * dy);
+        boolean isRing = d > IMAGE_SIZE / 4 && d < IMAGE_SIZE / 3;
+        image.setRGB(x, y, isRing ? 0x1f4e79 : 0xffffff);
+      }
+    }
+    return LosslessFactory.createFromImage(doc, image);
+  }
+}
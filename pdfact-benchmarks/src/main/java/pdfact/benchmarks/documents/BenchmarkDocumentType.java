@@ -0,0 +1,96 @@
+package pdfact.benchmarks.documents;
+
+/**
+ * An enumeration of the types of the PDF documents that are generated as
+ * inputs for the benchmarks.
+ *
+ * @author Claudius Korzen
+ */
+public enum BenchmarkDocumentType {
+  /**
+   * A document with pages of a single column of text.
+   */
+  SINGLE_COLUMN("single-column", 10),
+
+  /**
+   * A document with pages of two columns of text.
+   */
+  TWO_COLUMN("two-column", 10),
+
+  /**
+   * A document with pages that consist mainly of ruled tables.
+   */
+  TABLES("tables", 10),
+
+  /**
+   * A document with pages of text that are written in a Type3 font.
+   */
+  TYPE3("type3", 10),
+
+  /**
+   * A document with pages that consist mainly of images (both single-colored
+   * and multi-colored images).
+   */
+  IMAGES("images", 10),
+
+  /**
+   * A document with 1000 pages of a single column of text.
+   */
+  THOUSAND_PAGES("1000-pages", 1000);
+
+  // ==========================================================================
+
+  /**
+   * The name of this document type.
+   */
+  protected String name;
+
+  /**
+   * The number of pages of the documents of this type.
+   */
+  protected int numPages;
+
+  /**
+   * Creates a new document type.
+   *
+   * @param name
+   *        The name of the document type.
+   * @param numPages
+   *        The number of pages of the documents of this type.
+   */
+  private BenchmarkDocumentType(String name, int numPages) {
+    this.name = name;
+    this.numPages = numPages;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the name of this document type.
+   *
+   * @return The name of this document type.
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Returns the number of pages of the documents of this type.
+   *
+   * @return The number of pages of the documents of this type.
+   */
+  public int getNumPages() {
+    return this.numPages;
+  }
+
+  /**
+   * Returns the name of the file to which the document of this type is
+   * written.
+   *
+   * @return The name of the file to which the document of this type is
+   *         written.
+   */
+  public String getFileName() {
+    return this.name + ".pdf";
+  }
+}
@@ -0,0 +1,276 @@
+package pdfact.benchmarks.util;
+
+import java.nio.file.Paths;
+import java.util.Random;
+
+import com.google.inject.Inject;
+
+import pdfact.core.model.Character;
+import pdfact.core.model.Character.CharacterFactory;
+import pdfact.core.model.Color;
+import pdfact.core.model.Color.ColorFactory;
+import pdfact.core.model.Font;
+import pdfact.core.model.Font.FontFactory;
+import pdfact.core.model.FontFace;
+import pdfact.core.model.FontFace.FontFaceFactory;
+import pdfact.core.model.Page;
+import pdfact.core.model.Page.PageFactory;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.model.PdfDocument.PdfDocumentFactory;
+import pdfact.core.model.Position.PositionFactory;
+import pdfact.core.model.Rectangle;
+import pdfact.core.model.Rectangle.RectangleFactory;
+import pdfact.core.util.list.ElementList;
+import pdfact.core.util.list.ElementList.ElementListFactory;
+import pdfact.core.util.statistician.CharacterStatistician;
+
+/**
+ * A generator of synthetic clouds of characters, laid out in lines, words,
+ * paragraphs and columns like the characters of a text page. The characters
+ * are placed directly, without creating and parsing a PDF file, such that the
+ * size of a cloud isn't limited by the size of a page.
+ *
+ * @author Claudius Korzen
+ */
+public class CharacterCloudGenerator {
+  /**
+   * The name of the (non-existing) PDF file of the generated documents.
+   */
+  protected static final String FILE_NAME = "character-cloud.pdf";
+
+  /**
+   * The minimum x-coordinate of the text.
+   */
+  protected static final float MIN_X = 72;
+
+  /**
+   * The width of a column.
+   */
+  protected static final float COLUMN_WIDTH = 220;
+
+  /**
+   * The space between two columns.
+   */
+  protected static final float COLUMN_GAP = 24;
+
+  /**
+   * The font size of the characters.
+   */
+  protected static final float FONT_SIZE = 10;
+
+  /**
+   * The distance between two baselines.
+   */
+  protected static final float LEADING = 12;
+
+  /**
+   * The height of the characters.
+   */
+  protected static final float CHARACTER_HEIGHT = 7;
+
+  /**
+   * The minimum width of a character.
+   */
+  protected static final float MIN_CHARACTER_WIDTH = 3;
+
+  /**
+   * The maximum width of a character.
+   */
+  protected static final float MAX_CHARACTER_WIDTH = 7;
+
+  /**
+   * The width of the space between two words.
+   */
+  protected static final float WORD_GAP = 2.5f;
+
+  /**
+   * The number of lines of a paragraph.
+   */
+  protected static final int NUM_LINES_PER_PARAGRAPH = 8;
+
+  /**
+   * The factory to create PDF documents.
+   */
+  protected PdfDocumentFactory pdfFactory;
+
+  /**
+   * The factory to create pages.
+   */
+  protected PageFactory pageFactory;
+
+  /**
+   * The factory to create characters.
+   */
+  protected CharacterFactory characterFactory;
+
+  /**
+   * The factory to create lists of characters.
+   */
+  protected ElementListFactory<Character> characterListFactory;
+
+  /**
+   * The factory to create positions.
+   */
+  protected PositionFactory positionFactory;
+
+  /**
+   * The factory to create rectangles.
+   */
+  protected RectangleFactory rectangleFactory;
+
+  /**
+   * The statistician to compute statistics about characters.
+   */
+  protected CharacterStatistician characterStatistician;
+
+  /**
+   * The font face of the characters.
+   */
+  protected FontFace fontFace;
+
+  /**
+   * The color of the characters.
+   */
+  protected Color color;
+
+  // ==========================================================================
+
+  /**
+   * Creates a new generator of character clouds.
+   *
+   * @param pdfFactory
+   *        The factory to create PDF documents.
+   * @param pageFactory
+   *        The factory to create pages.
+   * @param characterFactory
+   *        The factory to create characters.
+   * @param characterListFactory
+   *        The factory to create lists of characters.
+   * @param positionFactory
+   *        The factory to create positions.
+   * @param rectangleFactory
+   *        The factory to create rectangles.
+   * @param fontFactory
+   *        The factory to create fonts.
+   * @param fontFaceFactory
+   *        The factory to create font faces.
+   * @param colorFactory
+   *        The factory to create colors.
+   * @param characterStatistician
+   *        The statistician to compute statistics about characters.
+   */
+  @Inject
+  public CharacterCloudGenerator(PdfDocumentFactory pdfFactory,
+      PageFactory pageFactory,
+      CharacterFactory characterFactory,
+      ElementListFactory<Character> characterListFactory,
+      PositionFactory positionFactory,
+      RectangleFactory rectangleFactory,
+      FontFactory fontFactory,
+      FontFaceFactory fontFaceFactory,
+      ColorFactory colorFactory,
+      CharacterStatistician characterStatistician) {
+    this.pdfFactory = pdfFactory;
+    this.pageFactory = pageFactory;
+    this.characterFactory = characterFactory;
+    this.characterListFactory = characterListFactory;
+    this.positionFactory = positionFactory;
+    this.rectangleFactory = rectangleFactory;
+    this.characterStatistician = characterStatistician;
+
+    Font font = fontFactory.create();
+    font.setBasename("Times-Roman");
+    font.setNormalizedName("times-roman");
+    font.setFontFamilyName("Times");
+    this.fontFace = fontFaceFactory.create(font, FONT_SIZE);
+    this.color = colorFactory.create(new float[] { 0, 0, 0 });
+  }
+
+  // ==========================================================================
+
+  /**
+   * Generates a PDF document with a single page that consists of the given
+   * number of characters, laid out in the given number of columns. The
+   * character statistics of the page and of the document are computed.
+   *
+   * @param numCharacters
+   *        The number of characters to generate.
+   * @param numColumns
+   *        The number of columns.
+   * @param seed
+   *        The seed of the pseudo-random generator.
+   *
+   * @return The generated PDF document.
+   */
+  public PdfDocument generate(int numCharacters, int numColumns, long seed) {
+    Random random = new Random(seed);
+    PdfDocument pdf = this.pdfFactory.create(Paths.get(FILE_NAME));
+    Page page = this.pageFactory.create(1);
+
+    // Estimate the number of lines per column, such that the columns are
+    // filled equally.
+    float avgCharWidth = (MIN_CHARACTER_WIDTH + MAX_CHARACTER_WIDTH) / 2;
+    int numCharsPerLine = (int) (COLUMN_WIDTH / avgCharWidth);
+    int numLinesPerColumn = Math.max(1,
+        (int) Math.ceil((double) numCharacters / numCharsPerLine / numColumns));
+    float maxY = numLinesPerColumn * 1.2f * LEADING;
+
+    ElementList<Character> characters =
+        this.characterListFactory.create(numCharacters);
+    int column = 0;
+    int lineIndex = 0;
+    float x = MIN_X;
+    float y = maxY;
+    int numCharsInWord = 0;
+    int wordLength = 1 + random.nextInt(10);
+
+    for (int i = 0; i < numCharacters; i++) {
+      float columnMinX = MIN_X + column * (COLUMN_WIDTH + COLUMN_GAP);
+      float width = MIN_CHARACTER_WIDTH
+          + random.nextFloat() * (MAX_CHARACTER_WIDTH - MIN_CHARACTER_WIDTH);
+
+      if (x + width > columnMinX + COLUMN_WIDTH) {
+        // Start a new line (and a new paragraph every few lines).
+        lineIndex++;
+        y -= LEADING;
+        if (lineIndex % NUM_LINES_PER_PARAGRAPH == 0) {
+          y -= LEADING / 2;
+        }
+        if (lineIndex >= numLinesPerColumn && column < numColumns - 1) {
+          // Start a new column.
+          column++;
+          lineIndex = 0;
+          y = maxY;
+          columnMinX = MIN_X + column * (COLUMN_WIDTH + COLUMN_GAP);
+        }
+        x = columnMinX;
+        numCharsInWord = 0;
+      }
+
+      Rectangle rect = this.rectangleFactory.create(x, y, x + width,
+          y + CHARACTER_HEIGHT);
+
+      Character character = this.characterFactory.create();
+      character.setText(String.valueOf((char) ('a' + random.nextInt(26))));
+      character.setPosition(this.positionFactory.create(page, rect));
+      character.setFontFace(this.fontFace);
+      character.setColor(this.color);
+      character.setExtractionRank(i);
+      characters.add(character);
+
+      x += width;
+      if (++numCharsInWord >= wordLength) {
+        x += WORD_GAP;
+        numCharsInWord = 0;
+        wordLength = 1 + random.nextInt(10);
+      }
+    }
+
+    page.setCharacters(characters);
+    page.setCharacterStatistic(this.characterStatistician.compute(page));
+    pdf.addPage(page);
+    pdf.setCharacterStatistic(
+        this.characterStatistician.aggregate(pdf.getPages()));
+    return pdf;
+  }
+}
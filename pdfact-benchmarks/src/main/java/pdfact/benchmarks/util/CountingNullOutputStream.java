@@ -0,0 +1,40 @@
+package pdfact.benchmarks.util;
+
+import java.io.OutputStream;
+
+/**
+ * An output stream that discards all written bytes and only counts them.
+ * Serves as the target of serializations in the benchmarks, such that the
+ * costs of writing to a file or a buffer aren't measured.
+ *
+ * @author Claudius Korzen
+ */
+public class CountingNullOutputStream extends OutputStream {
+  /**
+   * The number of written bytes.
+   */
+  protected long numWrittenBytes;
+
+  // ==========================================================================
+
+  @Override
+  public void write(int b) {
+    this.numWrittenBytes++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    this.numWrittenBytes += len;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the number of written bytes.
+   *
+   * @return The number of written bytes.
+   */
+  public long getNumWrittenBytes() {
+    return this.numWrittenBytes;
+  }
+}
@@ -0,0 +1,77 @@
+package pdfact.benchmarks.util;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Module;
+import com.google.inject.assistedinject.FactoryModuleBuilder;
+
+import pdfact.core.model.Character;
+import pdfact.core.model.Character.CharacterFactory;
+import pdfact.core.model.PlainCharacter;
+import pdfact.core.model.PlainPoint;
+import pdfact.core.model.PlainPosition;
+import pdfact.core.model.PlainRectangle;
+import pdfact.core.model.Point;
+import pdfact.core.model.Point.PointFactory;
+import pdfact.core.model.Position;
+import pdfact.core.model.Position.PositionFactory;
+import pdfact.core.model.Rectangle;
+import pdfact.core.model.Rectangle.RectangleFactory;
+
+/**
+ * An enumeration of the implementations of the factories that create the
+ * models on the hot path of parsing (characters, positions, rectangles and
+ * points).
+ *
+ * @author Claudius Korzen
+ */
+public enum ModelFactoryType {
+  /**
+   * The factories generated by Guice (assisted inject), which were bound in
+   * former versions of PdfAct.
+   */
+  ASSISTED_INJECT {
+    @Override
+    public Module createModule() {
+      return new AbstractModule() {
+        @Override
+        protected void configure() {
+          install(new FactoryModuleBuilder()
+              .implement(Character.class, PlainCharacter.class)
+              .build(CharacterFactory.class));
+          install(new FactoryModuleBuilder()
+              .implement(Rectangle.class, PlainRectangle.class)
+              .build(RectangleFactory.class));
+          install(new FactoryModuleBuilder()
+              .implement(Point.class, PlainPoint.class)
+              .build(PointFactory.class));
+          install(new FactoryModuleBuilder()
+              .implement(Position.class, PlainPosition.class)
+              .build(PositionFactory.class));
+        }
+      };
+    }
+  },
+
+  /**
+   * The factories that call the constructors directly, which are bound by
+   * default.
+   */
+  DIRECT {
+    @Override
+    public Module createModule() {
+      return new AbstractModule() {
+        @Override
+        protected void configure() {
+          // Keep the default bindings.
+        }
+      };
+    }
+  };
+
+  /**
+   * Creates the module that binds the factories of this type.
+   *
+   * @return The module that binds the factories of this type.
+   */
+  public abstract Module createModule();
+}
@@ -0,0 +1,246 @@
+package pdfact.benchmarks.util;
+
+import com.google.inject.Injector;
+
+import pdfact.core.model.PdfDocument;
+import pdfact.core.pipes.dehyphenate.DehyphenateWordsPipe.DehyphenateWordsPipeFactory;
+import pdfact.core.pipes.filter.characters.FilterCharactersPipe.FilterCharactersPipeFactory;
+import pdfact.core.pipes.filter.figures.FilterFiguresPipe.FilterFiguresPipeFactory;
+import pdfact.core.pipes.filter.shapes.FilterShapesPipe.FilterShapesPipeFactory;
+import pdfact.core.pipes.parse.ParsePdfStreamsPipe.ParsePdfPipeFactory;
+import pdfact.core.pipes.semanticize.DetectSemanticsPipe.DetectSemanticsPipeFactory;
+import pdfact.core.pipes.tokenize.areas.TokenizeToTextAreasPipe.TokenizeToTextAreasPipeFactory;
+import pdfact.core.pipes.tokenize.blocks.TokenizeToTextBlocksPipe.TokenizeToTextBlocksPipeFactory;
+import pdfact.core.pipes.tokenize.lines.TokenizeToTextLinesPipe.TokenizeToTextLinesPipeFactory;
+import pdfact.core.pipes.tokenize.paragraphs.TokenizeToParagraphsPipe.TokenizeToParagraphsPipeFactory;
+import pdfact.core.pipes.tokenize.words.TokenizeToWordsPipe.TokenizeToWordsPipeFactory;
+import pdfact.core.pipes.translate.characters.StandardizeCharactersPipe.StandardizeCharactersPipeFactory;
+import pdfact.core.pipes.translate.diacritics.MergeDiacriticsPipe.MergeDiacriticsPipeFactory;
+import pdfact.core.pipes.translate.ligatures.SplitLigaturesPipe.SplitLigaturesPipeFactory;
+import pdfact.core.pipes.validate.ValidatePdfPathPipe.ValidatePdfPathPipeFactory;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.pipeline.Pipe;
+
+/**
+ * An enumeration of the stages of the core pipeline, in the order in which
+ * they are executed by {@link pdfact.core.pipes.PlainPdfActCorePipe}.
+ *
+ * @author Claudius Korzen
+ */
+public enum PdfActStage {
+  /**
+   * The stage that validates the path to the PDF file.
+   */
+  VALIDATE_PDF_PATH {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(ValidatePdfPathPipeFactory.class).create();
+    }
+  },
+
+  /**
+   * The stage that extracts the characters, shapes and figures.
+   */
+  PARSE_PDF {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(ParsePdfPipeFactory.class).create();
+    }
+  },
+
+  /**
+   * The stage that merges the diacritics.
+   */
+  MERGE_DIACRITICS {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(MergeDiacriticsPipeFactory.class).create();
+    }
+  },
+
+  /**
+   * The stage that splits the ligatures.
+   */
+  SPLIT_LIGATURES {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(SplitLigaturesPipeFactory.class).create();
+    }
+  },
+
+  /**
+   * The stage that standardizes the characters.
+   */
+  STANDARDIZE_CHARACTERS {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(StandardizeCharactersPipeFactory.class)
+          .create();
+    }
+  },
+
+  /**
+   * The stage that filters the characters.
+   */
+  FILTER_CHARACTERS {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(FilterCharactersPipeFactory.class).create();
+    }
+  },
+
+  /**
+   * The stage that filters the figures.
+   */
+  FILTER_FIGURES {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(FilterFiguresPipeFactory.class).create();
+    }
+  },
+
+  /**
+   * The stage that filters the shapes.
+   */
+  FILTER_SHAPES {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(FilterShapesPipeFactory.class).create();
+    }
+  },
+
+  /**
+   * The stage that tokenizes the pages into text areas.
+   */
+  TOKENIZE_TO_TEXT_AREAS {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(TokenizeToTextAreasPipeFactory.class)
+          .create();
+    }
+  },
+
+  /**
+   * The stage that tokenizes the text areas into text lines.
+   */
+  TOKENIZE_TO_TEXT_LINES {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(TokenizeToTextLinesPipeFactory.class)
+          .create();
+    }
+  },
+
+  /**
+   * The stage that tokenizes the text lines into words.
+   */
+  TOKENIZE_TO_WORDS {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(TokenizeToWordsPipeFactory.class).create();
+    }
+  },
+
+  /**
+   * The stage that tokenizes the text lines into text blocks.
+   */
+  TOKENIZE_TO_TEXT_BLOCKS {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(TokenizeToTextBlocksPipeFactory.class)
+          .create();
+    }
+  },
+
+  /**
+   * The stage that identifies the roles of the text blocks.
+   */
+  DETECT_SEMANTICS {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(DetectSemanticsPipeFactory.class).create();
+    }
+  },
+
+  /**
+   * The stage that tokenizes the text blocks into paragraphs.
+   */
+  TOKENIZE_TO_PARAGRAPHS {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(TokenizeToParagraphsPipeFactory.class)
+          .create();
+    }
+  },
+
+  /**
+   * The stage that dehyphenates the words.
+   */
+  DEHYPHENATE_WORDS {
+    @Override
+    public Pipe createPipe(Injector injector) {
+      return injector.getInstance(DehyphenateWordsPipeFactory.class).create();
+    }
+  };
+
+  // ==========================================================================
+
+  /**
+   * Creates the pipe of this stage.
+   *
+   * @param injector
+   *        The injector to use on creating the pipe.
+   *
+   * @return The pipe of this stage.
+   */
+  public abstract Pipe createPipe(Injector injector);
+
+  // ==========================================================================
+
+  /**
+   * Executes all stages in front of the given stage on the given PDF
+   * document, such that the document is in the state that is expected by the
+   * given stage.
+   *
+   * @param injector
+   *        The injector to use on creating the pipes.
+   * @param pdf
+   *        The PDF document to process.
+   * @param stage
+   *        The stage up to which the document should be processed
+   *        (exclusive).
+   *
+   * @return The processed PDF document.
+   *
+   * @throws PdfActException
+   *         If something went wrong while processing the document.
+   */
+  public static PdfDocument executeUntil(Injector injector, PdfDocument pdf,
+      PdfActStage stage) throws PdfActException {
+    for (PdfActStage s : values()) {
+      if (s == stage) {
+        break;
+      }
+      pdf = s.createPipe(injector).execute(pdf);
+    }
+    return pdf;
+  }
+
+  /**
+   * Executes all stages on the given PDF document.
+   *
+   * @param injector
+   *        The injector to use on creating the pipes.
+   * @param pdf
+   *        The PDF document to process.
+   *
+   * @return The processed PDF document.
+   *
+   * @throws PdfActException
+   *         If something went wrong while processing the document.
+   */
+  public static PdfDocument executeAll(Injector injector, PdfDocument pdf)
+      throws PdfActException {
+    return executeUntil(injector, pdf, null);
+  }
+}
@@ -1,30 +1,56 @@
 package pdfact.cli;
 
+import static pdfact.cli.PdfActCLISettings.DEFAULT_CACHE_SIZE;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_MAX_MEMORY;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_MAX_QUEUE_SIZE;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_MAX_REQUEST_SIZE;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_NUM_THREADS;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_NUM_WORKERS;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_SERVER_HOST;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_SERVER_PORT;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_TEXT_UNIT;
+
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 
 import net.sourceforge.argparse4j.ArgumentParsers;
 import net.sourceforge.argparse4j.annotation.Arg;
+import net.sourceforge.argparse4j.impl.Arguments;
 import net.sourceforge.argparse4j.inf.Argument;
 import net.sourceforge.argparse4j.inf.ArgumentAction;
 import net.sourceforge.argparse4j.inf.ArgumentParser;
 import net.sourceforge.argparse4j.inf.ArgumentParserException;
 import net.sourceforge.argparse4j.internal.HelpScreenException;
+import pdfact.cli.batch.PdfActBatchProcessor;
+import pdfact.cli.batch.PdfActBatchProcessor.PdfActBatchProcessorFactory;
 import pdfact.cli.guice.PdfActCliGuiceModule;
 import pdfact.cli.model.SerializeFormat;
 import pdfact.cli.model.TextUnit;
 import pdfact.cli.pipes.PdfActServicePipe;
 import pdfact.cli.pipes.PdfActServicePipe.PdfActServicePipeFactory;
+import pdfact.cli.server.PdfActServer;
+import pdfact.cli.server.PdfActServer.PdfActServerFactory;
+import pdfact.cli.stats.PipelineStatsReport;
+import pdfact.cli.stats.PipelineStatsReport.PipelineStatsReportFactory;
 import pdfact.cli.util.exception.PdfActParseCommandLineException;
 import pdfact.core.model.LogLevel;
+import pdfact.core.model.MemoryMode;
+import pdfact.core.model.MemoryPolicy;
+import pdfact.core.model.PageSelection;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.PdfDocument.PdfDocumentFactory;
 import pdfact.core.model.SemanticRole;
+import pdfact.core.pipes.ProcessingOptions;
+import pdfact.core.util.cache.ParseCache;
+import pdfact.core.util.cache.ParseCache.ParseCacheFactory;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.log.Log4JTypeListener;
 
@@ -44,6 +70,26 @@ public class PdfActCLI {
    */
   protected PdfActServicePipeFactory serviceFactory;
 
+  /**
+   * The factory to create processors that process batches of PDF files.
+   */
+  protected PdfActBatchProcessorFactory batchProcessorFactory;
+
+  /**
+   * The factory to create servers that process PDF files sent over HTTP.
+   */
+  protected PdfActServerFactory serverFactory;
+
+  /**
+   * The factory to create reports about the metrics of the executed pipes.
+   */
+  protected PipelineStatsReportFactory statsReportFactory;
+
+  /**
+   * The factory to create caches of processed PDF documents.
+   */
+  protected ParseCacheFactory parseCacheFactory;
+
   // ==========================================================================
 
   /**
@@ -53,6 +99,12 @@ public class PdfActCLI {
     Injector injector = Guice.createInjector(new PdfActCliGuiceModule());
     this.pdfDocumentFactory = injector.getInstance(PdfDocumentFactory.class);
     this.serviceFactory = injector.getInstance(PdfActServicePipeFactory.class);
+    this.batchProcessorFactory =
+        injector.getInstance(PdfActBatchProcessorFactory.class);
+    this.serverFactory = injector.getInstance(PdfActServerFactory.class);
+    this.statsReportFactory =
+        injector.getInstance(PipelineStatsReportFactory.class);
+    this.parseCacheFactory = injector.getInstance(ParseCacheFactory.class);
   }
 
   /**
@@ -69,55 +121,34 @@ public class PdfActCLI {
     // Create the command line argument parser.
     PdfActCommandLineParser parser = new PdfActCommandLineParser();
 
-    // Create a service pipe.
-    PdfActServicePipe service = this.serviceFactory.create();
+    // The pool in which the pages are processed, if there is any.
+    ForkJoinPool pool = null;
 
     try {
       // Parse the command line arguments.
       parser.parseArgs(args);
 
-      // Create the PDF document from the given path.
-      PdfDocument pdf = this.pdfDocumentFactory.create(parser.getPdfPath());
-
-      // Pass the log level.
-      int logLevel = parser.getLogLevel();
-      Log4JTypeListener.setLogLevel(LogLevel.getLogLevel(logLevel));
-
-      // Pass the serialization format if there is any.
-      if (parser.hasSerializationFormat()) {
-        String format = parser.getSerializeFormat();
-        service.setSerializationFormat(SerializeFormat.fromString(format));
+      // Create the pool in which the pages should be processed in parallel.
+      int numThreads = parser.getNumThreads();
+      if (numThreads > 1) {
+        pool = new ForkJoinPool(numThreads);
       }
 
-      // Pass the target of the serialization.
-      if (parser.hasSerializationPath()) {
-        service.setSerializationPath(Paths.get(parser.getSerializationPath()));
+      if (parser.isServeMode()) {
+        runServer(parser, pool);
+      } else if (parser.isBatchMode()) {
+        runBatch(parser, pool);
       } else {
-        service.setSerializationStream(System.out);
-      }
-
-      // Pass the target of the visualization.
-      if (parser.hasVisualizationPath()) {
-        service.setVisualizationPath(Paths.get(parser.getVisualizationPath()));
+        runSingle(parser, pool);
       }
-
-      // Pass the chosen text unit.
-      if (parser.hasTextUnit()) {
-        service.setTextUnit(TextUnit.fromString(parser.getTextUnit()));
-      }
-
-      // Pass the semantic roles filter for serialization & visualization.
-      if (parser.hasSemanticRolesFilters()) {
-        List<String> roles = parser.getSemanticRolesFilters();
-        service.setSemanticRolesFilters(SemanticRole.fromStrings(roles));
-      }
-
-      // Run PdfAct.
-      service.execute(pdf);
     } catch (PdfActException e) {
       statusCode = e.getExitCode();
       errorMessage = e.getMessage();
       cause = e.getCause();
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
     }
 
     if (statusCode != 0) {
@@ -132,6 +163,299 @@ public class PdfActCLI {
     System.exit(statusCode);
   }
 
+  /**
+   * Processes the single PDF file given by the command line arguments.
+   * 
+   * @param parser
+   *        The parser that parsed the command line arguments.
+   * @param pool
+   *        The pool in which the pages should be processed (null if the pages
+   *        should be processed sequentially).
+   * 
+   * @throws PdfActException
+   *         If something went wrong on processing the PDF file.
+   */
+  protected void runSingle(PdfActCommandLineParser parser, ForkJoinPool pool)
+      throws PdfActException {
+    // Create a service pipe.
+    PdfActServicePipe service = this.serviceFactory.create();
+
+    // Create the PDF document from the given path.
+    PdfDocument pdf = this.pdfDocumentFactory.create(parser.getPdfPath());
+
+    // Pass the log level.
+    int logLevel = parser.getLogLevel();
+    Log4JTypeListener.setLogLevel(LogLevel.getLogLevel(logLevel));
+
+    // Pass the serialization format if there is any.
+    if (parser.hasSerializationFormat()) {
+      String format = parser.getSerializeFormat();
+      service.setSerializationFormat(SerializeFormat.fromString(format));
+    }
+
+    // Pass the target of the serialization.
+    if (parser.hasSerializationPath()) {
+      service.setSerializationPath(Paths.get(parser.getSerializationPath()));
+    } else {
+      service.setSerializationStream(System.out);
+    }
+
+    // Pass the target of the visualization.
+    if (parser.hasVisualizationPath()) {
+      service.setVisualizationPath(Paths.get(parser.getVisualizationPath()));
+    }
+
+    // Pass the chosen text unit.
+    if (parser.hasTextUnit()) {
+      service.setTextUnit(TextUnit.fromString(parser.getTextUnit()));
+    }
+
+    // Pass the semantic roles filter for serialization & visualization.
+    if (parser.hasSemanticRolesFilters()) {
+      List<String> roles = parser.getSemanticRolesFilters();
+      service.setSemanticRolesFilters(SemanticRole.fromStrings(roles));
+    }
+
+    // Pass the options that define how the PDF file is processed, including
+    // the report about the metrics of the pipes, if requested.
+    ProcessingOptions options = createProcessingOptions(parser, pool);
+    PipelineStatsReport report = null;
+    if (parser.hasStatsPath()) {
+      report = this.statsReportFactory.create();
+      options = options.withPipelineListeners(
+          Collections.singletonList(report));
+    }
+    service.setProcessingOptions(options);
+
+    // Run PdfAct.
+    service.execute(pdf);
+
+    // Write the report about the metrics of the pipes.
+    if (report != null) {
+      report.write(Paths.get(parser.getStatsPath()));
+    }
+  }
+
+  /**
+   * Processes the batch of PDF files given by the command line arguments.
+   * 
+   * @param parser
+   *        The parser that parsed the command line arguments.
+   * @param pool
+   *        The pool in which the pages should be processed (null if the pages
+   *        should be processed sequentially).
+   * 
+   * @throws PdfActException
+   *         If at least one of the PDF files couldn't be processed.
+   */
+  protected void runBatch(PdfActCommandLineParser parser, ForkJoinPool pool)
+      throws PdfActException {
+    // Create a batch processor.
+    PdfActBatchProcessor processor = this.batchProcessorFactory.create();
+
+    // Pass the log level.
+    int logLevel = parser.getLogLevel();
+    Log4JTypeListener.setLogLevel(LogLevel.getLogLevel(logLevel));
+
+    // Pass the serialization format if there is any.
+    if (parser.hasSerializationFormat()) {
+      String format = parser.getSerializeFormat();
+      processor.setSerializationFormat(SerializeFormat.fromString(format));
+    }
+
+    // Pass the directory of the serializations.
+    if (parser.hasSerializationPath()) {
+      processor.setOutputDirectory(Paths.get(parser.getSerializationPath()));
+    }
+
+    // Pass the directory of the visualizations.
+    if (parser.hasVisualizationPath()) {
+      Path visualizationDirectory = Paths.get(parser.getVisualizationPath());
+      processor.setVisualizationDirectory(visualizationDirectory);
+    }
+
+    // Pass the chosen text unit.
+    if (parser.hasTextUnit()) {
+      processor.setTextUnit(TextUnit.fromString(parser.getTextUnit()));
+    }
+
+    // Pass the semantic roles filter for serialization & visualization.
+    if (parser.hasSemanticRolesFilters()) {
+      List<String> roles = parser.getSemanticRolesFilters();
+      processor.setSemanticRolesFilters(SemanticRole.fromStrings(roles));
+    }
+
+    // Pass the number of workers.
+    processor.setNumWorkers(parser.getNumWorkers());
+
+    // Pass the options that define how the PDF files are processed, including
+    // the report about the metrics of the pipes, if requested.
+    ProcessingOptions options = createProcessingOptions(parser, pool);
+    PipelineStatsReport report = null;
+    if (parser.hasStatsPath()) {
+      report = this.statsReportFactory.create();
+      options = options.withPipelineListeners(
+          Collections.singletonList(report));
+    }
+    processor.setProcessingOptions(options);
+
+    // Run PdfAct.
+    PdfActException failure = null;
+    try {
+      processor.process(parser.getPdfPath());
+    } catch (PdfActException e) {
+      failure = e;
+    }
+
+    // Write the report also if some of the PDF files couldn't be processed.
+    if (report != null) {
+      report.write(Paths.get(parser.getStatsPath()));
+    }
+
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Runs a server that processes PDF files sent over HTTP, until the JVM is
+   * shut down.
+   * 
+   * @param parser
+   *        The parser that parsed the command line arguments.
+   * @param pool
+   *        The pool in which the pages should be processed (null if the pages
+   *        should be processed sequentially).
+   * 
+   * @throws PdfActException
+   *         If the server couldn't be started.
+   */
+  protected void runServer(PdfActCommandLineParser parser, ForkJoinPool pool)
+      throws PdfActException {
+    // Create a server.
+    PdfActServer server = this.serverFactory.create();
+
+    // Pass the log level.
+    int logLevel = parser.getLogLevel();
+    Log4JTypeListener.setLogLevel(LogLevel.getLogLevel(logLevel));
+
+    // Pass the default serialization format if there is any.
+    if (parser.hasSerializationFormat()) {
+      String format = parser.getSerializeFormat();
+      server.setSerializationFormat(SerializeFormat.fromString(format));
+    }
+
+    // Pass the default text unit.
+    if (parser.hasTextUnit()) {
+      server.setTextUnit(TextUnit.fromString(parser.getTextUnit()));
+    }
+
+    // Pass the default semantic roles filter for serialization.
+    if (parser.hasSemanticRolesFilters()) {
+      List<String> roles = parser.getSemanticRolesFilters();
+      server.setSemanticRolesFilters(SemanticRole.fromStrings(roles));
+    }
+
+    // Pass the address and the limits of the server.
+    server.setHost(parser.getHost());
+    server.setPort(parser.getPort());
+    server.setNumWorkers(parser.getNumWorkers());
+    server.setMaxQueueSize(parser.getMaxQueueSize());
+    server.setMaxRequestSize(parser.getMaxRequestSize() * 1024L * 1024L);
+
+    // Pass the options that define how the PDF files are processed.
+    server.setProcessingOptions(createProcessingOptions(parser, pool));
+
+    // Stop the server when the JVM is shut down (e.g., on Ctrl-C).
+    Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+
+    server.serve();
+  }
+
+  /**
+   * Creates the options that define how the PDF files are processed, given by
+   * the command line arguments.
+   * 
+   * @param parser
+   *        The parser that parsed the command line arguments.
+   * @param pool
+   *        The pool in which the pages should be processed in parallel (null
+   *        if the pages should be processed sequentially).
+   * 
+   * @return The processing options.
+   */
+  protected ProcessingOptions createProcessingOptions(
+      PdfActCommandLineParser parser, ForkJoinPool pool) {
+    return new ProcessingOptions()
+        .withForkJoinPool(pool)
+        .withCharacterTableEnabled(parser.isCompactCharacters())
+        .withPageSelection(createPageSelection(parser))
+        .withMemoryPolicy(createMemoryPolicy(parser))
+        .withStreamingEnabled(parser.isStreaming())
+        .withParseCache(createParseCache(parser));
+  }
+
+  /**
+   * Creates the selection of the pages to process given by the command line
+   * arguments.
+   * 
+   * @param parser
+   *        The parser that parsed the command line arguments.
+   * 
+   * @return The selection or null if all pages should be processed.
+   */
+  protected PageSelection createPageSelection(PdfActCommandLineParser parser) {
+    if (!parser.hasPages() && parser.getMaxNumPages() == 0) {
+      return null;
+    }
+    PageSelection selection = PageSelection.fromString(parser.getPages());
+    selection.setMaxNumPages(parser.getMaxNumPages());
+    return selection;
+  }
+
+  /**
+   * Creates the policy that defines how the PDF files are loaded, given by
+   * the command line arguments.
+   * 
+   * @param parser
+   *        The parser that parsed the command line arguments.
+   * 
+   * @return The policy or null if the default policy should be used.
+   */
+  protected MemoryPolicy createMemoryPolicy(PdfActCommandLineParser parser) {
+    if (!parser.hasMemoryMode() && !parser.isMemoryMapped()) {
+      return null;
+    }
+    MemoryMode mode = parser.hasMemoryMode()
+        ? MemoryMode.fromString(parser.getMemoryMode())
+        : MemoryMode.MAIN_MEMORY;
+    long maxMainMemory = parser.getMaxMemory() * 1024 * 1024;
+    MemoryPolicy policy = new MemoryPolicy(mode, maxMainMemory);
+    if (parser.hasTempDirectory()) {
+      policy.setTempDirectory(Paths.get(parser.getTempDirectory()));
+    }
+    policy.setMemoryMapped(parser.isMemoryMapped());
+    return policy;
+  }
+
+  /**
+   * Creates the cache of processed PDF documents given by the command line
+   * arguments.
+   * 
+   * @param parser
+   *        The parser that parsed the command line arguments.
+   * 
+   * @return The cache or null if no cache directory is given.
+   */
+  protected ParseCache createParseCache(PdfActCommandLineParser parser) {
+    if (!parser.hasCacheDirectory()) {
+      return null;
+    }
+    Path directory = Paths.get(parser.getCacheDirectory());
+    long maxSize = parser.getCacheSize() * 1024 * 1024;
+    return this.parseCacheFactory.create(directory, maxSize);
+  }
+
   // ==========================================================================
 
   /**
@@ -250,6 +574,234 @@ public class PdfActCLI {
 
     // ========================================================================
 
+    /**
+     * The name of the option to define the number of threads.
+     */
+    protected static final String NUM_THREADS = "threads";
+
+    /**
+     * The number of threads to use for processing the pages.
+     */
+    @Arg(dest = NUM_THREADS)
+    protected int numThreads;
+
+    // ========================================================================
+
+    /**
+     * The name of the option to store the characters in compact tables.
+     */
+    protected static final String COMPACT_CHARACTERS = "compact-characters";
+
+    /**
+     * The boolean flag indicating whether the characters of each page should
+     * be stored in a compact table.
+     */
+    @Arg(dest = COMPACT_CHARACTERS)
+    protected boolean compactCharacters;
+
+    // ========================================================================
+
+    /**
+     * The name of the option to enable the batch mode.
+     */
+    protected static final String BATCH_MODE = "batch";
+
+    /**
+     * The boolean flag indicating whether the batch mode is enabled.
+     */
+    @Arg(dest = BATCH_MODE)
+    protected boolean batchMode;
+
+    // ========================================================================
+
+    /**
+     * The name of the option to define the number of workers in batch mode.
+     */
+    protected static final String NUM_WORKERS = "workers";
+
+    /**
+     * The number of worker threads to use for processing the PDF files in
+     * batch mode.
+     */
+    @Arg(dest = NUM_WORKERS)
+    protected int numWorkers;
+
+    // ========================================================================
+
+    /**
+     * The name of the option to define the target path for the statistics.
+     */
+    protected static final String STATS_PATH = "stats";
+
+    /**
+     * The target path for the statistics about the executed pipes.
+     */
+    @Arg(dest = STATS_PATH)
+    protected String statsPath;
+
+    // ========================================================================
+
+    /**
+     * The name of the option to define the pages to process.
+     */
+    protected static final String PAGES = "pages";
+
+    /**
+     * The ranges of the page numbers of the pages to process.
+     */
+    @Arg(dest = PAGES)
+    protected String pages;
+
+    /**
+     * The name of the option to define the maximum number of pages.
+     */
+    protected static final String MAX_PAGES = "max-pages";
+
+    /**
+     * The maximum number of pages to process.
+     */
+    @Arg(dest = MAX_PAGES)
+    protected Integer maxNumPages;
+
+    // ========================================================================
+
+    /**
+     * The name of the option to define where the data of the loaded PDF
+     * files should be buffered.
+     */
+    protected static final String MEMORY_MODE = "memory";
+
+    /**
+     * The mode where the data of the loaded PDF files should be buffered.
+     */
+    @Arg(dest = MEMORY_MODE)
+    protected String memoryMode;
+
+    /**
+     * The name of the option to define the maximum size of the main memory.
+     */
+    protected static final String MAX_MEMORY = "max-memory";
+
+    /**
+     * The maximum size of the main memory to buffer the data of a loaded PDF
+     * file, in megabytes.
+     */
+    @Arg(dest = MAX_MEMORY)
+    protected long maxMemory;
+
+    /**
+     * The name of the option to define the directory of temporary files.
+     */
+    protected static final String TEMP_DIRECTORY = "temp-dir";
+
+    /**
+     * The directory of the temporary files.
+     */
+    @Arg(dest = TEMP_DIRECTORY)
+    protected String tempDirectory;
+
+    /**
+     * The name of the option to enable memory-mapped reading.
+     */
+    protected static final String MEMORY_MAPPED = "mmap";
+
+    /**
+     * The boolean flag indicating whether the PDF files should be read via a
+     * memory mapping.
+     */
+    @Arg(dest = MEMORY_MAPPED)
+    protected boolean memoryMapped;
+
+    /**
+     * The name of the option to enable the streaming mode.
+     */
+    protected static final String STREAM = "stream";
+
+    /**
+     * The boolean flag indicating whether the PDF files should be processed
+     * page by page.
+     */
+    @Arg(dest = STREAM)
+    protected boolean streaming;
+
+    // ========================================================================
+
+    /**
+     * The name of the option to define the directory of the cache.
+     */
+    protected static final String CACHE_DIRECTORY = "cache";
+
+    /**
+     * The directory where processed PDF documents should be cached.
+     */
+    @Arg(dest = CACHE_DIRECTORY)
+    protected String cacheDirectory;
+
+    /**
+     * The name of the option to define the maximum size of the cache.
+     */
+    protected static final String CACHE_SIZE = "cache-size";
+
+    /**
+     * The maximum total size of the cache in megabytes.
+     */
+    @Arg(dest = CACHE_SIZE)
+    protected long cacheSize;
+
+    // ========================================================================
+
+    /**
+     * The value of the PDF path that starts the extraction server.
+     */
+    protected static final String SERVE_COMMAND = "serve";
+
+    /**
+     * The name of the option to define the host name of the server.
+     */
+    protected static final String HOST = "host";
+
+    /**
+     * The host name to which the server should be bound.
+     */
+    @Arg(dest = HOST)
+    protected String host;
+
+    /**
+     * The name of the option to define the port of the server.
+     */
+    protected static final String PORT = "port";
+
+    /**
+     * The port to which the server should be bound.
+     */
+    @Arg(dest = PORT)
+    protected int port;
+
+    /**
+     * The name of the option to define the maximum queue size of the server.
+     */
+    protected static final String MAX_QUEUE_SIZE = "queue-size";
+
+    /**
+     * The maximum number of requests waiting for a free worker.
+     */
+    @Arg(dest = MAX_QUEUE_SIZE)
+    protected int maxQueueSize;
+
+    /**
+     * The name of the option to define the maximum request size of the
+     * server.
+     */
+    protected static final String MAX_REQUEST_SIZE = "max-request-size";
+
+    /**
+     * The maximum size of a PDF file sent in a request, in megabytes.
+     */
+    @Arg(dest = MAX_REQUEST_SIZE)
+    protected long maxRequestSize;
+
+    // ========================================================================
+
     /**
      * Creates a new command line argument parser.
      */
@@ -262,7 +814,12 @@ public class PdfActCLI {
           .dest(PDF_PATH)
           .required(true)
           .metavar("<pdf-path>")
-          .help("Defines the path to the PDF file to process.");
+          .help("Defines the path to the PDF file to process. Type '"
+              + SERVE_COMMAND + "' to start a server that processes PDF "
+              + "files sent over HTTP instead. In batch mode, "
+              + "defines the PDF files to process: a directory (searched "
+              + "recursively for PDF files), a glob pattern, a file that lists "
+              + "one path per line, or '-' to read such a list from stdin.");
 
       // Add an argument to define the target path for the serialization.
       this.parser.addArgument(SERIALIZE_PATH)
@@ -271,7 +828,9 @@ public class PdfActCLI {
           .metavar("<output-file>")
           .help("Defines the path to the file where pdfact should write the "
               + "text output. If not specified, the output will be written "
-              + "to stdout.");
+              + "to stdout. In batch mode, defines the directory where "
+              + "pdfact should write the text outputs. If not specified, "
+              + "each output will be written next to its PDF file.");
 
       // Add an argument to define the serialization format.
       Set<String> formatChoices = SerializeFormat.getNames();
@@ -316,7 +875,9 @@ public class PdfActCLI {
           .help("Defines a path to a file where pdfact should write a "
               + "visualization of the text output (that is a PDF file where "
               + "the chosen elements are surrounded by bounding boxes). If "
-              + "not specified, no visualization will be created.");
+              + "not specified, no visualization will be created. In batch "
+              + "mode, defines the directory where pdfact should write the "
+              + "visualizations.");
 
       // Add an argument to define the log level.
       StringBuilder choiceStr = new StringBuilder();
@@ -334,6 +895,209 @@ public class PdfActCLI {
           .help("Defines the verbosity of debug messages. The level defines "
               + "the minimum level of severity required for a message to be "
               + "logged. Choose from: \n" + choiceStr.toString());
+
+      // Add an argument to define the number of threads.
+      this.parser.addArgument("--" + NUM_THREADS)
+          .dest(NUM_THREADS)
+          .required(false)
+          .metavar("<num>")
+          .type(Integer.class)
+          .setDefault(DEFAULT_NUM_THREADS)
+          .help("Defines the number of threads to use for processing the "
+              + "pages of the PDF file in parallel. The output does not "
+              + "depend on this number. If not specified, the pages will be "
+              + "processed sequentially.");
+
+      // Add an argument to store the characters in compact tables.
+      this.parser.addArgument("--" + COMPACT_CHARACTERS)
+          .dest(COMPACT_CHARACTERS)
+          .action(Arguments.storeTrue())
+          .help("Stores the characters of each page in a compact table of "
+              + "primitive arrays instead of in one object per character. "
+              + "Reduces the memory needed for PDF files with many "
+              + "characters. The output does not depend on this option.");
+
+      // Add an argument to enable the batch mode.
+      this.parser.addArgument("--" + BATCH_MODE)
+          .dest(BATCH_MODE)
+          .action(Arguments.storeTrue())
+          .help("Enables the batch mode, that is: processes multiple PDF "
+              + "files and writes one output per PDF file. A PDF file that "
+              + "couldn't be processed is reported, but doesn't abort the "
+              + "processing of the other files.");
+
+      // Add an argument to define the number of workers in batch mode.
+      this.parser.addArgument("--" + NUM_WORKERS)
+          .dest(NUM_WORKERS)
+          .required(false)
+          .metavar("<num>")
+          .type(Integer.class)
+          .setDefault(DEFAULT_NUM_WORKERS)
+          .help("Defines the number of PDF files to process in parallel in "
+              + "batch mode or server mode. If not specified, the number of "
+              + "available processors will be used.");
+
+      // Add an argument to define the target path for the statistics.
+      this.parser.addArgument("--" + STATS_PATH)
+          .dest(STATS_PATH)
+          .required(false)
+          .metavar("<path>")
+          .help("Defines the path to a file where pdfact should write "
+              + "statistics about the executed pipes in JSON format: the wall "
+              + "time, the CPU time, the allocated bytes and the numbers of "
+              + "processed elements per pipe and per PDF file. If not "
+              + "specified, no statistics will be written. Ignored in server "
+              + "mode.");
+
+      // Add an argument to define the pages to process.
+      this.parser.addArgument("--" + PAGES)
+          .dest(PAGES)
+          .required(false)
+          .metavar("<pages>")
+          .help("Defines the pages to process, given by ranges of page "
+              + "numbers, for example \"1-3,10\" or \"5-\" (all pages from "
+              + "page 5 on). The other pages are not parsed at all and the "
+              + "statistics are computed from the selected pages only. If not "
+              + "specified, all pages will be processed.");
+
+      // Add an argument to define the maximum number of pages.
+      this.parser.addArgument("--" + MAX_PAGES)
+          .dest(MAX_PAGES)
+          .required(false)
+          .metavar("<num>")
+          .type(Integer.class)
+          .help("Defines the maximum number of pages to process (at least "
+              + "1). Only the first <num> (selected) pages are processed. If "
+              + "not specified, there is no maximum.");
+
+      // Add an argument to define where the data of PDF files is buffered.
+      Set<String> memoryModeChoices = MemoryMode.getNames();
+      this.parser.addArgument("--" + MEMORY_MODE)
+          .dest(MEMORY_MODE)
+          .choices(memoryModeChoices)
+          .required(false)
+          .metavar("<mode>")
+          .help("Defines where pdfact should buffer the data of the loaded "
+              + "PDF files (like the decoded streams) on parsing and "
+              + "visualizing: in main memory (\"memory\"), in main memory "
+              + "up to the size given by --" + MAX_MEMORY + " and in a "
+              + "temporary file beyond (\"mixed\") or in a temporary file "
+              + "only (\"temp-file\"). If not specified, all data will be "
+              + "buffered in main memory. Choose from: " + memoryModeChoices);
+
+      // Add an argument to define the maximum size of the main memory.
+      this.parser.addArgument("--" + MAX_MEMORY)
+          .dest(MAX_MEMORY)
+          .required(false)
+          .metavar("<MB>")
+          .type(Long.class)
+          .setDefault(DEFAULT_MAX_MEMORY)
+          .help("Defines the maximum size of the main memory in megabytes to "
+              + "buffer the data of a loaded PDF file in mode \"mixed\" "
+              + "(divided among the threads). If not specified, "
+              + DEFAULT_MAX_MEMORY + " MB will be used.");
+
+      // Add an argument to define the directory of temporary files.
+      this.parser.addArgument("--" + TEMP_DIRECTORY)
+          .dest(TEMP_DIRECTORY)
+          .required(false)
+          .metavar("<dir>")
+          .help("Defines the directory where pdfact should create the "
+              + "temporary files in mode \"mixed\" and \"temp-file\". If "
+              + "not specified, the default temporary directory will be "
+              + "used.");
+
+      // Add an argument to enable memory-mapped reading.
+      this.parser.addArgument("--" + MEMORY_MAPPED)
+          .dest(MEMORY_MAPPED)
+          .action(Arguments.storeTrue())
+          .help("Reads the PDF files via a memory mapping instead of "
+              + "buffered file access, such that the content of the PDF "
+              + "files is paged in by the operating system on demand.");
+
+      // Add an argument to enable the streaming mode.
+      this.parser.addArgument("--" + STREAM)
+          .dest(STREAM)
+          .action(Arguments.storeTrue())
+          .help("Processes the PDF files page by page, such that only a "
+              + "single page is held in memory at any time. Each page is "
+              + "serialized as soon as it was processed, in the order of "
+              + "its text lines. Since a first pass parses the characters of "
+              + "all pages to compute the statistics needed to tokenize the "
+              + "pages, the content streams are interpreted twice. Only the "
+              + "text units \"words\" and \"characters\" can be extracted in "
+              + "this mode, without identifying semantic roles and without "
+              + "merging hyphenated words. The mode can't be combined with a "
+              + "visualization. In server mode, it is applied to the requests "
+              + "for words or characters only.");
+
+      // Add an argument to define the directory of the cache.
+      this.parser.addArgument("--" + CACHE_DIRECTORY)
+          .dest(CACHE_DIRECTORY)
+          .required(false)
+          .metavar("<dir>")
+          .help("Defines a directory where pdfact should cache the processed "
+              + "PDF files. A PDF file that was processed before (with the "
+              + "same content and the same version of pdfact) is then "
+              + "restored from the cache instead of being parsed again. If "
+              + "not specified, no cache will be used.");
+
+      // Add an argument to define the maximum size of the cache.
+      this.parser.addArgument("--" + CACHE_SIZE)
+          .dest(CACHE_SIZE)
+          .required(false)
+          .metavar("<MB>")
+          .type(Long.class)
+          .setDefault(DEFAULT_CACHE_SIZE)
+          .help("Defines the maximum total size of the cache in megabytes. "
+              + "The least recently used PDF files are removed from the "
+              + "cache if it grows larger. If not specified, "
+              + DEFAULT_CACHE_SIZE + " MB will be used.");
+
+      // Add an argument to define the host name of the server.
+      this.parser.addArgument("--" + HOST)
+          .dest(HOST)
+          .required(false)
+          .metavar("<host>")
+          .setDefault(DEFAULT_SERVER_HOST)
+          .help("Defines the host name to which the server should be bound "
+              + "in server mode. If not specified, " + DEFAULT_SERVER_HOST
+              + " will be used.");
+
+      // Add an argument to define the port of the server.
+      this.parser.addArgument("--" + PORT)
+          .dest(PORT)
+          .required(false)
+          .metavar("<port>")
+          .type(Integer.class)
+          .setDefault(DEFAULT_SERVER_PORT)
+          .help("Defines the port to which the server should be bound in "
+              + "server mode. If not specified, " + DEFAULT_SERVER_PORT
+              + " will be used.");
+
+      // Add an argument to define the maximum queue size of the server.
+      this.parser.addArgument("--" + MAX_QUEUE_SIZE)
+          .dest(MAX_QUEUE_SIZE)
+          .required(false)
+          .metavar("<num>")
+          .type(Integer.class)
+          .setDefault(DEFAULT_MAX_QUEUE_SIZE)
+          .help("Defines the maximum number of requests waiting for a free "
+              + "worker in server mode. Further requests are rejected with "
+              + "status code 503. If not specified, " + DEFAULT_MAX_QUEUE_SIZE
+              + " will be used.");
+
+      // Add an argument to define the maximum request size of the server.
+      this.parser.addArgument("--" + MAX_REQUEST_SIZE)
+          .dest(MAX_REQUEST_SIZE)
+          .required(false)
+          .metavar("<MB>")
+          .type(Long.class)
+          .setDefault(DEFAULT_MAX_REQUEST_SIZE)
+          .help("Defines the maximum size of a PDF file sent to the server in "
+              + "server mode, in megabytes. Larger requests are rejected with "
+              + "status code 413. If not specified, "
+              + DEFAULT_MAX_REQUEST_SIZE + " will be used.");
     }
 
     /**
@@ -355,6 +1119,62 @@ public class PdfActCLI {
         String message = e.getMessage() + "\n\n" + getUsage();
         throw new PdfActParseCommandLineException(message, e);
       }
+
+      // Validate the maximum size of the main memory.
+      if (this.maxMemory < 0) {
+        String message = "Invalid maximum size of the main memory: "
+            + this.maxMemory + "\n\n" + getUsage();
+        throw new PdfActParseCommandLineException(message);
+      }
+
+      // Validate the maximum request size of the server.
+      if (this.maxRequestSize <= 0) {
+        String message = "Invalid maximum request size: "
+            + this.maxRequestSize + "\n\n" + getUsage();
+        throw new PdfActParseCommandLineException(message);
+      }
+
+      // Validate the maximum size of the cache.
+      if (this.cacheSize < 0) {
+        String message = "Invalid maximum size of the cache: "
+            + this.cacheSize + "\n\n" + getUsage();
+        throw new PdfActParseCommandLineException(message);
+      }
+
+      // Validate the options of the streaming mode.
+      if (this.streaming && !isServeMode()) {
+        String message = null;
+        TextUnit unit = this.textUnit != null
+            ? TextUnit.fromString(this.textUnit) : DEFAULT_TEXT_UNIT;
+        if (unit != TextUnit.WORD && unit != TextUnit.CHARACTER) {
+          message = "The text unit '" + unit.getPluralName() + "' can't be "
+              + "extracted with --" + STREAM + ".";
+        } else if (this.visualizationPath != null) {
+          message = "--" + VISUALIZATION_PATH + " can't be combined with --"
+              + STREAM + ".";
+        } else if (this.semanticRolesFilters != null) {
+          message = "--" + SEMANTIC_ROLES_FILTER + " can't be combined "
+              + "with --" + STREAM + ".";
+        }
+        if (message != null) {
+          throw new PdfActParseCommandLineException(message + "\n\n"
+              + getUsage());
+        }
+      }
+
+      // Validate the selection of the pages. A maximum of 0 pages would
+      // select no page at all (while 0 stands for "no maximum" internally).
+      if (this.maxNumPages != null && this.maxNumPages < 1) {
+        String message = "Invalid maximum number of pages: "
+            + this.maxNumPages + "\n\n" + getUsage();
+        throw new PdfActParseCommandLineException(message);
+      }
+      try {
+        PageSelection.fromString(this.pages).setMaxNumPages(getMaxNumPages());
+      } catch (IllegalArgumentException e) {
+        String message = e.getMessage() + "\n\n" + getUsage();
+        throw new PdfActParseCommandLineException(message, e);
+      }
     }
 
     /**
@@ -510,6 +1330,244 @@ public class PdfActCLI {
     public int getLogLevel() {
       return this.logLevel;
     }
+
+    // ========================================================================
+
+    /**
+     * Returns the number of threads to use for processing the pages.
+     *
+     * @return The number of threads to use for processing the pages.
+     */
+    public int getNumThreads() {
+      return this.numThreads;
+    }
+
+    // ========================================================================
+
+    /**
+     * Returns true, if the characters of each page should be stored in a
+     * compact table; false otherwise.
+     *
+     * @return True, if the characters should be stored in a compact table;
+     *         false otherwise.
+     */
+    public boolean isCompactCharacters() {
+      return this.compactCharacters;
+    }
+
+    // ========================================================================
+
+    /**
+     * Returns true, if the batch mode is enabled; false otherwise.
+     *
+     * @return True, if the batch mode is enabled; false otherwise.
+     */
+    public boolean isBatchMode() {
+      return this.batchMode;
+    }
+
+    /**
+     * Returns the number of worker threads to use in batch mode.
+     *
+     * @return The number of worker threads to use in batch mode.
+     */
+    public int getNumWorkers() {
+      return this.numWorkers;
+    }
+
+    // ========================================================================
+
+    /**
+     * Returns true, if a target path for the statistics is given.
+     *
+     * @return True, if a target path for the statistics is given.
+     */
+    public boolean hasStatsPath() {
+      return this.statsPath != null;
+    }
+
+    /**
+     * Returns the target path for the statistics about the executed pipes.
+     *
+     * @return The target path for the statistics about the executed pipes.
+     */
+    public String getStatsPath() {
+      return this.statsPath;
+    }
+
+    // ========================================================================
+
+    /**
+     * Returns true, if ranges of the pages to process are given.
+     *
+     * @return True, if ranges of the pages to process are given.
+     */
+    public boolean hasPages() {
+      return this.pages != null;
+    }
+
+    /**
+     * Returns the ranges of the page numbers of the pages to process.
+     *
+     * @return The ranges of the page numbers of the pages to process.
+     */
+    public String getPages() {
+      return this.pages;
+    }
+
+    /**
+     * Returns the maximum number of pages to process.
+     *
+     * @return The maximum number of pages to process (0 if there is no
+     *         maximum).
+     */
+    public int getMaxNumPages() {
+      return this.maxNumPages != null ? this.maxNumPages : 0;
+    }
+
+    // ========================================================================
+
+    /**
+     * Returns true, if a mode where the data of the loaded PDF files should
+     * be buffered is given.
+     *
+     * @return True, if a memory mode is given.
+     */
+    public boolean hasMemoryMode() {
+      return this.memoryMode != null;
+    }
+
+    /**
+     * Returns the mode where the data of the loaded PDF files should be
+     * buffered.
+     *
+     * @return The memory mode.
+     */
+    public String getMemoryMode() {
+      return this.memoryMode;
+    }
+
+    /**
+     * Returns the maximum size of the main memory to buffer the data of a
+     * loaded PDF file, in megabytes.
+     *
+     * @return The maximum size of the main memory in megabytes.
+     */
+    public long getMaxMemory() {
+      return this.maxMemory;
+    }
+
+    /**
+     * Returns true, if a directory of the temporary files is given.
+     *
+     * @return True, if a directory of the temporary files is given.
+     */
+    public boolean hasTempDirectory() {
+      return this.tempDirectory != null;
+    }
+
+    /**
+     * Returns the directory of the temporary files.
+     *
+     * @return The directory of the temporary files.
+     */
+    public String getTempDirectory() {
+      return this.tempDirectory;
+    }
+
+    /**
+     * Returns true, if the PDF files should be read via a memory mapping.
+     *
+     * @return True, if the PDF files should be read via a memory mapping.
+     */
+    public boolean isMemoryMapped() {
+      return this.memoryMapped;
+    }
+
+    /**
+     * Returns true, if the PDF files should be processed in streaming mode.
+     *
+     * @return True, if the PDF files should be processed in streaming mode.
+     */
+    public boolean isStreaming() {
+      return this.streaming;
+    }
+
+    // ========================================================================
+
+    /**
+     * Returns true, if a directory of the cache is given.
+     *
+     * @return True, if a directory of the cache is given.
+     */
+    public boolean hasCacheDirectory() {
+      return this.cacheDirectory != null;
+    }
+
+    /**
+     * Returns the directory where processed PDF documents should be cached.
+     *
+     * @return The directory of the cache.
+     */
+    public String getCacheDirectory() {
+      return this.cacheDirectory;
+    }
+
+    /**
+     * Returns the maximum total size of the cache in megabytes.
+     *
+     * @return The maximum total size of the cache in megabytes.
+     */
+    public long getCacheSize() {
+      return this.cacheSize;
+    }
+
+    // ========================================================================
+
+    /**
+     * Returns true, if the server mode is enabled; false otherwise.
+     *
+     * @return True, if the server mode is enabled; false otherwise.
+     */
+    public boolean isServeMode() {
+      return SERVE_COMMAND.equals(this.pdfPath);
+    }
+
+    /**
+     * Returns the host name to which the server should be bound.
+     *
+     * @return The host name to which the server should be bound.
+     */
+    public String getHost() {
+      return this.host;
+    }
+
+    /**
+     * Returns the port to which the server should be bound.
+     *
+     * @return The port to which the server should be bound.
+     */
+    public int getPort() {
+      return this.port;
+    }
+
+    /**
+     * Returns the maximum number of requests waiting for a free worker.
+     *
+     * @return The maximum number of requests waiting for a free worker.
+     */
+    public int getMaxQueueSize() {
+      return this.maxQueueSize;
+    }
+
+    /**
+     * Returns the maximum size of a PDF file sent in a request.
+     *
+     * @return The maximum size of a PDF file sent in a request, in megabytes.
+     */
+    public long getMaxRequestSize() {
+      return this.maxRequestSize;
+    }
   }
 
   /**
@@ -24,6 +24,53 @@ public class PdfActCLISettings {
    */
   public static final TextUnit DEFAULT_TEXT_UNIT = TextUnit.PARAGRAPH;
 
+  /**
+   * The default number of threads to use for processing the pages of a PDF
+   * document (1 means that the pages are processed sequentially).
+   */
+  public static final int DEFAULT_NUM_THREADS = 1;
+
+  /**
+   * The default number of worker threads to use for processing the PDF files
+   * in batch mode.
+   */
+  public static final int DEFAULT_NUM_WORKERS =
+      Runtime.getRuntime().availableProcessors();
+
+  /**
+   * The default host name to which the extraction server is bound.
+   */
+  public static final String DEFAULT_SERVER_HOST = "localhost";
+
+  /**
+   * The default port to which the extraction server is bound.
+   */
+  public static final int DEFAULT_SERVER_PORT = 8080;
+
+  /**
+   * The default maximum number of requests to the extraction server that are
+   * waiting for a free worker.
+   */
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 64;
+
+  /**
+   * The default maximum size of a PDF file sent to the extraction server, in
+   * megabytes.
+   */
+  public static final long DEFAULT_MAX_REQUEST_SIZE = 100;
+
+  /**
+   * The default maximum total size of the cache of processed PDF documents,
+   * in megabytes.
+   */
+  public static final long DEFAULT_CACHE_SIZE = 1024;
+
+  /**
+   * The default maximum size of the main memory to buffer the data of a
+   * loaded PDF file in mode "mixed", in megabytes.
+   */
+  public static final long DEFAULT_MAX_MEMORY = 256;
+
   /**
    * The default semantic roles of text units to include on serialization and
    * visualization.
@@ -0,0 +1,219 @@
+package pdfact.cli.batch;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+import pdfact.cli.model.SerializeFormat;
+import pdfact.cli.model.TextUnit;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.pipes.ProcessingOptions;
+import pdfact.core.util.exception.PdfActException;
+
+/**
+ * A processor that processes a batch of PDF files on multiple worker threads
+ * and writes one output per PDF file. A failure in processing a single PDF
+ * file is reported, but doesn't abort the processing of the other files.
+ *
+ * @author Claudius Korzen
+ */
+public interface PdfActBatchProcessor {
+  /**
+   * Resolves the given source to the PDF files to process. The source could
+   * be (1) a directory, which is searched recursively for PDF files; (2) a
+   * glob pattern, like "papers/**.pdf"; (3) a PDF file; (4) a text file that
+   * lists the paths to the PDF files to process, one path per line; or (5)
+   * "-" to read such a list from stdin. The outputs of the PDF files are
+   * named after the paths of the files relative to the directory that
+   * contains them all. The PDF files are passed to the given handler one at
+   * a time, as soon as they are resolved, such that the resolved PDF files
+   * don't need to be held in memory.
+   *
+   * @param source
+   *        The source to resolve.
+   * @param handler
+   *        The handler to pass each resolved PDF file to.
+   *
+   * @throws PdfActException
+   *         If the source couldn't be resolved or the handler failed.
+   */
+  void resolveInputs(String source, InputHandler handler)
+      throws PdfActException;
+
+  /**
+   * Processes the PDF files of the given source (see resolveInputs()). The
+   * PDF files are processed while the source is resolved, with a bounded
+   * number of pending PDF files per worker. The failures are reported as
+   * soon as they occur. A PDF file that would be written to the same output
+   * as another PDF file (for example, "a.pdf" and "a.PDF") is reported as
+   * failure.
+   *
+   * @param source
+   *        The source of the PDF files to process.
+   *
+   * @throws PdfActException
+   *         If the source couldn't be resolved or at least one of the PDF
+   *         files couldn't be processed.
+   */
+  void process(String source) throws PdfActException;
+
+  // ==========================================================================
+
+  /**
+   * Returns the directory where the serializations should be stored.
+   *
+   * @return The directory where the serializations should be stored.
+   */
+  Path getOutputDirectory();
+
+  /**
+   * Sets the directory where the serializations should be stored. If no such
+   * directory is given, each serialization is stored next to its PDF file.
+   *
+   * @param directory
+   *        The directory where the serializations should be stored.
+   */
+  void setOutputDirectory(Path directory);
+
+  // ==========================================================================
+
+  /**
+   * Returns the directory where the visualizations should be stored.
+   *
+   * @return The directory where the visualizations should be stored.
+   */
+  Path getVisualizationDirectory();
+
+  /**
+   * Sets the directory where the visualizations should be stored. If no such
+   * directory is given, no visualizations will be created.
+   *
+   * @param directory
+   *        The directory where the visualizations should be stored.
+   */
+  void setVisualizationDirectory(Path directory);
+
+  // ==========================================================================
+
+  /**
+   * Returns the target serialization format.
+   *
+   * @return The target serialization format.
+   */
+  SerializeFormat getSerializationFormat();
+
+  /**
+   * Sets the target serialization format.
+   *
+   * @param format
+   *        The target serialization format.
+   */
+  void setSerializationFormat(SerializeFormat format);
+
+  // ==========================================================================
+
+  /**
+   * Returns the semantic roles filters.
+   *
+   * @return The semantic roles filters.
+   */
+  Set<SemanticRole> getSemanticRolesFilters();
+
+  /**
+   * Sets the semantic roles filters.
+   *
+   * @param filters
+   *        The semantic roles filters.
+   */
+  void setSemanticRolesFilters(Set<SemanticRole> filters);
+
+  // ==========================================================================
+
+  /**
+   * Returns the text unit.
+   *
+   * @return The text unit.
+   */
+  TextUnit getTextUnit();
+
+  /**
+   * Sets the text unit.
+   *
+   * @param unit
+   *        The text unit.
+   */
+  void setTextUnit(TextUnit unit);
+
+  // ==========================================================================
+
+  /**
+   * Returns the number of worker threads that process the PDF files.
+   *
+   * @return The number of worker threads that process the PDF files.
+   */
+  int getNumWorkers();
+
+  /**
+   * Sets the number of worker threads that process the PDF files.
+   *
+   * @param numWorkers
+   *        The number of worker threads that process the PDF files.
+   */
+  void setNumWorkers(int numWorkers);
+
+  // ==========================================================================
+
+  /**
+   * Returns the options that define how the PDF files are processed.
+   *
+   * @return The processing options.
+   */
+  ProcessingOptions getProcessingOptions();
+
+  /**
+   * Sets the options that define how the PDF files are processed. The pool
+   * and the listeners of the options are shared by all worker threads.
+   *
+   * @param options
+   *        The processing options.
+   */
+  void setProcessingOptions(ProcessingOptions options);
+
+  // ==========================================================================
+
+  /**
+   * A handler of the PDF files resolved from a source.
+   *
+   * @author Claudius Korzen
+   */
+  public interface InputHandler {
+    /**
+     * Handles a resolved PDF file.
+     *
+     * @param pdfPath
+     *        The path to the PDF file.
+     * @param outputPath
+     *        The path of the outputs of the PDF file relative to the output
+     *        directory (without any file extension).
+     *
+     * @throws PdfActException
+     *         If handling the PDF file failed.
+     */
+    void handle(Path pdfPath, Path outputPath) throws PdfActException;
+  }
+
+  // ==========================================================================
+
+  /**
+   * The factory to create instances of {@link PdfActBatchProcessor}.
+   *
+   * @author Claudius Korzen
+   */
+  public interface PdfActBatchProcessorFactory {
+    /**
+     * Creates a new PdfActBatchProcessor.
+     *
+     * @return An instance of {@link PdfActBatchProcessor}.
+     */
+    PdfActBatchProcessor create();
+  }
+}
@@ -0,0 +1,847 @@
+package pdfact.cli.batch;
+
+import static pdfact.cli.PdfActCLISettings.DEFAULT_NUM_WORKERS;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_SEMANTIC_ROLES_TO_INCLUDE;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_SERIALIZE_FORMAT;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_TEXT_UNIT;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+
+import com.google.inject.Inject;
+
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+
+import pdfact.cli.model.SerializeFormat;
+import pdfact.cli.model.TextUnit;
+import pdfact.cli.pipes.PdfActServicePipe;
+import pdfact.cli.pipes.PdfActServicePipe.PdfActServicePipeFactory;
+import pdfact.cli.util.exception.PdfActBatchException;
+import pdfact.core.model.LogLevel;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.model.PdfDocument.PdfDocumentFactory;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.pipes.ProcessingOptions;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActExecuteException;
+import pdfact.core.util.exception.PdfActValidateException;
+import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.log.Log4JTypeListener;
+
+/**
+ * A plain implementation of {@link PdfActBatchProcessor}.
+ *
+ * @author Claudius Korzen
+ */
+public class PlainPdfActBatchProcessor implements PdfActBatchProcessor {
+  /**
+   * The logger.
+   */
+  @InjectLogger
+  protected static Logger log;
+
+  /**
+   * The characters that identify a source as a glob pattern.
+   */
+  protected static final String GLOB_CHARACTERS = "*?[{";
+
+  /**
+   * The file extension of PDF files.
+   */
+  protected static final String PDF_FILE_EXTENSION = ".pdf";
+
+  /**
+   * The maximum number of PDF files per worker that are pending (queued or in
+   * process) at any time. Further PDF files are resolved only when pending PDF
+   * files are done, such that the memory needed is independent of the number
+   * of PDF files.
+   */
+  protected static final int MAX_NUM_PENDING_FILES_PER_WORKER = 2;
+
+  /**
+   * The factory to create new PDF documents.
+   */
+  protected PdfDocumentFactory pdfDocumentFactory;
+
+  /**
+   * The factory to create service pipes of PdfAct.
+   */
+  protected PdfActServicePipeFactory serviceFactory;
+
+  // ==========================================================================
+
+  /**
+   * The directory where the serializations should be stored.
+   */
+  protected Path outputDirectory;
+
+  /**
+   * The directory where the visualizations should be stored.
+   */
+  protected Path visualizationDirectory;
+
+  /**
+   * The serialization format.
+   */
+  protected SerializeFormat serializationFormat;
+
+  /**
+   * The text unit to use in serialization and visualization.
+   */
+  protected TextUnit textUnit;
+
+  /**
+   * The roles of text units to be included in serialization and visualization.
+   */
+  protected Set<SemanticRole> roles;
+
+  /**
+   * The number of worker threads that process the PDF files.
+   */
+  protected int numWorkers;
+
+  /**
+   * The options that define how the PDF files are processed.
+   */
+  protected ProcessingOptions options = new ProcessingOptions();
+
+  // ==========================================================================
+
+  /**
+   * The default constructor.
+   *
+   * @param pdfDocumentFactory
+   *        The factory to create new PDF documents.
+   * @param serviceFactory
+   *        The factory to create service pipes of PdfAct.
+   */
+  @Inject
+  public PlainPdfActBatchProcessor(PdfDocumentFactory pdfDocumentFactory,
+      PdfActServicePipeFactory serviceFactory) {
+    this.pdfDocumentFactory = pdfDocumentFactory;
+    this.serviceFactory = serviceFactory;
+    this.serializationFormat = DEFAULT_SERIALIZE_FORMAT;
+    this.textUnit = DEFAULT_TEXT_UNIT;
+    this.roles = DEFAULT_SEMANTIC_ROLES_TO_INCLUDE;
+    this.numWorkers = DEFAULT_NUM_WORKERS;
+  }
+
+  // ==========================================================================
+  // Methods to resolve the PDF files to process.
+
+  @Override
+  public void resolveInputs(String source, InputHandler handler)
+      throws PdfActException {
+    if (source == null) {
+      throw new PdfActValidateException("No source of PDF files given.");
+    }
+
+    log.debug("Resolving the PDF files of source '" + source + "'.");
+
+    try {
+      if (source.equals("-")) {
+        // Read the list of PDF files from stdin.
+        resolveStdinList(handler);
+      } else if (isGlobPattern(source)) {
+        resolveGlobPattern(source, handler);
+      } else {
+        Path path = Paths.get(source);
+        if (Files.isDirectory(path)) {
+          resolveTree(path, path, Integer.MAX_VALUE, p -> isPdfFile(p),
+              handler);
+        } else if (isPdfFile(path) || !Files.exists(path)) {
+          // Add the file regardless of whether it exists, such that a missing
+          // file is reported like any other failure.
+          handler.handle(path, removeFileExtension(path.getFileName()));
+        } else {
+          resolveList(path, handler);
+        }
+      }
+    } catch (IOException | UncheckedIOException | InvalidPathException e) {
+      throw new PdfActValidateException("Couldn't resolve the PDF files of "
+          + "source '" + source + "'.", e);
+    }
+  }
+
+  /**
+   * Resolves the PDF files that are listed on stdin, one path per line. The
+   * list is copied to a temporary file first, since it must be read twice
+   * (see resolveList()).
+   *
+   * @param handler
+   *        The handler to pass each resolved PDF file to.
+   *
+   * @throws IOException
+   *         If reading the list failed.
+   * @throws PdfActException
+   *         If the handler failed.
+   */
+  protected void resolveStdinList(InputHandler handler)
+      throws IOException, PdfActException {
+    Path list = Files.createTempFile("pdfact-", ".list");
+    try {
+      Files.copy(System.in, list, StandardCopyOption.REPLACE_EXISTING);
+      resolveList(list, handler);
+    } finally {
+      Files.deleteIfExists(list);
+    }
+  }
+
+  /**
+   * Resolves the PDF files that are listed by the given file, one path per
+   * line. Empty lines and lines starting with '#' are ignored. The output path
+   * of each PDF file is its path relative to the deepest directory that
+   * contains all listed PDF files, such that files with the same name from
+   * different directories don't overwrite each other's outputs. The list is
+   * read twice: first to compute this directory, then to pass the PDF files
+   * to the handler.
+   *
+   * @param list
+   *        The file that lists the PDF files.
+   * @param handler
+   *        The handler to pass each resolved PDF file to.
+   *
+   * @throws IOException
+   *         If reading the list failed.
+   * @throws PdfActException
+   *         If the handler failed.
+   */
+  protected void resolveList(Path list, InputHandler handler)
+      throws IOException, PdfActException {
+    // Compute the deepest directory that contains all listed PDF files.
+    Path base = null;
+    boolean isFirst = true;
+    try (BufferedReader reader = newListReader(list)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        Path path = parseListLine(line);
+        if (path != null) {
+          Path parent = path.toAbsolutePath().normalize().getParent();
+          base = isFirst ? parent : computeCommonAncestor(base, parent);
+          isFirst = false;
+        }
+      }
+    }
+
+    try (BufferedReader reader = newListReader(list)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        Path path = parseListLine(line);
+        if (path != null) {
+          Path absolutePath = path.toAbsolutePath().normalize();
+          Path relativePath = base != null ? base.relativize(absolutePath)
+              : absolutePath.subpath(0, absolutePath.getNameCount());
+          handler.handle(path, removeFileExtension(relativePath));
+        }
+      }
+    }
+  }
+
+  /**
+   * Opens a reader for the given list of PDF files.
+   *
+   * @param list
+   *        The file that lists the PDF files.
+   *
+   * @return The reader.
+   *
+   * @throws IOException
+   *         If the file couldn't be opened.
+   */
+  protected BufferedReader newListReader(Path list) throws IOException {
+    return Files.newBufferedReader(list, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Parses the given line of a list of PDF files.
+   *
+   * @param line
+   *        The line to parse.
+   *
+   * @return The path given by the line; null if the line is empty or a
+   *         comment.
+   */
+  protected static Path parseListLine(String line) {
+    line = line.trim();
+    if (line.isEmpty() || line.startsWith("#")) {
+      return null;
+    }
+    return Paths.get(line);
+  }
+
+  /**
+   * Computes the deepest common ancestor of the given absolute paths.
+   *
+   * @param path1
+   *        The first path (may be null).
+   * @param path2
+   *        The second path (may be null).
+   *
+   * @return The deepest common ancestor of the given paths; null if the paths
+   *         don't have a common ancestor.
+   */
+  protected static Path computeCommonAncestor(Path path1, Path path2) {
+    Path ancestor = path1;
+    while (ancestor != null && (path2 == null || !path2.startsWith(ancestor))) {
+      ancestor = ancestor.getParent();
+    }
+    return ancestor;
+  }
+
+  /**
+   * Resolves the PDF files that match the given glob pattern. The directory
+   * prefix of the pattern that doesn't contain any glob characters is
+   * searched, recursively only if the rest of the pattern contains "**";
+   * otherwise up to the depth given by the number of separators in the rest
+   * of the pattern.
+   *
+   * @param pattern
+   *        The glob pattern.
+   * @param handler
+   *        The handler to pass each resolved PDF file to.
+   *
+   * @throws IOException
+   *         If searching the directory failed.
+   * @throws PdfActException
+   *         If the handler failed.
+   */
+  protected void resolveGlobPattern(String pattern, InputHandler handler)
+      throws IOException, PdfActException {
+    // Find the last separator in front of the first glob character.
+    int globIndex = 0;
+    while (GLOB_CHARACTERS.indexOf(pattern.charAt(globIndex)) < 0) {
+      globIndex++;
+    }
+    String separator = FileSystems.getDefault().getSeparator();
+    int separatorIndex = Math.max(pattern.lastIndexOf('/', globIndex),
+        pattern.lastIndexOf(separator, globIndex));
+
+    Path base = Paths.get(pattern.substring(0, separatorIndex + 1));
+    if (!Files.isDirectory(base)) {
+      return;
+    }
+
+    // Compute the maximum depth of the matching files below the base.
+    String rest = pattern.substring(separatorIndex + 1);
+    int maxDepth = Integer.MAX_VALUE;
+    if (!rest.contains("**")) {
+      maxDepth = 1;
+      for (int i = 0; i < rest.length(); i++) {
+        if (rest.charAt(i) == '/' || separator.indexOf(rest.charAt(i)) >= 0) {
+          maxDepth++;
+        }
+      }
+    }
+
+    PathMatcher matcher = FileSystems.getDefault()
+        .getPathMatcher("glob:" + pattern);
+    resolveTree(base, base, maxDepth, p -> matcher.matches(p), handler);
+  }
+
+  /**
+   * Resolves the files in the given directory (and its subdirectories up to
+   * the given depth) that are accepted by the given filter. The directories
+   * are searched depth-first, with the entries of each directory in
+   * lexicographical order, such that only the entries of the directories on
+   * the current search path are held in memory. Symbolic links to
+   * directories are not followed.
+   *
+   * @param base
+   *        The directory to which the output paths should be relative.
+   * @param directory
+   *        The directory to search.
+   * @param maxDepth
+   *        The maximum depth of the files to resolve (1 for the files in the
+   *        given directory only).
+   * @param filter
+   *        The filter that accepts the files to resolve.
+   * @param handler
+   *        The handler to pass each resolved PDF file to.
+   *
+   * @throws IOException
+   *         If searching the directory failed.
+   * @throws PdfActException
+   *         If the handler failed.
+   */
+  protected void resolveTree(Path base, Path directory, int maxDepth,
+      Predicate<Path> filter, InputHandler handler)
+      throws IOException, PdfActException {
+    List<Path> entries;
+    try (Stream<Path> stream = Files.list(directory)) {
+      entries = stream.sorted().collect(Collectors.toList());
+    }
+
+    for (Path entry : entries) {
+      if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+        if (maxDepth > 1) {
+          resolveTree(base, entry, maxDepth - 1, filter, handler);
+        }
+      } else if (Files.isRegularFile(entry) && filter.test(entry)) {
+        handler.handle(entry, removeFileExtension(base.relativize(entry)));
+      }
+    }
+  }
+
+  /**
+   * Returns true, if the given source is a glob pattern.
+   *
+   * @param source
+   *        The source to check.
+   *
+   * @return True, if the given source is a glob pattern; false otherwise.
+   */
+  protected static boolean isGlobPattern(String source) {
+    for (int i = 0; i < source.length(); i++) {
+      if (GLOB_CHARACTERS.indexOf(source.charAt(i)) >= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns true, if the given path has the file extension of PDF files.
+   *
+   * @param path
+   *        The path to check.
+   *
+   * @return True, if the given path has the file extension of PDF files;
+   *         false otherwise.
+   */
+  protected static boolean isPdfFile(Path path) {
+    Path fileName = path.getFileName();
+    if (fileName == null) {
+      return false;
+    }
+    return fileName.toString().toLowerCase().endsWith(PDF_FILE_EXTENSION);
+  }
+
+  /**
+   * Removes the file extension from the last element of the given path.
+   *
+   * @param path
+   *        The path to process.
+   *
+   * @return The path without the file extension.
+   */
+  protected static Path removeFileExtension(Path path) {
+    String fileName = path.getFileName().toString();
+    int dotIndex = fileName.lastIndexOf('.');
+    if (dotIndex > 0) {
+      fileName = fileName.substring(0, dotIndex);
+    }
+    return path.resolveSibling(fileName);
+  }
+
+  // ==========================================================================
+  // Methods to process the PDF files.
+
+  @Override
+  public void process(String source) throws PdfActException {
+    int numWorkers = Math.max(1, this.numWorkers);
+    log.debug("Processing the PDF files of source '" + source + "' with "
+        + numWorkers + " worker(s).");
+
+    long start = System.currentTimeMillis();
+
+    // All workers share the factories (and hence the injector and all of its
+    // singletons). Each PDF file is processed by its own service pipe.
+    ExecutorService executor = Executors.newFixedThreadPool(numWorkers);
+    BatchRun run = new BatchRun(executor,
+        numWorkers * MAX_NUM_PENDING_FILES_PER_WORKER);
+    try {
+      resolveInputs(source, run);
+      run.awaitCompletion();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    long length = System.currentTimeMillis() - start;
+
+    log.debug("Processing the PDF files done.");
+    log.debug("# processed PDF files: " + run.numSubmitted);
+    log.debug("# failed PDF files: " + run.numFailed.get());
+    log.debug("Time needed to process the PDF files: " + length + "ms.");
+
+    if (run.numFailed.get() > 0) {
+      throw new PdfActBatchException("Couldn't process " + run.numFailed.get()
+          + " of " + run.numSubmitted + " PDF files.");
+    }
+  }
+
+  /**
+   * A single run of processing the PDF files of a source: Submits each
+   * resolved PDF file to the workers, blocking while the maximum number of
+   * pending PDF files is reached, and reports the failures as soon as they
+   * occur.
+   *
+   * @author Claudius Korzen
+   */
+  protected class BatchRun implements InputHandler {
+    /**
+     * The executor of the workers.
+     */
+    protected ExecutorService executor;
+
+    /**
+     * The maximum number of pending PDF files (queued or in process).
+     */
+    protected int maxNumPendingFiles;
+
+    /**
+     * The permits to submit PDF files, one per PDF file that may be pending.
+     */
+    protected Semaphore permits;
+
+    /**
+     * The 64-bit hashes of the output paths of the submitted PDF files, to
+     * detect PDF files that would be written to the same output (storing the
+     * hashes instead of the paths keeps the memory small for large batches).
+     */
+    protected TLongSet outputPathHashes = new TLongHashSet();
+
+    /**
+     * The number of submitted PDF files.
+     */
+    protected int numSubmitted;
+
+    /**
+     * The number of failed PDF files.
+     */
+    protected AtomicInteger numFailed = new AtomicInteger();
+
+    /**
+     * The fatal error that was thrown by a worker, if any.
+     */
+    protected AtomicReference<Error> fatalError = new AtomicReference<>();
+
+    /**
+     * Creates a new run.
+     *
+     * @param executor
+     *        The executor of the workers.
+     * @param maxNumPendingFiles
+     *        The maximum number of pending PDF files.
+     */
+    protected BatchRun(ExecutorService executor, int maxNumPendingFiles) {
+      this.executor = executor;
+      this.maxNumPendingFiles = maxNumPendingFiles;
+      this.permits = new Semaphore(maxNumPendingFiles);
+    }
+
+    @Override
+    public void handle(Path pdfPath, Path outputPath)
+        throws PdfActException {
+      checkFatalError();
+      this.numSubmitted++;
+
+      if (!this.outputPathHashes.add(hash(outputPath))) {
+        reportFailure(pdfPath, new PdfActValidateException("The PDF file "
+            + "would be written to the same output '" + outputPath + "' as "
+            + "a previous PDF file."));
+        this.numFailed.incrementAndGet();
+        return;
+      }
+
+      try {
+        this.permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PdfActBatchException("Interrupted while processing the PDF "
+            + "files.", e);
+      }
+      this.executor.execute(() -> {
+        try {
+          PdfActException failure = processPdf(pdfPath, outputPath);
+          if (failure != null) {
+            reportFailure(pdfPath, failure);
+            this.numFailed.incrementAndGet();
+          }
+        } catch (Error e) {
+          // processPdf() catches all exceptions and all non-fatal errors, so
+          // this is a fatal error.
+          this.fatalError.compareAndSet(null, e);
+        } finally {
+          this.permits.release();
+        }
+      });
+    }
+
+    /**
+     * Waits until all submitted PDF files were processed.
+     *
+     * @throws PdfActException
+     *         If the waiting was interrupted.
+     */
+    protected void awaitCompletion() throws PdfActException {
+      try {
+        this.permits.acquire(this.maxNumPendingFiles);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PdfActBatchException("Interrupted while processing the PDF "
+            + "files.", e);
+      }
+      checkFatalError();
+    }
+
+    /**
+     * Rethrows the fatal error that was thrown by a worker, if any.
+     */
+    protected void checkFatalError() {
+      Error error = this.fatalError.get();
+      if (error != null) {
+        throw error;
+      }
+    }
+
+    /**
+     * Computes a 64-bit hash of the given output path.
+     *
+     * @param outputPath
+     *        The output path.
+     *
+     * @return The hash.
+     */
+    protected long hash(Path outputPath) {
+      // FNV-1a.
+      String string = outputPath.toString();
+      long hash = 0xcbf29ce484222325L;
+      for (int i = 0; i < string.length(); i++) {
+        hash ^= string.charAt(i);
+        hash *= 0x100000001b3L;
+      }
+      return hash;
+    }
+  }
+
+  /**
+   * Processes a single PDF file.
+   *
+   * @param pdfPath
+   *        The path to the PDF file to process.
+   * @param outputPath
+   *        The path of the outputs relative to the output directory (without
+   *        any file extension).
+   *
+   * @return The exception that was thrown on processing the PDF file; null if
+   *         the PDF file was processed successfully.
+   */
+  protected PdfActException processPdf(Path pdfPath, Path outputPath) {
+    log.debug("Processing PDF file '" + pdfPath + "'.");
+    try {
+      PdfDocument pdf = this.pdfDocumentFactory.create(pdfPath.toString());
+
+      PdfActServicePipe service = this.serviceFactory.create();
+      service.setSerializationFormat(this.serializationFormat);
+      service.setTextUnit(this.textUnit);
+      service.setSemanticRolesFilters(this.roles);
+      service.setProcessingOptions(this.options);
+
+      // Pass the target of the serialization.
+      String extension = "." + this.serializationFormat.getName();
+      Path serializationPath;
+      if (this.outputDirectory != null) {
+        serializationPath =
+            this.outputDirectory.resolve(outputPath + extension);
+      } else {
+        serializationPath = pdfPath.resolveSibling(
+            outputPath.getFileName() + extension);
+      }
+      createParentDirectories(serializationPath);
+      service.setSerializationPath(serializationPath);
+
+      // Pass the target of the visualization, if there is any.
+      if (this.visualizationDirectory != null) {
+        Path visualizationPath = this.visualizationDirectory.resolve(
+            outputPath + PDF_FILE_EXTENSION);
+        if (visualizationPath.toAbsolutePath().normalize().equals(
+            pdfPath.toAbsolutePath().normalize())) {
+          throw new PdfActValidateException("The visualization would "
+              + "overwrite the PDF file.");
+        }
+        createParentDirectories(visualizationPath);
+        service.setVisualizationPath(visualizationPath);
+      }
+
+      service.execute(pdf);
+    } catch (PdfActException e) {
+      return e;
+    } catch (RuntimeException e) {
+      return new PdfActExecuteException(e.toString(), e);
+    } catch (Error e) {
+      // A single malformed PDF file may exhaust the stack or the heap (its
+      // objects are released as soon as this method returns), so such errors
+      // are reported like any other failure instead of aborting the run.
+      if (isFatalError(e)) {
+        throw e;
+      }
+      return new PdfActExecuteException(e.toString(), e);
+    }
+    log.debug("Processing PDF file '" + pdfPath + "' done.");
+    return null;
+  }
+
+  /**
+   * Returns true, if the given error leaves the virtual machine in a state in
+   * which no further PDF files should be processed.
+   *
+   * @param error
+   *        The error to check.
+   *
+   * @return True, if the given error is fatal; false otherwise.
+   */
+  protected static boolean isFatalError(Error error) {
+    if (error instanceof StackOverflowError
+        || error instanceof OutOfMemoryError) {
+      return false;
+    }
+    return error instanceof VirtualMachineError || error instanceof ThreadDeath;
+  }
+
+  /**
+   * Creates the parent directories of the given path, if they don't exist.
+   *
+   * @param path
+   *        The path to process.
+   *
+   * @throws PdfActException
+   *         If the directories couldn't be created.
+   */
+  protected void createParentDirectories(Path path) throws PdfActException {
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent == null || Files.isDirectory(parent)) {
+      return;
+    }
+    try {
+      Files.createDirectories(parent);
+    } catch (IOException e) {
+      throw new PdfActValidateException("Couldn't create the directory '"
+          + parent + "'.", e);
+    }
+  }
+
+  /**
+   * Reports that the given PDF file couldn't be processed.
+   *
+   * @param pdfPath
+   *        The path to the PDF file.
+   * @param failure
+   *        The exception that was thrown on processing the PDF file.
+   */
+  protected void reportFailure(Path pdfPath, PdfActException failure) {
+    // Print the error message (regardless of the log level).
+    System.err.println(pdfPath + ": " + failure.getMessage());
+    // Print the stack trace if there is any and debugging is enabled.
+    Throwable cause = failure.getCause();
+    if (cause != null && Log4JTypeListener.hasLogLevel(LogLevel.DEBUG)) {
+      cause.printStackTrace();
+    }
+  }
+
+  // ==========================================================================
+
+  @Override
+  public Path getOutputDirectory() {
+    return this.outputDirectory;
+  }
+
+  @Override
+  public void setOutputDirectory(Path directory) {
+    this.outputDirectory = directory;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public Path getVisualizationDirectory() {
+    return this.visualizationDirectory;
+  }
+
+  @Override
+  public void setVisualizationDirectory(Path directory) {
+    this.visualizationDirectory = directory;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public SerializeFormat getSerializationFormat() {
+    return this.serializationFormat;
+  }
+
+  @Override
+  public void setSerializationFormat(SerializeFormat format) {
+    this.serializationFormat = format;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public Set<SemanticRole> getSemanticRolesFilters() {
+    return this.roles;
+  }
+
+  @Override
+  public void setSemanticRolesFilters(Set<SemanticRole> filters) {
+    this.roles = filters;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public TextUnit getTextUnit() {
+    return this.textUnit;
+  }
+
+  @Override
+  public void setTextUnit(TextUnit unit) {
+    this.textUnit = unit;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public int getNumWorkers() {
+    return this.numWorkers;
+  }
+
+  @Override
+  public void setNumWorkers(int numWorkers) {
+    this.numWorkers = numWorkers;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public ProcessingOptions getProcessingOptions() {
+    return this.options;
+  }
+
+  @Override
+  public void setProcessingOptions(ProcessingOptions options) {
+    this.options = options;
+  }
+}
@@ -4,10 +4,15 @@ import com.google.inject.AbstractModule;
 import com.google.inject.assistedinject.FactoryModuleBuilder;
 import com.google.inject.multibindings.MapBinder;
 
+import pdfact.cli.batch.PdfActBatchProcessor;
+import pdfact.cli.batch.PdfActBatchProcessor.PdfActBatchProcessorFactory;
+import pdfact.cli.batch.PlainPdfActBatchProcessor;
 import pdfact.cli.model.SerializeFormat;
 import pdfact.cli.pipes.PdfActServicePipe;
 import pdfact.cli.pipes.PdfActServicePipe.PdfActServicePipeFactory;
 import pdfact.cli.pipes.PlainPdfActServicePipe;
+import pdfact.cli.pipes.serialize.PdfBinarySerializer;
+import pdfact.cli.pipes.serialize.PdfBinarySerializer.BinarySerializerFactory;
 import pdfact.cli.pipes.serialize.PdfJsonSerializer;
 import pdfact.cli.pipes.serialize.PdfJsonSerializer.JsonSerializerFactory;
 import pdfact.cli.pipes.serialize.PdfSerializer.SerializerFactory;
@@ -15,6 +20,7 @@ import pdfact.cli.pipes.serialize.PdfTxtSerializer;
 import pdfact.cli.pipes.serialize.PdfTxtSerializer.TxtSerializerFactory;
 import pdfact.cli.pipes.serialize.PdfXmlSerializer;
 import pdfact.cli.pipes.serialize.PdfXmlSerializer.XmlSerializerFactory;
+import pdfact.cli.pipes.serialize.PlainPdfBinarySerializer;
 import pdfact.cli.pipes.serialize.PlainPdfJsonSerializer;
 import pdfact.cli.pipes.serialize.PlainPdfTxtSerializer;
 import pdfact.cli.pipes.serialize.PlainPdfXmlSerializer;
@@ -33,6 +39,12 @@ import pdfact.cli.pipes.visualize.PlainVisualizePdfPipe;
 import pdfact.cli.pipes.visualize.VisualizePdfPipe;
 import pdfact.cli.pipes.visualize.VisualizePdfPipe.VisualizePdfPipeFactory;
 import pdfact.cli.pipes.visualize.pdfbox.PdfBoxDrawer;
+import pdfact.cli.server.PdfActServer;
+import pdfact.cli.server.PdfActServer.PdfActServerFactory;
+import pdfact.cli.server.PlainPdfActServer;
+import pdfact.cli.stats.PipelineStatsReport;
+import pdfact.cli.stats.PipelineStatsReport.PipelineStatsReportFactory;
+import pdfact.cli.stats.PlainPipelineStatsReport;
 import pdfact.core.guice.PdfActCoreGuiceModule;
 
 /**
@@ -50,6 +62,21 @@ public class PdfActCliGuiceModule extends AbstractModule {
         .implement(PdfActServicePipe.class, PlainPdfActServicePipe.class)
         .build(PdfActServicePipeFactory.class));
 
+    // Install the factory of the processor that processes batches of PDFs.
+    install(new FactoryModuleBuilder()
+        .implement(PdfActBatchProcessor.class, PlainPdfActBatchProcessor.class)
+        .build(PdfActBatchProcessorFactory.class));
+
+    // Install the factory of the server that processes PDFs sent over HTTP.
+    install(new FactoryModuleBuilder()
+        .implement(PdfActServer.class, PlainPdfActServer.class)
+        .build(PdfActServerFactory.class));
+
+    // Install the factory of the report about the metrics of the pipes.
+    install(new FactoryModuleBuilder()
+        .implement(PipelineStatsReport.class, PlainPipelineStatsReport.class)
+        .build(PipelineStatsReportFactory.class));
+
     // Install the factory of the pipe that validates paths to write to.
     install(new FactoryModuleBuilder()
         .implement(ValidatePathToWritePipe.class,
@@ -81,6 +108,11 @@ public class PdfActCliGuiceModule extends AbstractModule {
         .implement(PdfJsonSerializer.class, PlainPdfJsonSerializer.class)
         .build(JsonSerializerFactory.class));
 
+    // Install the factory of the binary serializer.
+    install(new FactoryModuleBuilder()
+        .implement(PdfBinarySerializer.class, PlainPdfBinarySerializer.class)
+        .build(BinarySerializerFactory.class));
+
     // Install the factory of the PDF drawer.
     install(new FactoryModuleBuilder()
         .implement(PdfDrawer.class, PdfBoxDrawer.class)
@@ -99,5 +131,7 @@ public class PdfActCliGuiceModule extends AbstractModule {
     binder.addBinding(SerializeFormat.TXT).to(TxtSerializerFactory.class);
     binder.addBinding(SerializeFormat.XML).to(XmlSerializerFactory.class);
     binder.addBinding(SerializeFormat.JSON).to(JsonSerializerFactory.class);
+    binder.addBinding(SerializeFormat.BINARY)
+        .to(BinarySerializerFactory.class);
   }
 }
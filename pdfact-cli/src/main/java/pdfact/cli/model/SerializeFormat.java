@@ -24,7 +24,12 @@ public enum SerializeFormat {
   /**
    * The serialization format "JSON".
    */
-  JSON("json");
+  JSON("json"),
+
+  /**
+   * The compact binary serialization format of PdfAct.
+   */
+  BINARY("bin");
 
   // ==========================================================================
 
@@ -64,7 +69,7 @@ public enum SerializeFormat {
    * 
    * @return The name of this serialization format.
    */
-  protected String getName() {
+  public String getName() {
     return this.name;
   }
 
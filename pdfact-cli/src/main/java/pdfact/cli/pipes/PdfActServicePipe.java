@@ -7,6 +7,7 @@ import java.util.Set;
 import pdfact.cli.model.SerializeFormat;
 import pdfact.cli.model.TextUnit;
 import pdfact.core.model.SemanticRole;
+import pdfact.core.pipes.ProcessingOptions;
 import pdfact.core.util.pipeline.Pipe;
 
 /**
@@ -135,6 +136,25 @@ public interface PdfActServicePipe extends Pipe {
 
   // ==========================================================================
 
+  /**
+   * Returns the options that define how the PDF documents are processed.
+   * 
+   * @return The processing options.
+   */
+  ProcessingOptions getProcessingOptions();
+
+  /**
+   * Sets the options that define how the PDF documents are processed. In
+   * streaming mode, only the text units "words" and "characters" can be
+   * serialized, and the PDF documents are neither visualized nor cached.
+   * 
+   * @param options
+   *        The processing options.
+   */
+  void setProcessingOptions(ProcessingOptions options);
+
+  // ==========================================================================
+
   /**
    * The factory to create instances of {@link PdfActServicePipe}.
    * 
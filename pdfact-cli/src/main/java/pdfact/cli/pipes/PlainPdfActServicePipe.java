@@ -4,6 +4,7 @@ import static pdfact.cli.PdfActCLISettings.DEFAULT_SEMANTIC_ROLES_TO_INCLUDE;
 import static pdfact.cli.PdfActCLISettings.DEFAULT_SERIALIZE_FORMAT;
 import static pdfact.cli.PdfActCLISettings.DEFAULT_TEXT_UNIT;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.Set;
@@ -20,11 +21,18 @@ import pdfact.cli.pipes.validate.ValidatePathToWritePipe;
 import pdfact.cli.pipes.validate.ValidatePathToWritePipe.ValidatePathToWritePipeFactory;
 import pdfact.cli.pipes.visualize.VisualizePdfPipe;
 import pdfact.cli.pipes.visualize.VisualizePdfPipe.VisualizePdfPipeFactory;
+import pdfact.core.model.MemoryPolicy;
+import pdfact.core.model.PageSelection;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
+import pdfact.core.pipes.PdfActCorePipe;
 import pdfact.core.pipes.PdfActCorePipe.PdfActCorePipeFactory;
+import pdfact.core.pipes.ProcessingOptions;
+import pdfact.core.util.cache.ParseCache;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pdfbox.DocumentSession;
+import pdfact.core.util.pdfbox.DocumentSession.DocumentSessionFactory;
 import pdfact.core.util.pipeline.Pipeline;
 import pdfact.core.util.pipeline.Pipeline.PdfActPipelineFactory;
 
@@ -50,6 +58,11 @@ public class PlainPdfActServicePipe implements PdfActServicePipe {
    */
   protected PdfActCorePipeFactory pdfActCoreFactory;
 
+  /**
+   * The factory to create the sessions that own the loaded PDF files.
+   */
+  protected DocumentSessionFactory sessionFactory;
+
   /**
    * The factory to create the pipe that validates PDF paths.
    */
@@ -106,6 +119,11 @@ public class PlainPdfActServicePipe implements PdfActServicePipe {
    */
   protected Set<SemanticRole> roles;
 
+  /**
+   * The options that define how the PDF documents are processed.
+   */
+  protected ProcessingOptions options = new ProcessingOptions();
+
   // ==========================================================================
 
   /**
@@ -121,15 +139,19 @@ public class PlainPdfActServicePipe implements PdfActServicePipe {
    *        The factory to create the pipe that serializes PDF documents.
    * @param visualizePdfPipeFactory
    *        The factory to create the pipe that visualizes PDF documents.
+   * @param sessionFactory
+   *        The factory to create the sessions that own the loaded PDF files.
    */
   @Inject
   public PlainPdfActServicePipe(PdfActPipelineFactory pipelineFactory,
       PdfActCorePipeFactory pdfActCorePipeFactory,
       ValidatePathToWritePipeFactory validatePathFactory,
       SerializePdfPipeFactory serializePdfPipeFactory,
-      VisualizePdfPipeFactory visualizePdfPipeFactory) {
+      VisualizePdfPipeFactory visualizePdfPipeFactory,
+      DocumentSessionFactory sessionFactory) {
     this.pipelineFactory = pipelineFactory;
     this.pdfActCoreFactory = pdfActCorePipeFactory;
+    this.sessionFactory = sessionFactory;
     this.validatePathPipeFactory = validatePathFactory;
     this.serializePdfPipeFactory = serializePdfPipeFactory;
     this.visualizePdfPipeFactory = visualizePdfPipeFactory;
@@ -157,40 +179,76 @@ public class PlainPdfActServicePipe implements PdfActServicePipe {
     log.debug("Process: Processing the service pipeline.");
     
     Pipeline pipeline = this.pipelineFactory.create();
-
-    // Parse the PDF document.
-    pipeline.addPipe(this.pdfActCoreFactory.create());
+    pipeline.addListeners(this.options.getPipelineListeners());
+
+    boolean isStreamingEnabled = this.options.isStreamingEnabled();
+    MemoryPolicy memoryPolicy = this.options.getMemoryPolicy();
+
+    // Restore the PDF document from the cache if it was processed before.
+    // In streaming mode, the pages are released after serializing them, so
+    // there is nothing to cache.
+    PageSelection selection = this.options.getPageSelection();
+    String cacheOptions = selection != null
+        ? selection.toNormalizedString() : null;
+    ParseCache cache = this.options.getParseCache();
+    boolean isCacheUsed = cache != null && !isStreamingEnabled;
+    boolean isCached = isCacheUsed && cache.load(pdf, cacheOptions);
+
+    // Create the pipe to serialize if there is a target given for the
+    // serialization.
+    SerializePdfPipe serializePipe = null;
+    if (this.serializationStream != null || this.serializationPath != null) {
+      serializePipe = this.serializePdfPipeFactory.create();
+      serializePipe.setSerializationFormat(this.serializationFormat);
+      serializePipe.setTextUnit(this.textUnit);
+      serializePipe.setSemanticRolesFilters(this.roles);
+      serializePipe.setTargetPath(this.serializationPath);
+      serializePipe.setTargetStream(this.serializationStream);
+      serializePipe.setStreamingEnabled(isStreamingEnabled);
+    }
 
     // Validate the target path for the serialization if there is any given.
+    // In streaming mode, the target must be validated before the pages are
+    // serialized by the core pipe.
     if (this.serializationPath != null) {
       ValidatePathToWritePipe valPipe = this.validatePathPipeFactory.create();
       valPipe.setPath(this.serializationPath);
       pipeline.addPipe(valPipe);
     }
 
-    // Serialize if there is a target given for the serialization.
-    if (this.serializationStream != null || this.serializationPath != null) {
-      SerializePdfPipe serializePipe = this.serializePdfPipeFactory.create();
-      serializePipe.setSerializationFormat(this.serializationFormat);
-      serializePipe.setTextUnit(this.textUnit);
-      serializePipe.setSemanticRolesFilters(this.roles);
-      serializePipe.setTargetPath(this.serializationPath);
-      serializePipe.setTargetStream(this.serializationStream);
+    // Parse the PDF document (unless it was restored from the cache).
+    if (!isCached) {
+      PdfActCorePipe corePipe = this.pdfActCoreFactory.create();
+      corePipe.setProcessingOptions(this.options);
+      if (isStreamingEnabled) {
+        // Serialize each page as soon as it was processed.
+        corePipe.setPageListener(serializePipe != null
+            ? serializePipe : (doc, page) -> { });
+      }
+      pipeline.addPipe(corePipe);
+    }
+
+    // Serialize (or complete the serialization in streaming mode).
+    if (serializePipe != null) {
       pipeline.addPipe(serializePipe);
     }
 
     // Validate the target path for the visualization if there is any given.
-    if (this.visualizationPath != null) {
+    if (this.visualizationPath != null && !isStreamingEnabled) {
       ValidatePathToWritePipe valPipe = this.validatePathPipeFactory.create();
       valPipe.setPath(this.visualizationPath);
       pipeline.addPipe(valPipe);
     }
 
-    // Visualize if there is a target given for the visualization.
-    if (this.visualizationStream != null || this.visualizationPath != null) {
+    // Visualize if there is a target given for the visualization (the pages
+    // are not available anymore in streaming mode).
+    boolean hasVisualizationTarget = this.visualizationStream != null
+        || this.visualizationPath != null;
+    if (hasVisualizationTarget && !isStreamingEnabled) {
       VisualizePdfPipe visualizePipe = this.visualizePdfPipeFactory.create();
       visualizePipe.setTextUnit(this.textUnit);
       visualizePipe.setSemanticRolesFilters(this.roles);
+      visualizePipe.setMemoryPolicy(memoryPolicy);
       visualizePipe.setTargetPath(this.visualizationPath);
       visualizePipe.setTargetStream(this.visualizationStream);
       pipeline.addPipe(visualizePipe);
@@ -198,10 +256,39 @@ public class PlainPdfActServicePipe implements PdfActServicePipe {
 
     log.debug("# pipes in the pipeline: " + pipeline.size());
 
+    // Open the PDF file (lazily) once for all pipes of the pipeline.
+    DocumentSession session = memoryPolicy != null
+        ? this.sessionFactory.create(pdf.getFile(), memoryPolicy)
+        : this.sessionFactory.create(pdf.getFile());
+    pdf.setSession(session);
+
     long start = System.currentTimeMillis();
-    pipeline.process(pdf);
+    try {
+      pipeline.process(pdf);
+    } finally {
+      pdf.setSession(null);
+      try {
+        session.close();
+      } catch (IOException e) {
+        log.warn("Couldn't close the PDF file " + pdf.getFile() + ".", e);
+      }
+      // Close the target file of the serialization if processing the pages
+      // failed in streaming mode.
+      if (serializePipe != null) {
+        try {
+          serializePipe.close();
+        } catch (IOException e) {
+          log.warn("Couldn't close " + this.serializationPath + ".", e);
+        }
+      }
+    }
     long length = System.currentTimeMillis() - start;
 
+    // Store the PDF document to the cache if it was processed from scratch.
+    if (isCacheUsed && !isCached) {
+      cache.store(pdf, cacheOptions);
+    }
+
     log.debug("Processing the service pipeline done.");
     log.debug("Time needed to process the service pipeline: " + length + "ms.");
 
@@ -293,4 +380,16 @@ public class PlainPdfActServicePipe implements PdfActServicePipe {
   public void setTextUnit(TextUnit textUnit) {
     this.textUnit = textUnit;
   }
-}
\ No newline at end of file
+
+  // ==========================================================================
+
+  @Override
+  public ProcessingOptions getProcessingOptions() {
+    return this.options;
+  }
+
+  @Override
+  public void setProcessingOptions(ProcessingOptions options) {
+    this.options = options;
+  }
+}
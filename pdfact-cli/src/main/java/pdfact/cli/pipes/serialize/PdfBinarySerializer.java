@@ -0,0 +1,43 @@
+package pdfact.cli.pipes.serialize;
+
+import java.util.Set;
+
+import com.google.inject.assistedinject.Assisted;
+
+import pdfact.cli.model.TextUnit;
+import pdfact.core.model.SemanticRole;
+
+/**
+ * A serializer to serialize a PDF document in the binary format of PdfAct (see
+ * {@link pdfact.core.util.binary.PdfBinaryFormat}).
+ *
+ * @author Claudius Korzen
+ */
+public interface PdfBinarySerializer extends PdfSerializer {
+  /**
+   * The factory to create instances of PdfBinarySerializer.
+   * 
+   * @author Claudius Korzen
+   */
+  public interface BinarySerializerFactory extends SerializerFactory {
+    /**
+     * Creates a new PdfBinarySerializer.
+     * 
+     * @return An instance of PdfBinarySerializer.
+     */
+    PdfBinarySerializer create();
+
+    /**
+     * Creates a new PdfBinarySerializer.
+     * 
+     * @param textUnit
+     *        The text unit.
+     * @param roles
+     *        The semantic roles filter.
+     * 
+     * @return An instance of PdfBinarySerializer.
+     */
+    PdfBinarySerializer create(@Assisted TextUnit textUnit,
+        @Assisted Set<SemanticRole> roles);
+  }
+}
@@ -1,8 +1,10 @@
 package pdfact.cli.pipes.serialize;
 
+import java.io.OutputStream;
 import java.util.Set;
 
 import pdfact.cli.model.TextUnit;
+import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.util.exception.PdfActException;
@@ -14,15 +16,57 @@ import pdfact.core.util.exception.PdfActException;
  */
 public interface PdfSerializer {
   /**
-   * Serializes the given PDF document.
+   * Serializes the given PDF document and writes the serialization to the
+   * given stream. The serialization is written incrementally, element by
+   * element, so that it never needs to be held in memory as a whole. The
+   * stream is flushed, but not closed.
    * 
    * @param pdf
    *        The PDF document to serialize.
-   * @return The serialization.
+   * @param stream
+   *        The stream to write the serialization to.
    * @throws PdfActException
    *         If the serilization failed.
    */
-  byte[] serialize(PdfDocument pdf) throws PdfActException;
+  void serialize(PdfDocument pdf, OutputStream stream) throws PdfActException;
+
+  // ==========================================================================
+
+  /**
+   * Starts a serialization that is written page by page to the given stream.
+   * The pages are passed via {@link #serializePage(Page)} and the
+   * serialization is completed by {@link #endSerialization()}. Only the text
+   * units "words" and "characters" can be serialized page by page. The
+   * semantic roles filter is not considered, as the pages don't have any
+   * semantic roles.
+   * 
+   * @param stream
+   *        The stream to write the serialization to.
+   * @throws PdfActException
+   *         If the serialization failed.
+   */
+  void startSerialization(OutputStream stream) throws PdfActException;
+
+  /**
+   * Serializes the words or characters of the given page, in the order of
+   * the text lines of the page.
+   * 
+   * @param page
+   *        The page to serialize.
+   * @throws PdfActException
+   *         If the serialization failed.
+   */
+  void serializePage(Page page) throws PdfActException;
+
+  /**
+   * Completes the serialization that was started by
+   * {@link #startSerialization(OutputStream)}. The stream is flushed, but not
+   * closed.
+   * 
+   * @throws PdfActException
+   *         If the serialization failed.
+   */
+  void endSerialization() throws PdfActException;
 
   // ==========================================================================
 
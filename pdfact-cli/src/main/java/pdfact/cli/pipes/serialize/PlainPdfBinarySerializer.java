@@ -0,0 +1,563 @@
+package pdfact.cli.pipes.serialize;
+
+import static pdfact.core.util.binary.PdfBinaryFormat.COORDINATE_SCALE;
+import static pdfact.core.util.binary.PdfBinaryFormat.FORMAT_VERSION;
+import static pdfact.core.util.binary.PdfBinaryFormat.MAGIC_NUMBER;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_CHARACTER;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_COLOR;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_END;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_FONT;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_PARAGRAPH;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_STRING;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_WORD;
+import static pdfact.core.util.binary.PdfBinaryFormat.writeCoordinate;
+import static pdfact.core.util.binary.PdfBinaryFormat.writeSignedVarInt;
+import static pdfact.core.util.binary.PdfBinaryFormat.writeVarInt;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.inject.assistedinject.Assisted;
+import com.google.inject.assistedinject.AssistedInject;
+
+import pdfact.cli.model.TextUnit;
+import pdfact.cli.util.exception.PdfActSerializeException;
+import pdfact.core.model.Character;
+import pdfact.core.model.Color;
+import pdfact.core.model.Element;
+import pdfact.core.model.Font;
+import pdfact.core.model.FontFace;
+import pdfact.core.model.HasColor;
+import pdfact.core.model.HasFontFace;
+import pdfact.core.model.HasPosition;
+import pdfact.core.model.HasPositions;
+import pdfact.core.model.HasSemanticRole;
+import pdfact.core.model.HasText;
+import pdfact.core.model.Page;
+import pdfact.core.model.Paragraph;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.model.Position;
+import pdfact.core.model.Rectangle;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.model.TextLine;
+import pdfact.core.model.Word;
+
+/**
+ * An implementation of {@link PdfBinarySerializer} that serializes a PDF
+ * document in the binary format of PdfAct.
+ *
+ * @author Claudius Korzen
+ */
+public class PlainPdfBinarySerializer implements PdfBinarySerializer {
+  /**
+   * The element types to consider on serializing.
+   */
+  protected TextUnit textUnit;
+
+  /**
+   * The semantic roles to consider on serializing.
+   */
+  protected Set<SemanticRole> rolesFilter;
+
+  /**
+   * The ids of the strings defined so far.
+   */
+  protected Map<String, Integer> stringIds;
+
+  /**
+   * The ids of the fonts defined so far.
+   */
+  protected Map<Font, Integer> fontIds;
+
+  /**
+   * The ids of the colors defined so far.
+   */
+  protected Map<Color, Integer> colorIds;
+
+  /**
+   * The buffer for the payload of the current record.
+   */
+  protected ByteArrayOutputStream payloadBuffer;
+
+  /**
+   * The stream to write the payload of the current record to.
+   */
+  protected DataOutputStream payload;
+
+  /**
+   * The output to write the serialization to.
+   */
+  protected DataOutputStream out;
+
+  // ==========================================================================
+  // Constructors.
+
+  /**
+   * Creates a new serializer that serializes a PDF document in the binary
+   * format.
+   */
+  @AssistedInject
+  public PlainPdfBinarySerializer() {
+    this.stringIds = new HashMap<>();
+    this.fontIds = new HashMap<>();
+    this.colorIds = new HashMap<>();
+    this.payloadBuffer = new ByteArrayOutputStream();
+    this.payload = new DataOutputStream(this.payloadBuffer);
+  }
+
+  /**
+   * Creates a new serializer that serializes a PDF document in the binary
+   * format.
+   *
+   * @param textUnit
+   *        The text unit.
+   * @param rolesFilter
+   *        The semantic roles filter.
+   */
+  @AssistedInject
+  public PlainPdfBinarySerializer(
+      @Assisted TextUnit textUnit,
+      @Assisted Set<SemanticRole> rolesFilter) {
+    this();
+    this.textUnit = textUnit;
+    this.rolesFilter = rolesFilter;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public void serialize(PdfDocument pdf, OutputStream stream)
+      throws PdfActSerializeException {
+    if (pdf == null) {
+      return;
+    }
+
+    startSerialization(stream);
+    try {
+      serializePdfElements(this.out, pdf);
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+    endSerialization();
+  }
+
+  // ==========================================================================
+
+  @Override
+  public void startSerialization(OutputStream stream)
+      throws PdfActSerializeException {
+    try {
+      // Don't close the output, as this would close the given stream.
+      this.out = new DataOutputStream(new BufferedOutputStream(stream));
+
+      this.out.writeInt(MAGIC_NUMBER);
+      writeVarInt(this.out, FORMAT_VERSION);
+      writeVarInt(this.out, COORDINATE_SCALE);
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+  }
+
+  @Override
+  public void serializePage(Page page) throws PdfActSerializeException {
+    if (page == null) {
+      return;
+    }
+
+    try {
+      for (TextLine line : page.getTextLines()) {
+        for (Word word : line.getWords()) {
+          switch (this.textUnit) {
+            case CHARACTER:
+              for (Character character : word.getCharacters()) {
+                serializePdfElement(this.out, RECORD_CHARACTER, character);
+              }
+              break;
+            case WORD:
+              serializePdfElement(this.out, RECORD_WORD, word);
+              break;
+            default:
+              throw new PdfActSerializeException("The text unit '"
+                  + this.textUnit.getPluralName()
+                  + "' can't be serialized page by page.");
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+  }
+
+  @Override
+  public void endSerialization() throws PdfActSerializeException {
+    try {
+      writeVarInt(this.out, RECORD_END);
+      this.out.flush();
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * Serializes the elements of the given PDF document.
+   *
+   * @param out
+   *        The output to write the serialization to.
+   * @param pdf
+   *        The PDF document to process.
+   *
+   * @throws IOException
+   *         If writing the serialization failed.
+   */
+  protected void serializePdfElements(DataOutputStream out, PdfDocument pdf)
+      throws IOException {
+    for (Paragraph paragraph : pdf.getParagraphs()) {
+      // Ignore the paragraph if its role doesn't match the roles filter.
+      if (!hasRelevantRole(paragraph)) {
+        continue;
+      }
+
+      switch (this.textUnit) {
+        case CHARACTER:
+          for (Word word : paragraph.getWords()) {
+            for (Character character : word.getCharacters()) {
+              serializePdfElement(out, RECORD_CHARACTER, character);
+            }
+          }
+          break;
+        case WORD:
+          for (Word word : paragraph.getWords()) {
+            serializePdfElement(out, RECORD_WORD, word);
+          }
+          break;
+        case PARAGRAPH:
+        default:
+          serializePdfElement(out, RECORD_PARAGRAPH, paragraph);
+          break;
+      }
+    }
+  }
+
+  /**
+   * Serializes the given PDF element to a record of the given type. Writes
+   * the definitions of the strings, fonts and colors used by the element
+   * before, if they weren't written yet.
+   *
+   * @param out
+   *        The output to write the serialization to.
+   * @param type
+   *        The type of the record.
+   * @param element
+   *        The element to serialize.
+   *
+   * @throws IOException
+   *         If writing the serialization failed.
+   */
+  protected void serializePdfElement(DataOutputStream out, int type,
+      Element element) throws IOException {
+    // Collect the attributes of the element and define the strings, fonts
+    // and colors they refer to.
+    List<Position> positions = Collections.emptyList();
+    if (element instanceof HasPositions) {
+      positions = ((HasPositions) element).getPositions();
+    }
+    if (element instanceof HasPosition) {
+      Position position = ((HasPosition) element).getPosition();
+      positions = Collections.singletonList(position);
+    }
+
+    int roleId = 0;
+    if (element instanceof HasSemanticRole) {
+      SemanticRole role = ((HasSemanticRole) element).getSemanticRole();
+      if (role != null) {
+        roleId = defineString(out, role.getName());
+      }
+    }
+
+    int fontId = 0;
+    float fontSize = 0;
+    if (element instanceof HasFontFace) {
+      FontFace fontFace = ((HasFontFace) element).getFontFace();
+      if (fontFace != null && fontFace.getFont() != null) {
+        Font font = fontFace.getFont();
+        fontSize = fontFace.getFontSize();
+        if (font.getId() != null && fontSize > 0) {
+          fontId = defineFont(out, font);
+        }
+      }
+    }
+
+    int colorId = 0;
+    if (element instanceof HasColor) {
+      Color color = ((HasColor) element).getColor();
+      if (color != null && color.getId() != null) {
+        colorId = defineColor(out, color);
+      }
+    }
+
+    String text = null;
+    if (element instanceof HasText) {
+      text = ((HasText) element).getText();
+    }
+
+    // Write the record of the element.
+    serializePositions(positions);
+    writeVarInt(this.payload, roleId);
+    writeVarInt(this.payload, fontId);
+    if (fontId != 0) {
+      writeCoordinate(this.payload, fontSize);
+    }
+    writeVarInt(this.payload, colorId);
+    if (text == null) {
+      writeVarInt(this.payload, 0);
+    } else {
+      byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+      writeVarInt(this.payload, bytes.length + 1);
+      this.payload.write(bytes);
+    }
+    writeRecord(out, type);
+  }
+
+  /**
+   * Writes the given positions to the payload of the current record.
+   *
+   * @param positions
+   *        The positions to write.
+   *
+   * @throws IOException
+   *         If writing the positions failed.
+   */
+  protected void serializePositions(List<Position> positions)
+      throws IOException {
+    int numPositions = 0;
+    if (positions != null) {
+      for (Position position : positions) {
+        if (isSerializable(position)) {
+          numPositions++;
+        }
+      }
+    }
+
+    writeVarInt(this.payload, numPositions);
+    if (numPositions == 0) {
+      return;
+    }
+
+    for (Position position : positions) {
+      if (!isSerializable(position)) {
+        continue;
+      }
+      Rectangle rect = position.getRectangle();
+      int minX = Math.round(rect.getMinX() * COORDINATE_SCALE);
+      int minY = Math.round(rect.getMinY() * COORDINATE_SCALE);
+      int maxX = Math.round(rect.getMaxX() * COORDINATE_SCALE);
+      int maxY = Math.round(rect.getMaxY() * COORDINATE_SCALE);
+
+      writeVarInt(this.payload, position.getPage().getPageNumber());
+      writeSignedVarInt(this.payload, minX);
+      writeSignedVarInt(this.payload, minY);
+      writeSignedVarInt(this.payload, maxX - minX);
+      writeSignedVarInt(this.payload, maxY - minY);
+    }
+  }
+
+  /**
+   * Checks if the given position can be serialized, that is, if it has a
+   * page with a valid page number and a rectangle.
+   *
+   * @param position
+   *        The position to check.
+   *
+   * @return True, if the given position can be serialized; false otherwise.
+   */
+  protected boolean isSerializable(Position position) {
+    if (position == null || position.getRectangle() == null) {
+      return false;
+    }
+    Page page = position.getPage();
+    return page != null && page.getPageNumber() > 0;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the id of the given string. Writes the definition of the string
+   * if it wasn't written yet.
+   *
+   * @param out
+   *        The output to write the definition to.
+   * @param string
+   *        The string.
+   *
+   * @return The id of the string or 0 if the string is null.
+   *
+   * @throws IOException
+   *         If writing the definition failed.
+   */
+  protected int defineString(DataOutputStream out, String string)
+      throws IOException {
+    if (string == null) {
+      return 0;
+    }
+    Integer id = this.stringIds.get(string);
+    if (id == null) {
+      id = this.stringIds.size() + 1;
+      this.stringIds.put(string, id);
+      this.payload.write(string.getBytes(StandardCharsets.UTF_8));
+      writeRecord(out, RECORD_STRING);
+    }
+    return id;
+  }
+
+  /**
+   * Returns the id of the given font. Writes the definition of the font if it
+   * wasn't written yet.
+   *
+   * @param out
+   *        The output to write the definition to.
+   * @param font
+   *        The font.
+   *
+   * @return The id of the font.
+   *
+   * @throws IOException
+   *         If writing the definition failed.
+   */
+  protected int defineFont(DataOutputStream out, Font font)
+      throws IOException {
+    Integer id = this.fontIds.get(font);
+    if (id == null) {
+      int fontIdId = defineString(out, font.getId());
+      int fontNameId = defineString(out, font.getNormalizedName());
+      id = this.fontIds.size() + 1;
+      this.fontIds.put(font, id);
+      writeVarInt(this.payload, fontIdId);
+      writeVarInt(this.payload, fontNameId);
+      writeRecord(out, RECORD_FONT);
+    }
+    return id;
+  }
+
+  /**
+   * Returns the id of the given color. Writes the definition of the color if
+   * it wasn't written yet.
+   *
+   * @param out
+   *        The output to write the definition to.
+   * @param color
+   *        The color.
+   *
+   * @return The id of the color.
+   *
+   * @throws IOException
+   *         If writing the definition failed.
+   */
+  protected int defineColor(DataOutputStream out, Color color)
+      throws IOException {
+    Integer id = this.colorIds.get(color);
+    if (id == null) {
+      int colorIdId = defineString(out, color.getId());
+      id = this.colorIds.size() + 1;
+      this.colorIds.put(color, id);
+      float[] rgb = color.getRGB();
+      writeVarInt(this.payload, colorIdId);
+      writeVarInt(this.payload, rgb != null ? rgb.length : 0);
+      if (rgb != null) {
+        for (float value : rgb) {
+          this.payload.writeFloat(value);
+        }
+      }
+      writeRecord(out, RECORD_COLOR);
+    }
+    return id;
+  }
+
+  /**
+   * Writes a record of the given type with the current payload to the given
+   * output and resets the payload.
+   *
+   * @param out
+   *        The output to write the record to.
+   * @param type
+   *        The type of the record.
+   *
+   * @throws IOException
+   *         If writing the record failed.
+   */
+  protected void writeRecord(DataOutputStream out, int type)
+      throws IOException {
+    writeVarInt(out, type);
+    writeVarInt(out, this.payloadBuffer.size());
+    this.payloadBuffer.writeTo(out);
+    this.payloadBuffer.reset();
+  }
+
+  // ==========================================================================
+
+  @Override
+  public TextUnit getTextUnit() {
+    return this.textUnit;
+  }
+
+  @Override
+  public void setTextUnit(TextUnit textUnit) {
+    this.textUnit = textUnit;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public Set<SemanticRole> getSemanticRolesFilter() {
+    return this.rolesFilter;
+  }
+
+  @Override
+  public void setSemanticRolesFilter(Set<SemanticRole> rolesFilter) {
+    this.rolesFilter = rolesFilter;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Checks if the semantic role of the given element matches the semantic roles
+   * filter of this serializer.
+   *
+   * @param element
+   *        The element to check.
+   *
+   * @return True, if the role of the given element matches the semantic roles
+   *         filter of this serializer, false otherwise.
+   */
+  protected boolean hasRelevantRole(HasSemanticRole element) {
+    if (element == null) {
+      return false;
+    }
+
+    if (this.rolesFilter == null || this.rolesFilter.isEmpty()) {
+      // No filter is given -> The element is relevant.
+      return true;
+    }
+
+    SemanticRole role = element.getSemanticRole();
+    if (role == null) {
+      return false;
+    }
+
+    return this.rolesFilter.contains(role);
+  }
+}
@@ -26,18 +26,25 @@ import static pdfact.cli.pipes.serialize.PlainPdfSerializerConstants.TEXT_LINE;
 import static pdfact.cli.pipes.serialize.PlainPdfSerializerConstants.WORD;
 import static pdfact.core.PdfActCoreSettings.DEFAULT_ENCODING;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
 import com.google.inject.assistedinject.Assisted;
 import com.google.inject.assistedinject.AssistedInject;
 
 import pdfact.cli.model.TextUnit;
+import pdfact.cli.util.exception.PdfActSerializeException;
 import pdfact.core.model.Character;
 import pdfact.core.model.Color;
 import pdfact.core.model.Element;
@@ -93,6 +100,21 @@ public class PlainPdfJsonSerializer implements PdfJsonSerializer {
    */
   protected Set<Color> usedColors;
 
+  /**
+   * The number of the top-level keys written so far.
+   */
+  protected int numWrittenKeys;
+
+  /**
+   * The number of the serialized PDF elements written so far.
+   */
+  protected int numWrittenElements;
+
+  /**
+   * The writer to write the serialization to.
+   */
+  protected Writer writer;
+
   // ==========================================================================
   // Constructors.
 
@@ -125,36 +147,112 @@ public class PlainPdfJsonSerializer implements PdfJsonSerializer {
   // ==========================================================================
 
   @Override
-  public byte[] serialize(PdfDocument pdf) {
-    // The serialization to return.
-    String result = "";
+  public void serialize(PdfDocument pdf, OutputStream stream)
+      throws PdfActSerializeException {
+    if (pdf == null) {
+      return;
+    }
 
-    if (pdf != null) {
-      // The JSON object to fill.
-      JSONObject json = new JSONObject();
+    startSerialization(stream);
+    try {
+      // Write the section that contains all serialized PDF elements. The
+      // section is started on writing the first element.
+      serializePdfElements(this.writer, pdf);
+    } catch (IOException | JSONException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+    endSerialization();
+  }
 
-      // Create the section that contains all serialized PDF elements.
-      JSONArray elementsJson = serializePdfElements(pdf);
-      if (elementsJson != null && elementsJson.length() > 0) {
-        json.put(DOCUMENT, elementsJson);
+  // ==========================================================================
+
+  @Override
+  public void startSerialization(OutputStream stream)
+      throws PdfActSerializeException {
+    try {
+      // Don't close the writer, as this would close the given stream.
+      this.writer = new BufferedWriter(
+          new OutputStreamWriter(stream, DEFAULT_ENCODING));
+      this.numWrittenKeys = 0;
+      this.numWrittenElements = 0;
+
+      // Start the JSON object.
+      this.writer.write("{");
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+  }
+
+  @Override
+  public void serializePage(Page page) throws PdfActSerializeException {
+    if (page == null) {
+      return;
+    }
+
+    try {
+      for (TextLine line : page.getTextLines()) {
+        for (Word word : line.getWords()) {
+          switch (this.textUnit) {
+            case CHARACTER:
+              for (Character character : word.getCharacters()) {
+                writeElement(this.writer, serializeCharacter(character));
+              }
+              break;
+            case WORD:
+              writeElement(this.writer, serializeWord(word));
+              break;
+            default:
+              throw new PdfActSerializeException("The text unit '"
+                  + this.textUnit.getPluralName()
+                  + "' can't be serialized page by page.");
+          }
+        }
       }
+    } catch (IOException | JSONException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+  }
 
-      // Create the section that contains the used fonts.
+  @Override
+  public void endSerialization() throws PdfActSerializeException {
+    Writer writer = this.writer;
+    try {
+      // End the section that contains all serialized PDF elements.
+      if (this.numWrittenElements > 0) {
+        writer.write(System.lineSeparator());
+        writer.write(indent(1));
+        writer.write("]");
+      }
+
+      // Write the section that contains the used fonts. The fonts are known
+      // only after all elements were written.
       JSONArray fontsJson = serializeFonts(this.usedFonts);
       if (fontsJson != null && fontsJson.length() > 0) {
-        json.put(FONTS, fontsJson);
+        writeKey(writer, FONTS);
+        fontsJson.write(writer, INDENT_LENGTH, INDENT_LENGTH);
       }
 
-      // Create the section that contains the used colors.
+      // Write the section that contains the used colors.
       JSONArray colorsJson = serializeColors(this.usedColors);
       if (colorsJson != null && colorsJson.length() > 0) {
-        json.put(COLORS, colorsJson);
+        writeKey(writer, COLORS);
+        colorsJson.write(writer, INDENT_LENGTH, INDENT_LENGTH);
+      }
+
+      // End the JSON object.
+      if (this.numWrittenKeys > 0) {
+        writer.write(System.lineSeparator());
       }
+      writer.write("}");
 
-      // Serialize the JSON object.
-      result = json.toString(INDENT_LENGTH);
+      writer.flush();
+    } catch (IOException | JSONException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
     }
-    return result.getBytes(DEFAULT_ENCODING);
   }
 
   // ==========================================================================
@@ -162,20 +260,27 @@ public class PlainPdfJsonSerializer implements PdfJsonSerializer {
   /**
    * Serializes the elements of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param pdf
    *        The PDF document to process.
    *
-   * @return A JSON array that represent the serialized elements.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected JSONArray serializePdfElements(PdfDocument pdf) {
+  protected void serializePdfElements(Writer writer, PdfDocument pdf)
+      throws IOException {
     switch (this.textUnit) {
       case CHARACTER:
-        return serializeCharacters(pdf);
+        serializeCharacters(writer, pdf);
+        break;
       case WORD:
-        return serializeWords(pdf);
+        serializeWords(writer, pdf);
+        break;
       case PARAGRAPH:
       default:
-        return serializeParagraphs(pdf);
+        serializeParagraphs(writer, pdf);
+        break;
     }
   }
 
@@ -184,14 +289,16 @@ public class PlainPdfJsonSerializer implements PdfJsonSerializer {
   /**
    * Serializes the paragraphs of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param pdf
    *        The PDF document to process.
    * 
-   * @return A JSON array that represent the serialized elements.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected JSONArray serializeParagraphs(PdfDocument pdf) {
-    JSONArray result = new JSONArray();
-
+  protected void serializeParagraphs(Writer writer, PdfDocument pdf)
+      throws IOException {
     if (pdf != null) {
       for (Paragraph paragraph : pdf.getParagraphs()) {
         // Ignore the paragraph if its role doesn't match the roles filter.
@@ -199,14 +306,9 @@ public class PlainPdfJsonSerializer implements PdfJsonSerializer {
           continue;
         }
 
-        JSONObject paragraphJson = serializeParagraph(paragraph);
-        if (paragraphJson != null) {
-          result.put(paragraphJson);
-        }
+        writeElement(writer, serializeParagraph(paragraph));
       }
     }
-
-    return result;
   }
 
   /**
@@ -232,14 +334,16 @@ public class PlainPdfJsonSerializer implements PdfJsonSerializer {
   /**
    * Serializes the words of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param pdf
    *        The PDF document to process.
    * 
-   * @return A JSON array that represent the serialized elements.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected JSONArray serializeWords(PdfDocument pdf) {
-    JSONArray result = new JSONArray();
-
+  protected void serializeWords(Writer writer, PdfDocument pdf)
+      throws IOException {
     if (pdf != null) {
       for (Paragraph paragraph : pdf.getParagraphs()) {
         // Ignore the paragraph if its role doesn't match the roles filter.
@@ -248,15 +352,10 @@ public class PlainPdfJsonSerializer implements PdfJsonSerializer {
         }
 
         for (Word word : paragraph.getWords()) {
-          JSONObject wordJson = serializeWord(word);
-          if (wordJson != null) {
-            result.put(wordJson);
-          }
+          writeElement(writer, serializeWord(word));
         }
       }
     }
-
-    return result;
   }
 
   /**
@@ -282,14 +381,16 @@ public class PlainPdfJsonSerializer implements PdfJsonSerializer {
   /**
    * Serializes the characters of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param pdf
    *        The PDF document to process.
    * 
-   * @return A JSON array that represent the serialized elements.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected JSONArray serializeCharacters(PdfDocument pdf) {
-    JSONArray result = new JSONArray();
-
+  protected void serializeCharacters(Writer writer, PdfDocument pdf)
+      throws IOException {
     if (pdf != null) {
       for (Paragraph paragraph : pdf.getParagraphs()) {
         // Ignore the paragraph if its role doesn't match the roles filter.
@@ -299,16 +400,11 @@ public class PlainPdfJsonSerializer implements PdfJsonSerializer {
 
         for (Word word : paragraph.getWords()) {
           for (Character character : word.getCharacters()) {
-            JSONObject characterJson = serializeCharacter(character);
-            if (characterJson != null) {
-              result.put(characterJson);
-            }
+            writeElement(writer, serializeCharacter(character));
           }
         }
       }
     }
-
-    return result;
   }
 
   /**
@@ -638,6 +734,75 @@ public class PlainPdfJsonSerializer implements PdfJsonSerializer {
 
   // ==========================================================================
 
+  /**
+   * Writes the given serialized PDF element as an entry of the section that
+   * contains the serialized PDF elements. Starts this section if it wasn't
+   * started yet.
+   * 
+   * @param writer
+   *        The writer to write the element to.
+   * @param json
+   *        The serialized PDF element.
+   * 
+   * @throws IOException
+   *         If writing the element failed.
+   */
+  protected void writeElement(Writer writer, JSONObject json)
+      throws IOException {
+    if (json == null) {
+      return;
+    }
+    if (this.numWrittenElements++ == 0) {
+      writeKey(writer, DOCUMENT);
+      writer.write("[");
+    } else {
+      writer.write(",");
+    }
+    writer.write(System.lineSeparator());
+    writer.write(indent(2));
+    json.write(writer, INDENT_LENGTH, 2 * INDENT_LENGTH);
+  }
+
+  /**
+   * Writes the given key of the top-level JSON object, separated from the
+   * value of the previously written key.
+   * 
+   * @param writer
+   *        The writer to write the key to.
+   * @param key
+   *        The key to write.
+   * 
+   * @throws IOException
+   *         If writing the key failed.
+   */
+  protected void writeKey(Writer writer, String key) throws IOException {
+    if (this.numWrittenKeys++ > 0) {
+      writer.write(",");
+    }
+    writer.write(System.lineSeparator());
+    writer.write(indent(1));
+    writer.write(JSONObject.quote(key));
+    writer.write(": ");
+  }
+
+  /**
+   * Returns the indentation of the given indentation level.
+   * 
+   * @param level
+   *        The indentation level.
+   * 
+   * @return The indentation of the given indentation level.
+   */
+  protected String indent(int level) {
+    StringBuilder indent = new StringBuilder();
+    for (int i = 0; i < level * INDENT_LENGTH; i++) {
+      indent.append(' ');
+    }
+    return indent.toString();
+  }
+
+  // ==========================================================================
+
   /**
    * Checks if the semantic role of the given element matches the semantic roles
    * filter of this serializer.
@@ -2,6 +2,11 @@ package pdfact.cli.pipes.serialize;
 
 import static pdfact.core.PdfActCoreSettings.DEFAULT_ENCODING;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -10,17 +15,18 @@ import com.google.inject.assistedinject.Assisted;
 import com.google.inject.assistedinject.AssistedInject;
 
 import pdfact.cli.model.TextUnit;
+import pdfact.cli.util.exception.PdfActSerializeException;
 import pdfact.core.model.Character;
 import pdfact.core.model.Element;
 import pdfact.core.model.HasSemanticRole;
 import pdfact.core.model.HasText;
+import pdfact.core.model.Page;
 import pdfact.core.model.Paragraph;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.model.TextBlock;
 import pdfact.core.model.TextLine;
 import pdfact.core.model.Word;
-import pdfact.core.util.PdfActUtils;
 
 /**
  * An implementation of {@link PdfTxtSerializer} that serializes a PDF document
@@ -45,6 +51,16 @@ public class PlainPdfTxtSerializer implements PdfTxtSerializer {
   protected static final String TYPES_DELIMITER = System.lineSeparator()
       + System.lineSeparator();
 
+  /**
+   * The number of lines written so far.
+   */
+  protected int numWrittenLines;
+
+  /**
+   * The writer to write the serialization to.
+   */
+  protected Writer writer;
+
   // ==========================================================================
 
   /**
@@ -75,42 +91,100 @@ public class PlainPdfTxtSerializer implements PdfTxtSerializer {
   // ==========================================================================
 
   @Override
-  public byte[] serialize(PdfDocument pdf) {
-    // The serialization to return.
-    String result = "";
+  public void serialize(PdfDocument pdf, OutputStream stream)
+      throws PdfActSerializeException {
+    if (pdf == null) {
+      return;
+    }
 
-    if (pdf != null) {
-      List<String> lines = new ArrayList<>();
+    startSerialization(stream);
+    try {
+      // Write the section that contains all serialized PDF elements.
+      serializePdfElements(this.writer, pdf);
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+    endSerialization();
+  }
 
-      // Create the section that contains all serialized PDF elements.
-      List<String> elementsLines = serializePdfElements(pdf);
-      if (elementsLines != null) {
-        lines.addAll(elementsLines);
-      }
+  // ==========================================================================
 
-      result = PdfActUtils.join(elementsLines, TYPES_DELIMITER);
+  @Override
+  public void startSerialization(OutputStream stream) {
+    // Don't close the writer, as this would close the given stream.
+    this.writer = new BufferedWriter(
+        new OutputStreamWriter(stream, DEFAULT_ENCODING));
+    this.numWrittenLines = 0;
+  }
+
+  @Override
+  public void serializePage(Page page) throws PdfActSerializeException {
+    if (page == null) {
+      return;
     }
 
-    return result.getBytes(DEFAULT_ENCODING);
+    try {
+      for (TextLine line : page.getTextLines()) {
+        for (Word word : line.getWords()) {
+          switch (this.textUnit) {
+            case CHARACTER:
+              for (Character character : word.getCharacters()) {
+                writeLines(this.writer, serializeCharacter(character));
+              }
+              break;
+            case WORD:
+              writeLines(this.writer, serializeWord(word));
+              break;
+            default:
+              throw new PdfActSerializeException("The text unit '"
+                  + this.textUnit.getPluralName()
+                  + "' can't be serialized page by page.");
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
   }
 
+  @Override
+  public void endSerialization() throws PdfActSerializeException {
+    try {
+      this.writer.flush();
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+  }
+
+  // ==========================================================================
+
   /**
    * Serializes the elements of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param pdf
    *        The PDF document to process.
    *
-   * @return A list of strings that represent the lines of the serialization.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected List<String> serializePdfElements(PdfDocument pdf) {
+  protected void serializePdfElements(Writer writer, PdfDocument pdf)
+      throws IOException {
     switch (this.textUnit) {
       case CHARACTER:
-        return serializeCharacters(pdf);
+        serializeCharacters(writer, pdf);
+        break;
       case WORD:
-        return serializeWords(pdf);
+        serializeWords(writer, pdf);
+        break;
       case PARAGRAPH:
       default:
-        return serializeParagraphs(pdf);
+        serializeParagraphs(writer, pdf);
+        break;
     }
   }
 
@@ -119,14 +193,16 @@ public class PlainPdfTxtSerializer implements PdfTxtSerializer {
   /**
    * Serializes the paragraphs of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param pdf
    *        The PDF document to process.
    * 
-   * @return A list of strings that represent the lines of the serialization.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected List<String> serializeParagraphs(PdfDocument pdf) {
-    List<String> result = new ArrayList<>();
-
+  protected void serializeParagraphs(Writer writer, PdfDocument pdf)
+      throws IOException {
     if (pdf != null) {
       for (Paragraph paragraph : pdf.getParagraphs()) {
         // Ignore the paragraph if its role doesn't match the roles filter.
@@ -134,14 +210,9 @@ public class PlainPdfTxtSerializer implements PdfTxtSerializer {
           continue;
         }
 
-        List<String> paragraphLines = serializeParagraph(paragraph);
-        if (paragraphLines != null) {
-          result.addAll(paragraphLines);
-        }
+        writeLines(writer, serializeParagraph(paragraph));
       }
     }
-
-    return result;
   }
   
   /**
@@ -161,14 +232,16 @@ public class PlainPdfTxtSerializer implements PdfTxtSerializer {
   /**
    * Serializes the words of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param pdf
    *        The PDF document to process.
    * 
-   * @return A list of strings that represent the lines of the serialization.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected List<String> serializeWords(PdfDocument pdf) {
-    List<String> result = new ArrayList<>();
-
+  protected void serializeWords(Writer writer, PdfDocument pdf)
+      throws IOException {
     if (pdf != null) {
       for (Paragraph paragraph : pdf.getParagraphs()) {
         // Ignore the paragraph if its role doesn't match the roles filter.
@@ -177,15 +250,10 @@ public class PlainPdfTxtSerializer implements PdfTxtSerializer {
         }
 
         for (Word word : paragraph.getWords()) {
-          List<String> wordLines = serializeWord(word);
-          if (wordLines != null) {
-            result.addAll(wordLines);
-          }
+          writeLines(writer, serializeWord(word));
         }
       }
     }
-
-    return result;
   }
   
   /**
@@ -205,14 +273,16 @@ public class PlainPdfTxtSerializer implements PdfTxtSerializer {
   /**
    * Serializes the characters of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param pdf
    *        The PDF document to process.
    * 
-   * @return A list of strings that represent the lines of the serialization.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected List<String> serializeCharacters(PdfDocument pdf) {
-    List<String> result = new ArrayList<>();
-
+  protected void serializeCharacters(Writer writer, PdfDocument pdf)
+      throws IOException {
     if (pdf != null) {
       for (Paragraph paragraph : pdf.getParagraphs()) {
         // Ignore the paragraph if its role doesn't match the roles filter.
@@ -222,16 +292,11 @@ public class PlainPdfTxtSerializer implements PdfTxtSerializer {
 
         for (Word word : paragraph.getWords()) {
           for (Character character : word.getCharacters()) {
-            List<String> characterLines = serializeCharacter(character);
-            if (characterLines != null) {
-              result.addAll(characterLines);
-            }
+            writeLines(writer, serializeCharacter(character));
           }
         }
       }
     }
-
-    return result;
   }
   
   /**
@@ -269,6 +334,31 @@ public class PlainPdfTxtSerializer implements PdfTxtSerializer {
     return result;
   }
 
+  /**
+   * Writes the given lines, each separated from the previously written line
+   * by the delimiter.
+   * 
+   * @param writer
+   *        The writer to write the lines to.
+   * @param lines
+   *        The lines to write.
+   * 
+   * @throws IOException
+   *         If writing the lines failed.
+   */
+  protected void writeLines(Writer writer, List<String> lines)
+      throws IOException {
+    if (lines == null) {
+      return;
+    }
+    for (String line : lines) {
+      if (this.numWrittenLines++ > 0) {
+        writer.write(TYPES_DELIMITER);
+      }
+      writer.write(String.valueOf(line));
+    }
+  }
+
   // ==========================================================================
 
   @Override
@@ -28,6 +28,11 @@ import static pdfact.cli.pipes.serialize.PlainPdfSerializerConstants.TEXT_LINE;
 import static pdfact.cli.pipes.serialize.PlainPdfSerializerConstants.WORD;
 import static pdfact.core.PdfActCoreSettings.DEFAULT_ENCODING;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -61,7 +66,6 @@ import pdfact.core.model.SemanticRole;
 import pdfact.core.model.TextBlock;
 import pdfact.core.model.TextLine;
 import pdfact.core.model.Word;
-import pdfact.core.util.PdfActUtils;
 
 /**
  * An implementation of {@link PdfXmlSerializer} that serializes a PDF document
@@ -102,6 +106,22 @@ public class PlainPdfXmlSerializer implements PdfXmlSerializer {
    */
   protected Set<Color> usedColors;
 
+  /**
+   * The number of lines written so far.
+   */
+  protected int numWrittenLines;
+
+  /**
+   * The boolean flag that indicates whether the start tag of the section that
+   * contains the serialized PDF elements was already written.
+   */
+  protected boolean isDocumentSectionStarted;
+
+  /**
+   * The writer to write the serialization to.
+   */
+  protected Writer writer;
+
   // ==========================================================================
   // Constructors.
 
@@ -134,51 +154,117 @@ public class PlainPdfXmlSerializer implements PdfXmlSerializer {
   // ==========================================================================
 
   @Override
-  public byte[] serialize(PdfDocument pdf) throws PdfActSerializeException {
-    // The current indentation level.
-    int level = 0;
-    // The serialization to return.
-    String result = "";
+  public void serialize(PdfDocument pdf, OutputStream stream)
+      throws PdfActSerializeException {
+    if (pdf == null) {
+      return;
+    }
 
-    if (pdf != null) {
-      // The individual lines of the serialization.
-      List<String> resultLines = new ArrayList<>();
+    startSerialization(stream);
+    try {
+      // Write the section that contains all serialized PDF elements. The
+      // section is started on writing the first element.
+      serializePdfElements(this.writer, 2, pdf);
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+    endSerialization();
+  }
+
+  // ==========================================================================
+
+  @Override
+  public void startSerialization(OutputStream stream)
+      throws PdfActSerializeException {
+    try {
+      // Don't close the writer, as this would close the given stream.
+      this.writer = new BufferedWriter(
+          new OutputStreamWriter(stream, DEFAULT_ENCODING));
+      this.numWrittenLines = 0;
+      this.isDocumentSectionStarted = false;
 
       // Start the XML document.
-      resultLines.add(start(PDF, level++));
-
-      // Create the section that contains all serialized PDF elements.
-      List<String> elementsLines = serializePdfElements(level + 1, pdf);
-      if (elementsLines != null && !elementsLines.isEmpty()) {
-        resultLines.add(start(DOCUMENT, level));
-        resultLines.addAll(elementsLines);
-        resultLines.add(end(DOCUMENT, level));
+      writeLine(this.writer, start(PDF, 0));
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+  }
+
+  @Override
+  public void serializePage(Page page) throws PdfActSerializeException {
+    // The indentation level of the serialized PDF elements.
+    int level = 2;
+
+    if (page == null) {
+      return;
+    }
+
+    try {
+      for (TextLine line : page.getTextLines()) {
+        for (Word word : line.getWords()) {
+          switch (this.textUnit) {
+            case CHARACTER:
+              for (Character character : word.getCharacters()) {
+                writeElementLines(this.writer, level,
+                    serializeCharacter(level, character));
+              }
+              break;
+            case WORD:
+              writeElementLines(this.writer, level,
+                  serializeWord(level, word));
+              break;
+            default:
+              throw new PdfActSerializeException("The text unit '"
+                  + this.textUnit.getPluralName()
+                  + "' can't be serialized page by page.");
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
+    }
+  }
+
+  @Override
+  public void endSerialization() throws PdfActSerializeException {
+    // The current indentation level.
+    int level = 1;
+
+    Writer writer = this.writer;
+    try {
+      // End the section that contains all serialized PDF elements.
+      if (this.isDocumentSectionStarted) {
+        writeLine(writer, end(DOCUMENT, level));
       }
 
-      // Create the section that contains the used fonts.
+      // Write the section that contains the used fonts. The fonts are known
+      // only after all elements were written.
       List<String> fontsLines = serializeFonts(level + 1, this.usedFonts);
       if (fontsLines != null && !fontsLines.isEmpty()) {
-        resultLines.add(start(FONTS, level));
-        resultLines.addAll(fontsLines);
-        resultLines.add(end(FONTS, level));
+        writeLine(writer, start(FONTS, level));
+        writeLines(writer, fontsLines);
+        writeLine(writer, end(FONTS, level));
       }
 
-      // Create the section that contains the used colors.
+      // Write the section that contains the used colors.
       List<String> colorsLines = serializeColors(level + 1, this.usedColors);
       if (colorsLines != null && !colorsLines.isEmpty()) {
-        resultLines.add(start(COLORS, level));
-        resultLines.addAll(colorsLines);
-        resultLines.add(end(COLORS, level));
+        writeLine(writer, start(COLORS, level));
+        writeLines(writer, colorsLines);
+        writeLine(writer, end(COLORS, level));
       }
 
       // End the XML document.
-      resultLines.add(end(PDF, --level));
+      writeLine(writer, end(PDF, --level));
 
-      // Join the lines to a single string.
-      result = PdfActUtils.join(resultLines, LINE_DELIMITER);
+      writer.flush();
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write the serialization.",
+          e);
     }
-
-    return result.getBytes(DEFAULT_ENCODING);
   }
 
   // ==========================================================================
@@ -186,22 +272,29 @@ public class PlainPdfXmlSerializer implements PdfXmlSerializer {
   /**
    * Serializes the elements of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param level
    *        The current indentation level.
    * @param pdf
    *        The PDF document to process.
    *
-   * @return A list of strings that represent the serialized elements.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected List<String> serializePdfElements(int level, PdfDocument pdf) {
+  protected void serializePdfElements(Writer writer, int level,
+      PdfDocument pdf) throws IOException {
     switch (this.textUnit) {
       case CHARACTER:
-        return serializeCharacters(level, pdf);
+        serializeCharacters(writer, level, pdf);
+        break;
       case WORD:
-        return serializeWords(level, pdf);
+        serializeWords(writer, level, pdf);
+        break;
       case PARAGRAPH:
       default:
-        return serializeParagraphs(level, pdf);
+        serializeParagraphs(writer, level, pdf);
+        break;
     }
   }
 
@@ -210,16 +303,18 @@ public class PlainPdfXmlSerializer implements PdfXmlSerializer {
   /**
    * Serializes the paragraphs of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param level
    *        The current indentation level.
    * @param pdf
    *        The PDF document to process.
    * 
-   * @return A list of strings that represent the lines of the serialization.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected List<String> serializeParagraphs(int level, PdfDocument pdf) {
-    List<String> result = new ArrayList<>();
-
+  protected void serializeParagraphs(Writer writer, int level,
+      PdfDocument pdf) throws IOException {
     if (pdf != null) {
       for (Paragraph paragraph : pdf.getParagraphs()) {
         // Ignore the paragraph if its role doesn't match the roles filter.
@@ -227,14 +322,9 @@ public class PlainPdfXmlSerializer implements PdfXmlSerializer {
           continue;
         }
 
-        List<String> paragraphLines = serializeParagraph(level, paragraph);
-        if (paragraphLines != null) {
-          result.addAll(paragraphLines);
-        }
+        writeElementLines(writer, level, serializeParagraph(level, paragraph));
       }
     }
-
-    return result;
   }
 
   /**
@@ -264,16 +354,18 @@ public class PlainPdfXmlSerializer implements PdfXmlSerializer {
   /**
    * Serializes the words of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param level
    *        The current indentation level.
    * @param pdf
    *        The PDF document to process.
    * 
-   * @return A list of strings that represent the lines of the serialization.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected List<String> serializeWords(int level, PdfDocument pdf) {
-    List<String> result = new ArrayList<>();
-
+  protected void serializeWords(Writer writer, int level, PdfDocument pdf)
+      throws IOException {
     if (pdf != null) {
       for (Paragraph paragraph : pdf.getParagraphs()) {
         // Ignore the paragraph if its role doesn't match the roles filter.
@@ -282,15 +374,10 @@ public class PlainPdfXmlSerializer implements PdfXmlSerializer {
         }
 
         for (Word word : paragraph.getWords()) {
-          List<String> wordLines = serializeWord(level, word);
-          if (wordLines != null) {
-            result.addAll(wordLines);
-          }
+          writeElementLines(writer, level, serializeWord(level, word));
         }
       }
     }
-
-    return result;
   }
 
   /**
@@ -320,16 +407,18 @@ public class PlainPdfXmlSerializer implements PdfXmlSerializer {
   /**
    * Serializes the characters of the given PDF document.
    * 
+   * @param writer
+   *        The writer to write the serialization to.
    * @param level
    *        The current indentation level.
    * @param pdf
    *        The PDF document to process.
    * 
-   * @return A list of strings that represent the lines of the serialization.
+   * @throws IOException
+   *         If writing the serialization failed.
    */
-  protected List<String> serializeCharacters(int level, PdfDocument pdf) {
-    List<String> result = new ArrayList<>();
-
+  protected void serializeCharacters(Writer writer, int level,
+      PdfDocument pdf) throws IOException {
     if (pdf != null) {
       for (Paragraph paragraph : pdf.getParagraphs()) {
         // Ignore the paragraph if its role doesn't match the roles filter.
@@ -339,16 +428,12 @@ public class PlainPdfXmlSerializer implements PdfXmlSerializer {
 
         for (Word word : paragraph.getWords()) {
           for (Character character : word.getCharacters()) {
-            List<String> characterLines = serializeCharacter(level, character);
-            if (characterLines != null) {
-              result.addAll(characterLines);
-            }
+            List<String> lines = serializeCharacter(level, character);
+            writeElementLines(writer, level, lines);
           }
         }
       }
     }
-
-    return result;
   }
 
   /**
@@ -686,6 +771,72 @@ public class PlainPdfXmlSerializer implements PdfXmlSerializer {
 
   // ==========================================================================
 
+  /**
+   * Writes the given lines of a serialized PDF element. Starts the section
+   * that contains the serialized PDF elements if it wasn't started yet.
+   * 
+   * @param writer
+   *        The writer to write the lines to.
+   * @param level
+   *        The indentation level of the PDF element.
+   * @param lines
+   *        The lines to write.
+   * 
+   * @throws IOException
+   *         If writing the lines failed.
+   */
+  protected void writeElementLines(Writer writer, int level,
+      List<String> lines) throws IOException {
+    if (lines == null || lines.isEmpty()) {
+      return;
+    }
+    if (!this.isDocumentSectionStarted) {
+      writeLine(writer, start(DOCUMENT, level - 1));
+      this.isDocumentSectionStarted = true;
+    }
+    writeLines(writer, lines);
+  }
+
+  /**
+   * Writes the given lines, each separated from the previously written line
+   * by the line delimiter.
+   * 
+   * @param writer
+   *        The writer to write the lines to.
+   * @param lines
+   *        The lines to write.
+   * 
+   * @throws IOException
+   *         If writing the lines failed.
+   */
+  protected void writeLines(Writer writer, List<String> lines)
+      throws IOException {
+    for (String line : lines) {
+      writeLine(writer, line);
+    }
+  }
+
+  /**
+   * Writes the given line, separated from the previously written line by the
+   * line delimiter.
+   * 
+   * @param writer
+   *        The writer to write the line to.
+   * @param line
+   *        The line to write.
+   * 
+   * @throws IOException
+   *         If writing the line failed.
+   */
+  protected void writeLine(Writer writer, String line) throws IOException {
+    if (this.numWrittenLines++ > 0) {
+      writer.write(LINE_DELIMITER);
+    }
+    writer.write(String.valueOf(line));
+  }
+
+  // ==========================================================================
+
   /**
    * Wraps the given text in an XML start tag.
    * 
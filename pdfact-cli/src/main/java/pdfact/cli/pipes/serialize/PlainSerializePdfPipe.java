@@ -8,6 +8,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -19,6 +21,7 @@ import pdfact.cli.model.SerializeFormat;
 import pdfact.cli.model.TextUnit;
 import pdfact.cli.pipes.serialize.PdfSerializer.SerializerFactory;
 import pdfact.cli.util.exception.PdfActSerializeException;
+import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.util.exception.PdfActException;
@@ -66,6 +69,24 @@ public class PlainSerializePdfPipe implements SerializePdfPipe {
    */
   protected Set<SemanticRole> roles;
 
+  /**
+   * The boolean flag that indicates whether the serialization is written page
+   * by page.
+   */
+  protected boolean streamingEnabled;
+
+  /**
+   * The serializers of a serialization that is written page by page, one per
+   * target (null if the serialization wasn't started yet).
+   */
+  protected List<PdfSerializer> pageSerializers;
+
+  /**
+   * The stream to the target file of a serialization that is written page by
+   * page (null if it isn't open).
+   */
+  protected OutputStream targetPathStream;
+
   // ==========================================================================
 
   /**
@@ -90,7 +111,15 @@ public class PlainSerializePdfPipe implements SerializePdfPipe {
     log.debug("Start of pipe: " + getClass().getSimpleName() + ".");
 
     log.debug("Process: Serializing the PDF document.");
-    serialize(pdf);
+    if (this.streamingEnabled) {
+      try {
+        endStreaming();
+      } finally {
+        closeTargetPathStream();
+      }
+    } else {
+      serialize(pdf);
+    }
 
     log.debug("Serializing the PDF document done.");
     log.debug("serialization format: " + this.format);
@@ -112,63 +141,163 @@ public class PlainSerializePdfPipe implements SerializePdfPipe {
    */
   protected void serialize(PdfDocument pdf) throws PdfActException {
     // Obtain the serializer factory to use.
+    SerializerFactory factory = getSerializerFactory();
+
+    // If the target is given as a stream, write the serialization to it.
+    if (this.targetStream != null) {
+      writeToStream(pdf, factory, this.targetStream);
+    }
+
+    // If the target is given as a file, open it and write the serialization.
+    if (this.targetPath != null) {
+      writeToPath(pdf, factory, this.targetPath);
+    }
+  }
+
+  /**
+   * Returns the factory of the serializer for the serialization format.
+   * 
+   * @return The factory of the serializer.
+   * @throws PdfActException
+   *         If there is no serializer for the serialization format.
+   */
+  protected SerializerFactory getSerializerFactory() throws PdfActException {
     SerializerFactory factory = this.serializers.get(this.format);
     if (factory == null) {
       throw new PdfActSerializeException(
           "Couldn't find a serializer for the format '" + this.format + "'.");
     }
+    return factory;
+  }
 
-    // Create the serializer.
+  /**
+   * Serializes the given PDF document directly into the given output stream.
+   * 
+   * @param pdf
+   *        The PDF document to serialize.
+   * @param factory
+   *        The factory of the serializer to use.
+   * @param stream
+   *        The stream to write to.
+   * @throws PdfActException
+   *         If something went wrong while writing the serialization to the
+   *         stream.
+   */
+  protected void writeToStream(PdfDocument pdf, SerializerFactory factory,
+      OutputStream stream) throws PdfActException {
+    // Create a new serializer per target, as a serializer keeps track of the
+    // fonts and colors it has serialized.
     PdfSerializer serializer = factory.create(this.textUnit, this.roles);
-    // Serialize the PDF document.
-    byte[] serialization = serializer.serialize(pdf);
+    serializer.serialize(pdf, stream);
+  }
 
-    // If the target is given as a stream, write the serialization it.
+  /**
+   * Serializes the given PDF document directly into the given file.
+   * 
+   * @param pdf
+   *        The PDF document to serialize.
+   * @param factory
+   *        The factory of the serializer to use.
+   * @param path
+   *        The file to write to.
+   * @throws PdfActException
+   *         If something went wrong while writing the serialization to the
+   *         file.
+   */
+  protected void writeToPath(PdfDocument pdf, SerializerFactory factory,
+      Path path) throws PdfActException {
+    try (OutputStream os = Files.newOutputStream(path)) {
+      writeToStream(pdf, factory, os);
+    } catch (IOException e) {
+      throw new PdfActSerializeException("Couldn't write to file.", e);
+    }
+  }
+
+  // ==========================================================================
+  // Methods to write the serialization page by page.
+
+  @Override
+  public void pageProcessed(PdfDocument pdf, Page page)
+      throws PdfActException {
+    if (this.pageSerializers == null) {
+      startStreaming();
+    }
+    for (PdfSerializer serializer : this.pageSerializers) {
+      serializer.serializePage(page);
+    }
+  }
+
+  /**
+   * Starts a serialization that is written page by page, one per target.
+   * 
+   * @throws PdfActException
+   *         If the serialization couldn't be started.
+   */
+  protected void startStreaming() throws PdfActException {
+    SerializerFactory factory = getSerializerFactory();
+    this.pageSerializers = new ArrayList<>();
+
+    // If the target is given as a stream, write the serialization to it.
     if (this.targetStream != null) {
-      writeToStream(serialization, this.targetStream);
+      PdfSerializer serializer = factory.create(this.textUnit, this.roles);
+      serializer.startSerialization(this.targetStream);
+      this.pageSerializers.add(serializer);
     }
 
     // If the target is given as a file, open it and write the serialization.
     if (this.targetPath != null) {
-      writeToPath(serialization, this.targetPath);
+      try {
+        this.targetPathStream = Files.newOutputStream(this.targetPath);
+      } catch (IOException e) {
+        throw new PdfActSerializeException("Couldn't write to file.", e);
+      }
+      PdfSerializer serializer = factory.create(this.textUnit, this.roles);
+      serializer.startSerialization(this.targetPathStream);
+      this.pageSerializers.add(serializer);
     }
   }
 
   /**
-   * Writes the given bytes to the given output stream.
+   * Completes the serialization that is written page by page. Starts the
+   * serialization before, if no page was serialized.
    * 
-   * @param bytes
-   *        The bytes to write.
-   * @param stream
-   *        The stream to write to.
-   * @throws PdfActSerializeException
-   *         If something went wrong while writing the bytes to the stream.
+   * @throws PdfActException
+   *         If the serialization couldn't be completed.
    */
-  protected void writeToStream(byte[] bytes, OutputStream stream)
-      throws PdfActSerializeException {
-    try {
-      stream.write(bytes);
-    } catch (IOException e) {
-      throw new PdfActSerializeException("Couldn't write to output stream.", e);
+  protected void endStreaming() throws PdfActException {
+    if (this.pageSerializers == null) {
+      startStreaming();
+    }
+    for (PdfSerializer serializer : this.pageSerializers) {
+      serializer.endSerialization();
     }
+    this.pageSerializers = null;
   }
 
   /**
-   * Writes the given bytes to the given file.
+   * Closes the stream to the target file of a serialization that is written
+   * page by page, if it is open.
    * 
-   * @param bytes
-   *        The bytes to write.
-   * @param path
-   *        The file to write to.
-   * @throws PdfActSerializeException
-   *         If something went wrong while writing the bytes to the stream.
+   * @throws PdfActException
+   *         If the stream couldn't be closed.
    */
-  protected void writeToPath(byte[] bytes, Path path)
-      throws PdfActSerializeException {
-    try (OutputStream os = Files.newOutputStream(path)) {
-      os.write(bytes);
+  protected void closeTargetPathStream() throws PdfActException {
+    try {
+      close();
     } catch (IOException e) {
-      throw new PdfActSerializeException("Couldn't write to file.");
+      throw new PdfActSerializeException("Couldn't write to file.", e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.pageSerializers = null;
+    if (this.targetPathStream != null) {
+      try {
+        this.targetPathStream.close();
+      } finally {
+        this.targetPathStream = null;
+      }
     }
   }
 
@@ -231,4 +360,16 @@ public class PlainSerializePdfPipe implements SerializePdfPipe {
   public void setTargetPath(Path path) {
     this.targetPath = path;
   }
+
+  // ==========================================================================
+
+  @Override
+  public boolean isStreamingEnabled() {
+    return this.streamingEnabled;
+  }
+
+  @Override
+  public void setStreamingEnabled(boolean enabled) {
+    this.streamingEnabled = enabled;
+  }
 }
@@ -1,5 +1,6 @@
 package pdfact.cli.pipes.serialize;
 
+import java.io.Closeable;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.Set;
@@ -7,14 +8,17 @@ import java.util.Set;
 import pdfact.cli.model.SerializeFormat;
 import pdfact.cli.model.TextUnit;
 import pdfact.core.model.SemanticRole;
+import pdfact.core.util.pipeline.PageListener;
 import pdfact.core.util.pipeline.Pipe;
 
 /**
- * A pipe to serialize PDF documents.
+ * A pipe to serialize PDF documents. In streaming mode, the pipe serializes
+ * the pages passed to it as a {@link PageListener} one by one and completes
+ * the serialization on being executed.
  * 
  * @author Claudius Korzen
  */
-public interface SerializePdfPipe extends Pipe {
+public interface SerializePdfPipe extends Pipe, PageListener, Closeable {
   /**
    * Returns the serialization format.
    * 
@@ -100,6 +104,27 @@ public interface SerializePdfPipe extends Pipe {
 
   // ==========================================================================
 
+  /**
+   * Returns true if the serialization is written page by page.
+   * 
+   * @return True if the serialization is written page by page; false
+   *         otherwise.
+   */
+  boolean isStreamingEnabled();
+
+  /**
+   * Sets the boolean flag that indicates whether the serialization is written
+   * page by page, as the pages are passed to this pipe. If enabled, only the
+   * text units "words" and "characters" can be serialized.
+   * 
+   * @param enabled
+   *        True if the serialization should be written page by page; false
+   *        otherwise.
+   */
+  void setStreamingEnabled(boolean enabled);
+
+  // ==========================================================================
+
   /**
    * The factory to create instances of {@link SerializePdfPipe}.
    * 
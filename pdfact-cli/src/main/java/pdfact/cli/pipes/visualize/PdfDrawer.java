@@ -3,13 +3,16 @@ package pdfact.cli.pipes.visualize;
 import java.awt.Color;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 
 import pdfact.core.model.HasRectangle;
 import pdfact.core.model.Line;
+import pdfact.core.model.MemoryPolicy;
 import pdfact.core.model.Point;
 import pdfact.core.model.Position;
 import pdfact.core.model.Rectangle;
+import pdfact.core.util.pdfbox.DocumentSession;
 
 /**
  * An interface to draw into a PDF file.
@@ -649,6 +652,16 @@ public interface PdfDrawer {
    */
   byte[] toByteArray() throws IOException;
 
+  /**
+   * Writes the drawn PDF file to the given stream. The stream is not closed.
+   * 
+   * @param stream
+   *        The stream to write to.
+   * @throws IOException
+   *         If writing the PDF file has failed.
+   */
+  void writeTo(OutputStream stream) throws IOException;
+
   // ==========================================================================
 
   /**
@@ -667,6 +680,28 @@ public interface PdfDrawer {
      */
     PdfDrawer create(File pdf);
 
+    /**
+     * Creates a new PdfDrawer.
+     * 
+     * @param pdf
+     *        The PDF file to process.
+     * @param policy
+     *        The policy that defines how the PDF file is loaded.
+     * 
+     * @return A new instance of {@link PdfDrawer}.
+     */
+    PdfDrawer create(File pdf, MemoryPolicy policy);
+
+    /**
+     * Creates a new PdfDrawer that draws in the PDF file of the given session.
+     * 
+     * @param session
+     *        The session that owns the PDF file to process.
+     * 
+     * @return A new instance of {@link PdfDrawer}.
+     */
+    PdfDrawer create(DocumentSession session);
+
     /**
      * Creates a new PdfDrawer.
      * 
@@ -1,9 +1,11 @@
 package pdfact.cli.pipes.visualize;
 
+import java.io.OutputStream;
 import java.util.Set;
 
 import pdfact.cli.model.TextUnit;
 import pdfact.cli.util.exception.PdfActVisualizeException;
+import pdfact.core.model.MemoryPolicy;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
 
@@ -25,6 +27,20 @@ public interface PdfVisualizer {
    */
   byte[] visualize(PdfDocument pdf) throws PdfActVisualizeException;
 
+  /**
+   * Visualizes all features of the given document and writes the
+   * visualization straight to the given stream. The stream is not closed.
+   * 
+   * @param pdf
+   *        The PDF document to process.
+   * @param stream
+   *        The stream to write the visualization to.
+   * @throws PdfActVisualizeException
+   *         If something went wrong while visualizing.
+   */
+  void visualize(PdfDocument pdf, OutputStream stream)
+      throws PdfActVisualizeException;
+
   // ==========================================================================
 
   /**
@@ -61,6 +77,25 @@ public interface PdfVisualizer {
 
   // ==========================================================================
 
+  /**
+   * Returns the policy that defines how the PDF files are loaded.
+   * 
+   * @return The memory policy or null if the default policy is used.
+   */
+  MemoryPolicy getMemoryPolicy();
+
+  /**
+   * Sets the policy that defines how the PDF files are loaded (that is where
+   * the data of the loaded PDF files is buffered and whether the PDF files
+   * are read via a memory mapping).
+   * 
+   * @param policy
+   *        The memory policy or null if the default policy should be used.
+   */
+  void setMemoryPolicy(MemoryPolicy policy);
+
+  // ==========================================================================
+
   /**
    * The factory to create instances of PdfVisualizer.
    * 
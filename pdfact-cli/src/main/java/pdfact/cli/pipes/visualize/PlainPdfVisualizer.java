@@ -1,7 +1,9 @@
 package pdfact.cli.pipes.visualize;
 
 import java.awt.Color;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -18,6 +20,7 @@ import pdfact.core.model.Figure;
 import pdfact.core.model.HasPosition;
 import pdfact.core.model.HasPositions;
 import pdfact.core.model.HasSemanticRole;
+import pdfact.core.model.MemoryPolicy;
 import pdfact.core.model.Page;
 import pdfact.core.model.Paragraph;
 import pdfact.core.model.PdfDocument;
@@ -52,6 +55,12 @@ public class PlainPdfVisualizer implements PdfVisualizer {
    */
   protected Set<SemanticRole> rolesFilter;
 
+  /**
+   * The policy that defines how the PDF files are loaded (null if the default
+   * policy should be used).
+   */
+  protected MemoryPolicy memoryPolicy;
+
   // ==========================================================================
   // Constructors.
 
@@ -90,7 +99,18 @@ public class PlainPdfVisualizer implements PdfVisualizer {
   @Override
   public byte[] visualize(PdfDocument pdf) throws PdfActVisualizeException {
     if (pdf != null) {
-      PdfDrawer drawer = this.pdfDrawerFactory.create(pdf.getFile());
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      visualize(pdf, stream);
+      return stream.toByteArray();
+    }
+    return null;
+  }
+
+  @Override
+  public void visualize(PdfDocument pdf, OutputStream stream)
+      throws PdfActVisualizeException {
+    if (pdf != null) {
+      PdfDrawer drawer = createDrawer(pdf);
 
       switch (this.textUnit) {
         case CHARACTER:
@@ -115,12 +135,31 @@ public class PlainPdfVisualizer implements PdfVisualizer {
       }
 
       try {
-        return drawer.toByteArray();
+        drawer.writeTo(stream);
       } catch (IOException e) {
         throw new PdfActVisualizeException("Error on visualization.", e);
       }
     }
-    return null;
+  }
+
+  /**
+   * Creates the drawer for the given PDF document. Draws in the PDF file of
+   * the session of the document if there is any, such that the PDF file
+   * doesn't need to be loaded again.
+   * 
+   * @param pdf
+   *        The PDF document to process.
+   * 
+   * @return The drawer.
+   */
+  protected PdfDrawer createDrawer(PdfDocument pdf) {
+    if (pdf.getSession() != null) {
+      return this.pdfDrawerFactory.create(pdf.getSession());
+    }
+    if (this.memoryPolicy != null) {
+      return this.pdfDrawerFactory.create(pdf.getFile(), this.memoryPolicy);
+    }
+    return this.pdfDrawerFactory.create(pdf.getFile());
   }
 
   // ==========================================================================
@@ -555,6 +594,18 @@ public class PlainPdfVisualizer implements PdfVisualizer {
 
   // ==========================================================================
 
+  @Override
+  public MemoryPolicy getMemoryPolicy() {
+    return this.memoryPolicy;
+  }
+
+  @Override
+  public void setMemoryPolicy(MemoryPolicy policy) {
+    this.memoryPolicy = policy;
+  }
+
+  // ==========================================================================
+
   /**
    * Checks if the semantic role of the given element matches the semantic roles
    * filter of this serializer.
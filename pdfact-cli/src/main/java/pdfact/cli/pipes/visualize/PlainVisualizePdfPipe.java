@@ -1,5 +1,6 @@
 package pdfact.cli.pipes.visualize;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
@@ -13,6 +14,7 @@ import com.google.inject.Inject;
 import pdfact.cli.model.TextUnit;
 import pdfact.cli.pipes.visualize.PdfVisualizer.PdfVisualizerFactory;
 import pdfact.cli.util.exception.PdfActSerializeException;
+import pdfact.core.model.MemoryPolicy;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.util.exception.PdfActException;
@@ -55,6 +57,12 @@ public class PlainVisualizePdfPipe implements VisualizePdfPipe {
    */
   protected Set<SemanticRole> roles;
 
+  /**
+   * The policy that defines how the PDF files are loaded (null if the default
+   * policy should be used).
+   */
+  protected MemoryPolicy memoryPolicy;
+
   /**
    * The default constructor.
    * 
@@ -98,58 +106,64 @@ public class PlainVisualizePdfPipe implements VisualizePdfPipe {
   protected void visualize(PdfDocument pdf) throws PdfActException {
     // Create the visualizer.
     PdfVisualizer visualizer = this.factory.create(this.textUnit, this.roles);
+    visualizer.setMemoryPolicy(this.memoryPolicy);
 
-    // Serialize the PDF document.
-    byte[] visualization = visualizer.visualize(pdf);
-
-    // If the target is given as a stream, write the serialization it.
-    if (this.targetStream != null) {
-      writeToStream(visualization, this.targetStream);
+    // If the target is given as a file, write the visualization straight to
+    // the file (and copy the file to the stream, if there is any given).
+    if (this.targetPath != null) {
+      writeToFile(visualizer, pdf, this.targetPath);
+      if (this.targetStream != null) {
+        copyToStream(this.targetPath, this.targetStream);
+      }
+      return;
     }
 
-    // If the target is given as a file, open it and write the serialization.
-    if (this.targetPath != null) {
-      writeToFile(visualization, this.targetPath);
+    // If the target is given as a stream, write the visualization to it.
+    if (this.targetStream != null) {
+      visualizer.visualize(pdf, this.targetStream);
     }
   }
 
   // ==========================================================================
 
   /**
-   * Writes the given bytes to the given output stream.
+   * Writes the visualization of the given PDF document to the given file.
    * 
-   * @param bytes
-   *        The bytes to write.
-   * @param stream
-   *        The stream to write to.
-   * @throws PdfActSerializeException
-   *         If something went wrong while writing the bytes to the stream.
+   * @param visualizer
+   *        The visualizer.
+   * @param pdf
+   *        The PDF document to visualize.
+   * @param path
+   *        The file to write to.
+   * @throws PdfActException
+   *         If something went wrong while writing the visualization.
    */
-  protected void writeToStream(byte[] bytes, OutputStream stream)
-      throws PdfActSerializeException {
-    try {
-      stream.write(bytes);
+  protected void writeToFile(PdfVisualizer visualizer, PdfDocument pdf,
+      Path path) throws PdfActException {
+    try (OutputStream os = new BufferedOutputStream(
+        Files.newOutputStream(path))) {
+      visualizer.visualize(pdf, os);
     } catch (IOException e) {
-      throw new PdfActSerializeException("Couldn't write to output stream.", e);
+      throw new PdfActSerializeException("Couldn't write to file.", e);
     }
   }
 
   /**
-   * Writes the given bytes to the given file.
+   * Copies the given file to the given output stream.
    * 
-   * @param bytes
-   *        The bytes to write.
    * @param path
-   *        The file to write to.
+   *        The file to copy.
+   * @param stream
+   *        The stream to write to.
    * @throws PdfActSerializeException
-   *         If something went wrong while writing the bytes to the stream.
+   *         If something went wrong while writing the file to the stream.
    */
-  protected void writeToFile(byte[] bytes, Path path)
+  protected void copyToStream(Path path, OutputStream stream)
       throws PdfActSerializeException {
-    try (OutputStream os = Files.newOutputStream(path)) {
-      os.write(bytes);
+    try {
+      Files.copy(path, stream);
     } catch (IOException e) {
-      throw new PdfActSerializeException("Couldn't write to file.");
+      throw new PdfActSerializeException("Couldn't write to output stream.", e);
     }
   }
 
@@ -179,6 +193,18 @@ public class PlainVisualizePdfPipe implements VisualizePdfPipe {
 
   // ==========================================================================
 
+  @Override
+  public MemoryPolicy getMemoryPolicy() {
+    return this.memoryPolicy;
+  }
+
+  @Override
+  public void setMemoryPolicy(MemoryPolicy policy) {
+    this.memoryPolicy = policy;
+  }
+
+  // ==========================================================================
+
   @Override
   public OutputStream getTargetStream() {
     return this.targetStream;
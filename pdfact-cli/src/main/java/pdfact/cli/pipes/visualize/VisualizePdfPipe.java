@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Set;
 
 import pdfact.cli.model.TextUnit;
+import pdfact.core.model.MemoryPolicy;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.util.pipeline.Pipe;
 
@@ -82,6 +83,25 @@ public interface VisualizePdfPipe extends Pipe {
 
   // ==========================================================================
 
+  /**
+   * Returns the policy that defines how the PDF files are loaded.
+   * 
+   * @return The memory policy or null if the default policy is used.
+   */
+  MemoryPolicy getMemoryPolicy();
+
+  /**
+   * Sets the policy that defines how the PDF files are loaded (that is where
+   * the data of the loaded PDF files is buffered and whether the PDF files
+   * are read via a memory mapping).
+   * 
+   * @param policy
+   *        The memory policy or null if the default policy should be used.
+   */
+  void setMemoryPolicy(MemoryPolicy policy);
+
+  // ==========================================================================
+
   /**
    * The factory to create instances of {@link VisualizePdfPipe}.
    * 
@@ -3,7 +3,9 @@ package pdfact.cli.pipes.visualize.pdfbox;
 import java.awt.Color;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +26,7 @@ import com.google.inject.assistedinject.AssistedInject;
 import pdfact.cli.pipes.visualize.PdfDrawer;
 import pdfact.core.model.HasRectangle;
 import pdfact.core.model.Line;
+import pdfact.core.model.MemoryPolicy;
 import pdfact.core.model.Page;
 import pdfact.core.model.Point;
 import pdfact.core.model.Position;
@@ -31,6 +34,8 @@ import pdfact.core.model.Rectangle;
 import pdfact.core.model.Line.LineFactory;
 import pdfact.core.model.Point.PointFactory;
 import pdfact.core.model.Rectangle.RectangleFactory;
+import pdfact.core.util.pdfbox.DocumentSession;
+import pdfact.core.util.pdfbox.PdfBoxLoader;
 
 /**
  * An implementation of PdfVisualizer using PdfBox.
@@ -84,7 +89,19 @@ public class PdfBoxDrawer implements PdfDrawer {
   protected PDDocument pdDocument;
 
   /**
-   * The cache of PDPageContentStream objects.
+   * The boolean flag that indicates whether the PDDocument is owned by this
+   * drawer (and should be closed after saving it) or by a session.
+   */
+  protected boolean ownsPdDocument = true;
+
+  /**
+   * The pages of the pdf file in fashion of PdfBox.
+   */
+  protected PDPageTree pages;
+
+  /**
+   * The cache of PDPageContentStream objects. A stream is opened on the first
+   * drawing in the page, so the entry of a page that wasn't drawn yet is null.
    */
   protected List<PDPageContentStream> pageStreams = new ArrayList<>();
 
@@ -137,6 +154,58 @@ public class PdfBoxDrawer implements PdfDrawer {
         pdfFile != null ? PDDocument.load(pdfFile) : null);
   }
 
+  /**
+   * Creates a new visualizer from the given file, loaded according to the
+   * given memory policy.
+   * 
+   * @param rectangleFactory
+   *        The factory to create instances of Rectangle.
+   * @param pointFactory
+   *        The factory to create instances of Point.
+   * @param lineFactory
+   *        The factory to create instances of Line.
+   * @param loader
+   *        The loader to load the PDF file.
+   * @param pdfFile
+   *        The PDF file to process.
+   * @param policy
+   *        The policy that defines how the PDF file is loaded.
+   * @throws IOException
+   *         If reading the PDF file failed.
+   */
+  @AssistedInject
+  public PdfBoxDrawer(RectangleFactory rectangleFactory,
+      PointFactory pointFactory, LineFactory lineFactory, PdfBoxLoader loader,
+      @Assisted File pdfFile, @Assisted MemoryPolicy policy)
+      throws IOException {
+    this(rectangleFactory, pointFactory, lineFactory,
+        pdfFile != null ? loader.load(pdfFile, policy) : null);
+  }
+
+  /**
+   * Creates a new visualizer that draws in the PDF file of the given session.
+   * The PDF file is not closed by this visualizer.
+   * 
+   * @param rectangleFactory
+   *        The factory to create instances of Rectangle.
+   * @param pointFactory
+   *        The factory to create instances of Point.
+   * @param lineFactory
+   *        The factory to create instances of Line.
+   * @param session
+   *        The session that owns the PDF file to process.
+   * @throws IOException
+   *         If reading the PDF file failed.
+   */
+  @AssistedInject
+  public PdfBoxDrawer(RectangleFactory rectangleFactory,
+      PointFactory pointFactory, LineFactory lineFactory,
+      @Assisted DocumentSession session) throws IOException {
+    this(rectangleFactory, pointFactory, lineFactory,
+        session != null ? session.getPdDocument() : null);
+    this.ownsPdDocument = false;
+  }
+
   /**
    * Creates a new visualizer from the given PDDocument.
    * 
@@ -175,13 +244,13 @@ public class PdfBoxDrawer implements PdfDrawer {
     if (pages == null) {
       throw new IllegalArgumentException("No pages given.");
     }
+    this.pages = pages;
 
     this.pageStreams.add(null); // Add dummy, because pageNumbers are 1-based.
     this.pageBoundingBoxes.add(null);
-    // Preallocate the list of streams.
     for (PDPage page : pages) {
-      this.pageStreams.add(new PDPageContentStream(pdDocument, page,
-          PDPageContentStream.AppendMode.APPEND, true));
+      // Open the content stream on the first drawing in the page.
+      this.pageStreams.add(null);
 
       Rectangle boundingBox = this.rectangleFactory.create();
 
@@ -509,44 +578,66 @@ public class PdfBoxDrawer implements PdfDrawer {
   @Override
   public byte[] toByteArray() throws IOException {
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    writeTo(baos);
+    return baos.toByteArray();
+  }
+
+  @Override
+  public void writeTo(OutputStream stream) throws IOException {
     try {
       // Close all the open PDPageContentStream objects. Start at 1 because of
       // the dummy at the start.
       for (int i = 1; i < this.pageStreams.size(); i++) {
+        PDPageContentStream pageStream = this.pageStreams.get(i);
+        if (pageStream == null) {
+          continue;
+        }
         try {
-          this.pageStreams.get(i).close();
+          pageStream.close();
         } catch (IOException e) {
           continue;
         }
       }
-      // Try to save the pdf document to the given file.
-      this.pdDocument.save(baos);
+      // Try to save the pdf document to the given stream. PDDocument.save()
+      // closes the stream it writes to, so protect the stream of the caller.
+      this.pdDocument.save(new NonClosingOutputStream(stream));
     } catch (Exception e) {
-      e.printStackTrace();
-      throw new IOException("Error on visualization: " + e.getMessage());
+      throw new IOException("Error on visualization: " + e.getMessage(), e);
     } finally {
-      try {
-        // Try to close the pdf document.
-        this.pdDocument.close();
-      } catch (IOException e) {
-        throw new IOException("Error on closing the pdf: " + e.getMessage());
+      if (this.ownsPdDocument) {
+        try {
+          // Try to close the pdf document.
+          this.pdDocument.close();
+        } catch (IOException e) {
+          throw new IOException("Error on closing the pdf: " + e.getMessage());
+        }
       }
     }
-    return baos.toByteArray();
   }
 
   /**
-   * Returns the content stream for the given page.
+   * Returns the content stream for the given page and opens it, if it wasn't
+   * opened yet.
    * 
    * @param pageNum
    *        The number of page to process.
    * @return The content stream of the given page.
+   * @throws IOException
+   *         If opening the content stream failed.
    */
-  protected PDPageContentStream getPdPageContentStream(int pageNum) {
+  protected PDPageContentStream getPdPageContentStream(int pageNum)
+      throws IOException {
     if (pageNum < 1 || pageNum >= this.pageStreams.size()) {
       throw new IllegalArgumentException("The given page number is invalid.");
     }
-    return this.pageStreams.get(pageNum);
+    PDPageContentStream stream = this.pageStreams.get(pageNum);
+    if (stream == null) {
+      PDPage page = this.pages.get(pageNum - 1);
+      stream = new PDPageContentStream(this.pdDocument, page,
+          PDPageContentStream.AppendMode.APPEND, true);
+      this.pageStreams.set(pageNum, stream);
+    }
+    return stream;
   }
 
   /**
@@ -640,4 +731,35 @@ public class PdfBoxDrawer implements PdfDrawer {
     }
     return copy;
   }
+
+  // ==========================================================================
+
+  /**
+   * An output stream that writes to a given stream, but flushes the given
+   * stream instead of closing it on close().
+   *
+   * @author Claudius Korzen
+   */
+  protected static class NonClosingOutputStream extends FilterOutputStream {
+    /**
+     * Creates a new output stream that writes to the given stream.
+     *
+     * @param stream
+     *        The stream to write to.
+     */
+    public NonClosingOutputStream(OutputStream stream) {
+      super(stream);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      // Don't write the bytes one by one, as FilterOutputStream does.
+      this.out.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.out.flush();
+    }
+  }
 }
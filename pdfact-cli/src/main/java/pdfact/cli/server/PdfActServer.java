@@ -0,0 +1,216 @@
+package pdfact.cli.server;
+
+import java.util.Set;
+
+import pdfact.cli.model.SerializeFormat;
+import pdfact.cli.model.TextUnit;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.pipes.ProcessingOptions;
+import pdfact.core.util.exception.PdfActException;
+
+/**
+ * A long-running server that accepts PDF files over HTTP and responds with
+ * their serializations. The server keeps the JVM and all pipes resident, such
+ * that the costs of starting PdfAct are paid only once.
+ *
+ * <p>
+ * The server provides the following endpoints:
+ * <ul>
+ * <li>POST /extract: Processes the PDF file given in the request body and
+ * responds with its serialization. The query parameters "format", "unit" and
+ * "role" (which can be given multiple times) overwrite the default
+ * serialization format, text unit and semantic roles filters.</li>
+ * <li>GET /health: Responds with "OK" as long as the server is running.</li>
+ * </ul>
+ *
+ * The requests are processed by a bounded number of workers. Requests that
+ * arrive while all workers are busy are queued, up to a maximum queue size.
+ * Further requests are rejected with status code 503.
+ *
+ * @author Claudius Korzen
+ */
+public interface PdfActServer {
+  /**
+   * Starts the server and blocks until the server is stopped.
+   *
+   * @throws PdfActException
+   *         If the server couldn't be started.
+   */
+  void serve() throws PdfActException;
+
+  /**
+   * Stops the server. Requests that are currently processed are given a short
+   * grace period to complete.
+   */
+  void stop();
+
+  // ==========================================================================
+
+  /**
+   * Returns the host name to which the server is bound.
+   *
+   * @return The host name to which the server is bound.
+   */
+  String getHost();
+
+  /**
+   * Sets the host name to which the server should be bound.
+   *
+   * @param host
+   *        The host name to which the server should be bound.
+   */
+  void setHost(String host);
+
+  // ==========================================================================
+
+  /**
+   * Returns the port to which the server is bound.
+   *
+   * @return The port to which the server is bound.
+   */
+  int getPort();
+
+  /**
+   * Sets the port to which the server should be bound.
+   *
+   * @param port
+   *        The port to which the server should be bound.
+   */
+  void setPort(int port);
+
+  // ==========================================================================
+
+  /**
+   * Returns the number of workers that process the requests.
+   *
+   * @return The number of workers that process the requests.
+   */
+  int getNumWorkers();
+
+  /**
+   * Sets the number of workers that process the requests.
+   *
+   * @param numWorkers
+   *        The number of workers that process the requests.
+   */
+  void setNumWorkers(int numWorkers);
+
+  // ==========================================================================
+
+  /**
+   * Returns the maximum number of requests waiting for a free worker.
+   *
+   * @return The maximum number of requests waiting for a free worker.
+   */
+  int getMaxQueueSize();
+
+  /**
+   * Sets the maximum number of requests waiting for a free worker.
+   *
+   * @param maxQueueSize
+   *        The maximum number of requests waiting for a free worker.
+   */
+  void setMaxQueueSize(int maxQueueSize);
+
+  /**
+   * Returns the maximum size of a PDF file sent in a request.
+   *
+   * @return The maximum size of a PDF file sent in a request, in bytes.
+   */
+  long getMaxRequestSize();
+
+  /**
+   * Sets the maximum size of a PDF file sent in a request. Requests with a
+   * larger body are rejected with status code 413.
+   *
+   * @param maxRequestSize
+   *        The maximum size of a PDF file sent in a request, in bytes.
+   */
+  void setMaxRequestSize(long maxRequestSize);
+
+  // ==========================================================================
+
+  /**
+   * Returns the default serialization format.
+   *
+   * @return The default serialization format.
+   */
+  SerializeFormat getSerializationFormat();
+
+  /**
+   * Sets the default serialization format.
+   *
+   * @param format
+   *        The default serialization format.
+   */
+  void setSerializationFormat(SerializeFormat format);
+
+  // ==========================================================================
+
+  /**
+   * Returns the default semantic roles filters.
+   *
+   * @return The default semantic roles filters.
+   */
+  Set<SemanticRole> getSemanticRolesFilters();
+
+  /**
+   * Sets the default semantic roles filters.
+   *
+   * @param filters
+   *        The default semantic roles filters.
+   */
+  void setSemanticRolesFilters(Set<SemanticRole> filters);
+
+  // ==========================================================================
+
+  /**
+   * Returns the default text unit.
+   *
+   * @return The default text unit.
+   */
+  TextUnit getTextUnit();
+
+  /**
+   * Sets the default text unit.
+   *
+   * @param unit
+   *        The default text unit.
+   */
+  void setTextUnit(TextUnit unit);
+
+  // ==========================================================================
+
+  /**
+   * Returns the options that define how the PDF files are processed.
+   *
+   * @return The processing options.
+   */
+  ProcessingOptions getProcessingOptions();
+
+  /**
+   * Sets the options that define how the PDF files are processed. The
+   * streaming mode is only applied to requests for the text units "words"
+   * and "characters".
+   *
+   * @param options
+   *        The processing options.
+   */
+  void setProcessingOptions(ProcessingOptions options);
+
+  // ==========================================================================
+
+  /**
+   * The factory to create instances of {@link PdfActServer}.
+   *
+   * @author Claudius Korzen
+   */
+  public interface PdfActServerFactory {
+    /**
+     * Creates a new PdfActServer.
+     *
+     * @return An instance of {@link PdfActServer}.
+     */
+    PdfActServer create();
+  }
+}
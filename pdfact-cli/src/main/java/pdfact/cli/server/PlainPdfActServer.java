@@ -0,0 +1,776 @@
+package pdfact.cli.server;
+
+import static pdfact.cli.PdfActCLISettings.DEFAULT_MAX_QUEUE_SIZE;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_MAX_REQUEST_SIZE;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_NUM_WORKERS;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_SEMANTIC_ROLES_TO_INCLUDE;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_SERIALIZE_FORMAT;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_SERVER_HOST;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_SERVER_PORT;
+import static pdfact.cli.PdfActCLISettings.DEFAULT_TEXT_UNIT;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.apache.log4j.Logger;
+
+import com.google.inject.Inject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import pdfact.cli.model.SerializeFormat;
+import pdfact.cli.model.TextUnit;
+import pdfact.cli.pipes.PdfActServicePipe;
+import pdfact.cli.pipes.PdfActServicePipe.PdfActServicePipeFactory;
+import pdfact.cli.util.exception.PdfActServeException;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.model.PdfDocument.PdfDocumentFactory;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.pipes.ProcessingOptions;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.log.InjectLogger;
+
+/**
+ * A plain implementation of {@link PdfActServer}, based on the HTTP server
+ * built into the JDK.
+ *
+ * @author Claudius Korzen
+ */
+public class PlainPdfActServer implements PdfActServer {
+  /**
+   * The logger.
+   */
+  @InjectLogger
+  protected static Logger log;
+
+  /**
+   * The number of seconds to wait for running requests on stopping.
+   */
+  protected static final int STOP_DELAY_SECONDS = 5;
+
+  /**
+   * The factory to create new PDF documents.
+   */
+  protected PdfDocumentFactory pdfDocumentFactory;
+
+  /**
+   * The factory to create service pipes of PdfAct.
+   */
+  protected PdfActServicePipeFactory serviceFactory;
+
+  // ==========================================================================
+
+  /**
+   * The host name to which the server should be bound.
+   */
+  protected String host;
+
+  /**
+   * The port to which the server should be bound.
+   */
+  protected int port;
+
+  /**
+   * The number of workers that process the requests.
+   */
+  protected int numWorkers;
+
+  /**
+   * The maximum number of requests waiting for a free worker.
+   */
+  protected int maxQueueSize;
+
+  /**
+   * The maximum size of a PDF file sent in a request, in bytes.
+   */
+  protected long maxRequestSize;
+
+  /**
+   * The default serialization format.
+   */
+  protected SerializeFormat serializationFormat;
+
+  /**
+   * The default text unit to use in serialization.
+   */
+  protected TextUnit textUnit;
+
+  /**
+   * The default roles of text units to be included in serialization.
+   */
+  protected Set<SemanticRole> roles;
+
+  /**
+   * The options that define how the PDF files are processed.
+   */
+  protected ProcessingOptions options = new ProcessingOptions();
+
+  // ==========================================================================
+
+  /**
+   * The underlying HTTP server.
+   */
+  protected HttpServer httpServer;
+
+  /**
+   * The threads that accept the requests and wait for their results.
+   */
+  protected ExecutorService httpExecutor;
+
+  /**
+   * The workers that process the PDF files.
+   */
+  protected ExecutorService workers;
+
+  /**
+   * The permits for the requests being processed or waiting for a worker.
+   */
+  protected Semaphore permits;
+
+  /**
+   * The latch that is released when the server is stopped.
+   */
+  protected CountDownLatch stopped;
+
+  // ==========================================================================
+
+  /**
+   * The default constructor.
+   *
+   * @param pdfDocumentFactory
+   *        The factory to create new PDF documents.
+   * @param serviceFactory
+   *        The factory to create service pipes of PdfAct.
+   */
+  @Inject
+  public PlainPdfActServer(PdfDocumentFactory pdfDocumentFactory,
+      PdfActServicePipeFactory serviceFactory) {
+    this.pdfDocumentFactory = pdfDocumentFactory;
+    this.serviceFactory = serviceFactory;
+    this.host = DEFAULT_SERVER_HOST;
+    this.port = DEFAULT_SERVER_PORT;
+    this.numWorkers = DEFAULT_NUM_WORKERS;
+    this.maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+    this.maxRequestSize = DEFAULT_MAX_REQUEST_SIZE * 1024L * 1024L;
+    this.serializationFormat = DEFAULT_SERIALIZE_FORMAT;
+    this.textUnit = DEFAULT_TEXT_UNIT;
+    this.roles = DEFAULT_SEMANTIC_ROLES_TO_INCLUDE;
+    this.stopped = new CountDownLatch(1);
+  }
+
+  // ==========================================================================
+
+  @Override
+  public void serve() throws PdfActException {
+    int numWorkers = Math.max(1, this.numWorkers);
+    int maxQueueSize = Math.max(0, this.maxQueueSize);
+
+    try {
+      InetSocketAddress address = new InetSocketAddress(this.host, this.port);
+      this.httpServer = HttpServer.create(address, 0);
+    } catch (IOException e) {
+      throw new PdfActServeException("Couldn't start the server on "
+          + this.host + ":" + this.port + ".", e);
+    }
+
+    // Each admitted request holds a permit until it is answered. The number
+    // of permits bounds the number of processed and waiting requests.
+    this.permits = new Semaphore(numWorkers + maxQueueSize);
+    this.workers = Executors.newFixedThreadPool(numWorkers);
+    this.httpExecutor = Executors.newCachedThreadPool();
+
+    this.httpServer.createContext("/extract", this::handleExtract);
+    this.httpServer.createContext("/health", this::handleHealth);
+    this.httpServer.setExecutor(this.httpExecutor);
+    this.httpServer.start();
+
+    log.info("Listening on " + this.host + ":" + this.port + " with "
+        + numWorkers + " worker(s) and a queue size of " + maxQueueSize + ".");
+
+    try {
+      this.stopped.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      stop();
+    }
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (this.httpServer != null) {
+      log.info("Stopping the server.");
+      this.httpServer.stop(STOP_DELAY_SECONDS);
+      this.workers.shutdownNow();
+      this.httpExecutor.shutdownNow();
+      this.httpServer = null;
+    }
+    this.stopped.countDown();
+  }
+
+  // ==========================================================================
+  // Handler methods.
+
+  /**
+   * Handles a request to the health endpoint.
+   *
+   * @param exchange
+   *        The HTTP exchange.
+   *
+   * @throws IOException
+   *         If writing the response failed.
+   */
+  protected void handleHealth(HttpExchange exchange) throws IOException {
+    try {
+      respond(exchange, 200, "OK");
+    } finally {
+      exchange.close();
+    }
+  }
+
+  /**
+   * Handles a request to the extraction endpoint.
+   *
+   * @param exchange
+   *        The HTTP exchange.
+   *
+   * @throws IOException
+   *         If reading the request or writing the response failed.
+   */
+  protected void handleExtract(HttpExchange exchange) throws IOException {
+    try {
+      if (!"POST".equals(exchange.getRequestMethod())) {
+        exchange.getResponseHeaders().set("Allow", "POST");
+        respond(exchange, 405, "Only POST requests are supported.");
+        return;
+      }
+
+      // Reject the request if the queue is full.
+      if (!this.permits.tryAcquire()) {
+        respond(exchange, 503, "Too many requests. Try again later.");
+        return;
+      }
+
+      try {
+        handleExtractRequest(exchange);
+      } finally {
+        this.permits.release();
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  /**
+   * Handles an admitted request to the extraction endpoint.
+   *
+   * @param exchange
+   *        The HTTP exchange.
+   *
+   * @throws IOException
+   *         If reading the request or writing the response failed.
+   */
+  protected void handleExtractRequest(HttpExchange exchange)
+      throws IOException {
+    // Parse the query parameters.
+    SerializeFormat format = this.serializationFormat;
+    TextUnit unit = this.textUnit;
+    Set<SemanticRole> roles = this.roles;
+    try {
+      Map<String, List<String>> params =
+          parseQuery(exchange.getRequestURI().getRawQuery());
+      if (params.containsKey("format")) {
+        format = SerializeFormat.fromString(params.get("format").get(0));
+      }
+      if (params.containsKey("unit")) {
+        unit = TextUnit.fromString(params.get("unit").get(0));
+      }
+      if (params.containsKey("role")) {
+        roles = parseSemanticRoles(params.get("role"));
+      }
+    } catch (IllegalArgumentException e) {
+      respond(exchange, 400, e.getMessage());
+      return;
+    }
+
+    // Reject the request early if it announces a too large PDF file.
+    String contentLength = exchange.getRequestHeaders().getFirst(
+        "Content-Length");
+    if (contentLength != null) {
+      try {
+        if (Long.parseLong(contentLength.trim()) > this.maxRequestSize) {
+          respondTooLarge(exchange);
+          return;
+        }
+      } catch (NumberFormatException e) {
+        respond(exchange, 400, "Invalid content length: " + contentLength);
+        return;
+      }
+    }
+
+    // Store the PDF file given in the request body to a temporary file.
+    Path pdfPath = Files.createTempFile("pdfact-", ".pdf");
+    try {
+      try (InputStream body = exchange.getRequestBody();
+          OutputStream file = Files.newOutputStream(pdfPath)) {
+        if (!copy(body, file, this.maxRequestSize)) {
+          respondTooLarge(exchange);
+          return;
+        }
+      }
+
+      // Stream the serialization to the client while it is written. The
+      // status code and the headers are sent on the first written byte, so
+      // errors that occur before can still be answered with an error code.
+      ResponseStream response = new ResponseStream(exchange,
+          getContentType(format));
+      SerializeFormat f = format;
+      TextUnit u = unit;
+      Set<SemanticRole> r = roles;
+      Future<Void> future =
+          this.workers.submit(() -> process(pdfPath, f, u, r, response));
+
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        future.cancel(true);
+        Thread.currentThread().interrupt();
+        if (!response.isCommitted()) {
+          respond(exchange, 503, "The server is shutting down.");
+        }
+        return;
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (response.isCommitted()) {
+          // The response can't be changed anymore; the client gets a
+          // truncated serialization.
+          log.error("Couldn't complete the response.", cause);
+        } else if (cause instanceof PdfActException) {
+          respond(exchange, 422, cause.getMessage());
+        } else {
+          log.error("Couldn't process the request.", cause);
+          respond(exchange, 500, "Couldn't process the request.");
+        }
+        return;
+      }
+      response.finish();
+    } finally {
+      Files.deleteIfExists(pdfPath);
+    }
+  }
+
+  /**
+   * Copies the given input stream to the given output stream, up to the
+   * given number of bytes.
+   *
+   * @param in
+   *        The input stream.
+   * @param out
+   *        The output stream.
+   * @param maxBytes
+   *        The maximum number of bytes to copy.
+   *
+   * @return True if the input stream was copied completely; false if it has
+   *         more than the given number of bytes.
+   *
+   * @throws IOException
+   *         If reading or writing failed.
+   */
+  protected static boolean copy(InputStream in, OutputStream out,
+      long maxBytes) throws IOException {
+    byte[] buffer = new byte[8192];
+    long numBytes = 0;
+    int n;
+    while ((n = in.read(buffer)) > 0) {
+      numBytes += n;
+      if (numBytes > maxBytes) {
+        return false;
+      }
+      out.write(buffer, 0, n);
+    }
+    return true;
+  }
+
+  /**
+   * Rejects a request because its PDF file is too large.
+   *
+   * @param exchange
+   *        The HTTP exchange.
+   *
+   * @throws IOException
+   *         If writing the response failed.
+   */
+  protected void respondTooLarge(HttpExchange exchange) throws IOException {
+    respond(exchange, 413, "The PDF file exceeds the maximum size of "
+        + this.maxRequestSize + " bytes.");
+  }
+
+  /**
+   * Processes the given PDF file.
+   *
+   * @param pdfPath
+   *        The path to the PDF file.
+   * @param format
+   *        The serialization format.
+   * @param unit
+   *        The text unit to serialize.
+   * @param roles
+   *        The semantic roles filters.
+   * @param stream
+   *        The stream to which the serialization should be written.
+   *
+   * @return Nothing.
+   *
+   * @throws PdfActException
+   *         If something went wrong on processing the PDF file.
+   */
+  protected Void process(Path pdfPath, SerializeFormat format,
+      TextUnit unit, Set<SemanticRole> roles, OutputStream stream)
+      throws PdfActException {
+    long start = System.currentTimeMillis();
+
+    PdfDocument pdf = this.pdfDocumentFactory.create(pdfPath.toString());
+
+    PdfActServicePipe service = this.serviceFactory.create();
+    service.setSerializationFormat(format);
+    service.setTextUnit(unit);
+    service.setSemanticRolesFilters(roles);
+    service.setSerializationStream(stream);
+    // Words and characters can be extracted without building paragraphs.
+    boolean isStreamable = unit == TextUnit.WORD || unit == TextUnit.CHARACTER;
+    service.setProcessingOptions(this.options.withStreamingEnabled(
+        this.options.isStreamingEnabled() && isStreamable));
+    service.execute(pdf);
+
+    long length = System.currentTimeMillis() - start;
+    log.debug("Time needed to process the request: " + length + "ms.");
+
+    return null;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Sends a plain text response.
+   *
+   * @param exchange
+   *        The HTTP exchange.
+   * @param statusCode
+   *        The status code of the response.
+   * @param message
+   *        The message to send.
+   *
+   * @throws IOException
+   *         If writing the response failed.
+   */
+  protected void respond(HttpExchange exchange, int statusCode, String message)
+      throws IOException {
+    byte[] bytes = (message + "\n").getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type",
+        "text/plain; charset=utf-8");
+    exchange.sendResponseHeaders(statusCode, bytes.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(bytes);
+    }
+  }
+
+  /**
+   * Returns the content type of serializations in the given format.
+   *
+   * @param format
+   *        The serialization format.
+   *
+   * @return The content type of serializations in the given format.
+   */
+  protected static String getContentType(SerializeFormat format) {
+    switch (format) {
+      case JSON:
+        return "application/json; charset=utf-8";
+      case XML:
+        return "application/xml; charset=utf-8";
+      case BINARY:
+        return "application/octet-stream";
+      case TXT:
+      default:
+        return "text/plain; charset=utf-8";
+    }
+  }
+
+  /**
+   * Parses the given query string of an URI.
+   *
+   * @param query
+   *        The (raw) query string to parse.
+   *
+   * @return A map that maps each parameter name to its values.
+   *
+   * @throws IllegalArgumentException
+   *         If the query string couldn't be decoded.
+   */
+  protected static Map<String, List<String>> parseQuery(String query) {
+    Map<String, List<String>> params = new HashMap<>();
+    if (query == null || query.isEmpty()) {
+      return params;
+    }
+    try {
+      for (String param : query.split("&")) {
+        int equalIndex = param.indexOf('=');
+        String name = equalIndex < 0 ? param : param.substring(0, equalIndex);
+        String value = equalIndex < 0 ? "" : param.substring(equalIndex + 1);
+        name = URLDecoder.decode(name, "UTF-8");
+        value = URLDecoder.decode(value, "UTF-8");
+        params.computeIfAbsent(name, k -> new ArrayList<>()).add(value);
+      }
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalArgumentException("Couldn't decode the query.", e);
+    }
+    return params;
+  }
+
+  /**
+   * Returns the semantic roles with the given names.
+   *
+   * @param names
+   *        The names of the semantic roles.
+   *
+   * @return The semantic roles with the given names.
+   *
+   * @throws IllegalArgumentException
+   *         If one of the names isn't a name of a semantic role.
+   */
+  protected static Set<SemanticRole> parseSemanticRoles(List<String> names) {
+    for (String name : names) {
+      if (SemanticRole.fromString(name) == null) {
+        throw new IllegalArgumentException(name + " isn't a valid role.");
+      }
+    }
+    return SemanticRole.fromStrings(names);
+  }
+
+  // ==========================================================================
+
+  @Override
+  public String getHost() {
+    return this.host;
+  }
+
+  @Override
+  public void setHost(String host) {
+    this.host = host;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public int getPort() {
+    return this.port;
+  }
+
+  @Override
+  public void setPort(int port) {
+    this.port = port;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public int getNumWorkers() {
+    return this.numWorkers;
+  }
+
+  @Override
+  public void setNumWorkers(int numWorkers) {
+    this.numWorkers = numWorkers;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public int getMaxQueueSize() {
+    return this.maxQueueSize;
+  }
+
+  @Override
+  public void setMaxQueueSize(int maxQueueSize) {
+    this.maxQueueSize = maxQueueSize;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public long getMaxRequestSize() {
+    return this.maxRequestSize;
+  }
+
+  @Override
+  public void setMaxRequestSize(long maxRequestSize) {
+    this.maxRequestSize = maxRequestSize;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public SerializeFormat getSerializationFormat() {
+    return this.serializationFormat;
+  }
+
+  @Override
+  public void setSerializationFormat(SerializeFormat format) {
+    this.serializationFormat = format;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public Set<SemanticRole> getSemanticRolesFilters() {
+    return this.roles;
+  }
+
+  @Override
+  public void setSemanticRolesFilters(Set<SemanticRole> filters) {
+    this.roles = filters;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public TextUnit getTextUnit() {
+    return this.textUnit;
+  }
+
+  @Override
+  public void setTextUnit(TextUnit unit) {
+    this.textUnit = unit;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public ProcessingOptions getProcessingOptions() {
+    return this.options;
+  }
+
+  @Override
+  public void setProcessingOptions(ProcessingOptions options) {
+    this.options = options;
+  }
+
+  // ==========================================================================
+
+  /**
+   * A stream that writes the serialization to the response of an exchange.
+   * The status code 200 and the headers are sent on the first written byte,
+   * with a chunked response body, since the length of the serialization is
+   * not known in advance.
+   */
+  protected static class ResponseStream extends OutputStream {
+    /**
+     * The HTTP exchange.
+     */
+    protected HttpExchange exchange;
+
+    /**
+     * The content type of the response.
+     */
+    protected String contentType;
+
+    /**
+     * The body of the response (null if the response wasn't committed yet).
+     */
+    protected OutputStream body;
+
+    /**
+     * Creates a new stream that writes to the response of the given exchange.
+     *
+     * @param exchange
+     *        The HTTP exchange.
+     * @param contentType
+     *        The content type of the response.
+     */
+    public ResponseStream(HttpExchange exchange, String contentType) {
+      this.exchange = exchange;
+      this.contentType = contentType;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      commit().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (len > 0) {
+        commit().write(b, off, len);
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (this.body != null) {
+        this.body.flush();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      // The response is finished by the server, not by the serializer.
+      flush();
+    }
+
+    /**
+     * Returns true if the status code and the headers were already sent.
+     *
+     * @return True if the response was committed; false otherwise.
+     */
+    public synchronized boolean isCommitted() {
+      return this.body != null;
+    }
+
+    /**
+     * Finishes the response. If nothing was written, an empty response is
+     * sent.
+     *
+     * @throws IOException
+     *         If writing the response failed.
+     */
+    public void finish() throws IOException {
+      commit().close();
+    }
+
+    /**
+     * Sends the status code and the headers, if they weren't sent yet.
+     *
+     * @return The body of the response.
+     *
+     * @throws IOException
+     *         If sending the headers failed.
+     */
+    protected synchronized OutputStream commit() throws IOException {
+      if (this.body == null) {
+        this.exchange.getResponseHeaders().set("Content-Type",
+            this.contentType);
+        this.exchange.sendResponseHeaders(200, 0);
+        this.body = new BufferedOutputStream(this.exchange.getResponseBody());
+      }
+      return this.body;
+    }
+  }
+}
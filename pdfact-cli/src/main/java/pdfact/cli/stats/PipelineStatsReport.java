@@ -0,0 +1,42 @@
+package pdfact.cli.stats;
+
+import java.nio.file.Path;
+
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.pipeline.PipelineListener;
+
+/**
+ * A listener that collects the metrics of the executed pipes per PDF document
+ * and writes them as a structured report, such that the performance of the
+ * pipes can be compared across documents and versions.
+ * 
+ * @author Claudius Korzen
+ */
+public interface PipelineStatsReport extends PipelineListener {
+  /**
+   * Writes the collected metrics to the given file.
+   * 
+   * @param path
+   *        The path to the file to write.
+   * 
+   * @throws PdfActException
+   *         If writing the file failed.
+   */
+  void write(Path path) throws PdfActException;
+
+  // ==========================================================================
+
+  /**
+   * The factory to create instances of {@link PipelineStatsReport}.
+   * 
+   * @author Claudius Korzen
+   */
+  public interface PipelineStatsReportFactory {
+    /**
+     * Creates a new (empty) PipelineStatsReport.
+     * 
+     * @return An instance of {@link PipelineStatsReport}.
+     */
+    PipelineStatsReport create();
+  }
+}
@@ -0,0 +1,175 @@
+package pdfact.cli.stats;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import com.google.inject.assistedinject.AssistedInject;
+
+import pdfact.cli.util.exception.PdfActStatsException;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.pipeline.PipeMetrics;
+
+/**
+ * A plain implementation of {@link PipelineStatsReport}, that writes the
+ * metrics in JSON format. The report contains an entry per document, with the
+ * metrics of the executed pipes in the order in which the pipes were finished.
+ * A pipe that runs a pipeline itself (like the core pipe) is listed after the
+ * pipes of this pipeline, and its metrics include the metrics of these pipes.
+ * 
+ * @author Claudius Korzen
+ */
+public class PlainPipelineStatsReport implements PipelineStatsReport {
+  /**
+   * The name of the JSON field for the documents.
+   */
+  protected static final String DOCUMENTS = "documents";
+
+  /**
+   * The name of the JSON field for the path to a document.
+   */
+  protected static final String PATH = "path";
+
+  /**
+   * The name of the JSON field for the pipes executed on a document.
+   */
+  protected static final String PIPES = "pipes";
+
+  /**
+   * The name of the JSON field for the name of a pipe.
+   */
+  protected static final String PIPE = "pipe";
+
+  /**
+   * The name of the JSON field for the wall time of a pipe.
+   */
+  protected static final String WALL_TIME = "wall-time-ns";
+
+  /**
+   * The name of the JSON field for the CPU time of a pipe.
+   */
+  protected static final String CPU_TIME = "cpu-time-ns";
+
+  /**
+   * The name of the JSON field for the allocated bytes of a pipe.
+   */
+  protected static final String ALLOCATED_BYTES = "allocated-bytes";
+
+  /**
+   * The name of the JSON field for the counters of a pipe.
+   */
+  protected static final String COUNTERS = "counters";
+
+  /**
+   * The number of spaces to indent the JSON output.
+   */
+  protected static final int INDENT_LENGTH = 2;
+
+  /**
+   * The collected metrics per document path, in the order in which the
+   * documents were started.
+   */
+  protected Map<String, List<PipeMetrics>> metrics;
+
+  // ==========================================================================
+
+  /**
+   * Creates a new (empty) report.
+   */
+  @AssistedInject
+  public PlainPipelineStatsReport() {
+    this.metrics = new LinkedHashMap<>();
+  }
+
+  // ==========================================================================
+
+  @Override
+  public void pipeExecuted(PdfDocument pdf, PipeMetrics metrics) {
+    String path = pdf != null && pdf.getFile() != null
+        ? pdf.getFile().getPath() : null;
+    synchronized (this.metrics) {
+      List<PipeMetrics> documentMetrics = this.metrics.get(path);
+      if (documentMetrics == null) {
+        documentMetrics = new ArrayList<>();
+        this.metrics.put(path, documentMetrics);
+      }
+      documentMetrics.add(metrics);
+    }
+  }
+
+  // ==========================================================================
+
+  @Override
+  public void write(Path path) throws PdfActException {
+    try (Writer writer =
+        Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+      toJson().write(writer, INDENT_LENGTH, 0);
+      writer.write(System.lineSeparator());
+    } catch (IOException | JSONException e) {
+      throw new PdfActStatsException("Couldn't write the statistics to '"
+          + path + "'.", e);
+    }
+  }
+
+  /**
+   * Translates the collected metrics to a JSON object.
+   * 
+   * @return The JSON object.
+   */
+  protected JSONObject toJson() {
+    JSONArray documentsJson = new JSONArray();
+    synchronized (this.metrics) {
+      for (Map.Entry<String, List<PipeMetrics>> e : this.metrics.entrySet()) {
+        JSONArray pipesJson = new JSONArray();
+        for (PipeMetrics metrics : e.getValue()) {
+          pipesJson.put(toJson(metrics));
+        }
+
+        JSONObject documentJson = new JSONObject();
+        documentJson.put(PATH, e.getKey());
+        documentJson.put(PIPES, pipesJson);
+        documentsJson.put(documentJson);
+      }
+    }
+
+    JSONObject json = new JSONObject();
+    json.put(DOCUMENTS, documentsJson);
+    return json;
+  }
+
+  /**
+   * Translates the given metrics of a pipe to a JSON object.
+   * 
+   * @param metrics
+   *        The metrics to translate.
+   * 
+   * @return The JSON object.
+   */
+  protected JSONObject toJson(PipeMetrics metrics) {
+    JSONObject countersJson = new JSONObject();
+    if (metrics.getCounters() != null) {
+      for (Map.Entry<String, Integer> e : metrics.getCounters().entrySet()) {
+        countersJson.put(e.getKey(), e.getValue());
+      }
+    }
+
+    JSONObject json = new JSONObject();
+    json.put(PIPE, metrics.getPipeName());
+    json.put(WALL_TIME, metrics.getWallTime());
+    json.put(CPU_TIME, metrics.getCpuTime());
+    json.put(ALLOCATED_BYTES, metrics.getAllocatedBytes());
+    json.put(COUNTERS, countersJson);
+    return json;
+  }
+}
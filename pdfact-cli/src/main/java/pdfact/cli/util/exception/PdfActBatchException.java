@@ -0,0 +1,43 @@
+package pdfact.cli.util.exception;
+
+import pdfact.core.util.exception.PdfActException;
+
+/**
+ * The standard exception to throw if at least one PDF file of a batch
+ * couldn't be processed.
+ * 
+ * @author Claudius Korzen
+ */
+public class PdfActBatchException extends PdfActException {
+  /**
+   * The serial id.
+   */
+  protected static final long serialVersionUID = 4920375129558830117L;
+
+  /**
+   * The default exit code of this exception.
+   */
+  protected static final int EXIT_CODE = 60;
+
+  /**
+   * Creates a new exception.
+   * 
+   * @param message
+   *        The message of this exception.
+   */
+  public PdfActBatchException(String message) {
+    super(EXIT_CODE, message);
+  }
+
+  /**
+   * Creates a new Exception.
+   * 
+   * @param message
+   *        The message of this exception.
+   * @param cause
+   *        The cause of this exception.
+   */
+  public PdfActBatchException(String message, Throwable cause) {
+    super(EXIT_CODE, message, cause);
+  }
+}
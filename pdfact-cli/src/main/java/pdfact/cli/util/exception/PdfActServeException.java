@@ -0,0 +1,42 @@
+package pdfact.cli.util.exception;
+
+import pdfact.core.util.exception.PdfActException;
+
+/**
+ * The standard exception to throw on any error of the extraction server.
+ * 
+ * @author Claudius Korzen
+ */
+public class PdfActServeException extends PdfActException {
+  /**
+   * The serial id.
+   */
+  protected static final long serialVersionUID = -7385019264423171086L;
+
+  /**
+   * The default exit code of this exception.
+   */
+  protected static final int EXIT_CODE = 70;
+
+  /**
+   * Creates a new exception.
+   * 
+   * @param message
+   *        The message of this exception.
+   */
+  public PdfActServeException(String message) {
+    super(EXIT_CODE, message);
+  }
+
+  /**
+   * Creates a new Exception.
+   * 
+   * @param message
+   *        The message of this exception.
+   * @param cause
+   *        The cause of this exception.
+   */
+  public PdfActServeException(String message, Throwable cause) {
+    super(EXIT_CODE, message, cause);
+  }
+}
@@ -0,0 +1,43 @@
+package pdfact.cli.util.exception;
+
+import pdfact.core.util.exception.PdfActException;
+
+/**
+ * The standard exception to throw on any error on writing the statistics
+ * about the executed pipes.
+ * 
+ * @author Claudius Korzen
+ */
+public class PdfActStatsException extends PdfActException {
+  /**
+   * The serial id.
+   */
+  protected static final long serialVersionUID = 2851940376615380412L;
+
+  /**
+   * The default exit code of this exception.
+   */
+  protected static final int EXIT_CODE = 80;
+
+  /**
+   * Creates a new exception.
+   * 
+   * @param message
+   *        The message of this exception.
+   */
+  public PdfActStatsException(String message) {
+    super(EXIT_CODE, message);
+  }
+
+  /**
+   * Creates a new Exception.
+   * 
+   * @param message
+   *        The message of this exception.
+   * @param cause
+   *        The cause of this exception.
+   */
+  public PdfActStatsException(String message, Throwable cause) {
+    super(EXIT_CODE, message, cause);
+  }
+}
@@ -1,5 +1,6 @@
 package pdfact.core.guice;
 
+import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.assistedinject.FactoryModuleBuilder;
 import com.google.inject.matcher.Matchers;
@@ -9,8 +10,14 @@ import pdfact.core.model.Character;
 import pdfact.core.model.Character.CharacterFactory;
 import pdfact.core.model.CharacterStatistic;
 import pdfact.core.model.CharacterStatistic.CharacterStatisticFactory;
+import pdfact.core.model.CharacterTable;
+import pdfact.core.model.CharacterTable.CharacterTableFactory;
 import pdfact.core.model.Color;
 import pdfact.core.model.Color.ColorFactory;
+import pdfact.core.model.DirectCharacterFactory;
+import pdfact.core.model.DirectPointFactory;
+import pdfact.core.model.DirectPositionFactory;
+import pdfact.core.model.DirectRectangleFactory;
 import pdfact.core.model.Figure;
 import pdfact.core.model.Figure.FigureFactory;
 import pdfact.core.model.Font;
@@ -25,8 +32,8 @@ import pdfact.core.model.Paragraph;
 import pdfact.core.model.Paragraph.ParagraphFactory;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.PdfDocument.PdfDocumentFactory;
-import pdfact.core.model.PlainCharacter;
 import pdfact.core.model.PlainCharacterStatistic;
+import pdfact.core.model.PlainCharacterTable;
 import pdfact.core.model.PlainColor;
 import pdfact.core.model.PlainFigure;
 import pdfact.core.model.PlainFont;
@@ -35,20 +42,14 @@ import pdfact.core.model.PlainLine;
 import pdfact.core.model.PlainPage;
 import pdfact.core.model.PlainParagraph;
 import pdfact.core.model.PlainPdfDocument;
-import pdfact.core.model.PlainPoint;
-import pdfact.core.model.PlainPosition;
-import pdfact.core.model.PlainRectangle;
 import pdfact.core.model.PlainShape;
 import pdfact.core.model.PlainTextArea;
 import pdfact.core.model.PlainTextBlock;
 import pdfact.core.model.PlainTextLine;
 import pdfact.core.model.PlainTextLineStatistic;
 import pdfact.core.model.PlainWord;
-import pdfact.core.model.Point;
 import pdfact.core.model.Point.PointFactory;
-import pdfact.core.model.Position;
 import pdfact.core.model.Position.PositionFactory;
-import pdfact.core.model.Rectangle;
 import pdfact.core.model.Rectangle.RectangleFactory;
 import pdfact.core.model.Shape;
 import pdfact.core.model.Shape.ShapeFactory;
@@ -129,12 +130,24 @@ import pdfact.core.pipes.translate.ligatures.SplitLigaturesPipe.SplitLigaturesPi
 import pdfact.core.pipes.validate.PlainValidatePdfPathPipe;
 import pdfact.core.pipes.validate.ValidatePdfPathPipe;
 import pdfact.core.pipes.validate.ValidatePdfPathPipe.ValidatePdfPathPipeFactory;
+import pdfact.core.util.binary.PdfBinaryReader;
+import pdfact.core.util.binary.PdfBinaryReader.PdfBinaryReaderFactory;
+import pdfact.core.util.binary.PlainPdfBinaryReader;
+import pdfact.core.util.cache.ParseCache;
+import pdfact.core.util.cache.ParseCache.ParseCacheFactory;
+import pdfact.core.util.cache.PdfDocumentSnapshotCodec;
+import pdfact.core.util.cache.PlainParseCache;
+import pdfact.core.util.cache.PlainPdfDocumentSnapshotCodec;
 import pdfact.core.util.counter.FloatCounter;
 import pdfact.core.util.counter.FloatCounter.FloatCounterFactory;
 import pdfact.core.util.counter.ObjectCounter;
 import pdfact.core.util.counter.ObjectCounter.ObjectCounterFactory;
 import pdfact.core.util.counter.PlainFloatCounter;
 import pdfact.core.util.counter.PlainObjectCounter;
+import pdfact.core.util.counter.QuantizedFloatCounter;
+import pdfact.core.util.index.PlainSpatialIndex;
+import pdfact.core.util.index.SpatialIndex;
+import pdfact.core.util.index.SpatialIndex.SpatialIndexFactory;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
 import pdfact.core.util.list.PlainElementList;
@@ -142,8 +155,16 @@ import pdfact.core.util.log.Log4JTypeListener;
 import pdfact.core.util.normalize.PlainWordNormalizer;
 import pdfact.core.util.normalize.WordNormalizer;
 import pdfact.core.util.normalize.WordNormalizer.WordNormalizerFactory;
+import pdfact.core.util.pdfbox.DocumentSession;
+import pdfact.core.util.pdfbox.DocumentSession.DocumentSessionFactory;
+import pdfact.core.util.pdfbox.PdfBoxLoader;
+import pdfact.core.util.pdfbox.PlainDocumentSession;
+import pdfact.core.util.pdfbox.PlainPdfBoxLoader;
+import pdfact.core.util.pipeline.PipeMetrics;
+import pdfact.core.util.pipeline.PipeMetrics.PipeMetricsFactory;
 import pdfact.core.util.pipeline.Pipeline;
 import pdfact.core.util.pipeline.Pipeline.PdfActPipelineFactory;
+import pdfact.core.util.pipeline.PlainPipeMetrics;
 import pdfact.core.util.pipeline.PlainPipeline;
 import pdfact.core.util.statistician.CharacterStatistician;
 import pdfact.core.util.statistician.PlainCharacterStatistician;
@@ -156,6 +177,34 @@ import pdfact.core.util.statistician.TextLineStatistician;
  * @author Claudius Korzen
  */
 public class PdfActCoreGuiceModule extends com.google.inject.AbstractModule {
+  /**
+   * The implementation of {@link FloatCounter} to use.
+   */
+  protected Class<? extends FloatCounter> floatCounterClass;
+
+  /**
+   * Creates a new module that counts floats with
+   * {@link QuantizedFloatCounter}.
+   */
+  public PdfActCoreGuiceModule() {
+    this(QuantizedFloatCounter.class);
+  }
+
+  /**
+   * Creates a new module that counts floats with the given implementation of
+   * {@link FloatCounter}, for example {@link PlainFloatCounter} to count the
+   * exact float values.
+   * 
+   * @param floatCounterClass
+   *        The implementation of {@link FloatCounter} to use.
+   */
+  public PdfActCoreGuiceModule(
+      Class<? extends FloatCounter> floatCounterClass) {
+    this.floatCounterClass = floatCounterClass;
+  }
+
+  // ==========================================================================
+
   @Override
   protected void configure() {
     // Install the factory of the basic pipeline.
@@ -163,6 +212,11 @@ public class PdfActCoreGuiceModule extends com.google.inject.AbstractModule {
         .implement(Pipeline.class, PlainPipeline.class)
         .build(PdfActPipelineFactory.class));
 
+    // Install the factory of the metrics of the pipes.
+    install(new FactoryModuleBuilder()
+        .implement(PipeMetrics.class, PlainPipeMetrics.class)
+        .build(PipeMetricsFactory.class));
+
     // Bind the listener to inject log4j loggers.
     bindListener(Matchers.any(), new Log4JTypeListener());
 
@@ -266,10 +320,16 @@ public class PdfActCoreGuiceModule extends com.google.inject.AbstractModule {
         .implement(Page.class, PlainPage.class)
         .build(PageFactory.class));
 
-    // Install the factory to build a text character.
+    // Install the factory to build a text character. The characters are
+    // created on the hot path of parsing (one per glyph), so the factory
+    // calls the constructor directly (also for the geometric models below).
+    bind(CharacterFactory.class).to(DirectCharacterFactory.class)
+        .in(Singleton.class);
+
+    // Install the factory to build a table of the characters of a page.
     install(new FactoryModuleBuilder()
-        .implement(Character.class, PlainCharacter.class)
-        .build(CharacterFactory.class));
+        .implement(CharacterTable.class, PlainCharacterTable.class)
+        .build(CharacterTableFactory.class));
 
     // Install the factory to build a list of text characters.
     // install(new FactoryModuleBuilder()
@@ -302,9 +362,8 @@ public class PdfActCoreGuiceModule extends com.google.inject.AbstractModule {
         .build(ColorFactory.class));
 
     // Install the factory to build a (geometric) rectangle.
-    install(new FactoryModuleBuilder()
-        .implement(Rectangle.class, PlainRectangle.class)
-        .build(RectangleFactory.class));
+    bind(RectangleFactory.class).to(DirectRectangleFactory.class)
+        .in(Singleton.class);
 
     // Install the factory to build a (geometric) line.
     install(new FactoryModuleBuilder()
@@ -312,14 +371,12 @@ public class PdfActCoreGuiceModule extends com.google.inject.AbstractModule {
         .build(LineFactory.class));
 
     // Install the factory to build a (geometric) point.
-    install(new FactoryModuleBuilder()
-        .implement(Point.class, PlainPoint.class)
-        .build(PointFactory.class));
+    bind(PointFactory.class).to(DirectPointFactory.class)
+        .in(Singleton.class);
 
     // Install the factory to build a PDF position (pair of page & rectangle).
-    install(new FactoryModuleBuilder()
-        .implement(Position.class, PlainPosition.class)
-        .build(PositionFactory.class));
+    bind(PositionFactory.class).to(DirectPositionFactory.class)
+        .in(Singleton.class);
 
     // Install the factory to build a text area (a loose collection of chars).
     install(new FactoryModuleBuilder()
@@ -374,7 +431,7 @@ public class PdfActCoreGuiceModule extends com.google.inject.AbstractModule {
 
     // Install the factory of the float counter.
     install(new FactoryModuleBuilder()
-        .implement(FloatCounter.class, PlainFloatCounter.class)
+        .implement(FloatCounter.class, this.floatCounterClass)
         .build(FloatCounterFactory.class));
 
     // Install the factory of the object counter to count strings.
@@ -446,6 +503,62 @@ public class PdfActCoreGuiceModule extends com.google.inject.AbstractModule {
             new TypeLiteral<PlainElementList<Paragraph>>() {})
         .build(new TypeLiteral<ElementListFactory<Paragraph>>() {}));
 
+    // ========================================================================
+    // Install the factories of spatial indexes.
+
+    // Install the factory to create spatial indexes of characters.
+    install(new FactoryModuleBuilder()
+        .implement(new TypeLiteral<SpatialIndex<Character>>() {},
+            new TypeLiteral<PlainSpatialIndex<Character>>() {})
+        .build(new TypeLiteral<SpatialIndexFactory<Character>>() {}));
+
+    // Install the factory to create spatial indexes of figures.
+    install(new FactoryModuleBuilder()
+        .implement(new TypeLiteral<SpatialIndex<Figure>>() {},
+            new TypeLiteral<PlainSpatialIndex<Figure>>() {})
+        .build(new TypeLiteral<SpatialIndexFactory<Figure>>() {}));
+
+    // Install the factory to create spatial indexes of shapes.
+    install(new FactoryModuleBuilder()
+        .implement(new TypeLiteral<SpatialIndex<Shape>>() {},
+            new TypeLiteral<PlainSpatialIndex<Shape>>() {})
+        .build(new TypeLiteral<SpatialIndexFactory<Shape>>() {}));
+
+    // Install the factory to create spatial indexes of text blocks.
+    install(new FactoryModuleBuilder()
+        .implement(new TypeLiteral<SpatialIndex<TextBlock>>() {},
+            new TypeLiteral<PlainSpatialIndex<TextBlock>>() {})
+        .build(new TypeLiteral<SpatialIndexFactory<TextBlock>>() {}));
+
+    // ========================================================================
+
+    // Install the factory of the reader of the binary serialization format.
+    install(new FactoryModuleBuilder()
+        .implement(PdfBinaryReader.class, PlainPdfBinaryReader.class)
+        .build(PdfBinaryReaderFactory.class));
+
+    // ========================================================================
+    // Install stuff needed for the cache of processed PDF documents.
+
+    // Install the codec of the snapshots of PDF documents.
+    bind(PdfDocumentSnapshotCodec.class)
+        .to(PlainPdfDocumentSnapshotCodec.class).in(Singleton.class);
+
+    // Install the factory of the cache.
+    install(new FactoryModuleBuilder()
+        .implement(ParseCache.class, PlainParseCache.class)
+        .build(ParseCacheFactory.class));
+
+    // ========================================================================
+
+    // Install the loader of PDF files according to a memory policy.
+    bind(PdfBoxLoader.class).to(PlainPdfBoxLoader.class).in(Singleton.class);
+
+    // Install the factory of the sessions that own loaded PDF files.
+    install(new FactoryModuleBuilder()
+        .implement(DocumentSession.class, PlainDocumentSession.class)
+        .build(DocumentSessionFactory.class));
+
     // ========================================================================
 
     // Install the module that gives the PDF operator modules bindings.
@@ -466,7 +579,9 @@ public class PdfActCoreGuiceModule extends com.google.inject.AbstractModule {
     // ========================================================================
     // Install stuff needed for the pipe that semanticizes text blocks.
 
-    // Install the semanticizer modules.
+    // Install the semanticizer modules. The order of registration defines the
+    // priority of the modules: roles are applied in this order, even if the
+    // modules are executed concurrently.
     Multibinder<PdfTextSemanticizerModule> binder =
         Multibinder.newSetBinder(binder(), PdfTextSemanticizerModule.class);
     binder.addBinding().to(TitleModule.class);
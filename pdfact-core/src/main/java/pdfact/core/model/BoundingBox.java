@@ -0,0 +1,201 @@
+package pdfact.core.model;
+
+import pdfact.core.model.Rectangle.RectangleFactory;
+
+/**
+ * A bounding box that is extended step by step by the rectangles of elements,
+ * such that the bounding box around a growing number of elements can be
+ * queried at any time without recomputing it from all elements.
+ *
+ * @author Claudius Korzen
+ */
+public class BoundingBox {
+  /**
+   * The minimum x value.
+   */
+  protected float minX = Float.MAX_VALUE;
+
+  /**
+   * The minimum y value.
+   */
+  protected float minY = Float.MAX_VALUE;
+
+  /**
+   * The maximum x value.
+   */
+  protected float maxX = -Float.MAX_VALUE;
+
+  /**
+   * The maximum y value.
+   */
+  protected float maxY = -Float.MAX_VALUE;
+
+  // ==========================================================================
+
+  /**
+   * Extends this bounding box by the position of the given element.
+   *
+   * @param element
+   *        The element (elements without a position are ignored).
+   */
+  public void add(HasPosition element) {
+    if (element instanceof Character) {
+      // Don't create the position objects of characters stored in a table.
+      Character character = (Character) element;
+      add(character.getMinX(), character.getMinY(), character.getMaxX(),
+          character.getMaxY());
+      return;
+    }
+    Position position = element != null ? element.getPosition() : null;
+    if (position == null) {
+      return;
+    }
+    add(position.getRectangle());
+  }
+
+  /**
+   * Extends this bounding box by the positions of the given element.
+   *
+   * @param element
+   *        The element (elements without positions are ignored).
+   */
+  public void add(HasPositions element) {
+    if (element == null || element.getPositions() == null) {
+      return;
+    }
+    for (Position position : element.getPositions()) {
+      if (position != null) {
+        add(position.getRectangle());
+      }
+    }
+  }
+
+  /**
+   * Extends this bounding box by the given rectangle.
+   *
+   * @param rect
+   *        The rectangle (null is ignored).
+   */
+  public void add(Rectangle rect) {
+    if (rect == null) {
+      return;
+    }
+    add(rect.getMinX(), rect.getMinY(), rect.getMaxX(), rect.getMaxY());
+  }
+
+  /**
+   * Extends this bounding box by the rectangle with the given coordinates.
+   *
+   * @param minX
+   *        The minimum x value of the rectangle.
+   * @param minY
+   *        The minimum y value of the rectangle.
+   * @param maxX
+   *        The maximum x value of the rectangle.
+   * @param maxY
+   *        The maximum y value of the rectangle.
+   */
+  public void add(float minX, float minY, float maxX, float maxY) {
+    if (minX < this.minX) {
+      this.minX = minX;
+    }
+    if (minY < this.minY) {
+      this.minY = minY;
+    }
+    if (maxX > this.maxX) {
+      this.maxX = maxX;
+    }
+    if (maxY > this.maxY) {
+      this.maxY = maxY;
+    }
+  }
+
+  /**
+   * Resets this bounding box, such that it doesn't include any element.
+   */
+  public void clear() {
+    this.minX = Float.MAX_VALUE;
+    this.minY = Float.MAX_VALUE;
+    this.maxX = -Float.MAX_VALUE;
+    this.maxY = -Float.MAX_VALUE;
+  }
+
+  /**
+   * Returns true if this bounding box doesn't include any element.
+   *
+   * @return True if this bounding box is empty; false otherwise.
+   */
+  public boolean isEmpty() {
+    return this.minX > this.maxX;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the minimum x value.
+   *
+   * @return The minimum x value.
+   */
+  public float getMinX() {
+    return this.minX;
+  }
+
+  /**
+   * Returns the minimum y value.
+   *
+   * @return The minimum y value.
+   */
+  public float getMinY() {
+    return this.minY;
+  }
+
+  /**
+   * Returns the maximum x value.
+   *
+   * @return The maximum x value.
+   */
+  public float getMaxX() {
+    return this.maxX;
+  }
+
+  /**
+   * Returns the maximum y value.
+   *
+   * @return The maximum y value.
+   */
+  public float getMaxY() {
+    return this.maxY;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns true if this bounding box overlaps the given rectangle
+   * horizontally, with the same semantics as
+   * {@link Rectangle#overlapsHorizontally(Rectangle)}.
+   *
+   * @param rect
+   *        The rectangle.
+   *
+   * @return True if this bounding box overlaps the given rectangle
+   *         horizontally; false otherwise.
+   */
+  public boolean overlapsHorizontally(Rectangle rect) {
+    if (rect == null) {
+      return false;
+    }
+    return this.minX <= rect.getMaxX() && this.maxX >= rect.getMinX();
+  }
+
+  /**
+   * Creates a rectangle that is equal to this bounding box.
+   *
+   * @param factory
+   *        The factory to create the rectangle.
+   *
+   * @return The created rectangle.
+   */
+  public Rectangle toRectangle(RectangleFactory factory) {
+    return factory.create(this.minX, this.minY, this.maxX, this.maxY);
+  }
+}
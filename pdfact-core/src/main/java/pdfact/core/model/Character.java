@@ -24,6 +24,50 @@ public interface Character extends Element, HasText, HasPosition, HasFontFace,
 
   // ==========================================================================
 
+  /**
+   * Returns the minimum x value of the rectangle of this character. Unlike
+   * getPosition().getRectangle().getMinX(), this method doesn't create any
+   * objects for characters that are stored in a {@link CharacterTable}, so it
+   * should be preferred in loops over the characters of a page.
+   *
+   * @return The minimum x value of the rectangle of this character.
+   */
+  float getMinX();
+
+  /**
+   * Returns the minimum y value of the rectangle of this character (see
+   * {@link #getMinX()}).
+   *
+   * @return The minimum y value of the rectangle of this character.
+   */
+  float getMinY();
+
+  /**
+   * Returns the maximum x value of the rectangle of this character (see
+   * {@link #getMinX()}).
+   *
+   * @return The maximum x value of the rectangle of this character.
+   */
+  float getMaxX();
+
+  /**
+   * Returns the maximum y value of the rectangle of this character (see
+   * {@link #getMinX()}).
+   *
+   * @return The maximum y value of the rectangle of this character.
+   */
+  float getMaxY();
+
+  /**
+   * Returns the page of this character (see {@link #getMinX()}).
+   *
+   * @return The page of this character or null if this character has no
+   *         position.
+   */
+  Page getPage();
+
+  // ==========================================================================
+
   /**
    * The factory to create instances of {@link Character}.
    * 
@@ -221,6 +221,21 @@ public interface CharacterStatistic {
 
   // ==========================================================================
 
+  /**
+   * Merges the given statistic into this statistic, such that this statistic
+   * afterwards describes the characters of both statistics. The merge takes
+   * time linear to the number of distinct values in the given statistic, so
+   * the statistic of an element can be derived from the statistics of its
+   * parts without iterating the characters again. Frequencies of the given
+   * statistic for which this statistic has no counter are ignored.
+   * 
+   * @param other
+   *        The statistic to merge into this statistic.
+   */
+  void add(CharacterStatistic other);
+
+  // ==========================================================================
+
   /**
    * A factory to create instances of {@link CharacterStatistic}.
    */
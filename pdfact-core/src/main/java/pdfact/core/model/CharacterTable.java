@@ -0,0 +1,169 @@
+package pdfact.core.model;
+
+/**
+ * A compact, column-oriented store of the characters of a single page. The
+ * attributes of the characters are kept in primitive arrays (one array per
+ * attribute, one row per character) instead of in one object graph per
+ * character. The characters added to the table are represented by lightweight
+ * views, which read and write their attributes from and to the arrays.
+ *
+ * <p>
+ * Code that processes many characters (like the XY-cut or the computation of
+ * character statistics) can read the attributes of a character directly from
+ * the arrays, using the row returned by {@link #indexOf(Character)}.
+ *
+ * @author Claudius Korzen
+ */
+public interface CharacterTable {
+  /**
+   * Returns the page to which the characters of this table belong to.
+   *
+   * @return The page.
+   */
+  Page getPage();
+
+  /**
+   * Copies the attributes of the given character into a new row of this table.
+   *
+   * @param character
+   *        The character to add.
+   *
+   * @return The view of the new row, to be used in place of the given
+   *         character.
+   */
+  Character add(Character character);
+
+  /**
+   * Returns the view of the given row.
+   *
+   * @param index
+   *        The row.
+   *
+   * @return The view of the given row.
+   */
+  Character get(int index);
+
+  /**
+   * Returns the row of the given character in this table.
+   *
+   * @param character
+   *        The character.
+   *
+   * @return The row of the given character or -1 if the given character is
+   *         not a view of this table.
+   */
+  int indexOf(Character character);
+
+  /**
+   * Returns the number of rows in this table.
+   *
+   * @return The number of rows in this table.
+   */
+  int size();
+
+  /**
+   * Trims the capacity of the arrays of this table to the number of rows.
+   */
+  void trimToSize();
+
+  // ==========================================================================
+
+  /**
+   * Returns the minX value of the character in the given row.
+   *
+   * @param index
+   *        The row.
+   *
+   * @return The minX value of the character.
+   */
+  float getMinX(int index);
+
+  /**
+   * Returns the minY value of the character in the given row.
+   *
+   * @param index
+   *        The row.
+   *
+   * @return The minY value of the character.
+   */
+  float getMinY(int index);
+
+  /**
+   * Returns the maxX value of the character in the given row.
+   *
+   * @param index
+   *        The row.
+   *
+   * @return The maxX value of the character.
+   */
+  float getMaxX(int index);
+
+  /**
+   * Returns the maxY value of the character in the given row.
+   *
+   * @param index
+   *        The row.
+   *
+   * @return The maxY value of the character.
+   */
+  float getMaxY(int index);
+
+  /**
+   * Returns the text of the character in the given row.
+   *
+   * @param index
+   *        The row.
+   *
+   * @return The text of the character.
+   */
+  String getText(int index);
+
+  /**
+   * Returns the font face of the character in the given row.
+   *
+   * @param index
+   *        The row.
+   *
+   * @return The font face of the character.
+   */
+  FontFace getFontFace(int index);
+
+  /**
+   * Returns the color of the character in the given row.
+   *
+   * @param index
+   *        The row.
+   *
+   * @return The color of the character.
+   */
+  Color getColor(int index);
+
+  /**
+   * Returns the extraction rank of the character in the given row.
+   *
+   * @param index
+   *        The row.
+   *
+   * @return The extraction rank of the character.
+   */
+  int getExtractionRank(int index);
+
+  // ==========================================================================
+
+  /**
+   * The factory to create instances of {@link CharacterTable}.
+   *
+   * @author Claudius Korzen
+   */
+  public interface CharacterTableFactory {
+    /**
+     * Creates a new instance of {@link CharacterTable}.
+     *
+     * @param page
+     *        The page to which the characters of the table belong to.
+     *
+     * @return A new instance of {@link CharacterTable}.
+     */
+    CharacterTable create(Page page);
+  }
+}
@@ -0,0 +1,17 @@
+package pdfact.core.model;
+
+import pdfact.core.model.Character.CharacterFactory;
+
+/**
+ * An implementation of {@link CharacterFactory} that creates instances of
+ * {@link PlainCharacter} by calling the constructor directly, instead of
+ * dispatching each call through a factory generated by Guice.
+ * 
+ * @author Claudius Korzen
+ */
+public class DirectCharacterFactory implements CharacterFactory {
+  @Override
+  public Character create() {
+    return new PlainCharacter();
+  }
+}
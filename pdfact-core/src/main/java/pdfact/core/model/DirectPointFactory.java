@@ -0,0 +1,27 @@
+package pdfact.core.model;
+
+import pdfact.core.model.Point.PointFactory;
+
+/**
+ * An implementation of {@link PointFactory} that creates instances of
+ * {@link PlainPoint} by calling their constructors directly, instead of
+ * dispatching each call through a factory generated by Guice.
+ * 
+ * @author Claudius Korzen
+ */
+public class DirectPointFactory implements PointFactory {
+  @Override
+  public Point create() {
+    return new PlainPoint();
+  }
+
+  @Override
+  public Point create(float x, float y) {
+    return new PlainPoint(x, y);
+  }
+
+  @Override
+  public Point create(double x, double y) {
+    return new PlainPoint(x, y);
+  }
+}
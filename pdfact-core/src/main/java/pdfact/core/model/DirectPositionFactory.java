@@ -0,0 +1,51 @@
+package pdfact.core.model;
+
+import com.google.inject.Inject;
+
+import pdfact.core.model.Position.PositionFactory;
+import pdfact.core.model.Rectangle.RectangleFactory;
+
+/**
+ * An implementation of {@link PositionFactory} that creates instances of
+ * {@link PlainPosition} by calling their constructors directly, instead of
+ * dispatching each call through a factory generated by Guice.
+ * 
+ * @author Claudius Korzen
+ */
+public class DirectPositionFactory implements PositionFactory {
+  /**
+   * The factory to create instances of {@link Rectangle}.
+   */
+  protected RectangleFactory rectangleFactory;
+
+  /**
+   * Creates a new factory to create instances of {@link Position}.
+   * 
+   * @param rectangleFactory
+   *        The factory to create instances of {@link Rectangle}.
+   */
+  @Inject
+  public DirectPositionFactory(RectangleFactory rectangleFactory) {
+    this.rectangleFactory = rectangleFactory;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public Position create(Page page, Rectangle rectangle) {
+    return new PlainPosition(page, rectangle);
+  }
+
+  @Override
+  public Position create(Page page, float minX, float minY, float maxX,
+      float maxY) {
+    return new PlainPosition(this.rectangleFactory, page, minX, minY, maxX,
+        maxY);
+  }
+
+  @Override
+  public Position create(Page page, Point lowerLeft, Point upperRight) {
+    return new PlainPosition(this.rectangleFactory, page, lowerLeft,
+        upperRight);
+  }
+}
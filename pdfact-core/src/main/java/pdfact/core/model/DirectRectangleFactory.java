@@ -0,0 +1,81 @@
+package pdfact.core.model;
+
+import com.google.inject.Inject;
+
+import pdfact.core.model.Point.PointFactory;
+import pdfact.core.model.Rectangle.RectangleFactory;
+
+/**
+ * An implementation of {@link RectangleFactory} that creates instances of
+ * {@link PlainRectangle} by calling their constructors directly, instead of
+ * dispatching each call through a factory generated by Guice.
+ * 
+ * @author Claudius Korzen
+ */
+public class DirectRectangleFactory implements RectangleFactory {
+  /**
+   * The factory to create instances of {@link Point}.
+   */
+  protected PointFactory pointFactory;
+
+  /**
+   * Creates a new factory to create instances of {@link Rectangle}.
+   * 
+   * @param pointFactory
+   *        The factory to create instances of {@link Point}.
+   */
+  @Inject
+  public DirectRectangleFactory(PointFactory pointFactory) {
+    this.pointFactory = pointFactory;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public Rectangle create() {
+    return new PlainRectangle(this, this.pointFactory);
+  }
+
+  @Override
+  public Rectangle create(Rectangle rect) {
+    return new PlainRectangle(this, this.pointFactory, rect);
+  }
+
+  @Override
+  public Rectangle create(java.awt.Rectangle rect) {
+    return new PlainRectangle(this, this.pointFactory, rect);
+  }
+
+  @Override
+  public Rectangle create(Point lowerLeft, Point upperRight) {
+    return new PlainRectangle(this, this.pointFactory, lowerLeft, upperRight);
+  }
+
+  @Override
+  public Rectangle create(float minX, float minY, float maxX, float maxY) {
+    return new PlainRectangle(this, this.pointFactory, minX, minY, maxX, maxY);
+  }
+
+  @Override
+  public Rectangle create(double minX, double minY, double maxX,
+      double maxY) {
+    return new PlainRectangle(this, this.pointFactory, minX, minY, maxX, maxY);
+  }
+
+  @Override
+  public Rectangle fromUnion(Rectangle... rectangles) {
+    return new PlainRectangle(this, this.pointFactory, rectangles);
+  }
+
+  @Override
+  public Rectangle fromHasPositionElements(
+      Iterable<? extends HasPosition> elements) {
+    return new PlainRectangle(this, this.pointFactory, elements);
+  }
+
+  @Override
+  public Rectangle fromHasPositionsElements(
+      Iterable<? extends HasPositions> elements) {
+    return new PlainRectangle(null, this, this.pointFactory, elements);
+  }
+}
@@ -0,0 +1,19 @@
+package pdfact.core.model;
+
+/**
+ * An interface that is implemented by PDF elements that keep the bounding box
+ * around their child elements up to date while child elements are added.
+ *
+ * @author Claudius Korzen
+ */
+public interface HasBoundingBox {
+  /**
+   * Returns the bounding box around the child elements of this element. The
+   * bounding box is extended on adding child elements via the add and set
+   * methods of this element. It doesn't reflect changes made directly to the
+   * lists of child elements.
+   *
+   * @return The bounding box around the child elements of this element.
+   */
+  BoundingBox getBoundingBox();
+}
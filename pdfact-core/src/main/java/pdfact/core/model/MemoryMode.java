@@ -0,0 +1,109 @@
+package pdfact.core.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An enumeration of all available modes where the data of a loaded PDF file
+ * (like the decoded streams) can be buffered.
+ *
+ * @author Claudius Korzen
+ */
+public enum MemoryMode {
+  /**
+   * The mode to buffer all data in main memory.
+   */
+  MAIN_MEMORY("memory"),
+
+  /**
+   * The mode to buffer the data in main memory up to a maximum size and in a
+   * temporary file beyond.
+   */
+  MIXED("mixed"),
+
+  /**
+   * The mode to buffer all data in a temporary file.
+   */
+  TEMP_FILE("temp-file");
+
+  // ==========================================================================
+
+  /**
+   * The name of this mode.
+   */
+  protected String name;
+
+  /**
+   * The modes per names.
+   */
+  protected static Map<String, MemoryMode> index;
+
+  static {
+    index = new HashMap<>();
+
+    // Fill the map of modes per name.
+    for (MemoryMode mode : values()) {
+      index.put(mode.getName(), mode);
+    }
+  }
+
+  /**
+   * Creates a new memory mode.
+   *
+   * @param name
+   *        The name of this mode.
+   */
+  private MemoryMode(String name) {
+    this.name = name;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the name of this mode.
+   *
+   * @return The name of this mode.
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns a set of the names of all modes.
+   *
+   * @return A set of the names of all modes.
+   */
+  public static Set<String> getNames() {
+    return index.keySet();
+  }
+
+  /**
+   * Checks if the given name is a name of an existing mode.
+   *
+   * @param name
+   *        The name to check.
+   *
+   * @return True, if the given name is a name of an existing mode.
+   */
+  public static boolean isValidMode(String name) {
+    return index.containsKey(name.toLowerCase());
+  }
+
+  /**
+   * Returns the mode that is associated with the given name.
+   *
+   * @param name
+   *        The name of the mode to fetch.
+   *
+   * @return The mode that is associated with the given name.
+   */
+  public static MemoryMode fromString(String name) {
+    if (!isValidMode(name)) {
+      throw new IllegalArgumentException(name + " isn't a valid mode.");
+    }
+    return index.get(name.toLowerCase());
+  }
+}
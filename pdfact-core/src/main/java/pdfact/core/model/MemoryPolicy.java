@@ -0,0 +1,152 @@
+package pdfact.core.model;
+
+import java.nio.file.Path;
+
+/**
+ * A policy that defines how PDF files are loaded: where the data of a loaded
+ * PDF file (like the decoded streams) is buffered and whether the PDF file is
+ * read via a memory mapping.
+ *
+ * @author Claudius Korzen
+ */
+public class MemoryPolicy {
+  /**
+   * The mode where the data of a loaded PDF file is buffered.
+   */
+  protected MemoryMode mode;
+
+  /**
+   * The maximum number of bytes to buffer in main memory (only used in mode
+   * {@link MemoryMode#MIXED}).
+   */
+  protected long maxMainMemory;
+
+  /**
+   * The directory of the temporary files (null for the default directory).
+   */
+  protected Path tempDirectory;
+
+  /**
+   * The boolean flag that indicates whether the PDF file should be read via
+   * a memory mapping.
+   */
+  protected boolean memoryMapped;
+
+  // ==========================================================================
+
+  /**
+   * Creates a new policy.
+   *
+   * @param mode
+   *        The mode where the data of a loaded PDF file is buffered.
+   * @param maxMainMemory
+   *        The maximum number of bytes to buffer in main memory (only used in
+   *        mode {@link MemoryMode#MIXED}).
+   */
+  public MemoryPolicy(MemoryMode mode, long maxMainMemory) {
+    if (mode == null) {
+      throw new IllegalArgumentException("No memory mode given.");
+    }
+    if (maxMainMemory < 0) {
+      throw new IllegalArgumentException("Invalid maximum size of the main "
+          + "memory: " + maxMainMemory);
+    }
+    this.mode = mode;
+    this.maxMainMemory = maxMainMemory;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the mode where the data of a loaded PDF file is buffered.
+   *
+   * @return The mode where the data of a loaded PDF file is buffered.
+   */
+  public MemoryMode getMode() {
+    return this.mode;
+  }
+
+  /**
+   * Returns the maximum number of bytes to buffer in main memory.
+   *
+   * @return The maximum number of bytes to buffer in main memory (only used
+   *         in mode {@link MemoryMode#MIXED}).
+   */
+  public long getMaxMainMemory() {
+    return this.maxMainMemory;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the directory of the temporary files.
+   *
+   * @return The directory of the temporary files or null if the default
+   *         directory is used.
+   */
+  public Path getTempDirectory() {
+    return this.tempDirectory;
+  }
+
+  /**
+   * Sets the directory of the temporary files.
+   *
+   * @param directory
+   *        The directory of the temporary files or null if the default
+   *        directory should be used.
+   */
+  public void setTempDirectory(Path directory) {
+    this.tempDirectory = directory;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns true if the PDF file should be read via a memory mapping.
+   *
+   * @return True if the PDF file should be read via a memory mapping; false
+   *         if it should be read via buffered file access.
+   */
+  public boolean isMemoryMapped() {
+    return this.memoryMapped;
+  }
+
+  /**
+   * Sets the boolean flag that indicates whether the PDF file should be read
+   * via a memory mapping.
+   *
+   * @param memoryMapped
+   *        True if the PDF file should be read via a memory mapping; false
+   *        if it should be read via buffered file access.
+   */
+  public void setMemoryMapped(boolean memoryMapped) {
+    this.memoryMapped = memoryMapped;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns a copy of this policy for the given number of PDF files that are
+   * loaded in parallel, such that the maximum size of the main memory is
+   * divided equally among them.
+   *
+   * @param numParallelLoads
+   *        The number of PDF files that are loaded in parallel.
+   *
+   * @return A copy of this policy.
+   */
+  public MemoryPolicy getPartitionedCopy(int numParallelLoads) {
+    long maxMainMemory = this.maxMainMemory / Math.max(1, numParallelLoads);
+    MemoryPolicy copy = new MemoryPolicy(this.mode, maxMainMemory);
+    copy.setTempDirectory(this.tempDirectory);
+    copy.setMemoryMapped(this.memoryMapped);
+    return copy;
+  }
+
+  @Override
+  public String toString() {
+    return "MemoryPolicy(mode: " + this.mode.getName() + ", max. main memory: "
+        + this.maxMainMemory + ", temp dir: " + this.tempDirectory
+        + ", memory-mapped: " + this.memoryMapped + ")";
+  }
+}
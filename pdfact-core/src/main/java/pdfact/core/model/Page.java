@@ -1,5 +1,7 @@
 package pdfact.core.model;
 
+import pdfact.core.util.index.SpatialIndex;
+
 /**
  * A page in a PDF document.
  * 
@@ -24,6 +26,65 @@ public interface Page extends HasCharacters, HasFigures, HasShapes,
 
   // ==========================================================================
 
+  /**
+   * Returns the table that stores the attributes of the characters of this
+   * page in a compact form.
+   * 
+   * @return The table of the characters of this page, or null if the
+   *         characters of this page are not backed by a table.
+   */
+  CharacterTable getCharacterTable();
+
+  /**
+   * Sets the table that stores the attributes of the characters of this page
+   * in a compact form.
+   * 
+   * @param table
+   *        The table of the characters of this page.
+   */
+  void setCharacterTable(CharacterTable table);
+
+  // ==========================================================================
+
+  /**
+   * Returns the spatial index of the characters of this page. The index is
+   * created on the first call and is recreated after the characters of this
+   * page were set or added via this page (so after changing the positions of
+   * characters in place, the characters must be set again).
+   * 
+   * @return The spatial index of the characters of this page.
+   */
+  SpatialIndex<Character> getCharacterIndex();
+
+  /**
+   * Returns the spatial index of the figures of this page. The index is
+   * created on the first call and is recreated after the figures of this page
+   * were set or added via this page.
+   * 
+   * @return The spatial index of the figures of this page.
+   */
+  SpatialIndex<Figure> getFigureIndex();
+
+  /**
+   * Returns the spatial index of the shapes of this page. The index is created
+   * on the first call and is recreated after the shapes of this page were set
+   * or added via this page.
+   * 
+   * @return The spatial index of the shapes of this page.
+   */
+  SpatialIndex<Shape> getShapeIndex();
+
+  /**
+   * Returns the spatial index of the text blocks of this page. The index is
+   * created on the first call and is recreated after the text blocks of this
+   * page were set or added via this page.
+   * 
+   * @return The spatial index of the text blocks of this page.
+   */
+  SpatialIndex<TextBlock> getTextBlockIndex();
+
+  // ==========================================================================
+
   /**
    * The factory to creates instances of {@link Page}.
    * 
@@ -0,0 +1,239 @@
+package pdfact.core.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import gnu.trove.list.TIntList;
+import gnu.trove.list.array.TIntArrayList;
+
+/**
+ * A selection of the pages of a PDF document to process, given by ranges of
+ * page numbers (e.g., "1-3,10") and/or by a maximum number of pages. The
+ * pages that are not selected are not parsed at all.
+ *
+ * @author Claudius Korzen
+ */
+public class PageSelection {
+  /**
+   * The delimiter between two ranges in the string representation.
+   */
+  protected static final String RANGE_DELIMITER = ",";
+
+  /**
+   * The delimiter between the first and the last page number of a range in
+   * the string representation.
+   */
+  protected static final String PAGE_NUMBER_DELIMITER = "-";
+
+  /**
+   * The selected ranges of page numbers, as pairs of the first and the last
+   * page number (both inclusive, the last page number is
+   * {@link Integer#MAX_VALUE} for open ranges). Empty if all pages are
+   * selected.
+   */
+  protected List<int[]> ranges;
+
+  /**
+   * The maximum number of pages to select (0 if there is no maximum).
+   */
+  protected int maxNumPages;
+
+  // ==========================================================================
+
+  /**
+   * Creates a new selection of all pages.
+   */
+  public PageSelection() {
+    this.ranges = new ArrayList<>();
+  }
+
+  // ==========================================================================
+
+  /**
+   * Adds the given range of page numbers to this selection.
+   *
+   * @param firstPageNumber
+   *        The first page number of the range (inclusive).
+   * @param lastPageNumber
+   *        The last page number of the range (inclusive).
+   */
+  public void addRange(int firstPageNumber, int lastPageNumber) {
+    if (firstPageNumber < 1 || lastPageNumber < firstPageNumber) {
+      throw new IllegalArgumentException("Invalid range of pages: "
+          + firstPageNumber + PAGE_NUMBER_DELIMITER + lastPageNumber);
+    }
+    this.ranges.add(new int[] { firstPageNumber, lastPageNumber });
+  }
+
+  /**
+   * Returns the maximum number of pages to select.
+   *
+   * @return The maximum number of pages to select (0 if there is no maximum).
+   */
+  public int getMaxNumPages() {
+    return this.maxNumPages;
+  }
+
+  /**
+   * Sets the maximum number of pages to select. If the ranges of this
+   * selection contain more pages, only the first pages are selected.
+   *
+   * @param maxNumPages
+   *        The maximum number of pages to select (0 if there is no maximum).
+   */
+  public void setMaxNumPages(int maxNumPages) {
+    if (maxNumPages < 0) {
+      throw new IllegalArgumentException("Invalid maximum number of pages: "
+          + maxNumPages);
+    }
+    this.maxNumPages = maxNumPages;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns true if the given page number is selected, ignoring the maximum
+   * number of pages.
+   *
+   * @param pageNumber
+   *        The page number.
+   *
+   * @return True if the given page number is contained in a range of this
+   *         selection (or if this selection has no ranges); false otherwise.
+   */
+  public boolean contains(int pageNumber) {
+    if (this.ranges.isEmpty()) {
+      return true;
+    }
+    for (int[] range : this.ranges) {
+      if (pageNumber >= range[0] && pageNumber <= range[1]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the selected page numbers of a PDF document with the given number
+   * of pages.
+   *
+   * @param numPages
+   *        The number of pages of the PDF document.
+   *
+   * @return The selected page numbers, in ascending order.
+   */
+  public int[] getPageNumbers(int numPages) {
+    TIntList pageNumbers = new TIntArrayList();
+    for (int pageNumber = 1; pageNumber <= numPages; pageNumber++) {
+      if (this.maxNumPages > 0 && pageNumbers.size() >= this.maxNumPages) {
+        break;
+      }
+      if (contains(pageNumber)) {
+        pageNumbers.add(pageNumber);
+      }
+    }
+    return pageNumbers.toArray();
+  }
+
+  // ==========================================================================
+
+  /**
+   * Creates a selection from the given string representation of ranges of
+   * page numbers, like "1-3,10" or "5-" (all pages from page 5 on).
+   *
+   * @param string
+   *        The string representation of the ranges.
+   *
+   * @return The selection.
+   *
+   * @throws IllegalArgumentException
+   *         If the given string isn't a valid representation of ranges.
+   */
+  public static PageSelection fromString(String string) {
+    PageSelection selection = new PageSelection();
+    if (string == null) {
+      return selection;
+    }
+
+    for (String range : string.split(RANGE_DELIMITER, -1)) {
+      String[] pageNumbers = range.trim().split(PAGE_NUMBER_DELIMITER, -1);
+      try {
+        if (pageNumbers.length == 1) {
+          int pageNumber = Integer.parseInt(pageNumbers[0].trim());
+          selection.addRange(pageNumber, pageNumber);
+        } else if (pageNumbers.length == 2) {
+          int first = Integer.parseInt(pageNumbers[0].trim());
+          String last = pageNumbers[1].trim();
+          selection.addRange(first,
+              last.isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(last));
+        } else {
+          throw new IllegalArgumentException();
+        }
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("'" + string + "' isn't a valid "
+            + "range of pages (expected something like '1-3,10').", e);
+      }
+    }
+    return selection;
+  }
+
+  /**
+   * Returns a normalized string representation of this selection, such that
+   * two selections of the same pages have the same representation (for
+   * example, "3,1-2" and "1-3" are both normalized to "1-3").
+   *
+   * @return The normalized string representation of this selection; null if
+   *         all pages are selected.
+   */
+  public String toNormalizedString() {
+    // Sort the ranges by their first page numbers and merge overlapping or
+    // adjacent ranges.
+    List<int[]> sortedRanges = new ArrayList<>(this.ranges);
+    sortedRanges.sort((r1, r2) -> Integer.compare(r1[0], r2[0]));
+    List<int[]> mergedRanges = new ArrayList<>();
+    for (int[] range : sortedRanges) {
+      int[] last = mergedRanges.isEmpty() ? null
+          : mergedRanges.get(mergedRanges.size() - 1);
+      if (last != null && (long) range[0] <= (long) last[1] + 1) {
+        last[1] = Math.max(last[1], range[1]);
+      } else {
+        mergedRanges.add(new int[] { range[0], range[1] });
+      }
+    }
+
+    // A single range from the first page on selects all pages.
+    if (mergedRanges.size() == 1 && mergedRanges.get(0)[0] == 1
+        && mergedRanges.get(0)[1] == Integer.MAX_VALUE) {
+      mergedRanges.clear();
+    }
+    if (mergedRanges.isEmpty() && this.maxNumPages == 0) {
+      return null;
+    }
+
+    PageSelection normalized = new PageSelection();
+    normalized.ranges = mergedRanges;
+    normalized.maxNumPages = this.maxNumPages;
+    return normalized.toString();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int[] range : this.ranges) {
+      if (sb.length() > 0) {
+        sb.append(RANGE_DELIMITER);
+      }
+      sb.append(range[0]);
+      if (range[1] != range[0]) {
+        sb.append(PAGE_NUMBER_DELIMITER);
+        if (range[1] != Integer.MAX_VALUE) {
+          sb.append(range[1]);
+        }
+      }
+    }
+    if (this.maxNumPages > 0) {
+      sb.append("(max. " + this.maxNumPages + " pages)");
+    }
+    return sb.toString();
+  }
+}
@@ -6,7 +6,7 @@ package pdfact.core.model;
  * @author Claudius Korzen
  */
 public interface Paragraph extends Element, HasWords, HasText, HasPositions,
-    HasSemanticRole {
+    HasSemanticRole, HasBoundingBox {
   /**
    * The factory to create instances of {@link Paragraph}.
    * 
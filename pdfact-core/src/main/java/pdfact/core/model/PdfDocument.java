@@ -4,6 +4,8 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.List;
 
+import pdfact.core.util.pdfbox.DocumentSession;
+
 /**
  * A PDF document.
  * 
@@ -44,6 +46,24 @@ public interface PdfDocument extends HasParagraphs {
 
   // ==========================================================================
 
+  /**
+   * Returns the session that owns the underlying PDF file as given by PDFBox.
+   * 
+   * @return The session or null if there is no open session.
+   */
+  DocumentSession getSession();
+
+  /**
+   * Sets the session that owns the underlying PDF file as given by PDFBox,
+   * such that all pipes share the same loaded instance of the PDF file.
+   * 
+   * @param session
+   *        The session or null if there is no open session.
+   */
+  void setSession(DocumentSession session);
+
+  // ==========================================================================
+
   /**
    * Returns the pages of this PDF document.
    * 
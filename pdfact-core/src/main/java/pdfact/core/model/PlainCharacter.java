@@ -58,6 +58,31 @@ public class PlainCharacter extends PlainElement implements Character {
     this.position = position;
   }
 
+  @Override
+  public float getMinX() {
+    return this.position.getRectangle().getMinX();
+  }
+
+  @Override
+  public float getMinY() {
+    return this.position.getRectangle().getMinY();
+  }
+
+  @Override
+  public float getMaxX() {
+    return this.position.getRectangle().getMaxX();
+  }
+
+  @Override
+  public float getMaxY() {
+    return this.position.getRectangle().getMaxY();
+  }
+
+  @Override
+  public Page getPage() {
+    return this.position != null ? this.position.getPage() : null;
+  }
+
   // ==========================================================================
 
   @Override
@@ -233,6 +233,44 @@ public class PlainCharacterStatistic implements CharacterStatistic {
 
   // ==========================================================================
 
+  @Override
+  public void add(CharacterStatistic other) {
+    if (other == null) {
+      return;
+    }
+
+    if (this.heightFrequencies != null) {
+      this.heightFrequencies.add(other.getHeightFrequencies());
+    }
+    if (this.widthFrequencies != null) {
+      this.widthFrequencies.add(other.getWidthFrequencies());
+    }
+    if (this.fontFaceFrequencies != null) {
+      this.fontFaceFrequencies.add(other.getFontFaceFrequencies());
+    }
+    if (this.fontsizeFrequencies != null) {
+      this.fontsizeFrequencies.add(other.getFontSizeFrequencies());
+    }
+    if (this.colorFrequencies != null) {
+      this.colorFrequencies.add(other.getColorFrequencies());
+    }
+
+    if (other.getSmallestMinX() < this.smallestMinX) {
+      this.smallestMinX = other.getSmallestMinX();
+    }
+    if (other.getSmallestMinY() < this.smallestMinY) {
+      this.smallestMinY = other.getSmallestMinY();
+    }
+    if (other.getLargestMaxX() > this.largestMaxX) {
+      this.largestMaxX = other.getLargestMaxX();
+    }
+    if (other.getLargestMaxY() > this.largestMaxY) {
+      this.largestMaxY = other.getLargestMaxY();
+    }
+  }
+
+  // ==========================================================================
+
   @Override
   public boolean equals(Object o) {
     if (o instanceof CharacterStatistic) {
@@ -0,0 +1,609 @@
+package pdfact.core.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import com.google.inject.assistedinject.Assisted;
+import com.google.inject.assistedinject.AssistedInject;
+
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+
+import pdfact.core.model.Point.PointFactory;
+import pdfact.core.model.Rectangle.RectangleFactory;
+
+/**
+ * A plain implementation of {@link CharacterTable}.
+ *
+ * <p>
+ * The texts, font faces and colors are stored as ids into dictionaries of the
+ * distinct values of the table, so each distinct value is stored only once per
+ * page. The positions and rectangles returned by the views are transient
+ * objects that read and write the coordinates from and to the table (the
+ * coordinates can be read without creating such objects via getMinX() etc.).
+ *
+ * @author Claudius Korzen
+ */
+public class PlainCharacterTable implements CharacterTable {
+  /**
+   * The initial number of rows a table can hold without growing its arrays.
+   */
+  protected static final int INITIAL_CAPACITY = 64;
+
+  /**
+   * The id that represents a null value in the dictionaries.
+   */
+  protected static final int NULL_ID = -1;
+
+  /**
+   * The factory to create instances of {@link Rectangle}.
+   */
+  protected RectangleFactory rectangleFactory;
+
+  /**
+   * The factory to create instances of {@link Point}.
+   */
+  protected PointFactory pointFactory;
+
+  /**
+   * The page to which the characters of this table belong to.
+   */
+  protected Page page;
+
+  /**
+   * The number of rows in this table.
+   */
+  protected int size;
+
+  /**
+   * The minX values of the characters, per row.
+   */
+  protected float[] minX;
+
+  /**
+   * The minY values of the characters, per row.
+   */
+  protected float[] minY;
+
+  /**
+   * The maxX values of the characters, per row.
+   */
+  protected float[] maxX;
+
+  /**
+   * The maxY values of the characters, per row.
+   */
+  protected float[] maxY;
+
+  /**
+   * The ids of the texts of the characters, per row.
+   */
+  protected int[] textIds;
+
+  /**
+   * The ids of the font faces of the characters, per row.
+   */
+  protected int[] fontFaceIds;
+
+  /**
+   * The ids of the colors of the characters, per row.
+   */
+  protected int[] colorIds;
+
+  /**
+   * The extraction ranks of the characters, per row.
+   */
+  protected int[] extractionRanks;
+
+  /**
+   * The distinct texts of this table, per id.
+   */
+  protected List<String> texts = new ArrayList<>();
+
+  /**
+   * The ids of the distinct texts of this table.
+   */
+  protected TObjectIntMap<String> textIdsByText = newDictionary();
+
+  /**
+   * The distinct font faces of this table, per id.
+   */
+  protected List<FontFace> fontFaces = new ArrayList<>();
+
+  /**
+   * The ids of the distinct font faces of this table.
+   */
+  protected TObjectIntMap<FontFace> fontFaceIdsByFontFace = newDictionary();
+
+  /**
+   * The distinct colors of this table, per id.
+   */
+  protected List<Color> colors = new ArrayList<>();
+
+  /**
+   * The ids of the distinct colors of this table.
+   */
+  protected TObjectIntMap<Color> colorIdsByColor = newDictionary();
+
+  // ==========================================================================
+
+  /**
+   * Creates a new table of characters.
+   *
+   * @param rectangleFactory
+   *        The factory to create instances of {@link Rectangle}.
+   * @param pointFactory
+   *        The factory to create instances of {@link Point}.
+   * @param page
+   *        The page to which the characters of the table belong to.
+   */
+  @AssistedInject
+  public PlainCharacterTable(RectangleFactory rectangleFactory,
+      PointFactory pointFactory, @Assisted Page page) {
+    this.rectangleFactory = rectangleFactory;
+    this.pointFactory = pointFactory;
+    this.page = page;
+    this.minX = new float[INITIAL_CAPACITY];
+    this.minY = new float[INITIAL_CAPACITY];
+    this.maxX = new float[INITIAL_CAPACITY];
+    this.maxY = new float[INITIAL_CAPACITY];
+    this.textIds = new int[INITIAL_CAPACITY];
+    this.fontFaceIds = new int[INITIAL_CAPACITY];
+    this.colorIds = new int[INITIAL_CAPACITY];
+    this.extractionRanks = new int[INITIAL_CAPACITY];
+  }
+
+  // ==========================================================================
+
+  @Override
+  public Page getPage() {
+    return this.page;
+  }
+
+  @Override
+  public Character add(Character character) {
+    if (this.size == this.minX.length) {
+      resize(Math.max(INITIAL_CAPACITY, this.size + (this.size >> 1)));
+    }
+    int index = this.size++;
+
+    TableCharacter view = new TableCharacter(index);
+    view.setText(character.getText());
+    view.setPosition(character.getPosition());
+    view.setFontFace(character.getFontFace());
+    view.setColor(character.getColor());
+    view.setExtractionRank(character.getExtractionRank());
+    return view;
+  }
+
+  @Override
+  public Character get(int index) {
+    checkIndex(index);
+    return new TableCharacter(index);
+  }
+
+  @Override
+  public int indexOf(Character character) {
+    if (character instanceof TableCharacter) {
+      TableCharacter view = (TableCharacter) character;
+      if (view.getTable() == this) {
+        return view.index;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public void trimToSize() {
+    if (this.size < this.minX.length) {
+      resize(this.size);
+    }
+  }
+
+  // ==========================================================================
+
+  @Override
+  public float getMinX(int index) {
+    return this.minX[index];
+  }
+
+  @Override
+  public float getMinY(int index) {
+    return this.minY[index];
+  }
+
+  @Override
+  public float getMaxX(int index) {
+    return this.maxX[index];
+  }
+
+  @Override
+  public float getMaxY(int index) {
+    return this.maxY[index];
+  }
+
+  @Override
+  public String getText(int index) {
+    int id = this.textIds[index];
+    return id != NULL_ID ? this.texts.get(id) : null;
+  }
+
+  @Override
+  public FontFace getFontFace(int index) {
+    int id = this.fontFaceIds[index];
+    return id != NULL_ID ? this.fontFaces.get(id) : null;
+  }
+
+  @Override
+  public Color getColor(int index) {
+    int id = this.colorIds[index];
+    return id != NULL_ID ? this.colors.get(id) : null;
+  }
+
+  @Override
+  public int getExtractionRank(int index) {
+    return this.extractionRanks[index];
+  }
+
+  // ==========================================================================
+
+  /**
+   * Sets the coordinates of the character in the given row to the coordinates
+   * of the given rectangle.
+   *
+   * @param index
+   *        The row.
+   * @param rect
+   *        The rectangle (may be null, in which case the coordinates are set
+   *        to 0).
+   */
+  protected void setRectangle(int index, Rectangle rect) {
+    this.minX[index] = rect != null ? rect.getMinX() : 0;
+    this.minY[index] = rect != null ? rect.getMinY() : 0;
+    this.maxX[index] = rect != null ? rect.getMaxX() : 0;
+    this.maxY[index] = rect != null ? rect.getMaxY() : 0;
+  }
+
+  /**
+   * Returns the id of the given value in the given dictionary. Adds the value
+   * to the dictionary if it isn't contained yet.
+   *
+   * @param value
+   *        The value.
+   * @param values
+   *        The values of the dictionary, per id.
+   * @param ids
+   *        The ids of the values of the dictionary.
+   *
+   * @return The id of the given value, or NULL_ID if the value is null.
+   *
+   * @param <T>
+   *        The type of the values.
+   */
+  protected static <T> int toId(T value, List<T> values,
+      TObjectIntMap<T> ids) {
+    if (value == null) {
+      return NULL_ID;
+    }
+    int id = ids.get(value);
+    if (id == NULL_ID) {
+      id = values.size();
+      values.add(value);
+      ids.put(value, id);
+    }
+    return id;
+  }
+
+  /**
+   * Creates a new (empty) dictionary that maps values to ids.
+   *
+   * @return The created dictionary.
+   *
+   * @param <T>
+   *        The type of the values.
+   */
+  protected static <T> TObjectIntMap<T> newDictionary() {
+    return new TObjectIntHashMap<>(16, 0.5f, NULL_ID);
+  }
+
+  /**
+   * Resizes the arrays of this table to the given capacity.
+   *
+   * @param capacity
+   *        The new capacity.
+   */
+  protected void resize(int capacity) {
+    this.minX = Arrays.copyOf(this.minX, capacity);
+    this.minY = Arrays.copyOf(this.minY, capacity);
+    this.maxX = Arrays.copyOf(this.maxX, capacity);
+    this.maxY = Arrays.copyOf(this.maxY, capacity);
+    this.textIds = Arrays.copyOf(this.textIds, capacity);
+    this.fontFaceIds = Arrays.copyOf(this.fontFaceIds, capacity);
+    this.colorIds = Arrays.copyOf(this.colorIds, capacity);
+    this.extractionRanks = Arrays.copyOf(this.extractionRanks, capacity);
+  }
+
+  /**
+   * Checks if the given row exists in this table.
+   *
+   * @param index
+   *        The row to check.
+   */
+  protected void checkIndex(int index) {
+    if (index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: "
+          + this.size);
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * A character that is backed by a row of the table.
+   *
+   * @author Claudius Korzen
+   */
+  protected class TableCharacter extends PlainElement implements Character {
+    /**
+     * The row of this character in the table.
+     */
+    protected final int index;
+
+    /**
+     * Creates a new view of the given row.
+     *
+     * @param index
+     *        The row.
+     */
+    protected TableCharacter(int index) {
+      this.index = index;
+    }
+
+    /**
+     * Returns the table that backs this character.
+     *
+     * @return The table.
+     */
+    protected PlainCharacterTable getTable() {
+      return PlainCharacterTable.this;
+    }
+
+    // ========================================================================
+
+    @Override
+    public String getText() {
+      return PlainCharacterTable.this.getText(this.index);
+    }
+
+    @Override
+    public void setText(String text) {
+      textIds[this.index] = toId(text, texts, textIdsByText);
+    }
+
+    // ========================================================================
+
+    @Override
+    public Position getPosition() {
+      return new TablePosition(this.index);
+    }
+
+    /**
+     * Copies the rectangle of the given position into the table. The page of
+     * the position is not copied, it is always the page of the table.
+     *
+     * @param position
+     *        The position of this character.
+     */
+    @Override
+    public void setPosition(Position position) {
+      setRectangle(this.index, position != null ? position.getRectangle()
+          : null);
+    }
+
+    @Override
+    public float getMinX() {
+      return minX[this.index];
+    }
+
+    @Override
+    public float getMinY() {
+      return minY[this.index];
+    }
+
+    @Override
+    public float getMaxX() {
+      return maxX[this.index];
+    }
+
+    @Override
+    public float getMaxY() {
+      return maxY[this.index];
+    }
+
+    @Override
+    public Page getPage() {
+      return page;
+    }
+
+    // ========================================================================
+
+    @Override
+    public FontFace getFontFace() {
+      return PlainCharacterTable.this.getFontFace(this.index);
+    }
+
+    @Override
+    public void setFontFace(FontFace fontFace) {
+      fontFaceIds[this.index] =
+          toId(fontFace, fontFaces, fontFaceIdsByFontFace);
+    }
+
+    // ========================================================================
+
+    @Override
+    public Color getColor() {
+      return PlainCharacterTable.this.getColor(this.index);
+    }
+
+    @Override
+    public void setColor(Color color) {
+      colorIds[this.index] = toId(color, colors, colorIdsByColor);
+    }
+
+    // ========================================================================
+
+    @Override
+    public int getExtractionRank() {
+      return extractionRanks[this.index];
+    }
+
+    @Override
+    public void setExtractionRank(int rank) {
+      extractionRanks[this.index] = rank;
+    }
+
+    // ========================================================================
+
+    @Override
+    public String toString() {
+      return "Character(" + getText() + ", " + getPosition() + ")";
+    }
+
+    // ========================================================================
+
+    @Override
+    public boolean equals(Object other) {
+      if (other instanceof Character) {
+        Character otherCharacter = (Character) other;
+
+        EqualsBuilder builder = new EqualsBuilder();
+        builder.append(getText(), otherCharacter.getText());
+        builder.append(getPosition(), otherCharacter.getPosition());
+        builder.append(getFontFace(), otherCharacter.getFontFace());
+        builder.append(getColor(), otherCharacter.getColor());
+        builder.append(getExtractionRank(),
+            otherCharacter.getExtractionRank());
+
+        return builder.isEquals();
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+      builder.append(getText());
+      builder.append(getPosition());
+      builder.append(getFontFace());
+      builder.append(getColor());
+      builder.append(getExtractionRank());
+      return builder.hashCode();
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * A transient position of a character that is backed by a row of the table.
+   * Setting the rectangle of the position sets the coordinates in the table.
+   *
+   * @author Claudius Korzen
+   */
+  protected class TablePosition extends PlainPosition {
+    /**
+     * The row of the character in the table.
+     */
+    protected final int index;
+
+    /**
+     * Creates a new view of the position in the given row.
+     *
+     * @param index
+     *        The row.
+     */
+    protected TablePosition(int index) {
+      super(PlainCharacterTable.this.page, new TableRectangle(index));
+      this.index = index;
+    }
+
+    @Override
+    public void setRectangle(Rectangle rectangle) {
+      PlainCharacterTable.this.setRectangle(this.index, rectangle);
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * A transient rectangle of a character that is backed by a row of the table.
+   *
+   * @author Claudius Korzen
+   */
+  protected class TableRectangle extends PlainRectangle {
+    /**
+     * The row of the character in the table.
+     */
+    protected final int index;
+
+    /**
+     * Creates a new view of the rectangle in the given row.
+     *
+     * @param index
+     *        The row.
+     */
+    protected TableRectangle(int index) {
+      super(PlainCharacterTable.this.rectangleFactory,
+          PlainCharacterTable.this.pointFactory);
+      this.index = index;
+    }
+
+    @Override
+    public float getMinX() {
+      return PlainCharacterTable.this.minX[this.index];
+    }
+
+    @Override
+    public void setMinX(float value) {
+      PlainCharacterTable.this.minX[this.index] = value;
+    }
+
+    @Override
+    public float getMinY() {
+      return PlainCharacterTable.this.minY[this.index];
+    }
+
+    @Override
+    public void setMinY(float value) {
+      PlainCharacterTable.this.minY[this.index] = value;
+    }
+
+    @Override
+    public float getMaxX() {
+      return PlainCharacterTable.this.maxX[this.index];
+    }
+
+    @Override
+    public void setMaxX(float value) {
+      PlainCharacterTable.this.maxX[this.index] = value;
+    }
+
+    @Override
+    public float getMaxY() {
+      return PlainCharacterTable.this.maxY[this.index];
+    }
+
+    @Override
+    public void setMaxY(float value) {
+      PlainCharacterTable.this.maxY[this.index] = value;
+    }
+  }
+}
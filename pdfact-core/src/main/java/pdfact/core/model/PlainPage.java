@@ -1,11 +1,15 @@
 package pdfact.core.model;
 
+import java.util.List;
+
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import com.google.inject.assistedinject.Assisted;
 import com.google.inject.assistedinject.AssistedInject;
 
+import pdfact.core.util.index.SpatialIndex;
+import pdfact.core.util.index.SpatialIndex.SpatialIndexFactory;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
 
@@ -60,6 +64,31 @@ public class PlainPage implements Page {
    */
   protected TextLineStatistic textLineStatistic;
 
+  /**
+   * The table that stores the attributes of the characters of this page.
+   */
+  protected CharacterTable characterTable;
+
+  /**
+   * The spatial index of the characters of this page.
+   */
+  protected LazySpatialIndex<Character> characterIndex;
+
+  /**
+   * The spatial index of the figures of this page.
+   */
+  protected LazySpatialIndex<Figure> figureIndex;
+
+  /**
+   * The spatial index of the shapes of this page.
+   */
+  protected LazySpatialIndex<Shape> shapeIndex;
+
+  /**
+   * The spatial index of the text blocks of this page.
+   */
+  protected LazySpatialIndex<TextBlock> textBlockIndex;
+
   /**
    * Creates a new PDF page.
    * 
@@ -75,6 +104,14 @@ public class PlainPage implements Page {
    *        The factory to create lists of text lines.
    * @param textBlockListFactory
    *        The factory to create lists of text blocks.
+   * @param characterIndexFactory
+   *        The factory to create spatial indexes of characters.
+   * @param figureIndexFactory
+   *        The factory to create spatial indexes of figures.
+   * @param shapeIndexFactory
+   *        The factory to create spatial indexes of shapes.
+   * @param textBlockIndexFactory
+   *        The factory to create spatial indexes of text blocks.
    */
   @AssistedInject
   public PlainPage(
@@ -83,13 +120,21 @@ public class PlainPage implements Page {
       ElementListFactory<Shape> shapeListFactory,
       ElementListFactory<TextArea> textAreaListFactory,
       ElementListFactory<TextLine> textLineListFactory,
-      ElementListFactory<TextBlock> textBlockListFactory) {
+      ElementListFactory<TextBlock> textBlockListFactory,
+      SpatialIndexFactory<Character> characterIndexFactory,
+      SpatialIndexFactory<Figure> figureIndexFactory,
+      SpatialIndexFactory<Shape> shapeIndexFactory,
+      SpatialIndexFactory<TextBlock> textBlockIndexFactory) {
     this(characterListFactory,
         figureListFactory,
         shapeListFactory,
         textAreaListFactory,
         textLineListFactory,
         textBlockListFactory,
+        characterIndexFactory,
+        figureIndexFactory,
+        shapeIndexFactory,
+        textBlockIndexFactory,
         0);
   }
 
@@ -108,6 +153,14 @@ public class PlainPage implements Page {
    *        The factory to create lists of text lines.
    * @param textBlockListFactory
    *        The factory to create lists of text blocks.
+   * @param characterIndexFactory
+   *        The factory to create spatial indexes of characters.
+   * @param figureIndexFactory
+   *        The factory to create spatial indexes of figures.
+   * @param shapeIndexFactory
+   *        The factory to create spatial indexes of shapes.
+   * @param textBlockIndexFactory
+   *        The factory to create spatial indexes of text blocks.
    * @param pageNumber
    *        The number of this page in the PDF document.
    */
@@ -119,6 +172,10 @@ public class PlainPage implements Page {
       ElementListFactory<TextArea> textAreaListFactory,
       ElementListFactory<TextLine> textLineListFactory,
       ElementListFactory<TextBlock> textBlockListFactory,
+      SpatialIndexFactory<Character> characterIndexFactory,
+      SpatialIndexFactory<Figure> figureIndexFactory,
+      SpatialIndexFactory<Shape> shapeIndexFactory,
+      SpatialIndexFactory<TextBlock> textBlockIndexFactory,
       @Assisted int pageNumber) {
     this.characters = characterListFactory.create();
     this.figures = figureListFactory.create();
@@ -126,6 +183,10 @@ public class PlainPage implements Page {
     this.textAreas = textAreaListFactory.create();
     this.textLines = textLineListFactory.create();
     this.textBlocks = textBlockListFactory.create();
+    this.characterIndex = new LazySpatialIndex<>(characterIndexFactory);
+    this.figureIndex = new LazySpatialIndex<>(figureIndexFactory);
+    this.shapeIndex = new LazySpatialIndex<>(shapeIndexFactory);
+    this.textBlockIndex = new LazySpatialIndex<>(textBlockIndexFactory);
     this.pageNumber = pageNumber;
   }
 
@@ -149,16 +210,19 @@ public class PlainPage implements Page {
   @Override
   public void setCharacters(ElementList<Character> characters) {
     this.characters = characters;
+    this.characterIndex.invalidate();
   }
 
   @Override
   public void addCharacters(ElementList<Character> characters) {
     this.characters.addAll(characters);
+    this.characterIndex.invalidate();
   }
 
   @Override
   public void addCharacter(Character character) {
     this.characters.add(character);
+    this.characterIndex.invalidate();
   }
 
   // ==========================================================================
@@ -181,16 +245,19 @@ public class PlainPage implements Page {
   @Override
   public void setFigures(ElementList<Figure> figures) {
     this.figures = figures;
+    this.figureIndex.invalidate();
   }
 
   @Override
   public void addFigures(ElementList<Figure> figures) {
     this.figures.addAll(figures);
+    this.figureIndex.invalidate();
   }
 
   @Override
   public void addFigure(Figure figure) {
     this.figures.add(figure);
+    this.figureIndex.invalidate();
   }
 
   // ==========================================================================
@@ -213,16 +280,19 @@ public class PlainPage implements Page {
   @Override
   public void setShapes(ElementList<Shape> shapes) {
     this.shapes = shapes;
+    this.shapeIndex.invalidate();
   }
 
   @Override
   public void addShapes(ElementList<Shape> shapes) {
     this.shapes.addAll(shapes);
+    this.shapeIndex.invalidate();
   }
 
   @Override
   public void addShape(Shape shape) {
     this.shapes.add(shape);
+    this.shapeIndex.invalidate();
   }
 
   // ==========================================================================
@@ -309,16 +379,19 @@ public class PlainPage implements Page {
   @Override
   public void setTextBlocks(ElementList<TextBlock> blocks) {
     this.textBlocks = blocks;
+    this.textBlockIndex.invalidate();
   }
 
   @Override
   public void addTextBlocks(ElementList<TextBlock> blocks) {
     this.textBlocks.addAll(blocks);
+    this.textBlockIndex.invalidate();
   }
 
   @Override
   public void addTextBlock(TextBlock block) {
     this.textBlocks.add(block);
+    this.textBlockIndex.invalidate();
   }
 
   // ==========================================================================
@@ -335,6 +408,40 @@ public class PlainPage implements Page {
 
   // ==========================================================================
 
+  @Override
+  public CharacterTable getCharacterTable() {
+    return this.characterTable;
+  }
+
+  @Override
+  public void setCharacterTable(CharacterTable table) {
+    this.characterTable = table;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public SpatialIndex<Character> getCharacterIndex() {
+    return this.characterIndex.get(this.characters);
+  }
+
+  @Override
+  public SpatialIndex<Figure> getFigureIndex() {
+    return this.figureIndex.get(this.figures);
+  }
+
+  @Override
+  public SpatialIndex<Shape> getShapeIndex() {
+    return this.shapeIndex.get(this.shapes);
+  }
+
+  @Override
+  public SpatialIndex<TextBlock> getTextBlockIndex() {
+    return this.textBlockIndex.get(this.textBlocks);
+  }
+
+  // ==========================================================================
+
   @Override
   public CharacterStatistic getCharacterStatistic() {
     return this.characterStatistic;
@@ -397,4 +504,80 @@ public class PlainPage implements Page {
     builder.append(getPageNumber());
     return builder.hashCode();
   }
+
+  // ==========================================================================
+
+  /**
+   * A spatial index of a list of elements that is created on demand and is
+   * recreated after it was invalidated. The page invalidates the index each
+   * time the list is replaced or elements are added via the page. As a
+   * safety net, the index is also recreated if the list passed to get() is
+   * another list or has another size than on creating the index. The index
+   * is synchronized, since the pages may be processed by multiple threads
+   * (for example, by semantic modules that run concurrently).
+   * 
+   * @param <T>
+   *        The type of the indexed elements.
+   * 
+   * @author Claudius Korzen
+   */
+  protected static class LazySpatialIndex<T extends HasPosition> {
+    /**
+     * The factory to create the index.
+     */
+    protected SpatialIndexFactory<T> factory;
+
+    /**
+     * The index, or null if it wasn't created yet.
+     */
+    protected SpatialIndex<T> index;
+
+    /**
+     * The list of elements from which the index was created.
+     */
+    protected List<T> elements;
+
+    /**
+     * The number of elements in the list when the index was created.
+     */
+    protected int numElements;
+
+    /**
+     * Creates a new lazy spatial index.
+     * 
+     * @param factory
+     *        The factory to create the index.
+     */
+    public LazySpatialIndex(SpatialIndexFactory<T> factory) {
+      this.factory = factory;
+    }
+
+    /**
+     * Returns the index of the given elements, creates it if needed.
+     * 
+     * @param elements
+     *        The elements to index.
+     * 
+     * @return The index of the given elements.
+     */
+    public synchronized SpatialIndex<T> get(List<T> elements) {
+      int size = elements != null ? elements.size() : 0;
+      if (this.index == null || this.elements != elements
+          || this.numElements != size) {
+        this.index = this.factory.create(elements);
+        this.elements = elements;
+        this.numElements = size;
+      }
+      return this.index;
+    }
+
+    /**
+     * Invalidates the index, such that it is recreated on the next call of
+     * get().
+     */
+    public synchronized void invalidate() {
+      this.index = null;
+      this.elements = null;
+    }
+  }
 }
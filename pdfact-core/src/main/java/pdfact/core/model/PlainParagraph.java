@@ -21,6 +21,11 @@ public class PlainParagraph extends PlainElement implements Paragraph {
    */
   protected ElementList<Word> words;
 
+  /**
+   * The bounding box around the words of this paragraph.
+   */
+  protected BoundingBox boundingBox = new BoundingBox();
+
   /**
    * The text of this paragraph.
    */
@@ -83,16 +88,31 @@ public class PlainParagraph extends PlainElement implements Paragraph {
   @Override
   public void setWords(ElementList<Word> words) {
     this.words = words;
+    this.boundingBox.clear();
+    if (words != null) {
+      for (Word word : words) {
+        this.boundingBox.add(word);
+      }
+    }
   }
 
   @Override
   public void addWords(ElementList<Word> words) {
     this.words.addAll(words);
+    for (Word word : words) {
+      this.boundingBox.add(word);
+    }
   }
 
   @Override
   public void addWord(Word word) {
     this.words.add(word);
+    this.boundingBox.add(word);
+  }
+
+  @Override
+  public BoundingBox getBoundingBox() {
+    return this.boundingBox;
   }
 
   // ==========================================================================
@@ -14,6 +14,7 @@ import com.google.inject.assistedinject.AssistedInject;
 
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
+import pdfact.core.util.pdfbox.DocumentSession;
 
 /**
  * A plain implementation of {@link PdfDocument}.
@@ -26,6 +27,11 @@ public class PlainPdfDocument implements PdfDocument {
    */
   protected Path path;
 
+  /**
+   * The session that owns the underlying PDF file as given by PDFBox.
+   */
+  protected DocumentSession session;
+
   /**
    * The pages of this PDF document.
    */
@@ -116,6 +122,18 @@ public class PlainPdfDocument implements PdfDocument {
 
   // ==========================================================================
 
+  @Override
+  public DocumentSession getSession() {
+    return this.session;
+  }
+
+  @Override
+  public void setSession(DocumentSession session) {
+    this.session = session;
+  }
+
+  // ==========================================================================
+
   @Override
   public List<Page> getPages() {
     return this.pages;
@@ -59,7 +59,14 @@ public class PlainRectangle implements Rectangle {
   @AssistedInject
   public PlainRectangle(RectangleFactory rectangleFactory,
       PointFactory pointFactory) {
-    this(rectangleFactory, pointFactory, 0, 0, 0, 0);
+    // Don't call the setters here, subclasses may store the coordinates
+    // elsewhere.
+    this.rectangleFactory = rectangleFactory;
+    this.pointFactory = pointFactory;
+    this.minX = 0;
+    this.minY = 0;
+    this.maxX = 0;
+    this.maxY = 0;
   }
 
   /**
@@ -354,22 +361,22 @@ public class PlainRectangle implements Rectangle {
 
   @Override
   public Point getLowerLeft() {
-    return this.pointFactory.create(this.minX, this.minY);
+    return this.pointFactory.create(getMinX(), getMinY());
   }
 
   @Override
   public Point getLowerRight() {
-    return this.pointFactory.create(this.maxX, this.minY);
+    return this.pointFactory.create(getMaxX(), getMinY());
   }
   
   @Override
   public Point getUpperLeft() {
-    return this.pointFactory.create(this.minX, this.maxY);
+    return this.pointFactory.create(getMinX(), getMaxY());
   }
 
   @Override
   public Point getUpperRight() {
-    return this.pointFactory.create(this.maxX, this.maxY);
+    return this.pointFactory.create(getMaxX(), getMaxY());
   }
 
   // ==========================================================================
@@ -16,6 +16,11 @@ public class PlainTextArea implements TextArea {
    */
   protected ElementList<Character> characters;
 
+  /**
+   * The bounding box around the characters of this text area.
+   */
+  protected BoundingBox boundingBox = new BoundingBox();
+
   /**
    * The position of this text area.
    */
@@ -63,16 +68,31 @@ public class PlainTextArea implements TextArea {
   @Override
   public void setCharacters(ElementList<Character> characters) {
     this.characters = characters;
+    this.boundingBox.clear();
+    if (characters != null) {
+      for (Character character : characters) {
+        this.boundingBox.add(character);
+      }
+    }
   }
 
   @Override
   public void addCharacters(ElementList<Character> characters) {
     this.characters.addAll(characters);
+    for (Character character : characters) {
+      this.boundingBox.add(character);
+    }
   }
 
   @Override
   public void addCharacter(Character character) {
     this.characters.add(character);
+    this.boundingBox.add(character);
+  }
+
+  @Override
+  public BoundingBox getBoundingBox() {
+    return this.boundingBox;
   }
 
   // ==========================================================================
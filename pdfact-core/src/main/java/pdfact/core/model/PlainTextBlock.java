@@ -19,6 +19,11 @@ public class PlainTextBlock extends PlainElement implements TextBlock {
    */
   protected ElementList<TextLine> textLines;
 
+  /**
+   * The bounding box around the text lines of this text block.
+   */
+  protected BoundingBox boundingBox = new BoundingBox();
+
   /**
    * The text of this text block.
    */
@@ -86,16 +91,31 @@ public class PlainTextBlock extends PlainElement implements TextBlock {
   @Override
   public void setTextLines(ElementList<TextLine> textLines) {
     this.textLines = textLines;
+    this.boundingBox.clear();
+    if (textLines != null) {
+      for (TextLine line : textLines) {
+        this.boundingBox.add(line);
+      }
+    }
   }
 
   @Override
   public void addTextLines(ElementList<TextLine> textLines) {
     this.textLines.addAll(textLines);
+    for (TextLine line : textLines) {
+      this.boundingBox.add(line);
+    }
   }
 
   @Override
   public void addTextLine(TextLine word) {
     this.textLines.add(word);
+    this.boundingBox.add(word);
+  }
+
+  @Override
+  public BoundingBox getBoundingBox() {
+    return this.boundingBox;
   }
 
   // ==========================================================================
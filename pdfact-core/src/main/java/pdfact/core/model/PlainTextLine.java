@@ -19,6 +19,11 @@ public class PlainTextLine extends PlainElement implements TextLine {
    */
   protected ElementList<Character> characters;
 
+  /**
+   * The bounding box around the characters of this text line.
+   */
+  protected BoundingBox boundingBox = new BoundingBox();
+
   /**
    * The words of this text line.
    */
@@ -88,16 +93,31 @@ public class PlainTextLine extends PlainElement implements TextLine {
   @Override
   public void setCharacters(ElementList<Character> characters) {
     this.characters = characters;
+    this.boundingBox.clear();
+    if (characters != null) {
+      for (Character character : characters) {
+        this.boundingBox.add(character);
+      }
+    }
   }
 
   @Override
   public void addCharacters(ElementList<Character> characters) {
     this.characters.addAll(characters);
+    for (Character character : characters) {
+      this.boundingBox.add(character);
+    }
   }
 
   @Override
   public void addCharacter(Character character) {
     this.characters.add(character);
+    this.boundingBox.add(character);
+  }
+
+  @Override
+  public BoundingBox getBoundingBox() {
+    return this.boundingBox;
   }
 
   // ==========================================================================
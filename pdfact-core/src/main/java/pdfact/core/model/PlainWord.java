@@ -21,6 +21,11 @@ public class PlainWord extends PlainElement implements Word {
    */
   protected ElementList<Character> characters;
 
+  /**
+   * The bounding box around the characters of this word.
+   */
+  protected BoundingBox boundingBox = new BoundingBox();
+
   /**
    * The text of this word.
    */
@@ -85,16 +90,31 @@ public class PlainWord extends PlainElement implements Word {
   @Override
   public void setCharacters(ElementList<Character> characters) {
     this.characters = characters;
+    this.boundingBox.clear();
+    if (characters != null) {
+      for (Character character : characters) {
+        this.boundingBox.add(character);
+      }
+    }
   }
 
   @Override
   public void addCharacters(ElementList<Character> characters) {
     this.characters.addAll(characters);
+    for (Character character : characters) {
+      this.boundingBox.add(character);
+    }
   }
 
   @Override
   public void addCharacter(Character character) {
     this.characters.add(character);
+    this.boundingBox.add(character);
+  }
+
+  @Override
+  public BoundingBox getBoundingBox() {
+    return this.boundingBox;
   }
 
   // ==========================================================================
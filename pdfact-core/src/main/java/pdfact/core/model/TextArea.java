@@ -7,7 +7,8 @@ package pdfact.core.model;
  * 
  * @author Claudius Korzen
  */
-public interface TextArea extends Element, HasCharacters, HasPosition {
+public interface TextArea extends Element, HasCharacters, HasPosition,
+    HasBoundingBox {
   /**
    * The factory to create instances of {@link TextArea}.
    * 
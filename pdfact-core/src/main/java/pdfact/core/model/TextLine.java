@@ -6,7 +6,7 @@ package pdfact.core.model;
  * @author Claudius Korzen
  */
 public interface TextLine extends Element, HasCharacters, HasWords, HasText,
-    HasPosition {
+    HasPosition, HasBoundingBox {
   /**
    * Returns the baseline of this text line. For the concept of baselines, see
    * https://en.wikipedia.org/wiki/Baseline_(typography).
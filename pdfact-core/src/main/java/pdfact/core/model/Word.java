@@ -5,7 +5,8 @@ package pdfact.core.model;
  * 
  * @author Claudius Korzen
  */
-public interface Word extends Element, HasCharacters, HasText, HasPositions {
+public interface Word extends Element, HasCharacters, HasText, HasPositions,
+    HasBoundingBox {
   /**
    * Returns true if this word is hyphenated.
    * 
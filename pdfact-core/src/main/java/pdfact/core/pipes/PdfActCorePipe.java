@@ -1,5 +1,6 @@
 package pdfact.core.pipes;
 
+import pdfact.core.util.pipeline.PageListener;
 import pdfact.core.util.pipeline.Pipe;
 
 /**
@@ -9,6 +10,51 @@ import pdfact.core.util.pipeline.Pipe;
  * @author Claudius Korzen
  */
 public interface PdfActCorePipe extends Pipe {
+  /**
+   * Returns the options that define how the PDF documents are processed.
+   * 
+   * @return The processing options.
+   */
+  ProcessingOptions getProcessingOptions();
+
+  /**
+   * Sets the options that define how the PDF documents are processed (the
+   * streaming flag of the options is ignored by this pipe, see
+   * {@link #setPageListener(PageListener)}).
+   * 
+   * @param options
+   *        The processing options.
+   */
+  void setProcessingOptions(ProcessingOptions options);
+
+  // ==========================================================================
+
+  /**
+   * Returns the listener that is notified each time a page was processed in
+   * streaming mode.
+   * 
+   * @return The page listener or null if the PDF documents are processed as
+   *         a whole.
+   */
+  PageListener getPageListener();
+
+  /**
+   * Sets the listener that is notified each time a page was processed. If a
+   * listener is given, the PDF documents are processed in streaming mode: A
+   * first pass computes the statistics about the characters of the whole
+   * document, a second pass processes the pages one at a time, up to the
+   * level of words, and releases each page after passing it to the listener.
+   * Text blocks, semantic roles and paragraphs are not identified in this
+   * mode, as they need all pages at once.
+   * 
+   * @param listener
+   *        The page listener or null if the PDF documents should be processed
+   *        as a whole.
+   */
+  void setPageListener(PageListener listener);
+
+  // ==========================================================================
+
   /**
    * The factory to create instances of {@link PdfActCorePipe}.
    * 
@@ -1,14 +1,23 @@
 package pdfact.core.pipes;
 
+import java.io.IOException;
+import java.util.Arrays;
+
 import org.apache.log4j.Logger;
 
 import com.google.inject.Inject;
 
+import pdfact.core.model.CharacterStatistic;
+import pdfact.core.model.MemoryPolicy;
+import pdfact.core.model.Page;
+import pdfact.core.model.PageSelection;
 import pdfact.core.model.PdfDocument;
+import pdfact.core.model.PdfDocument.PdfDocumentFactory;
 import pdfact.core.pipes.dehyphenate.DehyphenateWordsPipe.DehyphenateWordsPipeFactory;
 import pdfact.core.pipes.filter.characters.FilterCharactersPipe.FilterCharactersPipeFactory;
 import pdfact.core.pipes.filter.figures.FilterFiguresPipe.FilterFiguresPipeFactory;
 import pdfact.core.pipes.filter.shapes.FilterShapesPipe.FilterShapesPipeFactory;
+import pdfact.core.pipes.parse.ParsePdfStreamsPipe;
 import pdfact.core.pipes.parse.ParsePdfStreamsPipe.ParsePdfPipeFactory;
 import pdfact.core.pipes.semanticize.DetectSemanticsPipe.DetectSemanticsPipeFactory;
 import pdfact.core.pipes.tokenize.areas.TokenizeToTextAreasPipe.TokenizeToTextAreasPipeFactory;
@@ -21,9 +30,15 @@ import pdfact.core.pipes.translate.diacritics.MergeDiacriticsPipe.MergeDiacritic
 import pdfact.core.pipes.translate.ligatures.SplitLigaturesPipe.SplitLigaturesPipeFactory;
 import pdfact.core.pipes.validate.ValidatePdfPathPipe.ValidatePdfPathPipeFactory;
 import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActParseException;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pdfbox.DocumentSession;
+import pdfact.core.util.pdfbox.DocumentSession.DocumentSessionFactory;
+import pdfact.core.util.pipeline.PageListener;
+import pdfact.core.util.pipeline.ParallelizablePipe;
 import pdfact.core.util.pipeline.Pipeline;
 import pdfact.core.util.pipeline.Pipeline.PdfActPipelineFactory;
+import pdfact.core.util.statistician.CharacterStatistician;
 
 /**
  * A plain implementation of {@link PdfActCorePipe}.
@@ -117,6 +132,33 @@ public class PlainPdfActCorePipe implements PdfActCorePipe {
    */
   protected DehyphenateWordsPipeFactory dehyphenateWordsPipeFactory;
 
+  /**
+   * The factory to create the PDF documents that hold single pages in
+   * streaming mode.
+   */
+  protected PdfDocumentFactory pdfDocumentFactory;
+
+  /**
+   * The factory to create the sessions that own the loaded PDF files.
+   */
+  protected DocumentSessionFactory sessionFactory;
+
+  /**
+   * The statistician to compute statistics about characters.
+   */
+  protected CharacterStatistician characterStatistician;
+
+  /**
+   * The options that define how the PDF documents are processed.
+   */
+  protected ProcessingOptions options = new ProcessingOptions();
+
+  /**
+   * The listener to notify each time a page was processed in streaming mode
+   * (null if the PDF documents should be processed as a whole).
+   */
+  protected PageListener pageListener;
+
   // ==========================================================================
 
   /**
@@ -154,6 +196,13 @@ public class PlainPdfActCorePipe implements PdfActCorePipe {
    *        The factory to create the pipe that tokenizes blocks to paragraphs.
    * @param dehyphenateWordsPipeFactory
    *        The factory to create the pipe that dehyphenates words.
+   * @param pdfDocumentFactory
+   *        The factory to create the PDF documents that hold single pages in
+   *        streaming mode.
+   * @param sessionFactory
+   *        The factory to create the sessions that own the loaded PDF files.
+   * @param characterStatistician
+   *        The statistician to compute statistics about characters.
    */
   @Inject
   public PlainPdfActCorePipe(PdfActPipelineFactory pipelineFactory,
@@ -171,7 +220,10 @@ public class PlainPdfActCorePipe implements PdfActCorePipe {
       TokenizeToTextBlocksPipeFactory tokenizeToTextBlocksPipeFactory,
       DetectSemanticsPipeFactory semanticizeTextBlocksPipeFactory,
       TokenizeToParagraphsPipeFactory tokenizeToParagraphsPipeFactory,
-      DehyphenateWordsPipeFactory dehyphenateWordsPipeFactory) {
+      DehyphenateWordsPipeFactory dehyphenateWordsPipeFactory,
+      PdfDocumentFactory pdfDocumentFactory,
+      DocumentSessionFactory sessionFactory,
+      CharacterStatistician characterStatistician) {
     this.pipelineFactory = pipelineFactory;
     this.validatePdfPathPipeFactory = validatePdfPathPipeFactory;
     this.parsePdfPipeFactory = parsePdfPipeFactory;
@@ -188,6 +240,9 @@ public class PlainPdfActCorePipe implements PdfActCorePipe {
     this.semanticizeTextBlocksPipeFactory = semanticizeTextBlocksPipeFactory;
     this.tokenizeToParagraphsPipeFactory = tokenizeToParagraphsPipeFactory;
     this.dehyphenateWordsPipeFactory = dehyphenateWordsPipeFactory;
+    this.pdfDocumentFactory = pdfDocumentFactory;
+    this.sessionFactory = sessionFactory;
+    this.characterStatistician = characterStatistician;
   }
 
   // ==========================================================================
@@ -206,37 +261,51 @@ public class PlainPdfActCorePipe implements PdfActCorePipe {
   public PdfDocument execute(PdfDocument pdf) throws PdfActException {
     log.debug("Start of pipe: " + getClass().getSimpleName() + ".");
 
+    if (this.pageListener != null) {
+      executeStreaming(pdf);
+      log.debug("End of pipe: " + getClass().getSimpleName() + ".");
+      return pdf;
+    }
+
     log.debug("Process: Processing the core pipeline.");
 
     // Fill the pipeline with the pipes to execute
     Pipeline pipeline = this.pipelineFactory.create();
+    pipeline.addListeners(this.options.getPipelineListeners());
 
     // Validate the path to the PDF file.
     pipeline.addPipe(this.validatePdfPathPipeFactory.create());
     // Extract the characters, shapes and figures.
-    pipeline.addPipe(this.parsePdfPipeFactory.create());
+    ParsePdfStreamsPipe parsePdfPipe = this.parsePdfPipeFactory.create();
+    parsePdfPipe.setProcessingOptions(this.options);
+    pipeline.addPipe(parallelize(parsePdfPipe));
     // Merge the diacritics.
-    pipeline.addPipe(this.mergeDiacriticsPipeFactory.create());
+    pipeline.addPipe(parallelize(this.mergeDiacriticsPipeFactory.create()));
     // Split the ligatures.
-    pipeline.addPipe(this.splitLigaturesPipeFactory.create());
+    pipeline.addPipe(parallelize(this.splitLigaturesPipeFactory.create()));
     // Standardize characters.
-    pipeline.addPipe(this.standardizeCharactersPipeFactory.create());
+    pipeline.addPipe(
+        parallelize(this.standardizeCharactersPipeFactory.create()));
     // Filter the characters.
-    pipeline.addPipe(this.filterCharactersPipeFactory.create());
+    pipeline.addPipe(parallelize(this.filterCharactersPipeFactory.create()));
     // Filter the figures.
-    pipeline.addPipe(this.filterFiguresPipeFactory.create());
+    pipeline.addPipe(parallelize(this.filterFiguresPipeFactory.create()));
     // Filter the shapes.
-    pipeline.addPipe(this.filterShapesPipeFactory.create());
+    pipeline.addPipe(parallelize(this.filterShapesPipeFactory.create()));
     // Tokenize the page into text areas.
-    pipeline.addPipe(this.tokenizeToTextAreasPipeFactory.create());
+    pipeline.addPipe(
+        parallelize(this.tokenizeToTextAreasPipeFactory.create()));
     // Tokenize the text areas into text lines.
-    pipeline.addPipe(this.tokenizeToTextLinesPipeFactory.create());
+    pipeline.addPipe(
+        parallelize(this.tokenizeToTextLinesPipeFactory.create()));
     // Tokenize the text lines into words.
-    pipeline.addPipe(this.tokenizeToWordsPipeFactory.create());
+    pipeline.addPipe(parallelize(this.tokenizeToWordsPipeFactory.create()));
     // Tokenize the text lines into text blocks.
-    pipeline.addPipe(this.tokenizeToTextBlocksPipeFactory.create());
+    pipeline.addPipe(
+        parallelize(this.tokenizeToTextBlocksPipeFactory.create()));
     // Identify the roles of the text blocks.
-    pipeline.addPipe(this.semanticizeTextBlocksPipeFactory.create());
+    pipeline.addPipe(
+        parallelize(this.semanticizeTextBlocksPipeFactory.create()));
     // Tokenize the text blocks into paragraphs.
     pipeline.addPipe(this.tokenizeToParagraphsPipeFactory.create());
     // Dehyphenate the words.
@@ -254,4 +323,218 @@ public class PlainPdfActCorePipe implements PdfActCorePipe {
     log.debug("End of pipe: " + getClass().getSimpleName() + ".");
     return pdf;
   }
+
+  // ==========================================================================
+  // Methods to process a PDF document in streaming mode.
+
+  /**
+   * Processes the given PDF document page by page. A first pass parses the
+   * characters of the pages (but no figures and shapes) to compute the
+   * statistics about the characters of the whole document (needed by the
+   * tokenizers). A second pass parses and tokenizes the pages one at a time
+   * and passes each page to the page listener, such that only a single page
+   * needs to be held in memory at any time. Hence, the content streams of
+   * each page are interpreted twice.
+   * 
+   * @param pdf
+   *        The PDF document to process.
+   * 
+   * @throws PdfActException
+   *         If something went wrong on processing the PDF document.
+   */
+  protected void executeStreaming(PdfDocument pdf) throws PdfActException {
+    log.debug("Process: Processing the core pipeline in streaming mode.");
+
+    // Validate the path to the PDF file.
+    this.validatePdfPathPipeFactory.create().execute(pdf);
+
+    // Load the PDF file only once for both passes, unless there is a session
+    // already.
+    DocumentSession session = pdf.getSession();
+    boolean isOwnSession = session == null;
+    if (isOwnSession) {
+      MemoryPolicy policy = this.options.getMemoryPolicy();
+      session = policy != null
+          ? this.sessionFactory.create(pdf.getFile(), policy)
+          : this.sessionFactory.create(pdf.getFile());
+    }
+
+    long start = System.currentTimeMillis();
+    try {
+      int[] pageNumbers = getSelectedPageNumbers(pdf, session);
+
+      // The first pass: Compute the character statistic of the document.
+      for (int pageNumber : pageNumbers) {
+        PdfDocument pagePdf = parsePage(pdf, session, pageNumber, true);
+        CharacterStatistic statistic = pdf.getCharacterStatistic();
+        if (statistic == null) {
+          // Copy the statistic, since the next pages are merged into it.
+          statistic = this.characterStatistician.aggregate(
+              Arrays.asList(pagePdf));
+          pdf.setCharacterStatistic(statistic);
+        } else {
+          statistic.add(pagePdf.getCharacterStatistic());
+        }
+      }
+
+      // The second pass: Process the pages one by one.
+      for (int pageNumber : pageNumbers) {
+        PdfDocument pagePdf = parsePage(pdf, session, pageNumber, false);
+        pagePdf.setCharacterStatistic(pdf.getCharacterStatistic());
+        processPage(pagePdf);
+        for (Page page : pagePdf.getPages()) {
+          this.pageListener.pageProcessed(pdf, page);
+        }
+      }
+    } finally {
+      if (isOwnSession) {
+        try {
+          session.close();
+        } catch (IOException e) {
+          log.warn("Couldn't close the PDF file " + pdf.getFile() + ".", e);
+        }
+      }
+    }
+    long length = System.currentTimeMillis() - start;
+
+    log.debug("Processing the core pipeline in streaming mode done.");
+    log.debug("Time needed to process the core pipeline: " + length + "ms.");
+  }
+
+  /**
+   * Returns the numbers of the pages to process, as given by the page
+   * selection.
+   * 
+   * @param pdf
+   *        The PDF document to process.
+   * @param session
+   *        The session that owns the PDF file.
+   * 
+   * @return The numbers of the pages to process, in ascending order.
+   * 
+   * @throws PdfActException
+   *         If the PDF file couldn't be loaded.
+   */
+  protected int[] getSelectedPageNumbers(PdfDocument pdf,
+      DocumentSession session) throws PdfActException {
+    int numPages;
+    try {
+      numPages = session.getPdDocument().getNumberOfPages();
+    } catch (IOException e) {
+      throw new PdfActParseException("Couldn't parse the PDF.", e);
+    }
+    PageSelection selection = this.options.getPageSelection();
+    if (selection != null) {
+      int[] pageNumbers = selection.getPageNumbers(numPages);
+      if (pageNumbers.length == 0 && numPages > 0) {
+        log.warn("The selection '" + selection + "' matches none of the "
+            + numPages + " pages of " + pdf.getPath() + ".");
+      }
+      return pageNumbers;
+    }
+    int[] pageNumbers = new int[numPages];
+    for (int i = 0; i < numPages; i++) {
+      pageNumbers[i] = i + 1;
+    }
+    return pageNumbers;
+  }
+
+  /**
+   * Parses the page with the given page number into a new PDF document that
+   * holds only this page.
+   * 
+   * @param pdf
+   *        The PDF document to which the page belongs to.
+   * @param session
+   *        The session that owns the PDF file.
+   * @param pageNumber
+   *        The number of the page to parse.
+   * @param charactersOnly
+   *        True if only the characters of the page should be parsed; false
+   *        if also the figures and shapes should be parsed.
+   * 
+   * @return A new PDF document that holds the parsed page.
+   * 
+   * @throws PdfActException
+   *         If something went wrong on parsing the page.
+   */
+  protected PdfDocument parsePage(PdfDocument pdf, DocumentSession session,
+      int pageNumber, boolean charactersOnly) throws PdfActException {
+    PdfDocument pagePdf = this.pdfDocumentFactory.create(pdf.getFile());
+    pagePdf.setSession(session);
+
+    PageSelection selection = new PageSelection();
+    selection.addRange(pageNumber, pageNumber);
+
+    ParsePdfStreamsPipe parsePdfPipe = this.parsePdfPipeFactory.create();
+    parsePdfPipe.setProcessingOptions(
+        this.options.withPageSelection(selection));
+    parsePdfPipe.setCharactersOnly(charactersOnly);
+    return parsePdfPipe.execute(pagePdf);
+  }
+
+  /**
+   * Translates, filters and tokenizes the pages of the given PDF document up
+   * to the level of words.
+   * 
+   * @param pdf
+   *        The PDF document to process.
+   * 
+   * @throws PdfActException
+   *         If something went wrong on processing the PDF document.
+   */
+  protected void processPage(PdfDocument pdf) throws PdfActException {
+    Pipeline pipeline = this.pipelineFactory.create();
+    pipeline.addPipe(this.mergeDiacriticsPipeFactory.create());
+    pipeline.addPipe(this.splitLigaturesPipeFactory.create());
+    pipeline.addPipe(this.standardizeCharactersPipeFactory.create());
+    pipeline.addPipe(this.filterCharactersPipeFactory.create());
+    pipeline.addPipe(this.filterFiguresPipeFactory.create());
+    pipeline.addPipe(this.filterShapesPipeFactory.create());
+    pipeline.addPipe(this.tokenizeToTextAreasPipeFactory.create());
+    pipeline.addPipe(this.tokenizeToTextLinesPipeFactory.create());
+    pipeline.addPipe(this.tokenizeToWordsPipeFactory.create());
+    pipeline.process(pdf);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Passes the fork-join pool of the processing options to the given pipe,
+   * such that the given pipe processes the pages in parallel if a pool is
+   * given.
+   * 
+   * @param pipe
+   *        The pipe to parallelize.
+   * 
+   * @return The given pipe.
+   */
+  protected ParallelizablePipe parallelize(ParallelizablePipe pipe) {
+    pipe.setForkJoinPool(this.options.getForkJoinPool());
+    return pipe;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public ProcessingOptions getProcessingOptions() {
+    return this.options;
+  }
+
+  @Override
+  public void setProcessingOptions(ProcessingOptions options) {
+    this.options = options;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public PageListener getPageListener() {
+    return this.pageListener;
+  }
+
+  @Override
+  public void setPageListener(PageListener listener) {
+    this.pageListener = listener;
+  }
 }
@@ -0,0 +1,311 @@
+package pdfact.core.pipes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import pdfact.core.model.MemoryPolicy;
+import pdfact.core.model.PageSelection;
+import pdfact.core.util.cache.ParseCache;
+import pdfact.core.util.pipeline.PipelineListener;
+
+/**
+ * The options that define how PDF documents are processed (for example in
+ * which pool the pages are processed, which pages are processed and how the
+ * PDF files are loaded). The options are immutable: they are created once and
+ * passed as a whole through all layers; each of the with*() methods returns a
+ * modified copy.
+ *
+ * <p>
+ * The given page selection and memory policy are not copied, so they must not
+ * be modified after passing them to the options.
+ *
+ * @author Claudius Korzen
+ */
+public class ProcessingOptions {
+  /**
+   * The pool in which the pages are processed (null if the pages should be
+   * processed sequentially).
+   */
+  protected final ForkJoinPool forkJoinPool;
+
+  /**
+   * The listeners to notify each time a pipe was executed.
+   */
+  protected final List<PipelineListener> pipelineListeners;
+
+  /**
+   * The boolean flag that indicates whether the characters of each page
+   * should be stored in a table.
+   */
+  protected final boolean characterTableEnabled;
+
+  /**
+   * The selection of the pages to process (null if all pages should be
+   * processed).
+   */
+  protected final PageSelection pageSelection;
+
+  /**
+   * The policy that defines how the PDF files are loaded (null if the default
+   * policy should be used).
+   */
+  protected final MemoryPolicy memoryPolicy;
+
+  /**
+   * The boolean flag that indicates whether the PDF files are processed in
+   * streaming mode.
+   */
+  protected final boolean streamingEnabled;
+
+  /**
+   * The cache of processed PDF documents (null if no cache should be used).
+   */
+  protected final ParseCache parseCache;
+
+  // ==========================================================================
+
+  /**
+   * Creates new default options: The pages are processed sequentially and as
+   * a whole, all pages are processed, the default memory policy is used and
+   * no cache is used.
+   */
+  public ProcessingOptions() {
+    this(null, Collections.<PipelineListener>emptyList(), false, null, null,
+        false, null);
+  }
+
+  /**
+   * Creates new options.
+   *
+   * @param pool
+   *        The pool in which the pages are processed.
+   * @param listeners
+   *        The listeners to notify each time a pipe was executed.
+   * @param characterTableEnabled
+   *        Whether the characters of each page should be stored in a table.
+   * @param selection
+   *        The selection of the pages to process.
+   * @param policy
+   *        The policy that defines how the PDF files are loaded.
+   * @param streamingEnabled
+   *        Whether the PDF files are processed in streaming mode.
+   * @param cache
+   *        The cache of processed PDF documents.
+   */
+  protected ProcessingOptions(ForkJoinPool pool,
+      List<PipelineListener> listeners, boolean characterTableEnabled,
+      PageSelection selection, MemoryPolicy policy, boolean streamingEnabled,
+      ParseCache cache) {
+    this.forkJoinPool = pool;
+    this.pipelineListeners = listeners;
+    this.characterTableEnabled = characterTableEnabled;
+    this.pageSelection = selection;
+    this.memoryPolicy = policy;
+    this.streamingEnabled = streamingEnabled;
+    this.parseCache = cache;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the pool in which the pages are processed.
+   *
+   * @return The pool or null if the pages are processed sequentially.
+   */
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  /**
+   * Returns a copy of these options with the given pool.
+   *
+   * @param pool
+   *        The pool in which the pages should be processed or null if the
+   *        pages should be processed sequentially.
+   *
+   * @return A copy of these options.
+   */
+  public ProcessingOptions withForkJoinPool(ForkJoinPool pool) {
+    return new ProcessingOptions(pool, this.pipelineListeners,
+        this.characterTableEnabled, this.pageSelection, this.memoryPolicy,
+        this.streamingEnabled, this.parseCache);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the listeners that are notified each time a pipe was executed
+   * (including the pipes of the core pipeline).
+   *
+   * @return The unmodifiable list of listeners.
+   */
+  public List<PipelineListener> getPipelineListeners() {
+    return this.pipelineListeners;
+  }
+
+  /**
+   * Returns a copy of these options with the given listeners.
+   *
+   * @param listeners
+   *        The listeners that should be notified each time a pipe was
+   *        executed.
+   *
+   * @return A copy of these options.
+   */
+  public ProcessingOptions withPipelineListeners(
+      List<PipelineListener> listeners) {
+    List<PipelineListener> copy = listeners != null
+        ? Collections.unmodifiableList(new ArrayList<>(listeners))
+        : Collections.<PipelineListener>emptyList();
+    return new ProcessingOptions(this.forkJoinPool, copy,
+        this.characterTableEnabled, this.pageSelection, this.memoryPolicy,
+        this.streamingEnabled, this.parseCache);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns true if the characters of each page are stored in a compact
+   * {@link pdfact.core.model.CharacterTable}.
+   *
+   * @return True if the characters are stored in a table; false otherwise.
+   */
+  public boolean isCharacterTableEnabled() {
+    return this.characterTableEnabled;
+  }
+
+  /**
+   * Returns a copy of these options that defines whether the characters of
+   * each page should be stored in a compact
+   * {@link pdfact.core.model.CharacterTable}, to reduce the memory needed
+   * for documents with many characters.
+   *
+   * @param enabled
+   *        True if the characters should be stored in a table; false
+   *        otherwise.
+   *
+   * @return A copy of these options.
+   */
+  public ProcessingOptions withCharacterTableEnabled(boolean enabled) {
+    return new ProcessingOptions(this.forkJoinPool, this.pipelineListeners,
+        enabled, this.pageSelection, this.memoryPolicy,
+        this.streamingEnabled, this.parseCache);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the selection of the pages to process.
+   *
+   * @return The selection of the pages or null if all pages are processed.
+   */
+  public PageSelection getPageSelection() {
+    return this.pageSelection;
+  }
+
+  /**
+   * Returns a copy of these options with the given selection of the pages to
+   * process. The pages that are not selected are not parsed at all and all
+   * statistics are computed from the selected pages only.
+   *
+   * @param selection
+   *        The selection of the pages or null if all pages should be
+   *        processed.
+   *
+   * @return A copy of these options.
+   */
+  public ProcessingOptions withPageSelection(PageSelection selection) {
+    return new ProcessingOptions(this.forkJoinPool, this.pipelineListeners,
+        this.characterTableEnabled, selection, this.memoryPolicy,
+        this.streamingEnabled, this.parseCache);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the policy that defines how the PDF files are loaded.
+   *
+   * @return The memory policy or null if the default policy is used.
+   */
+  public MemoryPolicy getMemoryPolicy() {
+    return this.memoryPolicy;
+  }
+
+  /**
+   * Returns a copy of these options with the given policy that defines how
+   * the PDF files are loaded (that is where the data of the loaded PDF files
+   * is buffered and whether the PDF files are read via a memory mapping).
+   *
+   * @param policy
+   *        The memory policy or null if the default policy should be used.
+   *
+   * @return A copy of these options.
+   */
+  public ProcessingOptions withMemoryPolicy(MemoryPolicy policy) {
+    return new ProcessingOptions(this.forkJoinPool, this.pipelineListeners,
+        this.characterTableEnabled, this.pageSelection, policy,
+        this.streamingEnabled, this.parseCache);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns true if the PDF files are processed in streaming mode.
+   *
+   * @return True if the PDF files are processed in streaming mode; false
+   *         otherwise.
+   */
+  public boolean isStreamingEnabled() {
+    return this.streamingEnabled;
+  }
+
+  /**
+   * Returns a copy of these options that defines whether the PDF files are
+   * processed in streaming mode, that is page by page, such that only a
+   * single page needs to be held in memory at any time. Only the text units
+   * "words" and "characters" can be serialized in this mode, without
+   * considering the semantic roles (which are not identified in this mode).
+   * The PDF files can't be visualized and are not cached in this mode.
+   *
+   * @param enabled
+   *        True if the PDF files should be processed in streaming mode; false
+   *        otherwise.
+   *
+   * @return A copy of these options.
+   */
+  public ProcessingOptions withStreamingEnabled(boolean enabled) {
+    return new ProcessingOptions(this.forkJoinPool, this.pipelineListeners,
+        this.characterTableEnabled, this.pageSelection, this.memoryPolicy,
+        enabled, this.parseCache);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the cache of processed PDF documents.
+   *
+   * @return The cache or null if no cache is used.
+   */
+  public ParseCache getParseCache() {
+    return this.parseCache;
+  }
+
+  /**
+   * Returns a copy of these options with the given cache of processed PDF
+   * documents. If a PDF document is contained in the cache, it is restored
+   * from the cache instead of being parsed and tokenized again. Otherwise, it
+   * is stored to the cache after processing.
+   *
+   * @param cache
+   *        The cache or null if no cache should be used.
+   *
+   * @return A copy of these options.
+   */
+  public ProcessingOptions withParseCache(ParseCache cache) {
+    return new ProcessingOptions(this.forkJoinPool, this.pipelineListeners,
+        this.characterTableEnabled, this.pageSelection, this.memoryPolicy,
+        this.streamingEnabled, cache);
+  }
+}
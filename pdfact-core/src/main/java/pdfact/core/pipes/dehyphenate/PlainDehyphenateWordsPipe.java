@@ -4,7 +4,9 @@ import static pdfact.core.util.lexicon.CharacterLexicon.HYPHENS;
 import static pdfact.core.util.lexicon.CharacterLexicon.LETTERS;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.log4j.Logger;
 
@@ -25,13 +27,15 @@ import pdfact.core.util.list.ElementList.ElementListFactory;
 import pdfact.core.util.log.InjectLogger;
 import pdfact.core.util.normalize.WordNormalizer;
 import pdfact.core.util.normalize.WordNormalizer.WordNormalizerFactory;
+import pdfact.core.util.pipeline.HasCounters;
 
 /**
  * A plain implementation of {@link DehyphenateWordsPipe}.
  * 
  * @author Claudius Korzen
  */
-public class PlainDehyphenateWordsPipe implements DehyphenateWordsPipe {
+public class PlainDehyphenateWordsPipe
+    implements DehyphenateWordsPipe, HasCounters {
   /**
    * The logger.
    */
@@ -362,4 +366,17 @@ public class PlainDehyphenateWordsPipe implements DehyphenateWordsPipe {
 
     return compoundWordPrefixFreq > 0;
   }
+
+  // ==========================================================================
+
+  @Override
+  public Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("words", this.numWords);
+    counters.put("processed-words", this.numProcessedWords);
+    counters.put("dehyphenated-words", this.numDehyphenatedWords);
+    counters.put("normal-words", this.numNormalWords);
+    counters.put("compound-words", this.numCompoundWords);
+    return counters;
+  }
 }
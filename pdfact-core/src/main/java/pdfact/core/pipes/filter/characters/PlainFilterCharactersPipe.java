@@ -1,6 +1,8 @@
 package pdfact.core.pipes.filter.characters;
 
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.log4j.Logger;
 
@@ -13,13 +15,16 @@ import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.HasCounters;
+import pdfact.core.util.pipeline.PageExecutor;
 
 /**
  * A plain implementation of {@link FilterCharactersPipe}.
  * 
  * @author Claudius Korzen
  */
-public class PlainFilterCharactersPipe implements FilterCharactersPipe {
+public class PlainFilterCharactersPipe
+    implements FilterCharactersPipe, HasCounters {
   /**
    * The logger.
    */
@@ -31,6 +36,12 @@ public class PlainFilterCharactersPipe implements FilterCharactersPipe {
    */
   protected ElementListFactory<Character> characterListFactory;
 
+  /**
+   * The pool in which the pages are processed (null if the pages should be
+   * processed sequentially).
+   */
+  protected ForkJoinPool forkJoinPool;
+
   /**
    * The number of processed characters.
    */
@@ -78,27 +89,46 @@ public class PlainFilterCharactersPipe implements FilterCharactersPipe {
    * 
    * @param pdf
    *        The PDF document to process.
+   * 
+   * @throws PdfActException
+   *         If something went wrong while filtering the characters.
    */
-  protected void filterCharacters(PdfDocument pdf) {
+  protected void filterCharacters(PdfDocument pdf) throws PdfActException {
     if (pdf != null) {
-      List<Page> pages = pdf.getPages();
-      for (Page page : pages) {
-        ElementList<Character> before = page.getCharacters();
-        // Create a new list of characters which should not be filtered.
-        ElementList<Character> after =
-            this.characterListFactory.create(before.size());
-        for (Character character : before) {
-          this.numProcessedCharacters++;
-
-          if (isFilterCharacter(character)) {
-            this.numFilteredCharacters++;
-            continue;
-          }
-
-          after.add(character);
-        }
-        page.setCharacters(after);
+      PageExecutor.execute(pdf.getPages(), this.forkJoinPool,
+          page -> filterCharacters(page));
+    }
+  }
+
+  /**
+   * Filters those characters of the given page that should not be considered.
+   * 
+   * @param page
+   *        The page to process.
+   */
+  protected void filterCharacters(Page page) {
+    int numProcessed = 0;
+    int numFiltered = 0;
+
+    ElementList<Character> before = page.getCharacters();
+    // Create a new list of characters which should not be filtered.
+    ElementList<Character> after =
+        this.characterListFactory.create(before.size());
+    for (Character character : before) {
+      numProcessed++;
+
+      if (isFilterCharacter(character)) {
+        numFiltered++;
+        continue;
       }
+
+      after.add(character);
+    }
+    page.setCharacters(after);
+
+    synchronized (this) {
+      this.numProcessedCharacters += numProcessed;
+      this.numFilteredCharacters += numFiltered;
     }
   }
 
@@ -118,12 +148,12 @@ public class PlainFilterCharactersPipe implements FilterCharactersPipe {
     }
 
     // Ignore the character, if the width of its bounding box is <= 0.
-    if (character.getPosition().getRectangle().getWidth() <= 0) {
+    if (character.getMaxX() - character.getMinX() <= 0) {
       return true;
     }
 
     // Ignore the character, if the height of its bounding box is <= 0.
-    if (character.getPosition().getRectangle().getHeight() <= 0) {
+    if (character.getMaxY() - character.getMinY() <= 0) {
       return true;
     }
 
@@ -134,4 +164,26 @@ public class PlainFilterCharactersPipe implements FilterCharactersPipe {
     }
     return false;
   }
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public synchronized Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("processed-characters", this.numProcessedCharacters);
+    counters.put("filtered-characters", this.numFilteredCharacters);
+    return counters;
+  }
 }
@@ -1,6 +1,6 @@
 package pdfact.core.pipes.filter.figures;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.util.pipeline.ParallelizablePipe;
 
 /**
  * A pipe that filters those figures of a PDF document that should not be
@@ -8,7 +8,7 @@ import pdfact.core.util.pipeline.Pipe;
  * 
  * @author Claudius Korzen
  */
-public interface FilterFiguresPipe extends Pipe {
+public interface FilterFiguresPipe extends ParallelizablePipe {
   /**
    * The factory to create instances of {@link FilterFiguresPipe}.
    * 
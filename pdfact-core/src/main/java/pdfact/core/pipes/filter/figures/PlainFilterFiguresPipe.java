@@ -1,6 +1,8 @@
 package pdfact.core.pipes.filter.figures;
 
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.log4j.Logger;
 
@@ -13,13 +15,15 @@ import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.HasCounters;
+import pdfact.core.util.pipeline.PageExecutor;
 
 /**
  * A plain implementation of {@link FilterFiguresPipe}.
  * 
  * @author Claudius Korzen
  */
-public class PlainFilterFiguresPipe implements FilterFiguresPipe {
+public class PlainFilterFiguresPipe implements FilterFiguresPipe, HasCounters {
   /**
    * The logger.
    */
@@ -31,6 +35,12 @@ public class PlainFilterFiguresPipe implements FilterFiguresPipe {
    */
   protected ElementListFactory<Figure> figureListFactory;
 
+  /**
+   * The pool in which the pages are processed (null if the pages should be
+   * processed sequentially).
+   */
+  protected ForkJoinPool forkJoinPool;
+
   /**
    * The number of processed figures.
    */
@@ -77,27 +87,45 @@ public class PlainFilterFiguresPipe implements FilterFiguresPipe {
    * 
    * @param pdf
    *        The PDF document to process.
+   * 
+   * @throws PdfActException
+   *         If something went wrong while filtering the figures.
    */
-  protected void filterFigures(PdfDocument pdf) {
+  protected void filterFigures(PdfDocument pdf) throws PdfActException {
     if (pdf != null) {
-      List<Page> pages = pdf.getPages();
-      for (Page page : pages) {
-        ElementList<Figure> before = page.getFigures();
-        // Create a new list of figures which should not be filtered.
-        ElementList<Figure> after =
-            this.figureListFactory.create(before.size());
-        for (Figure figure : before) {
-          this.numProcessedFigures++;
-
-          if (isFilterFigure(figure)) {
-            this.numFilteredFigures++;
-            continue;
-          }
-
-          after.add(figure);
-        }
-        page.setFigures(after);
+      PageExecutor.execute(pdf.getPages(), this.forkJoinPool,
+          page -> filterFigures(page));
+    }
+  }
+
+  /**
+   * Filters those figures of the given page that should not be considered.
+   * 
+   * @param page
+   *        The page to process.
+   */
+  protected void filterFigures(Page page) {
+    int numProcessed = 0;
+    int numFiltered = 0;
+
+    ElementList<Figure> before = page.getFigures();
+    // Create a new list of figures which should not be filtered.
+    ElementList<Figure> after = this.figureListFactory.create(before.size());
+    for (Figure figure : before) {
+      numProcessed++;
+
+      if (isFilterFigure(figure)) {
+        numFiltered++;
+        continue;
       }
+
+      after.add(figure);
+    }
+    page.setFigures(after);
+
+    synchronized (this) {
+      this.numProcessedFigures += numProcessed;
+      this.numFilteredFigures += numFiltered;
     }
   }
 
@@ -112,4 +140,26 @@ public class PlainFilterFiguresPipe implements FilterFiguresPipe {
   public static boolean isFilterFigure(Figure figure) {
     return false;
   }
-}
\ No newline at end of file
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public synchronized Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("processed-figures", this.numProcessedFigures);
+    counters.put("filtered-figures", this.numFilteredFigures);
+    return counters;
+  }
+}
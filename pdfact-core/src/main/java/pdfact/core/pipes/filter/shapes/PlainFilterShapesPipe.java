@@ -1,6 +1,8 @@
 package pdfact.core.pipes.filter.shapes;
 
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.log4j.Logger;
 
@@ -13,13 +15,15 @@ import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.HasCounters;
+import pdfact.core.util.pipeline.PageExecutor;
 
 /**
  * A plain implementation of {@link FilterShapesPipe}.
  * 
  * @author Claudius Korzen
  */
-public class PlainFilterShapesPipe implements FilterShapesPipe {
+public class PlainFilterShapesPipe implements FilterShapesPipe, HasCounters {
   /**
    * The logger.
    */
@@ -31,6 +35,12 @@ public class PlainFilterShapesPipe implements FilterShapesPipe {
    */
   protected ElementListFactory<Shape> shapeListFactory;
 
+  /**
+   * The pool in which the pages are processed (null if the pages should be
+   * processed sequentially).
+   */
+  protected ForkJoinPool forkJoinPool;
+
   /**
    * The number of processed shapes.
    */
@@ -78,26 +88,45 @@ public class PlainFilterShapesPipe implements FilterShapesPipe {
    * 
    * @param pdf
    *        The PDF document to process.
+   * 
+   * @throws PdfActException
+   *         If something went wrong while filtering the shapes.
    */
-  protected void filterShapes(PdfDocument pdf) {
+  protected void filterShapes(PdfDocument pdf) throws PdfActException {
     if (pdf != null) {
-      List<Page> pages = pdf.getPages();
-      for (Page page : pages) {
-        ElementList<Shape> before = page.getShapes();
-        // Create a new list of shapes which should not be filtered.
-        ElementList<Shape> after = this.shapeListFactory.create(before.size());
-        for (Shape shape : before) {
-          this.numProcessedShapes++;
-
-          if (isFilterShape(shape)) {
-            this.numFilteredShapes++;
-            continue;
-          }
-
-          after.add(shape);
-        }
-        page.setShapes(after);
+      PageExecutor.execute(pdf.getPages(), this.forkJoinPool,
+          page -> filterShapes(page));
+    }
+  }
+
+  /**
+   * Filters those shapes of the given page that should not be considered.
+   * 
+   * @param page
+   *        The page to process.
+   */
+  protected void filterShapes(Page page) {
+    int numProcessed = 0;
+    int numFiltered = 0;
+
+    ElementList<Shape> before = page.getShapes();
+    // Create a new list of shapes which should not be filtered.
+    ElementList<Shape> after = this.shapeListFactory.create(before.size());
+    for (Shape shape : before) {
+      numProcessed++;
+
+      if (isFilterShape(shape)) {
+        numFiltered++;
+        continue;
       }
+
+      after.add(shape);
+    }
+    page.setShapes(after);
+
+    synchronized (this) {
+      this.numProcessedShapes += numProcessed;
+      this.numFilteredShapes += numFiltered;
     }
   }
 
@@ -112,4 +141,26 @@ public class PlainFilterShapesPipe implements FilterShapesPipe {
   public static boolean isFilterShape(Shape shape) {
     return false;
   }
-}
\ No newline at end of file
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public synchronized Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("processed-shapes", this.numProcessedShapes);
+    counters.put("filtered-shapes", this.numFilteredShapes);
+    return counters;
+  }
+}
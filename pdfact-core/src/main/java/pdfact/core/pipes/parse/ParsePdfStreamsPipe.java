@@ -1,6 +1,7 @@
 package pdfact.core.pipes.parse;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.pipes.ProcessingOptions;
+import pdfact.core.util.pipeline.ParallelizablePipe;
 
 /**
  * A pipe that parses the streams of a PDF file for characters, figures and
@@ -8,7 +9,47 @@ import pdfact.core.util.pipeline.Pipe;
  * 
  * @author Claudius Korzen
  */
-public interface ParsePdfStreamsPipe extends Pipe {
+public interface ParsePdfStreamsPipe extends ParallelizablePipe {
+  /**
+   * Returns the options that define how the PDF files are parsed.
+   * 
+   * @return The processing options.
+   */
+  ProcessingOptions getProcessingOptions();
+
+  /**
+   * Sets the options that define how the PDF files are parsed (that is
+   * whether the characters are stored in a table, which pages are parsed and
+   * how the PDF files are loaded). The pool in which the pages are parsed is
+   * given by {@link #setForkJoinPool(java.util.concurrent.ForkJoinPool)}.
+   * 
+   * @param options
+   *        The processing options.
+   */
+  void setProcessingOptions(ProcessingOptions options);
+
+  // ==========================================================================
+
+  /**
+   * Returns true if only the characters of the pages are extracted.
+   * 
+   * @return True if only the characters are extracted; false otherwise.
+   */
+  boolean isCharactersOnly();
+
+  /**
+   * Sets whether only the characters of the pages should be extracted (for
+   * example to compute the character statistic of a PDF file). If so, the
+   * figures and shapes are skipped (such that, in particular, no images need
+   * to be decoded) and the characters are not stored in a table.
+   * 
+   * @param charactersOnly
+   *        True if only the characters should be extracted; false otherwise.
+   */
+  void setCharactersOnly(boolean charactersOnly);
+
+  // ==========================================================================
+
   /**
    * The factory to create instances of {@link ParsePdfStreamsPipe}.
    * 
@@ -1,20 +1,28 @@
 package pdfact.core.pipes.parse;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
 import org.apache.log4j.Logger;
 
 import com.google.inject.assistedinject.AssistedInject;
 
 import pdfact.core.model.PdfDocument;
+import pdfact.core.pipes.ProcessingOptions;
+import pdfact.core.pipes.parse.stream.PdfStreamsParser;
 import pdfact.core.pipes.parse.stream.PdfStreamsParser.PdfStreamsParserFactory;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.HasCounters;
 
 /**
  * A plain implementation of {@link ParsePdfStreamsPipe}.
  * 
  * @author Claudius Korzen
  */
-public class PlainParsePdfStreamsPipe implements ParsePdfStreamsPipe {
+public class PlainParsePdfStreamsPipe
+    implements ParsePdfStreamsPipe, HasCounters {
   /**
    * The logger.
    */
@@ -26,6 +34,28 @@ public class PlainParsePdfStreamsPipe implements ParsePdfStreamsPipe {
    */
   protected PdfStreamsParserFactory factory;
 
+  /**
+   * The pool in which the pages are parsed (null if the pages should be parsed
+   * sequentially).
+   */
+  protected ForkJoinPool forkJoinPool;
+
+  /**
+   * The options that define how the PDF files are parsed.
+   */
+  protected ProcessingOptions options = new ProcessingOptions();
+
+  /**
+   * The boolean flag that indicates whether only the characters of the pages
+   * should be extracted.
+   */
+  protected boolean charactersOnly;
+
+  /**
+   * The parser that parsed the last PDF document.
+   */
+  protected PdfStreamsParser parser;
+
   /**
    * Creates a new pipe that parses the streams of a PDF file for characters,
    * figures and shapes.
@@ -62,6 +92,57 @@ public class PlainParsePdfStreamsPipe implements ParsePdfStreamsPipe {
    *         If something went wrong while parsing the streams of the PDF.
    */
   protected void parsePdf(PdfDocument pdf) throws PdfActException {
-    this.factory.create().parse(pdf);
+    PdfStreamsParser parser = this.factory.create();
+    parser.setProcessingOptions(
+        this.options.withForkJoinPool(this.forkJoinPool));
+    parser.setCharactersOnly(this.charactersOnly);
+    parser.parse(pdf);
+    this.parser = parser;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public ProcessingOptions getProcessingOptions() {
+    return this.options;
+  }
+
+  @Override
+  public void setProcessingOptions(ProcessingOptions options) {
+    this.options = options;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public boolean isCharactersOnly() {
+    return this.charactersOnly;
+  }
+
+  @Override
+  public void setCharactersOnly(boolean charactersOnly) {
+    this.charactersOnly = charactersOnly;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public Map<String, Integer> getCounters() {
+    if (this.parser instanceof HasCounters) {
+      return ((HasCounters) this.parser).getCounters();
+    }
+    return Collections.emptyMap();
   }
 }
@@ -1,6 +1,7 @@
 package pdfact.core.pipes.parse.stream;
 
 import pdfact.core.model.PdfDocument;
+import pdfact.core.pipes.ProcessingOptions;
 import pdfact.core.util.exception.PdfActException;
 
 /**
@@ -24,6 +25,44 @@ public interface PdfStreamsParser {
 
   // ==========================================================================
 
+  /**
+   * Returns the options that define how the PDF files are parsed.
+   * 
+   * @return The processing options.
+   */
+  ProcessingOptions getProcessingOptions();
+
+  /**
+   * Sets the options that define how the PDF files are parsed (that is in
+   * which pool the pages are parsed, whether the characters are stored in a
+   * table, which pages are parsed and how the PDF files are loaded).
+   * 
+   * @param options
+   *        The processing options.
+   */
+  void setProcessingOptions(ProcessingOptions options);
+
+  // ==========================================================================
+
+  /**
+   * Returns true if only the characters of the pages are extracted.
+   * 
+   * @return True if only the characters are extracted; false otherwise.
+   */
+  boolean isCharactersOnly();
+
+  /**
+   * Sets whether only the characters of the pages should be extracted. If so,
+   * the figures and shapes are skipped and the characters are not stored in a
+   * table.
+   * 
+   * @param charactersOnly
+   *        True if only the characters should be extracted; false otherwise.
+   */
+  void setCharactersOnly(boolean charactersOnly);
+
+  // ==========================================================================
+
   /**
    * The factory to create instances of {@link PdfStreamsParser}.
    * 
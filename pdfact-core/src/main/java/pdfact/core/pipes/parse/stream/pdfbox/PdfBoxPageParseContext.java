@@ -0,0 +1,959 @@
+package pdfact.core.pipes.parse.stream.pdfbox;
+
+import java.awt.geom.GeneralPath;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.contentstream.PDContentStream;
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.font.PDType3CharProc;
+import org.apache.pdfbox.pdmodel.graphics.state.PDGraphicsState;
+import org.apache.pdfbox.util.Matrix;
+
+import com.google.inject.assistedinject.Assisted;
+import com.google.inject.assistedinject.AssistedInject;
+
+import pdfact.core.model.Character;
+import pdfact.core.model.CharacterTable;
+import pdfact.core.model.Color;
+import pdfact.core.model.Figure;
+import pdfact.core.model.Font;
+import pdfact.core.model.Page;
+import pdfact.core.model.Page.PageFactory;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.model.Point;
+import pdfact.core.model.Rectangle;
+import pdfact.core.model.Shape;
+import pdfact.core.pipes.parse.stream.pdfbox.operators.OperatorProcessor;
+import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pdfbox.ResourceRegistry;
+import pdfact.core.util.statistician.CharacterStatistician;
+
+/**
+ * The context to parse a single page of a PDF file: holds the state of the
+ * interpreter (the graphics stack, the text matrices, the line path, the
+ * resources, etc.) and the operator processors that work on this state.
+ * Because each page is parsed in its own context, multiple pages of the same
+ * PDF file can be parsed at the same time.
+ * 
+ * @author Claudius Korzen
+ */
+public class PdfBoxPageParseContext {
+  /**
+   * The logger.
+   */
+  @InjectLogger
+  protected static Logger log;
+
+  /**
+   * The map of operator processors.
+   */
+  protected Map<String, OperatorProcessor> operatorProcessors;
+
+  /**
+   * The statistician to compute statistics about characters.
+   */
+  protected CharacterStatistician statistician;
+
+  /**
+   * The PDF document to which the page belongs to.
+   */
+  protected PdfDocument pdf;
+
+  /**
+   * The page to parse, as given by PDFBox.
+   */
+  protected PDPage page;
+
+  /**
+   * The page that is filled with the extracted elements.
+   */
+  protected Page pdfPage;
+
+  /**
+   * The resources of the current stream.
+   */
+  protected PDResources resources;
+
+  /**
+   * The graphics stack of the current page.
+   */
+  protected Stack<PDGraphicsState> graphicsStack;
+
+  /**
+   * The current geometric path constructed from straight lines, quadratic and
+   * cubic (Bézier) curves.
+   */
+  protected GeneralPath linePath;
+
+  /**
+   * The current position of the line path.
+   */
+  protected float[] linePathPosition;
+
+  /**
+   * The position of last MOVETO operation.
+   */
+  protected float[] linePathLastMoveToPosition;
+
+  /**
+   * The clipping winding rule used for the clipping path.
+   */
+  protected int clippingWindingRule = -1;
+
+  /**
+   * The initial matrix of the page.
+   */
+  protected Matrix initialMatrix;
+
+  /**
+   * The current text matrix.
+   */
+  protected Matrix textMatrix;
+
+  /**
+   * The current text line matrix.
+   */
+  protected Matrix textLineMatrix;
+
+  /**
+   * The current type3 glyph bounding box.
+   */
+  protected Rectangle currentType3GlyphBoundingBox;
+
+  /**
+   * Flag to indicate, whether the current stream is a type3 stream.
+   */
+  protected boolean isType3Stream;
+
+  /**
+   * Flag to indicate, whether only the characters of the page are extracted.
+   */
+  protected boolean isCharactersOnly;
+
+  /**
+   * The number of extraction ranks handed out so far (the extraction ranks are
+   * relative to the start of this page).
+   */
+  protected int numExtractionRanks;
+
+  /**
+   * The registry of the fonts, font faces and colors of the PDF file.
+   */
+  protected ResourceRegistry resourceRegistry;
+
+  /**
+   * The fonts used in this page, in the order of their first usage.
+   */
+  protected Set<Font> fonts;
+
+  /**
+   * The colors used in this page, in the order of their first usage.
+   */
+  protected Set<Color> colors;
+
+  /**
+   * The number of extracted characters.
+   */
+  protected int numCharacters;
+
+  /**
+   * The number of extracted figures.
+   */
+  protected int numFigures;
+
+  /**
+   * The number of extracted shapes.
+   */
+  protected int numShapes;
+
+  /**
+   * Creates a new context to parse the given page.
+   * 
+   * @param pageFactory
+   *        The factory to create instances of {@link Page}.
+   * @param operators
+   *        The operator processors to investigate on parsing. They must not
+   *        be shared with other contexts.
+   * @param statistician
+   *        The statistician to compute statistics about characters.
+   * @param pdf
+   *        The PDF document to which the page belongs to.
+   * @param page
+   *        The page to parse.
+   * @param pageNum
+   *        The number of the page in the PDF document.
+   * @param registry
+   *        The registry of the fonts, font faces and colors of the PDF file.
+   */
+  @AssistedInject
+  public PdfBoxPageParseContext(PageFactory pageFactory,
+      Set<OperatorProcessor> operators, CharacterStatistician statistician,
+      @Assisted PdfDocument pdf, @Assisted PDPage page,
+      @Assisted int pageNum, @Assisted ResourceRegistry registry) {
+    this.operatorProcessors = new HashMap<>();
+    for (OperatorProcessor operator : operators) {
+      operator.setStreamEngine(this);
+      this.operatorProcessors.put(operator.getName(), operator);
+    }
+    this.statistician = statistician;
+    this.pdf = pdf;
+    this.page = page;
+    this.pdfPage = pageFactory.create(pageNum);
+    this.graphicsStack = new Stack<PDGraphicsState>();
+    this.graphicsStack.push(new PDGraphicsState(page.getCropBox()));
+    this.initialMatrix = page.getMatrix();
+    this.linePath = new GeneralPath();
+    this.fonts = new LinkedHashSet<>();
+    this.colors = new LinkedHashSet<>();
+    this.resourceRegistry = registry;
+  }
+
+  // ==========================================================================
+  // Methods to process the page.
+
+  /**
+   * Parses the page of this context.
+   * 
+   * @return The page, filled with the extracted characters, figures and shapes.
+   * 
+   * @throws IOException
+   *         If something went wrong while parsing the page.
+   */
+  public Page parse() throws IOException {
+    processStream(this.pdf, this.pdfPage, this.page);
+    handlePdfPageEnd(this.pdf, this.pdfPage);
+    return this.pdfPage;
+  }
+
+  /**
+   * Processes the page content stream.
+   * 
+   * @param pdf
+   *        The PDF document to which the stream belongs to.
+   * @param page
+   *        The PDF page to which the stream belongs to.
+   * @param stream
+   *        The content stream
+   * @throws IOException
+   *         if there is an exception while processing the stream
+   */
+  public void processStream(PdfDocument pdf, Page page, PDContentStream stream)
+      throws IOException {
+    if (stream != null) {
+      PDResources parent = pushResources(stream);
+      Stack<PDGraphicsState> savedStack = saveGraphicsStack();
+      Matrix parentMatrix = this.initialMatrix;
+
+      // Transform the CTM using the stream's matrix.
+      getCurrentTransformationMatrix().concatenate(stream.getMatrix());
+
+      // The stream's initial matrix includes the parent CTM, e.g. this
+      // allows a scaled form.
+      this.initialMatrix = getCurrentTransformationMatrix().clone();
+
+      processStreamOperators(pdf, page, stream);
+
+      // Restore the initialMatrix, the graphics stack and the resources.
+      this.initialMatrix = parentMatrix;
+      restoreGraphicsStack(savedStack);
+      popResources(parent);
+    }
+  }
+
+  /**
+   * Processes a type 3 character stream.
+   * 
+   * @param pdf
+   *        The PDF document to which the stream belongs to.
+   * @param page
+   *        The PDF page to which the stream belongs to.
+   * @param proc
+   *        Type 3 character procedure
+   * @param trm
+   *        The text Rendering Matrix
+   * @throws IOException
+   *         if processing the type stream fails.
+   */
+  public void processType3Stream(PdfDocument pdf, Page page,
+      PDType3CharProc proc, Matrix trm) throws IOException {
+    PDResources parent = pushResources(proc);
+    Stack<PDGraphicsState> savedStack = saveGraphicsStack();
+
+    // Replace the CTM with the TRM
+    setCurrentTransformationMatrix(trm);
+
+    // Transform the CTM using the stream's matrix (this is the FontMatrix)
+    getCurrentTransformationMatrix().concatenate(proc.getMatrix());
+
+    // Save text matrices (Type 3 stream may contain BT/ET, see PDFBOX-2137)
+    Matrix oldTextMatrix = getTextMatrix();
+    setTextMatrix(new Matrix());
+    Matrix oldTextLineMatrix = getTextLineMatrix();
+    setTextLineMatrix(new Matrix());
+
+    setIsType3Stream(true);
+    processStreamOperators(pdf, page, proc);
+    setIsType3Stream(false);
+
+    // Restore text matrices
+    setTextMatrix(oldTextMatrix);
+    setTextLineMatrix(oldTextLineMatrix);
+
+    restoreGraphicsStack(savedStack);
+    popResources(parent);
+  }
+
+  /**
+   * Processes the operators of the given content stream.
+   * 
+   * @param pdf
+   *        The PDF document to which the stream belongs to.
+   * @param page
+   *        The PDF page to which the stream belongs to.
+   * @param stream
+   *        The stream.
+   * @throws IOException
+   *         if parsing the stream fails.
+   */
+  protected void processStreamOperators(PdfDocument pdf, Page page,
+      PDContentStream stream) throws IOException {
+    List<COSBase> arguments = new ArrayList<COSBase>();
+
+    PDFStreamParser parser = new PDFStreamParser(stream);
+    parser.parse();
+
+    for (Object token : parser.getTokens()) {
+      if (token instanceof COSObject) {
+        arguments.add(((COSObject) token).getObject());
+      } else if (token instanceof Operator) {
+        processOperator(pdf, page, (Operator) token, arguments);
+        arguments = new ArrayList<COSBase>();
+      } else {
+        arguments.add((COSBase) token);
+      }
+    }
+  }
+
+  /**
+   * This is used to handle an operator.
+   * 
+   * @param pdf
+   *        The PDF document to which the operator belongs to.
+   * @param page
+   *        The PDF page to which the operator belongs to.
+   * @param operation
+   *        The operation to perform.
+   * @param arguments
+   *        The list of arguments.
+   * @throws IOException
+   *         If there is an error processing the operation.
+   */
+  public void processOperator(PdfDocument pdf, Page page, String operation,
+      List<COSBase> arguments) throws IOException {
+    Operator operator = Operator.getOperator(operation);
+    processOperator(pdf, page, operator, arguments);
+  }
+
+  /**
+   * This is used to handle an operator.
+   * 
+   * @param pdf
+   *        The PDF document to which the operator belongs to.
+   * @param page
+   *        The PDF page to which the operator belongs to.
+   * @param op
+   *        The operation to perform.
+   * @param args
+   *        The list of arguments.
+   * @throws IOException
+   *         If there is an error processing the operation.
+   */
+  protected void processOperator(PdfDocument pdf, Page page, Operator op,
+      List<COSBase> args) throws IOException {
+    OperatorProcessor processor = this.operatorProcessors.get(op.getName());
+
+    log.trace("Processing PDF operator: " + op + "; args: " + args);
+
+    if (processor != null) {
+      try {
+        processor.process(pdf, page, op, args);
+      } catch (IOException e) {
+        log.warn("Error on processing operator '" + op + "'. ", e);
+      }
+    } else {
+      log.trace("Unsupported operator: " + op + "; args: " + args);
+    }
+  }
+
+  // ==========================================================================
+  // Methods related to resources.
+
+  /**
+   * Pushes the given stream's resources, returning the previous resources.
+   * 
+   * @param stream
+   *        The stream.
+   * @return The resources.
+   */
+  protected PDResources pushResources(PDContentStream stream) {
+    // Lookup resources: first look for stream resources, then fallback to
+    // the current page
+    PDResources parentResources = this.resources;
+    PDResources streamResources = stream.getResources();
+    if (streamResources != null) {
+      this.resources = streamResources;
+    } else {
+      // else if (resources != null) {
+      // inherit directly from parent stream, this is not in the PDF spec,
+      // but the file from PDFBOX-1359 does this and works in Acrobat
+      // }
+      this.resources = this.page.getResources();
+    }
+
+    // resources are required in PDF
+    if (this.resources == null) {
+      this.resources = new PDResources();
+    }
+    return parentResources;
+  }
+
+  /**
+   * Pops the current resources and replaces them with the given resources.
+   * 
+   * @param parentResources
+   *        The resources.
+   */
+  protected void popResources(PDResources parentResources) {
+    this.resources = parentResources;
+  }
+
+  /**
+   * Returns the resources of the page.
+   * 
+   * @return The resources.
+   */
+  public PDResources getResources() {
+    return this.resources;
+  }
+
+  // ==========================================================================
+  // Methods related to the graphics stack.
+
+  /**
+   * Saves the entire graphics stack.
+   * 
+   * @return The saved graphics stack.
+   */
+  public final Stack<PDGraphicsState> saveGraphicsStack() {
+    Stack<PDGraphicsState> savedStack = this.graphicsStack;
+    this.graphicsStack = new Stack<PDGraphicsState>();
+    this.graphicsStack.add(savedStack.peek().clone());
+    return savedStack;
+  }
+
+  /**
+   * Restores the entire graphics stack.
+   * 
+   * @param snapshot
+   *        The graphics stack to restore.
+   */
+  public void restoreGraphicsStack(Stack<PDGraphicsState> snapshot) {
+    this.graphicsStack = snapshot;
+  }
+
+  /**
+   * Returns the size of the graphics stack.
+   * 
+   * @return The size of the graphics stack.
+   */
+  public int getGraphicsStackSize() {
+    return this.graphicsStack.size();
+  }
+
+  /**
+   * Returns the graphics state.
+   * 
+   * @return The graphics state.
+   */
+  public PDGraphicsState getGraphicsState() {
+    return this.graphicsStack.peek();
+  }
+
+  /**
+   * Pushes the current graphics state to the stack.
+   */
+  public void saveGraphicsState() {
+    this.graphicsStack.push(this.graphicsStack.peek().clone());
+  }
+
+  /**
+   * Pops the current graphics state from the stack.
+   */
+  public void restoreGraphicsState() {
+    this.graphicsStack.pop();
+  }
+
+  // ==========================================================================
+  // Methods related to the current transformation matrix.
+
+  /**
+   * Returns the current transformation matrix.
+   * 
+   * @return The current transformation matrix.
+   */
+  public Matrix getCurrentTransformationMatrix() {
+    return getGraphicsState().getCurrentTransformationMatrix();
+  }
+
+  /**
+   * Sets the current transformation matrix.
+   * 
+   * @param matrix
+   *        The current transformation matrix.
+   */
+  public void setCurrentTransformationMatrix(Matrix matrix) {
+    getGraphicsState().setCurrentTransformationMatrix(matrix);
+  }
+
+  /**
+   * Transforms the given coordinates by applying the current transformation
+   * matrix.
+   * 
+   * @param p
+   *        The point to transform.
+   */
+  // TODO: Maybe its a better idea to make the transformation *not* in place.
+  public void transform(Point p) {
+    transform(p, getCurrentTransformationMatrix());
+  }
+
+  /**
+   * Transforms the given coordinates by applying the given matrix.
+   * 
+   * @param p
+   *        The point to transform.
+   * @param m
+   *        The matrix to apply.
+   */
+  // TODO: Maybe its a better idea to make the transformation *not* in place.
+  public void transform(Point p, Matrix m) {
+    if (p != null && m != null) {
+      p.setX(p.getX() * m.getScaleX() + p.getY() * m.getShearX()
+          + m.getTranslateX());
+      p.setY(p.getX() * m.getShearY() + p.getY() * m.getScaleY()
+          + m.getTranslateY());
+    }
+  }
+
+  // ==========================================================================
+  // Methods related to text matrices.
+
+  /**
+   * Returns the text line matrix.
+   * 
+   * @return The text line matrix.
+   */
+  public Matrix getTextLineMatrix() {
+    return this.textLineMatrix;
+  }
+
+  /**
+   * Sets the text line matrix.
+   * 
+   * @param value
+   *        The text line matrix.
+   */
+  public void setTextLineMatrix(Matrix value) {
+    this.textLineMatrix = value;
+  }
+
+  /**
+   * Returns the text matrix.
+   * 
+   * @return The text matrix.
+   */
+  public Matrix getTextMatrix() {
+    return this.textMatrix;
+  }
+
+  /**
+   * Sets the text matrix.
+   * 
+   * @param value
+   *        The text matrix to set.
+   */
+  public void setTextMatrix(Matrix value) {
+    this.textMatrix = value;
+  }
+
+  // ==========================================================================
+  // Methods related to Type 3 fonts.
+
+  /**
+   * Returns true, if the current stream to parse is a type3 stream.
+   * 
+   * @return True, if the current stream to parse is a type3 stream.
+   */
+  public boolean isType3Stream() {
+    return this.isType3Stream;
+  }
+
+  /**
+   * Sets the isType3Stream flag.
+   * 
+   * @param isType3Stream
+   *        The flag to set.
+   */
+  public void setIsType3Stream(boolean isType3Stream) {
+    this.isType3Stream = isType3Stream;
+  }
+
+  /**
+   * Sets the current type3 glyph bounding box.
+   * 
+   * @param boundingBox
+   *        The bounding box.
+   */
+  public void setCurrentType3GlyphBoundingBox(Rectangle boundingBox) {
+    this.currentType3GlyphBoundingBox = boundingBox;
+  }
+
+  /**
+   * Returns the current type3 glyph bounding box.
+   * 
+   * @return The current type3 glyph bounding box.
+   */
+  public Rectangle getCurrentType3GlyphBoundingBox() {
+    return this.currentType3GlyphBoundingBox;
+  }
+
+  // ==========================================================================
+  // Methods related to the extracted elements.
+
+  /**
+   * Returns true, if only the characters of the page are extracted. The
+   * operators that only produce figures or shapes (like painting a path or
+   * showing an image) can skip their work in this case.
+   * 
+   * @return True, if only the characters of the page are extracted.
+   */
+  public boolean isCharactersOnly() {
+    return this.isCharactersOnly;
+  }
+
+  /**
+   * Sets the isCharactersOnly flag.
+   * 
+   * @param isCharactersOnly
+   *        The flag to set.
+   */
+  public void setCharactersOnly(boolean isCharactersOnly) {
+    this.isCharactersOnly = isCharactersOnly;
+  }
+
+  // ==========================================================================
+  // Methods related to the line path.
+
+  /**
+   * Returns the current line path of this stripper.
+   * 
+   * @return The line path.
+   */
+  public GeneralPath getLinePath() {
+    return this.linePath;
+  }
+
+  /**
+   * Sets the line path of this stripper.
+   * 
+   * @param path
+   *        The line path to set.
+   */
+  public void setLinePath(GeneralPath path) {
+    if (this.linePath == null || this.linePath.getCurrentPoint() == null) {
+      this.linePath = path;
+    } else {
+      this.linePath.append(path, false);
+    }
+  }
+
+  /**
+   * Returns the current position of the line path.
+   * 
+   * @return The current position of the line path.
+   */
+  public float[] getLinePathPosition() {
+    return this.linePathPosition;
+  }
+
+  /**
+   * Sets the current position of the line path.
+   * 
+   * @param linePathPosition
+   *        The position to set.
+   */
+  public void setLinePathPosition(float[] linePathPosition) {
+    this.linePathPosition = linePathPosition;
+  }
+
+  /**
+   * Returns the position of the last moveto operation in line path.
+   * 
+   * @return The position of the last moveto operation in line path.
+   */
+  public float[] getLinePathLastMoveToPosition() {
+    return this.linePathLastMoveToPosition;
+  }
+
+  /**
+   * Sets the position of the last moveto operation in line path.
+   * 
+   * @param position
+   *        The position to set.
+   */
+  public void setLinePathLastMoveToPosition(float[] position) {
+    this.linePathLastMoveToPosition = position;
+  }
+
+  /**
+   * Returns the current clipping path.
+   * 
+   * @return The current clipping path.
+   */
+  public int getClippingWindingRule() {
+    return this.clippingWindingRule;
+  }
+
+  /**
+   * Modify the current clipping path by intersecting it with the current path.
+   * The clipping path will not be updated until the succeeding painting
+   * operator is called.
+   * 
+   * @param rule
+   *        The winding rule which will be used for clipping.
+   */
+  public void setClippingWindingRule(int rule) {
+    this.clippingWindingRule = rule;
+  }
+
+  // ==========================================================================
+  // Methods related to extraction ranks, fonts and colors.
+
+  /**
+   * Returns the next extraction rank, relative to the start of this page.
+   * 
+   * @return The next extraction rank.
+   */
+  public int nextExtractionRank() {
+    return this.numExtractionRanks++;
+  }
+
+  /**
+   * Returns the number of extraction ranks handed out so far.
+   * 
+   * @return The number of extraction ranks handed out so far.
+   */
+  public int getNumExtractionRanks() {
+    return this.numExtractionRanks;
+  }
+
+  /**
+   * Returns the registry of the fonts, font faces and colors of the PDF file.
+   * 
+   * @return The registry of the fonts, font faces and colors.
+   */
+  public ResourceRegistry getResourceRegistry() {
+    return this.resourceRegistry;
+  }
+
+  /**
+   * Registers the given font as used in this page.
+   * 
+   * @param font
+   *        The font to register.
+   */
+  public void registerFont(Font font) {
+    if (font != null) {
+      this.fonts.add(font);
+    }
+  }
+
+  /**
+   * Returns the fonts used in this page, in the order of their first usage.
+   * 
+   * @return The fonts used in this page.
+   */
+  public Set<Font> getFonts() {
+    return this.fonts;
+  }
+
+  /**
+   * Registers the given color as used in this page.
+   * 
+   * @param color
+   *        The color to register.
+   */
+  public void registerColor(Color color) {
+    if (color != null) {
+      this.colors.add(color);
+    }
+  }
+
+  /**
+   * Returns the colors used in this page, in the order of their first usage.
+   * 
+   * @return The colors used in this page.
+   */
+  public Set<Color> getColors() {
+    return this.colors;
+  }
+
+  // ==========================================================================
+  // Handler methods.
+
+  /**
+   * A callback to handle the end of the processing of a PDF page.
+   * 
+   * @param pdf
+   *        The PDF document to which the given PDF page belongs to.
+   * @param page
+   *        The page to process.
+   */
+  public void handlePdfPageEnd(PdfDocument pdf, Page page) {
+    // Release the unused capacity of the table of the characters.
+    CharacterTable table = page.getCharacterTable();
+    if (table != null) {
+      table.trimToSize();
+    }
+
+    // Compute the character statistics for the page.
+    page.setCharacterStatistic(this.statistician.compute(page));
+  }
+
+  /**
+   * A callback to handle a character.
+   * 
+   * @param pdf
+   *        The PDF document to which the given character belongs to.
+   * @param page
+   *        The PDF page to which the given character belongs to.
+   * @param c
+   *        The character to process.
+   */
+  public void handlePdfCharacter(PdfDocument pdf, Page page, Character c) {
+    // Store the character in the table of the page, if there is any.
+    CharacterTable table = page.getCharacterTable();
+    if (table != null) {
+      c = table.add(c);
+    }
+    page.addCharacter(c);
+    this.numCharacters++;
+  }
+
+  /**
+   * A callback to handle a PdfFigure.
+   * 
+   * @param pdf
+   *        The PDF document to which the given figure belongs to.
+   * @param page
+   *        The PDF page to which the given figure belongs to.
+   * @param figure
+   *        The figure to process.
+   */
+  public void handlePdfFigure(PdfDocument pdf, Page page, Figure figure) {
+    page.addFigure(figure);
+    this.numFigures++;
+  }
+
+  /**
+   * A callback to handle a PdfShape.
+   * 
+   * @param pdf
+   *        The PDF document to which the given shape belongs to.
+   * @param page
+   *        The PDF page to which the given shape belongs to.
+   * @param shape
+   *        The shape to process.
+   */
+  public void handlePdfShape(PdfDocument pdf, Page page, Shape shape) {
+    page.addShape(shape);
+    this.numShapes++;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the page that is filled with the extracted elements.
+   * 
+   * @return The page.
+   */
+  public Page getPage() {
+    return this.pdfPage;
+  }
+
+  /**
+   * Returns the number of extracted characters.
+   * 
+   * @return The number of extracted characters.
+   */
+  public int getNumCharacters() {
+    return this.numCharacters;
+  }
+
+  /**
+   * Returns the number of extracted figures.
+   * 
+   * @return The number of extracted figures.
+   */
+  public int getNumFigures() {
+    return this.numFigures;
+  }
+
+  /**
+   * Returns the number of extracted shapes.
+   * 
+   * @return The number of extracted shapes.
+   */
+  public int getNumShapes() {
+    return this.numShapes;
+  }
+
+  // ==========================================================================
+
+  /**
+   * The factory to create instances of {@link PdfBoxPageParseContext}.
+   * 
+   * @author Claudius Korzen
+   */
+  public interface PdfBoxPageParseContextFactory {
+    /**
+     * Creates a new context to parse the given page.
+     * 
+     * @param pdf
+     *        The PDF document to which the page belongs to.
+     * @param page
+     *        The page to parse.
+     * @param pageNum
+     *        The number of the page in the PDF document.
+     * @param registry
+     *        The registry of the fonts, font faces and colors of the PDF file.
+     * 
+     * @return A new instance of {@link PdfBoxPageParseContext}.
+     */
+    PdfBoxPageParseContext create(PdfDocument pdf, PDPage page, int pageNum,
+        ResourceRegistry registry);
+  }
+}
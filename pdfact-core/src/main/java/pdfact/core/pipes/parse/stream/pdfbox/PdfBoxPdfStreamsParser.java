@@ -1,53 +1,55 @@
 package pdfact.core.pipes.parse.stream.pdfbox;
 
-import java.awt.geom.GeneralPath;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.Stack;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.apache.log4j.Logger;
-import org.apache.pdfbox.contentstream.PDContentStream;
-import org.apache.pdfbox.contentstream.operator.Operator;
-import org.apache.pdfbox.cos.COSBase;
-import org.apache.pdfbox.cos.COSObject;
-import org.apache.pdfbox.pdfparser.PDFStreamParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDResources;
-import org.apache.pdfbox.pdmodel.font.PDType3CharProc;
-import org.apache.pdfbox.pdmodel.graphics.state.PDGraphicsState;
-import org.apache.pdfbox.util.Matrix;
 
 import com.google.inject.Inject;
 
 import pdfact.core.model.Character;
-import pdfact.core.model.Figure;
+import pdfact.core.model.CharacterTable.CharacterTableFactory;
+import pdfact.core.model.Color;
+import pdfact.core.model.Font;
+import pdfact.core.model.MemoryPolicy;
 import pdfact.core.model.Page;
-import pdfact.core.model.Page.PageFactory;
+import pdfact.core.model.PageSelection;
 import pdfact.core.model.PdfDocument;
-import pdfact.core.model.Point;
-import pdfact.core.model.Rectangle;
-import pdfact.core.model.Shape;
+import pdfact.core.pipes.ProcessingOptions;
 import pdfact.core.pipes.parse.stream.PdfStreamsParser;
-import pdfact.core.pipes.parse.stream.pdfbox.operators.OperatorProcessor;
+import pdfact.core.pipes.parse.stream.pdfbox.PdfBoxPageParseContext.PdfBoxPageParseContextFactory;
+import pdfact.core.pipes.parse.stream.pdfbox.convert.PDColorConverter;
+import pdfact.core.pipes.parse.stream.pdfbox.convert.PDFontConverter;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.exception.PdfActParseException;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pdfbox.DocumentSession;
+import pdfact.core.util.pdfbox.PdfBoxLoader;
+import pdfact.core.util.pdfbox.ResourceRegistry;
+import pdfact.core.util.pipeline.HasCounters;
+import pdfact.core.util.pipeline.ResourceMeter;
 import pdfact.core.util.statistician.CharacterStatistician;
 
 // TODO: Refactor all the PDFBox utils (remove unnecessary stuff).
 
 /**
- * Parses PDF content streams and interprets the related operations. Provides a
- * callback interface for clients to handle specific operations.
- * 
+ * Parses PDF content streams and interprets the related operations. Each page
+ * is interpreted in its own {@link PdfBoxPageParseContext}, so the pages can
+ * be interpreted in parallel. The parsed pages are merged in page order
+ * afterwards.
+ *
  * @author Claudius Korzen
  */
-public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
+public class PdfBoxPdfStreamsParser
+    implements PdfStreamsParser, HasCounters {
   /**
    * The logger.
    */
@@ -55,80 +57,57 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
   protected static Logger log;
 
   /**
-   * The factory to create instances of PdfPage.
+   * The factory to create the contexts to parse single pages.
    */
-  protected PageFactory pageFactory;
+  protected PdfBoxPageParseContextFactory contextFactory;
 
   /**
-   * The map of operator processors.
+   * The factory to create the tables of the characters of the pages.
    */
-  protected Map<String, OperatorProcessor> operatorProcessors;
+  protected CharacterTableFactory characterTableFactory;
 
   /**
-   * The statistician to compute statistics about characters.
-   */
-  protected CharacterStatistician statistician;
-
-  /**
-   * The current page in the PDF file.
-   */
-  protected PDPage page;
-
-  /**
-   * The resources of the current page.
-   */
-  protected PDResources resources;
-
-  /**
-   * The graphics stack of the current page.
-   */
-  protected Stack<PDGraphicsState> graphicsStack;
-
-  /**
-   * The current geometric path constructed from straight lines, quadratic and
-   * cubic (Bézier) curves.
+   * The loader to load the PDF files according to the memory policy.
    */
-  protected GeneralPath linePath;
+  protected PdfBoxLoader loader;
 
   /**
-   * The current position of the line path.
+   * The converter to translate fonts (needed to assign the ids of new fonts).
    */
-  protected float[] linePathPosition;
+  protected PDFontConverter fontConverter;
 
   /**
-   * The position of last MOVETO operation.
+   * The converter to translate colors (needed to assign the ids of new
+   * colors).
    */
-  protected float[] linePathLastMoveToPosition;
+  protected PDColorConverter colorConverter;
 
   /**
-   * The clipping winding rule used for the clipping path.
-   */
-  protected int clippingWindingRule = -1;
-
-  /**
-   * The initial matrix of the page.
+   * The statistician to compute statistics about characters.
    */
-  protected Matrix initialMatrix;
+  protected CharacterStatistician statistician;
 
   /**
-   * The current text matrix.
+   * The registry of the fonts, font faces and colors of the PDF file that is
+   * currently parsed.
    */
-  protected Matrix textMatrix;
+  protected ResourceRegistry resourceRegistry;
 
   /**
-   * The current text line matrix.
+   * The options that define how the PDF files are parsed.
    */
-  protected Matrix textLineMatrix;
+  protected ProcessingOptions options = new ProcessingOptions();
 
   /**
-   * The current type3 glyph bounding box.
+   * The boolean flag that indicates whether only the characters of the pages
+   * should be extracted.
    */
-  protected Rectangle currentType3GlyphBoundingBox;
+  protected boolean charactersOnly;
 
   /**
-   * Flag to indicate, whether the current stream is a type3 stream.
+   * The number of extraction ranks handed out in the already merged pages.
    */
-  protected boolean isType3Stream;
+  protected int numExtractionRanks;
 
   /**
    * The number of extracted pages.
@@ -152,25 +131,31 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
 
   /**
    * Creates a new stream engine.
-   * 
-   * @param pageFactory
-   *        The factory to create instance of {@link Page}.
-   * @param operators
-   *        The operator processors to investigate on parsing.
+   *
+   * @param contextFactory
+   *        The factory to create the contexts to parse single pages.
+   * @param characterTableFactory
+   *        The factory to create the tables of the characters of the pages.
+   * @param loader
+   *        The loader to load the PDF files according to the memory policy.
+   * @param fontConverter
+   *        The converter to translate fonts.
+   * @param colorConverter
+   *        The converter to translate colors.
    * @param statistician
    *        The statistician to compute statistics about characters.
    */
   @Inject
-  public PdfBoxPdfStreamsParser(PageFactory pageFactory,
-      Set<OperatorProcessor> operators, CharacterStatistician statistician) {
-    this.pageFactory = pageFactory;
-    this.operatorProcessors = new HashMap<>();
-    for (OperatorProcessor operator : operators) {
-      this.operatorProcessors.put(operator.getName(), operator);
-    }
+  public PdfBoxPdfStreamsParser(PdfBoxPageParseContextFactory contextFactory,
+      CharacterTableFactory characterTableFactory, PdfBoxLoader loader,
+      PDFontConverter fontConverter, PDColorConverter colorConverter,
+      CharacterStatistician statistician) {
+    this.contextFactory = contextFactory;
+    this.characterTableFactory = characterTableFactory;
+    this.loader = loader;
+    this.fontConverter = fontConverter;
+    this.colorConverter = colorConverter;
     this.statistician = statistician;
-    this.graphicsStack = new Stack<PDGraphicsState>();
-    this.linePath = new GeneralPath();
   }
 
   // ==========================================================================
@@ -179,547 +164,227 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
   @Override
   public void parse(PdfDocument pdf) throws PdfActException {
     log.debug("Parsing the streams of the PDF file.");
-    try (PDDocument doc = PDDocument.load(pdf.getFile())) {
-      int numProcessors = this.operatorProcessors.size();
-      log.debug("# registered PDF operator processors: " + numProcessors);
-
-      handlePdfFileStart(pdf);
-      for (int i = 0; i < doc.getPages().getCount(); i++) {
-        processPage(pdf, doc.getPages().get(i), i + 1);
+    // Use the PDF file of the session if there is any, such that the
+    // following pipes don't need to load the PDF file again.
+    DocumentSession session = pdf.getSession();
+
+    // Use the registry of the session, such that all parses of the PDF file
+    // in the session assign the same ids to the fonts and colors. Otherwise,
+    // the fonts and colors are known only within this parse. A parse of the
+    // characters only doesn't see the colors of the shapes and must not
+    // assign any ids on behalf of the full parses.
+    this.resourceRegistry = session != null && !this.charactersOnly
+        ? session.getResourceRegistry() : new ResourceRegistry();
+
+    if (session != null) {
+      try {
+        parse(pdf, session.getPdDocument());
+      } catch (IOException e) {
+        throw new PdfActParseException("Couldn't parse the PDF.", e);
       }
-      handlePdfFileEnd(pdf);
+      return;
+    }
 
-      log.debug("Parsing the streams of the PDF file done.");
-      log.debug("# extracted pages: " + this.numPages);
-      log.debug("# extracted characters: " + this.numCharacters);
-      log.debug("# extracted figures: " + this.numFigures);
-      log.debug("# extracted shapes: " + this.numShapes);
+    ForkJoinPool pool = this.options.getForkJoinPool();
+    int numParallelLoads = pool != null ? pool.getParallelism() : 1;
+    try (PDDocument doc = loadDocument(pdf, numParallelLoads)) {
+      parse(pdf, doc);
     } catch (IOException e) {
       throw new PdfActParseException("Couldn't parse the PDF.", e);
     }
   }
 
   /**
-   * Processes the given page.
-   * 
-   * @param pdf
-   *        The PDF document to which the given page belongs to.
-   * @param page
-   *        The page to process
-   * @param pageNum
-   *        The number of the page in the PDF document.
-   * @throws IOException
-   *         If something went wrong while parsing the page.
-   */
-  protected void processPage(PdfDocument pdf, PDPage page, int pageNum)
-      throws IOException {
-    this.page = page;
-    this.graphicsStack.clear();
-    this.graphicsStack.push(new PDGraphicsState(page.getCropBox()));
-    this.resources = null;
-    this.textMatrix = null;
-    this.textLineMatrix = null;
-    this.initialMatrix = page.getMatrix();
-    this.linePath = new GeneralPath();
-    this.linePathPosition = null;
-    this.linePathLastMoveToPosition = null;
-    this.clippingWindingRule = -1;
-    this.currentType3GlyphBoundingBox = null;
-    this.isType3Stream = false;
-
-    Page pdfPage = this.pageFactory.create(pageNum);
-
-    handlePdfPageStart(pdf, pdfPage);
-    processStream(pdf, pdfPage, page);
-    handlePdfPageEnd(pdf, pdfPage);
-  }
-
-  /**
-   * Processes the page content stream.
-   * 
+   * Parses the given PDF document.
+   *
    * @param pdf
-   *        The PDF document to which the stream belongs to.
-   * @param page
-   *        The PDF page to which the stream belongs to.
-   * @param stream
-   *        The content stream
+   *        The PDF document to parse.
+   * @param doc
+   *        The PDF document to parse, as given by PDFBox.
+   *
    * @throws IOException
-   *         if there is an exception while processing the stream
-   */
-  public void processStream(PdfDocument pdf, Page page, PDContentStream stream)
-      throws IOException {
-    if (stream != null) {
-      PDResources parent = pushResources(stream);
-      Stack<PDGraphicsState> savedStack = saveGraphicsStack();
-      Matrix parentMatrix = this.initialMatrix;
-
-      // Transform the CTM using the stream's matrix.
-      getCurrentTransformationMatrix().concatenate(stream.getMatrix());
-
-      // The stream's initial matrix includes the parent CTM, e.g. this
-      // allows a scaled form.
-      this.initialMatrix = getCurrentTransformationMatrix().clone();
-
-      processStreamOperators(pdf, page, stream);
-
-      // Restore the initialMatrix, the graphics stack and the resources.
-      this.initialMatrix = parentMatrix;
-      restoreGraphicsStack(savedStack);
-      popResources(parent);
+   *         If something went wrong while parsing the pages.
+   * @throws PdfActException
+   *         If parsing the pages was interrupted.
+   */
+  protected void parse(PdfDocument pdf, PDDocument doc)
+      throws IOException, PdfActException {
+    handlePdfFileStart(pdf);
+    for (PdfBoxPageParseContext context : parsePages(pdf, doc)) {
+      handlePdfPage(pdf, context);
     }
-  }
-
-  /**
-   * Processes a type 3 character stream.
-   * 
-   * @param pdf
-   *        The PDF document to which the stream belongs to.
-   * @param page
-   *        The PDF page to which the stream belongs to.
-   * @param proc
-   *        Type 3 character procedure
-   * @param trm
-   *        The text Rendering Matrix
-   * @throws IOException
-   *         if processing the type stream fails.
-   */
-  public void processType3Stream(PdfDocument pdf, Page page,
-      PDType3CharProc proc, Matrix trm) throws IOException {
-    PDResources parent = pushResources(proc);
-    Stack<PDGraphicsState> savedStack = saveGraphicsStack();
-
-    // Replace the CTM with the TRM
-    setCurrentTransformationMatrix(trm);
-
-    // Transform the CTM using the stream's matrix (this is the FontMatrix)
-    getCurrentTransformationMatrix().concatenate(proc.getMatrix());
-
-    // Save text matrices (Type 3 stream may contain BT/ET, see PDFBOX-2137)
-    Matrix oldTextMatrix = getTextMatrix();
-    setTextMatrix(new Matrix());
-    Matrix oldTextLineMatrix = getTextLineMatrix();
-    setTextLineMatrix(new Matrix());
-
-    setIsType3Stream(true);
-    processStreamOperators(pdf, page, proc);
-    setIsType3Stream(false);
-
-    // Restore text matrices
-    setTextMatrix(oldTextMatrix);
-    setTextLineMatrix(oldTextLineMatrix);
+    handlePdfFileEnd(pdf);
 
-    restoreGraphicsStack(savedStack);
-    popResources(parent);
+    log.debug("Parsing the streams of the PDF file done.");
+    log.debug("# extracted pages: " + this.numPages);
+    log.debug("# extracted characters: " + this.numCharacters);
+    log.debug("# extracted figures: " + this.numFigures);
+    log.debug("# extracted shapes: " + this.numShapes);
   }
 
   /**
-   * Processes the operators of the given content stream.
-   * 
+   * Parses the selected pages of the given PDF document, either sequentially
+   * or in parallel in the fork-join pool of this parser.
+   *
    * @param pdf
-   *        The PDF document to which the stream belongs to.
-   * @param page
-   *        The PDF page to which the stream belongs to.
-   * @param stream
-   *        The stream.
+   *        The PDF document to parse.
+   * @param doc
+   *        The PDF document to parse, as given by PDFBox.
+   *
+   * @return The contexts of the parsed pages, in page order.
+   *
    * @throws IOException
-   *         if parsing the stream fails.
-   */
-  protected void processStreamOperators(PdfDocument pdf, Page page,
-      PDContentStream stream) throws IOException {
-    List<COSBase> arguments = new ArrayList<COSBase>();
-
-    PDFStreamParser parser = new PDFStreamParser(stream);
-    parser.parse();
-
-    for (Object token : parser.getTokens()) {
-      if (token instanceof COSObject) {
-        arguments.add(((COSObject) token).getObject());
-      } else if (token instanceof Operator) {
-        processOperator(pdf, page, (Operator) token, arguments);
-        arguments = new ArrayList<COSBase>();
+   *         If something went wrong while parsing the pages.
+   * @throws PdfActException
+   *         If parsing the pages was interrupted.
+   */
+  protected List<PdfBoxPageParseContext> parsePages(PdfDocument pdf,
+      PDDocument doc) throws IOException, PdfActException {
+    int[] pageNumbers = getSelectedPageNumbers(pdf, doc);
+    int numPages = pageNumbers.length;
+    ForkJoinPool pool = this.options.getForkJoinPool();
+
+    // Parse the pages sequentially if there is nothing to parallelize.
+    if (pool == null || pool.getParallelism() < 2 || numPages < 2) {
+      return parsePages(pdf, doc, pageNumbers, 0, numPages);
+    }
+
+    // A PDDocument must not be accessed by multiple threads, so split the
+    // pages into consecutive ranges and let each task parse its range in its
+    // own instance of the document. The first range uses the given document.
+    int numParallelLoads = pool.getParallelism();
+    int numRanges = Math.min(numParallelLoads, numPages);
+    List<Callable<List<PdfBoxPageParseContext>>> tasks = new ArrayList<>();
+    for (int i = 0; i < numRanges; i++) {
+      int from = (int) ((long) numPages * i / numRanges);
+      int to = (int) ((long) numPages * (i + 1) / numRanges);
+      if (i == 0) {
+        tasks.add(ResourceMeter.wrap(
+            () -> parsePages(pdf, doc, pageNumbers, from, to)));
       } else {
-        arguments.add((COSBase) token);
+        tasks.add(ResourceMeter.wrap(() -> {
+          try (PDDocument rangeDoc = loadDocument(pdf, numParallelLoads)) {
+            return parsePages(pdf, rangeDoc, pageNumbers, from, to);
+          }
+        }));
       }
     }
-  }
 
-  /**
-   * This is used to handle an operator.
-   * 
-   * @param pdf
-   *        The PDF document to which the operator belongs to.
-   * @param page
-   *        The PDF page to which the operator belongs to.
-   * @param operation
-   *        The operation to perform.
-   * @param arguments
-   *        The list of arguments.
-   * @throws IOException
-   *         If there is an error processing the operation.
-   */
-  public void processOperator(PdfDocument pdf, Page page, String operation,
-      List<COSBase> arguments) throws IOException {
-    Operator operator = Operator.getOperator(operation);
-    processOperator(pdf, page, operator, arguments);
-  }
-
-  /**
-   * This is used to handle an operator.
-   * 
-   * @param pdf
-   *        The PDF document to which the operator belongs to.
-   * @param page
-   *        The PDF page to which the operator belongs to.
-   * @param op
-   *        The operation to perform.
-   * @param args
-   *        The list of arguments.
-   * @throws IOException
-   *         If there is an error processing the operation.
-   */
-  protected void processOperator(PdfDocument pdf, Page page, Operator op,
-      List<COSBase> args) throws IOException {
-    OperatorProcessor processor = this.operatorProcessors.get(op.getName());
-
-    log.trace("Processing PDF operator: " + op + "; args: " + args);
-
-    if (processor != null) {
+    List<PdfBoxPageParseContext> contexts = new ArrayList<>(numPages);
+    for (Future<List<PdfBoxPageParseContext>> future : pool.invokeAll(tasks)) {
       try {
-        processor.setStreamEngine(this);
-        processor.process(pdf, page, op, args);
-      } catch (IOException e) {
-        log.warn("Error on processing operator '" + op + "'. ", e);
+        contexts.addAll(future.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PdfActParseException("Interrupted while parsing the PDF.", e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException) {
+          throw (IOException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new PdfActParseException("Couldn't parse the PDF.", cause);
       }
-    } else {
-      log.trace("Unsupported operator: " + op + "; args: " + args);
     }
+    return contexts;
   }
 
-  // ========================================================================
-  // Methods related to resources.
-
   /**
-   * Pushes the given stream's resources, returning the previous resources.
-   * 
-   * @param stream
-   *        The stream.
-   * @return The resources.
+   * Loads the given PDF document according to the memory policy of this
+   * parser.
+   *
+   * @param pdf
+   *        The PDF document to load.
+   * @param numParallelLoads
+   *        The number of instances of the PDF document that are loaded in
+   *        parallel. The main memory given by the memory policy is divided
+   *        equally among them.
+   *
+   * @return The PDF document, as given by PDFBox.
+   *
+   * @throws IOException
+   *         If loading the PDF document failed.
    */
-  protected PDResources pushResources(PDContentStream stream) {
-    // Lookup resources: first look for stream resources, then fallback to
-    // the current page
-    PDResources parentResources = this.resources;
-    PDResources streamResources = stream.getResources();
-    if (streamResources != null) {
-      this.resources = streamResources;
-    } else {
-      // else if (resources != null) {
-      // inherit directly from parent stream, this is not in the PDF spec,
-      // but the file from PDFBOX-1359 does this and works in Acrobat
-      // }
-      this.resources = this.page.getResources();
-    }
-
-    // resources are required in PDF
-    if (this.resources == null) {
-      this.resources = new PDResources();
+  protected PDDocument loadDocument(PdfDocument pdf, int numParallelLoads)
+      throws IOException {
+    MemoryPolicy policy = this.options.getMemoryPolicy();
+    if (policy != null && numParallelLoads > 1) {
+      policy = policy.getPartitionedCopy(numParallelLoads);
     }
-    return parentResources;
-  }
-
-  /**
-   * Pops the current resources and replaces them with the given resources.
-   * 
-   * @param parentResources
-   *        The resources.
-   */
-  protected void popResources(PDResources parentResources) {
-    this.resources = parentResources;
-  }
-
-  /**
-   * Returns the resources of the page.
-   * 
-   * @return The resources.
-   */
-  public PDResources getResources() {
-    return this.resources;
+    return this.loader.load(pdf.getFile(), policy);
   }
 
-  // ========================================================================
-  // Methods related to the graphics stack.
-
   /**
-   * Saves the entire graphics stack.
-   * 
-   * @return The saved graphics stack.
-   */
-  public final Stack<PDGraphicsState> saveGraphicsStack() {
-    Stack<PDGraphicsState> savedStack = this.graphicsStack;
-    this.graphicsStack = new Stack<PDGraphicsState>();
-    this.graphicsStack.add(savedStack.peek().clone());
-    return savedStack;
-  }
-
-  /**
-   * Restores the entire graphics stack.
-   * 
-   * @param snapshot
-   *        The graphics stack to restore.
-   */
-  public void restoreGraphicsStack(Stack<PDGraphicsState> snapshot) {
-    this.graphicsStack = snapshot;
-  }
-
-  /**
-   * Returns the size of the graphics stack.
-   * 
-   * @return The size of the graphics stack.
-   */
-  public int getGraphicsStackSize() {
-    return this.graphicsStack.size();
-  }
-
-  /**
-   * Returns the graphics state.
-   * 
-   * @return The graphics state.
-   */
-  public PDGraphicsState getGraphicsState() {
-    return this.graphicsStack.peek();
-  }
-
-  /**
-   * Pushes the current graphics state to the stack.
-   */
-  public void saveGraphicsState() {
-    this.graphicsStack.push(this.graphicsStack.peek().clone());
-  }
-
-  /**
-   * Pops the current graphics state from the stack.
-   */
-  public void restoreGraphicsState() {
-    this.graphicsStack.pop();
-  }
-
-  // ========================================================================
-  // Methods related to the current transformation matrix.
-
-  /**
-   * Returns the current transformation matrix.
-   * 
-   * @return The current transformation matrix.
-   */
-  public Matrix getCurrentTransformationMatrix() {
-    return getGraphicsState().getCurrentTransformationMatrix();
-  }
-
-  /**
-   * Sets the current transformation matrix.
-   * 
-   * @param matrix
-   *        The current transformation matrix.
-   */
-  public void setCurrentTransformationMatrix(Matrix matrix) {
-    getGraphicsState().setCurrentTransformationMatrix(matrix);
-  }
-
-  /**
-   * Transforms the given coordinates by applying the current transformation
-   * matrix.
-   * 
-   * @param p
-   *        The point to transform.
-   */
-  // TODO: Maybe its a better idea to make the transformation *not* in place.
-  public void transform(Point p) {
-    transform(p, getCurrentTransformationMatrix());
-  }
-
-  /**
-   * Transforms the given coordinates by applying the given matrix.
-   * 
-   * @param p
-   *        The point to transform.
-   * @param m
-   *        The matrix to apply.
-   */
-  // TODO: Maybe its a better idea to make the transformation *not* in place.
-  public void transform(Point p, Matrix m) {
-    if (p != null && m != null) {
-      p.setX(p.getX() * m.getScaleX() + p.getY() * m.getShearX()
-          + m.getTranslateX());
-      p.setY(p.getX() * m.getShearY() + p.getY() * m.getScaleY()
-          + m.getTranslateY());
+   * Returns the numbers of the pages to parse, as given by the page selection
+   * of this parser. The content streams of all other pages are never read.
+   *
+   * @param pdf
+   *        The PDF document to parse.
+   * @param doc
+   *        The PDF document to parse, as given by PDFBox.
+   *
+   * @return The numbers of the pages to parse, in ascending order.
+   */
+  protected int[] getSelectedPageNumbers(PdfDocument pdf, PDDocument doc) {
+    int numPages = doc.getNumberOfPages();
+    PageSelection selection = this.options.getPageSelection();
+    if (selection != null) {
+      int[] pageNumbers = selection.getPageNumbers(numPages);
+      if (pageNumbers.length == 0 && numPages > 0) {
+        log.warn("The selection '" + selection + "' matches none of the "
+            + numPages + " pages of " + pdf.getPath() + ".");
+      }
+      return pageNumbers;
     }
-  }
-
-  // ========================================================================
-  // Methods related to text matrices.
-
-  /**
-   * Returns the text line matrix.
-   * 
-   * @return The text line matrix.
-   */
-  public Matrix getTextLineMatrix() {
-    return this.textLineMatrix;
-  }
-
-  /**
-   * Sets the text line matrix.
-   * 
-   * @param value
-   *        The text line matrix.
-   */
-  public void setTextLineMatrix(Matrix value) {
-    this.textLineMatrix = value;
-  }
-
-  /**
-   * Returns the text matrix.
-   * 
-   * @return The text matrix.
-   */
-  public Matrix getTextMatrix() {
-    return this.textMatrix;
-  }
-
-  /**
-   * Sets the text matrix.
-   * 
-   * @param value
-   *        The text matrix to set.
-   */
-  public void setTextMatrix(Matrix value) {
-    this.textMatrix = value;
-  }
-
-  // ========================================================================
-  // Methods related to Type 3 fonts.
-
-  /**
-   * Returns true, if the current stream to parse is a type3 stream.
-   * 
-   * @return True, if the current stream to parse is a type3 stream.
-   */
-  public boolean isType3Stream() {
-    return this.isType3Stream;
-  }
-
-  /**
-   * Sets the isType3Stream flag.
-   * 
-   * @param isType3Stream
-   *        The flag to set.
-   */
-  public void setIsType3Stream(boolean isType3Stream) {
-    this.isType3Stream = isType3Stream;
-  }
-
-  /**
-   * Sets the current type3 glyph bounding box.
-   * 
-   * @param boundingBox
-   *        The bounding box.
-   */
-  public void setCurrentType3GlyphBoundingBox(Rectangle boundingBox) {
-    this.currentType3GlyphBoundingBox = boundingBox;
-  }
-
-  /**
-   * Returns the current type3 glyph bounding box.
-   * 
-   * @return The current type3 glyph bounding box.
-   */
-  public Rectangle getCurrentType3GlyphBoundingBox() {
-    return this.currentType3GlyphBoundingBox;
-  }
-
-  // ==========================================================================
-  // Methods related to the line path.
-
-  /**
-   * Returns the current line path of this stripper.
-   * 
-   * @return The line path.
-   */
-  public GeneralPath getLinePath() {
-    return this.linePath;
-  }
-
-  /**
-   * Sets the line path of this stripper.
-   * 
-   * @param path
-   *        The line path to set.
-   */
-  public void setLinePath(GeneralPath path) {
-    if (this.linePath == null || this.linePath.getCurrentPoint() == null) {
-      this.linePath = path;
-    } else {
-      this.linePath.append(path, false);
+    int[] pageNumbers = new int[numPages];
+    for (int i = 0; i < numPages; i++) {
+      pageNumbers[i] = i + 1;
     }
+    return pageNumbers;
   }
 
   /**
-   * Returns the current position of the line path.
-   * 
-   * @return The current position of the line path.
-   */
-  public float[] getLinePathPosition() {
-    return this.linePathPosition;
-  }
-
-  /**
-   * Sets the current position of the line path.
-   * 
-   * @param linePathPosition
-   *        The position to set.
-   */
-  public void setLinePathPosition(float[] linePathPosition) {
-    this.linePathPosition = linePathPosition;
-  }
-
-  /**
-   * Returns the position of the last moveto operation in line path.
-   * 
-   * @return The position of the last moveto operation in line path.
-   */
-  public float[] getLinePathLastMoveToPosition() {
-    return this.linePathLastMoveToPosition;
-  }
-
-  /**
-   * Sets the position of the last moveto operation in line path.
-   * 
-   * @param position
-   *        The position to set.
-   */
-  public void setLinePathLastMoveToPosition(float[] position) {
-    this.linePathLastMoveToPosition = position;
-  }
-
-  /**
-   * Returns the current clipping path.
-   * 
-   * @return The current clipping path.
-   */
-  public int getClippingWindingRule() {
-    return this.clippingWindingRule;
-  }
-
-  /**
-   * Modify the current clipping path by intersecting it with the current path.
-   * The clipping path will not be updated until the succeeding painting
-   * operator is called.
-   * 
-   * @param rule
-   *        The winding rule which will be used for clipping.
+   * Parses the pages with the page numbers in the given range of the given
+   * array.
+   *
+   * @param pdf
+   *        The PDF document to parse.
+   * @param doc
+   *        The PDF document to parse, as given by PDFBox.
+   * @param pageNumbers
+   *        The numbers of the pages to parse.
+   * @param from
+   *        The index of the first page number to parse (inclusive).
+   * @param to
+   *        The index of the last page number to parse (exclusive).
+   *
+   * @return The contexts of the parsed pages, in page order.
+   *
+   * @throws IOException
+   *         If something went wrong while parsing the pages.
    */
-  public void setClippingWindingRule(int rule) {
-    this.clippingWindingRule = rule;
+  protected List<PdfBoxPageParseContext> parsePages(PdfDocument pdf,
+      PDDocument doc, int[] pageNumbers, int from, int to)
+      throws IOException {
+    List<PdfBoxPageParseContext> contexts = new ArrayList<>(to - from);
+    for (int i = from; i < to; i++) {
+      int pageNumber = pageNumbers[i];
+      PdfBoxPageParseContext context = this.contextFactory.create(pdf,
+          doc.getPage(pageNumber - 1), pageNumber, this.resourceRegistry);
+      context.setCharactersOnly(this.charactersOnly);
+      if (this.options.isCharacterTableEnabled() && !this.charactersOnly) {
+        Page page = context.getPage();
+        page.setCharacterTable(this.characterTableFactory.create(page));
+      }
+      context.parse();
+      contexts.add(context);
+    }
+    return contexts;
   }
 
   // ==========================================================================
@@ -727,7 +392,7 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
 
   /**
    * A callback to handle the start of parsing the PDF file.
-   * 
+   *
    * @param pdf
    *        The PDF document.
    */
@@ -737,7 +402,7 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
 
   /**
    * A callback to handle the end of parsing the PDF file.
-   * 
+   *
    * @param pdf
    *        The PDF document.
    */
@@ -747,73 +412,72 @@ public class PdfBoxPdfStreamsParser implements PdfStreamsParser {
   }
 
   /**
-   * A callback to handle the start of the processing of a PDF page.
-   * 
+   * A callback to handle a parsed page. The pages are handled in page order,
+   * regardless of whether they were parsed sequentially or in parallel.
+   *
    * @param pdf
-   *        The PDF document to which the given PDF page belongs to.
-   * @param page
-   *        The page to process.
+   *        The PDF document to which the given page belongs to.
+   * @param context
+   *        The context in which the page was parsed.
    */
-  public void handlePdfPageStart(PdfDocument pdf, Page page) {
+  public void handlePdfPage(PdfDocument pdf, PdfBoxPageParseContext context) {
+    Page page = context.getPage();
+
+    // Make the extraction ranks relative to the start of the document.
+    for (Character character : page.getCharacters()) {
+      int rank = character.getExtractionRank();
+      character.setExtractionRank(this.numExtractionRanks + rank);
+    }
+    this.numExtractionRanks += context.getNumExtractionRanks();
+
+    // Assign the ids of new fonts and colors in the order of their first usage.
+    for (Font font : context.getFonts()) {
+      this.fontConverter.assignId(font, this.resourceRegistry);
+    }
+    for (Color color : context.getColors()) {
+      this.colorConverter.assignId(color, this.resourceRegistry);
+    }
+
     pdf.addPage(page);
     this.numPages++;
+    this.numCharacters += context.getNumCharacters();
+    this.numFigures += context.getNumFigures();
+    this.numShapes += context.getNumShapes();
   }
 
-  /**
-   * A callback to handle the end of the processing of a PDF page.
-   * 
-   * @param pdf
-   *        The PDF document to which the given PDF page belongs to.
-   * @param page
-   *        The page to process.
-   */
-  public void handlePdfPageEnd(PdfDocument pdf, Page page) {
-    // Compute the character statistics for the page.
-    page.setCharacterStatistic(this.statistician.compute(page));
+  // ==========================================================================
+
+  @Override
+  public ProcessingOptions getProcessingOptions() {
+    return this.options;
   }
 
-  /**
-   * A callback to handle a character.
-   * 
-   * @param pdf
-   *        The PDF document to which the given character belongs to.
-   * @param page
-   *        The PDF page to which the given character belongs to.
-   * @param c
-   *        The character to process.
-   */
-  public void handlePdfCharacter(PdfDocument pdf, Page page, Character c) {
-    page.addCharacter(c);
-    this.numCharacters++;
+  @Override
+  public void setProcessingOptions(ProcessingOptions options) {
+    this.options = options;
   }
 
-  /**
-   * A callback to handle a PdfFigure.
-   * 
-   * @param pdf
-   *        The PDF document to which the given figure belongs to.
-   * @param page
-   *        The PDF page to which the given figure belongs to.
-   * @param figure
-   *        The figure to process.
-   */
-  public void handlePdfFigure(PdfDocument pdf, Page page, Figure figure) {
-    page.addFigure(figure);
-    this.numFigures++;
+  // ==========================================================================
+
+  @Override
+  public boolean isCharactersOnly() {
+    return this.charactersOnly;
   }
 
-  /**
-   * A callback to handle a PdfShape.
-   * 
-   * @param pdf
-   *        The PDF document to which the given shape belongs to.
-   * @param page
-   *        The PDF page to which the given shape belongs to.
-   * @param shape
-   *        The shape to process.
-   */
-  public void handlePdfShape(PdfDocument pdf, Page page, Shape shape) {
-    page.addShape(shape);
-    this.numShapes++;
+  @Override
+  public void setCharactersOnly(boolean charactersOnly) {
+    this.charactersOnly = charactersOnly;
   }
-}
\ No newline at end of file
+
+  // ==========================================================================
+
+  @Override
+  public Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("pages", this.numPages);
+    counters.put("characters", this.numCharacters);
+    counters.put("figures", this.numFigures);
+    counters.put("shapes", this.numShapes);
+    return counters;
+  }
+}
@@ -1,8 +1,6 @@
 package pdfact.core.pipes.parse.stream.pdfbox.convert;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.pdmodel.graphics.color.PDColor;
@@ -13,9 +11,12 @@ import com.google.inject.Inject;
 import pdfact.core.model.Color;
 import pdfact.core.model.Color.ColorFactory;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pdfbox.ResourceRegistry;
 
 /**
- * A converter that converts PDColor objects to {@link Color} objects.
+ * A converter that converts PDColor objects to {@link Color} objects. The
+ * converter is stateless; the known colors of a PDF file are kept in the
+ * {@link ResourceRegistry} of the PDF file.
  * 
  * @author Claudius Korzen
  */
@@ -31,11 +32,6 @@ public class PDColorConverter {
    */
   protected ColorFactory colorFactory;
 
-  /**
-   * A map of the already known colors per name.
-   */
-  protected Map<String, Color> knownColors;
-
   /**
    * Creates a new color converter.
    * 
@@ -45,7 +41,6 @@ public class PDColorConverter {
   @Inject
   public PDColorConverter(ColorFactory colorFactory) {
     this.colorFactory = colorFactory;
-    this.knownColors = new HashMap<>();
   }
 
   // ==========================================================================
@@ -57,68 +52,60 @@ public class PDColorConverter {
    *        The color to convert.
    * @param colorSpace
    *        The color space.
+   * @param registry
+   *        The registry of the known colors of the PDF file.
    * 
-   * @return The converted color.
+   * @return The converted color. If the color is new, it has no id yet; the id
+   *         is assigned by {@link #assignId(Color, ResourceRegistry)}.
    */
-  public Color convert(PDColor color, PDColorSpace colorSpace) {
+  public Color convert(PDColor color, PDColorSpace colorSpace,
+      ResourceRegistry registry) {
     if (color == null || colorSpace == null) {
       return null;
     }
 
-    // Check if the color is already known.
-    Color knownColor = getKnownColor(color, colorSpace);
-    if (knownColor != null) {
-      return knownColor;
-    }
-
-    // The color is not known. Create a new color.
-    Color newColor = this.colorFactory.create();
-    newColor.setId("color-" + this.knownColors.size());
-    newColor.setName(computeColorName(color, colorSpace));
-    newColor.setRGB(computeRGB(color, colorSpace));
+    String name = computeColorName(color, colorSpace);
+    synchronized (registry) {
+      // Check if the color is already known.
+      Color knownColor = registry.getColors().get(name);
+      if (knownColor != null) {
+        return knownColor;
+      }
 
-    // Add the new color to the map of known colors.
-    this.knownColors.put(newColor.getName(), newColor);
-    log.debug("A new color was registered: " + newColor);
+      // The color is not known. Create a new color.
+      Color newColor = this.colorFactory.create();
+      newColor.setName(name);
+      newColor.setRGB(computeRGB(color, colorSpace));
 
-    return newColor;
-  }
-
-  // ==========================================================================
+      // Add the new color to the map of known colors.
+      registry.getColors().put(name, newColor);
+      log.debug("A new color was registered: " + newColor);
 
-  /**
-   * Checks if the given color is an already known color.
-   * 
-   * @param color
-   *        The color to check.
-   * @param colorSpace
-   *        The color space of the color to check.
-   *
-   * @return True, if the given color is a known color; false otherwise.
-   */
-  protected boolean isKnownColor(PDColor color, PDColorSpace colorSpace) {
-    return getKnownColor(color, colorSpace) != null;
+      return newColor;
+    }
   }
 
   /**
-   * Returns a {@link Color} object related to the given color and given color
-   * space if the color is already known; null otherwise.
+   * Assigns an id to the given color if it doesn't have an id yet. The ids are
+   * assigned in the order of the calls of this method, which allows to assign
+   * the ids in a deterministic order even if the colors were converted in
+   * parallel.
    * 
    * @param color
-   *        The color to check.
-   * @param colorSpace
-   *        The color space of the color to check.
-   *
-   * @return A {@link Color} object related to the given color and given color
-   *         space if the color is already known; null otherwise.
+   *        The color to process.
+   * @param registry
+   *        The registry of the known colors of the PDF file.
    */
-  protected Color getKnownColor(PDColor color, PDColorSpace colorSpace) {
-    if (color == null || colorSpace == null) {
-      return null;
+  public void assignId(Color color, ResourceRegistry registry) {
+    synchronized (registry) {
+      if (color != null && color.getId() == null) {
+        color.setId("color-" + registry.nextColorId());
+      }
     }
-    return this.knownColors.get(computeColorName(color, colorSpace));
   }
 
+  // ==========================================================================
+
   /**
    * Computes a name for the given color.
    * 
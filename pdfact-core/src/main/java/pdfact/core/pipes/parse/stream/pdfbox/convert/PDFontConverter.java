@@ -8,6 +8,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -20,9 +21,12 @@ import com.google.inject.Inject;
 import pdfact.core.model.Font;
 import pdfact.core.model.Font.FontFactory;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pdfbox.ResourceRegistry;
 
 /**
- * A converter that converts PDFont objects to {@link Font} objects.
+ * A converter that converts PDFont objects to {@link Font} objects. The
+ * well-known fonts are shared by all PDF files; the other known fonts of a PDF
+ * file are kept in the {@link ResourceRegistry} of the PDF file.
  * 
  * @author Claudius Korzen
  */
@@ -39,9 +43,9 @@ public class PDFontConverter {
   protected FontFactory fontFactory;
 
   /**
-   * A map of the already known fonts per name.
+   * The well-known fonts per name (read-only).
    */
-  protected Map<String, Font> knownFonts;
+  protected Map<String, Font> wellKnownFonts;
 
   /**
    * Creates a new font converter.
@@ -52,7 +56,8 @@ public class PDFontConverter {
   @Inject
   public PDFontConverter(FontFactory fontFactory) {
     this.fontFactory = fontFactory;
-    this.knownFonts = readWellKnownFontsFromFile();
+    this.wellKnownFonts =
+        Collections.unmodifiableMap(readWellKnownFontsFromFile());
   }
 
   // ==========================================================================
@@ -62,34 +67,65 @@ public class PDFontConverter {
    * 
    * @param font
    *        The font to convert.
+   * @param registry
+   *        The registry of the known fonts of the PDF file.
    * 
-   * @return The converted font.
+   * @return The converted font. If the font is new, it has no id yet; the id is
+   *         assigned by {@link #assignId(Font, ResourceRegistry)}.
    */
-  public Font convert(PDFont font) {
+  public Font convert(PDFont font, ResourceRegistry registry) {
     if (font == null) {
       return null;
     }
 
-    // Check if the font is already known.
-    Font knownFont = getKnownFont(font);
-    if (knownFont != null) {
-      return knownFont;
+    // Check if the font is a well-known font.
+    String normalizedName = computeNormalizedName(font);
+    Font wellKnownFont = this.wellKnownFonts.get(normalizedName);
+    if (wellKnownFont != null) {
+      return wellKnownFont;
     }
 
-    // The font is not known. Create a new font.
-    Font newFont = this.fontFactory.create();
-    newFont.setId("font-" + this.knownFonts.size());
-    newFont.setNormalizedName(computeNormalizedName(font));
-    newFont.setBasename(computeBasename(newFont));
-    newFont.setIsBold(computeIsBold(newFont));
-    newFont.setIsItalic(computeIsItalic(newFont));
-    newFont.setIsType3Font(computeIsType3Font(font));
+    synchronized (registry) {
+      // Check if the font is already known.
+      Font knownFont = registry.getFonts().get(normalizedName);
+      if (knownFont != null) {
+        return knownFont;
+      }
+
+      // The font is not known. Create a new font.
+      Font newFont = this.fontFactory.create();
+      newFont.setNormalizedName(normalizedName);
+      newFont.setBasename(computeBasename(newFont));
+      newFont.setIsBold(computeIsBold(newFont));
+      newFont.setIsItalic(computeIsItalic(newFont));
+      newFont.setIsType3Font(computeIsType3Font(font));
 
-    // Add the new font to the map of known fonts.
-    this.knownFonts.put(newFont.getNormalizedName(), newFont);
-    log.debug("A new font was registered: " + newFont);
+      // Add the new font to the map of known fonts.
+      registry.getFonts().put(normalizedName, newFont);
+      log.debug("A new font was registered: " + newFont);
 
-    return newFont;
+      return newFont;
+    }
+  }
+
+  /**
+   * Assigns an id to the given font if it doesn't have an id yet. The ids are
+   * assigned in the order of the calls of this method, which allows to assign
+   * the ids in a deterministic order even if the fonts were converted in
+   * parallel. The ids of new fonts follow the ids of the well-known fonts.
+   * 
+   * @param font
+   *        The font to process.
+   * @param registry
+   *        The registry of the known fonts of the PDF file.
+   */
+  public void assignId(Font font, ResourceRegistry registry) {
+    synchronized (registry) {
+      if (font != null && font.getId() == null) {
+        int id = this.wellKnownFonts.size() + registry.nextFontId();
+        font.setId("font-" + id);
+      }
+    }
   }
 
   // ==========================================================================
@@ -145,32 +181,6 @@ public class PDFontConverter {
     return knownFonts;
   }
 
-  /**
-   * Checks if the given font is an already known font.
-   * 
-   * @param font
-   *        The font to check.
-   * 
-   * @return True, if the given font is a known font; false otherwise.
-   */
-  protected boolean isKnownFont(PDFont font) {
-    return getKnownFont(font) != null;
-  }
-
-  /**
-   * Returns a {@link Font} object related to the given font if the font is
-   * already known; null otherwise.
-   * 
-   * @param font
-   *        The font to process.
-   * 
-   * @return A {@link Font} object related to the given font if the font is
-   *         already known; null otherwise.
-   */
-  protected Font getKnownFont(PDFont font) {
-    return this.knownFonts.get(computeNormalizedName(font));
-  }
-
   // ==========================================================================
 
   /**
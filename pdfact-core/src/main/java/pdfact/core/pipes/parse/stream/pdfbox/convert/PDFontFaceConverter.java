@@ -1,8 +1,5 @@
 package pdfact.core.pipes.parse.stream.pdfbox.convert;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.apache.log4j.Logger;
 
 import com.google.inject.Inject;
@@ -11,10 +8,12 @@ import pdfact.core.model.Font;
 import pdfact.core.model.FontFace;
 import pdfact.core.model.FontFace.FontFaceFactory;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pdfbox.ResourceRegistry;
 
 /**
  * A converter that converts PDFont objects and font sizes to {@link FontFace}
- * objects.
+ * objects. The converter is stateless; the known font faces of a PDF file are
+ * kept in the {@link ResourceRegistry} of the PDF file.
  * 
  * @author Claudius Korzen
  */
@@ -30,11 +29,6 @@ public class PDFontFaceConverter {
    */
   protected FontFaceFactory fontFaceFactory;
 
-  /**
-   * The already known {@link FontFace} objects per name.
-   */
-  protected Map<String, FontFace> knownFontFaces;
-
   /**
    * Creates a new font face converter.
    * 
@@ -44,7 +38,6 @@ public class PDFontFaceConverter {
   @Inject
   public PDFontFaceConverter(FontFaceFactory fontFaceFactory) {
     this.fontFaceFactory = fontFaceFactory;
-    this.knownFontFaces = new HashMap<>();
   }
 
   // ==========================================================================
@@ -57,43 +50,49 @@ public class PDFontFaceConverter {
    *        The font to process.
    * @param fontSize
    *        The font size to process.
+   * @param registry
+   *        The registry of the known font faces of the PDF file.
    * 
    * @return The converted font face.
    */
-  public FontFace convert(Font font, float fontSize) {
+  public FontFace convert(Font font, float fontSize,
+      ResourceRegistry registry) {
     if (font == null) {
       return null;
     }
 
-    // Check if the font face is already known.
-    FontFace knownFontFace = getKnownFontFace(font, fontSize);
-    if (knownFontFace != null) {
-      return knownFontFace;
-    }
+    String key = computeKey(font, fontSize);
+    synchronized (registry) {
+      // Check if the font face is already known.
+      FontFace knownFontFace = registry.getFontFaces().get(key);
+      if (knownFontFace != null) {
+        return knownFontFace;
+      }
 
-    // The font face is not known. Create a new font face.
-    FontFace newFontFace = this.fontFaceFactory.create(font, fontSize);
+      // The font face is not known. Create a new font face.
+      FontFace newFontFace = this.fontFaceFactory.create(font, fontSize);
 
-    // Add the new font face to the map of known font faces.
-    this.knownFontFaces.put(font.getId() + ":" + fontSize, newFontFace);
-    log.debug("A new font face was registered: " + newFontFace);
+      // Add the new font face to the map of known font faces.
+      registry.getFontFaces().put(key, newFontFace);
+      log.debug("A new font face was registered: " + newFontFace);
 
-    return newFontFace;
+      return newFontFace;
+    }
   }
 
   /**
-   * Returns a {@link FontFace} object related to the given font and font size
-   * if the font face is already known; null otherwise.
+   * Computes the key of the given font and font size in the map of known font
+   * faces. The key is based on the name of the font and not on its id, since
+   * the ids of new fonts are assigned not until the pages were parsed.
    * 
    * @param font
    *        The font to process.
    * @param fontSize
    *        The font size to process.
    * 
-   * @return A {@link FontFace} object related to the given font and font size
-   *         if the font is already known; null otherwise.
+   * @return The key of the given font and font size.
    */
-  protected FontFace getKnownFontFace(Font font, float fontSize) {
-    return this.knownFontFaces.get(font.getId() + ":" + fontSize);
+  protected String computeKey(Font font, float fontSize) {
+    return font.getNormalizedName() + ":" + fontSize;
   }
 }
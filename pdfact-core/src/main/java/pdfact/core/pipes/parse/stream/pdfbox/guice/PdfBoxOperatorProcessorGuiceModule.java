@@ -2,8 +2,10 @@ package pdfact.core.pipes.parse.stream.pdfbox.guice;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
+import com.google.inject.assistedinject.FactoryModuleBuilder;
 import com.google.inject.multibindings.Multibinder;
 
+import pdfact.core.pipes.parse.stream.pdfbox.PdfBoxPageParseContext.PdfBoxPageParseContextFactory;
 import pdfact.core.pipes.parse.stream.pdfbox.convert.PDColorConverter;
 import pdfact.core.pipes.parse.stream.pdfbox.convert.PDFontConverter;
 import pdfact.core.pipes.parse.stream.pdfbox.convert.PDFontFaceConverter;
@@ -58,7 +60,9 @@ import pdfact.core.pipes.parse.stream.pdfbox.operators.text.SetType3GlyphWidthAn
 import pdfact.core.pipes.parse.stream.pdfbox.operators.text.SetWordSpacing;
 import pdfact.core.pipes.parse.stream.pdfbox.operators.text.ShowText;
 import pdfact.core.pipes.parse.stream.pdfbox.operators.text.ShowTextWithIndividualGlyphPositioning;
+import pdfact.core.pipes.parse.stream.pdfbox.utils.PdfBoxGlyphBoundsCache;
 import pdfact.core.pipes.parse.stream.pdfbox.utils.PdfBoxGlyphUtils;
+import pdfact.core.pipes.parse.stream.pdfbox.utils.PdfBoxImageColorClassifier;
 
 /**
  * A module that defines the Guice bindings to the operator processors.
@@ -69,7 +73,9 @@ public class PdfBoxOperatorProcessorGuiceModule extends AbstractModule {
   @Override
   protected void configure() {
     // ========================================================================
-    // Install the converters.
+    // Install the converters. They are stateless (the fonts and colors known
+    // in a PDF file are kept in the resource registry of the PDF file), so
+    // they can be shared by all PDF files.
 
     bind(PDFontFaceConverter.class).in(Singleton.class);
     bind(PDFontConverter.class).in(Singleton.class);
@@ -79,6 +85,14 @@ public class PdfBoxOperatorProcessorGuiceModule extends AbstractModule {
     // Install the utils.
 
     bind(PdfBoxGlyphUtils.class).in(Singleton.class);
+    bind(PdfBoxGlyphBoundsCache.class).in(Singleton.class);
+    bind(PdfBoxImageColorClassifier.class).in(Singleton.class);
+
+    // ========================================================================
+    // Install the factory of the contexts to parse single pages.
+
+    install(new FactoryModuleBuilder()
+        .build(PdfBoxPageParseContextFactory.class));
 
     // ========================================================================
     // Install the PDF operator modules.
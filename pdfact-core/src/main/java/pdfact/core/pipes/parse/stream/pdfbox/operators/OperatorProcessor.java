@@ -8,7 +8,7 @@ import org.apache.pdfbox.cos.COSBase;
 
 import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
-import pdfact.core.pipes.parse.stream.pdfbox.PdfBoxPdfStreamsParser;
+import pdfact.core.pipes.parse.stream.pdfbox.PdfBoxPageParseContext;
 
 /**
  * A class to process a specific operator in a content stream of a PDF file.
@@ -17,19 +17,19 @@ import pdfact.core.pipes.parse.stream.pdfbox.PdfBoxPdfStreamsParser;
  */
 public abstract class OperatorProcessor {
   /**
-   * The page stream engine.
+   * The context of the page to parse.
    */
-  protected PdfBoxPdfStreamsParser engine;
+  protected PdfBoxPageParseContext engine;
 
   // ==========================================================================
 
   /**
-   * Sets the stream engine for this operator processor.
+   * Sets the context of the page to parse for this operator processor.
    * 
    * @param engine
-   *        The stream engine to set.
+   *        The context of the page to parse.
    */
-  public void setStreamEngine(PdfBoxPdfStreamsParser engine) {
+  public void setStreamEngine(PdfBoxPageParseContext engine) {
     this.engine = engine;
   }
 
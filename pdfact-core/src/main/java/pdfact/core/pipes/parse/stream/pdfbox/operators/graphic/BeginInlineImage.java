@@ -29,7 +29,7 @@ import pdfact.core.model.Point.PointFactory;
 import pdfact.core.model.Position.PositionFactory;
 import pdfact.core.model.Shape.ShapeFactory;
 import pdfact.core.pipes.parse.stream.pdfbox.operators.OperatorProcessor;
-import pdfact.core.pipes.parse.stream.pdfbox.utils.ColorUtils;
+import pdfact.core.pipes.parse.stream.pdfbox.utils.PdfBoxImageColorClassifier;
 import pdfact.core.util.PdfActUtils;
 import pdfact.core.util.log.InjectLogger;
 
@@ -70,6 +70,11 @@ public class BeginInlineImage extends OperatorProcessor {
    */
   protected PositionFactory positionFactory;
 
+  /**
+   * The classifier to check if an image consists only of a single color.
+   */
+  protected PdfBoxImageColorClassifier imageColorClassifier;
+
   // ==========================================================================
   // Constructors.
 
@@ -87,16 +92,21 @@ public class BeginInlineImage extends OperatorProcessor {
    *        The factory to create instances of {@link Point}.
    * @param positionFactory
    *        The factory to create instances of {@link Position}.
+   * @param imageColorClassifier
+   *        The classifier to check if an image consists only of a single
+   *        color.
    */
   @Inject
   public BeginInlineImage(FigureFactory figureFactory,
       ColorFactory colorFactory, ShapeFactory shapeFactory,
-      PointFactory pointFactory, PositionFactory positionFactory) {
+      PointFactory pointFactory, PositionFactory positionFactory,
+      PdfBoxImageColorClassifier imageColorClassifier) {
     this.figureFactory = figureFactory;
     this.colorFactory = colorFactory;
     this.shapeFactory = shapeFactory;
     this.pointFactory = pointFactory;
     this.positionFactory = positionFactory;
+    this.imageColorClassifier = imageColorClassifier;
   }
 
   // ==========================================================================
@@ -104,6 +114,11 @@ public class BeginInlineImage extends OperatorProcessor {
   @Override
   public void process(PdfDocument pdf, Page page, Operator op,
       List<COSBase> args) throws IOException {
+    // Inline images are only translated to figures or shapes.
+    if (this.engine.isCharactersOnly()) {
+      return;
+    }
+
     Matrix ctm = this.engine.getCurrentTransformationMatrix();
     COSDictionary params = op.getImageParameters();
 
@@ -130,7 +145,8 @@ public class BeginInlineImage extends OperatorProcessor {
 
       // If the image consists of only one color, consider it as a shape.
       // TODO: Manage the colors.
-      float[] exclusiveColor = ColorUtils.getExclusiveColor(image.getImage());
+      float[] exclusiveColor =
+          this.imageColorClassifier.getExclusiveColor(image);
 
       Point ll = this.pointFactory.create(minX, minY);
       Point ur = this.pointFactory.create(maxX, maxY);
@@ -29,7 +29,7 @@ import pdfact.core.model.Point.PointFactory;
 import pdfact.core.model.Position.PositionFactory;
 import pdfact.core.model.Shape.ShapeFactory;
 import pdfact.core.pipes.parse.stream.pdfbox.operators.OperatorProcessor;
-import pdfact.core.pipes.parse.stream.pdfbox.utils.ColorUtils;
+import pdfact.core.pipes.parse.stream.pdfbox.utils.PdfBoxImageColorClassifier;
 import pdfact.core.util.PdfActUtils;
 import pdfact.core.util.log.InjectLogger;
 
@@ -70,6 +70,11 @@ public class Invoke extends OperatorProcessor {
    */
   protected PositionFactory positionFactory;
 
+  /**
+   * The classifier to check if an image consists only of a single color.
+   */
+  protected PdfBoxImageColorClassifier imageColorClassifier;
+
   // ==========================================================================
   // Constructors.
 
@@ -86,16 +91,21 @@ public class Invoke extends OperatorProcessor {
    *        The factory to create instances of {@link Point}.
    * @param positionactory
    *        The factory to create instances of {@link Position}.
+   * @param imageColorClassifier
+   *        The classifier to check if an image consists only of a single
+   *        color.
    */
   @Inject
   public Invoke(FigureFactory figureFactory, ColorFactory colorFactory,
       ShapeFactory shapeFactory, PointFactory pointFactory,
-      PositionFactory positionactory) {
+      PositionFactory positionactory,
+      PdfBoxImageColorClassifier imageColorClassifier) {
     this.figureFactory = figureFactory;
     this.colorFactory = colorFactory;
     this.shapeFactory = shapeFactory;
     this.pointFactory = pointFactory;
     this.positionFactory = positionactory;
+    this.imageColorClassifier = imageColorClassifier;
   }
 
   // ==========================================================================
@@ -103,6 +113,11 @@ public class Invoke extends OperatorProcessor {
   @Override
   public void process(PdfDocument pdf, Page page, Operator op,
       List<COSBase> args) throws IOException {
+    // Images are only translated to figures or shapes.
+    if (this.engine.isCharactersOnly()) {
+      return;
+    }
+
     // Get the name of the PDXOject.
     COSName name = (COSName) args.get(0);
 
@@ -162,7 +177,8 @@ public class Invoke extends OperatorProcessor {
 
       // If the image consists of only one color, consider it as a shape.
       // TODO: Manage the colors.
-      float[] exclusiveColor = ColorUtils.getExclusiveColor(image.getImage());
+      float[] exclusiveColor =
+          this.imageColorClassifier.getExclusiveColor(image);
 
       if (exclusiveColor != null) {
         Color color = this.colorFactory.create();
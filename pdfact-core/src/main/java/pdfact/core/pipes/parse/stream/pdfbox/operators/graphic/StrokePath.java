@@ -85,6 +85,12 @@ public class StrokePath extends OperatorProcessor {
   @Override
   public void process(PdfDocument pdf, Page page, Operator op,
       List<COSBase> args) throws IOException {
+    // The path is only translated to shapes.
+    if (this.engine.isCharactersOnly()) {
+      this.engine.getLinePath().reset();
+      return;
+    }
+
     int windingRule = -1;
     if (args.size() > 0) {
       windingRule = ((COSNumber) args.get(0)).intValue();
@@ -107,7 +113,9 @@ public class StrokePath extends OperatorProcessor {
     }
 
     // Convert the color.
-    Color color = this.colorConverter.convert(c, cs);
+    Color color = this.colorConverter.convert(c, cs,
+        this.engine.getResourceRegistry());
+    this.engine.registerColor(color);
 
     GeneralPath linePath = this.engine.getLinePath();
 
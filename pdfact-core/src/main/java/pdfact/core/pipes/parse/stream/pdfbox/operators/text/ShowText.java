@@ -6,7 +6,11 @@ import java.awt.geom.Rectangle2D;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.fontbox.afm.CharMetric;
 import org.apache.fontbox.cff.CFFType1Font;
@@ -16,12 +20,15 @@ import org.apache.fontbox.util.BoundingBox;
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.contentstream.operator.Operator;
 import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSNumber;
 import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
 import org.apache.pdfbox.pdmodel.font.PDFont;
 import org.apache.pdfbox.pdmodel.font.PDFontFactory;
 import org.apache.pdfbox.pdmodel.font.PDSimpleFont;
 import org.apache.pdfbox.pdmodel.font.PDType1CFont;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.PDType3CharProc;
 import org.apache.pdfbox.pdmodel.font.PDType3Font;
 import org.apache.pdfbox.pdmodel.font.encoding.Encoding;
 import org.apache.pdfbox.pdmodel.font.encoding.GlyphList;
@@ -52,6 +59,7 @@ import pdfact.core.pipes.parse.stream.pdfbox.convert.PDFontConverter;
 import pdfact.core.pipes.parse.stream.pdfbox.convert.PDFontFaceConverter;
 import pdfact.core.pipes.parse.stream.pdfbox.operators.OperatorProcessor;
 import pdfact.core.pipes.parse.stream.pdfbox.utils.PdfBoxAFMUtils;
+import pdfact.core.pipes.parse.stream.pdfbox.utils.PdfBoxGlyphBoundsCache;
 import pdfact.core.pipes.parse.stream.pdfbox.utils.PdfBoxGlyphUtils;
 import pdfact.core.util.PdfActUtils;
 import pdfact.core.util.log.InjectLogger;
@@ -68,6 +76,15 @@ public class ShowText extends OperatorProcessor {
   @InjectLogger
   protected static Logger log;
 
+  /**
+   * The operators that may follow the "d1" operator in a Type3 glyph
+   * description whose bounding box can be cached. None of these operators
+   * produces any output on interpreting the glyph description.
+   */
+  protected static final Set<String> TYPE3_CACHEABLE_OPERATORS =
+      new HashSet<>(Arrays.asList("q", "Q", "cm", "BI", "ID", "EI", "w", "J",
+          "j", "M", "d", "ri", "i"));
+
   /**
    * The factory to create instances of {@link CharacterFactory}.
    */
@@ -109,10 +126,21 @@ public class ShowText extends OperatorProcessor {
   protected PdfBoxGlyphUtils glyphUtils;
 
   /**
-   * The number of already processed characters (needed to define the sequence
-   * number of a character).
+   * The cache for the bounding boxes of glyphs in glyph space.
+   */
+  protected PdfBoxGlyphBoundsCache glyphBoundsCache;
+
+  /**
+   * The point to be reused on transforming the lower left point of the
+   * bounding box of a glyph (such that no new point must be created per glyph).
    */
-  protected int sequenceNumber;
+  protected Point lowerLeft;
+
+  /**
+   * The point to be reused on transforming the upper right point of the
+   * bounding box of a glyph.
+   */
+  protected Point upperRight;
 
   /**
    * Creates a new OperatorProcessor to process the operation "ShowText".
@@ -133,13 +161,16 @@ public class ShowText extends OperatorProcessor {
    *        The factory to create instances of {@link Position}.
    * @param glyphUtils
    *        The util to read the specifications of special glyphs.
+   * @param glyphBoundsCache
+   *        The cache for the bounding boxes of glyphs in glyph space.
    */
   @Inject
   public ShowText(CharacterFactory characterFactory,
       PDFontConverter fontTranslator, PDFontFaceConverter fontFaceConverter,
       PDColorConverter colorTranslator, RectangleFactory rectangleFactory,
       PointFactory pointFactory, PositionFactory positionFactory,
-      PdfBoxGlyphUtils glyphUtils) {
+      PdfBoxGlyphUtils glyphUtils,
+      PdfBoxGlyphBoundsCache glyphBoundsCache) {
     this.characterFactory = characterFactory;
     this.fontTranslator = fontTranslator;
     this.fontFaceConverter = fontFaceConverter;
@@ -148,6 +179,9 @@ public class ShowText extends OperatorProcessor {
     this.pointFactory = pointFactory;
     this.positionFactory = positionFactory;
     this.glyphUtils = glyphUtils;
+    this.glyphBoundsCache = glyphBoundsCache;
+    this.lowerLeft = pointFactory.create();
+    this.upperRight = pointFactory.create();
   }
 
   // ==========================================================================
@@ -271,7 +305,6 @@ public class ShowText extends OperatorProcessor {
       PDFont pdFont, Matrix trm) throws IOException {
     // Compute a bounding box that indeed surrounds the whole glyph, even in
     // case of ascenders (e.g., "l") and descenders (e.g., "g").
-    // TODO: Make it faster.
     Rectangle box = computeGlyphBoundingBox(pdf, page, code, pdFont, trm);
 
     // Compute the bounding box of the glyph by the method of PdfBox, where all
@@ -374,13 +407,18 @@ public class ShowText extends OperatorProcessor {
     PDColorSpace pdColorSpace = graphicsState.getNonStrokingColorSpace();
 
     // Convert the color.
-    Color color = this.colorTranslator.convert(pdColor, pdColorSpace);
+    Color color = this.colorTranslator.convert(pdColor, pdColorSpace,
+        this.engine.getResourceRegistry());
+    this.engine.registerColor(color);
 
     // Convert the font.
-    Font font = this.fontTranslator.convert(pdFont);
+    Font font = this.fontTranslator.convert(pdFont,
+        this.engine.getResourceRegistry());
+    this.engine.registerFont(font);
     // Round the font size.
     fontSize = PdfActUtils.round(fontSize, FLOATING_NUMBER_PRECISION);
-    FontFace fontFace = this.fontFaceConverter.convert(font, fontSize);
+    FontFace fontFace = this.fontFaceConverter.convert(font, fontSize,
+        this.engine.getResourceRegistry());
 
     // Round the values of boundingbox.
     box.setMinX(PdfActUtils.round(box.getMinX(), FLOATING_NUMBER_PRECISION));
@@ -395,7 +433,7 @@ public class ShowText extends OperatorProcessor {
     character.setFontFace(fontFace);
     character.setColor(color);
     character.setPosition(position);
-    character.setExtractionRank(this.sequenceNumber++);
+    character.setExtractionRank(this.engine.nextExtractionRank());
 
     this.engine.handlePdfCharacter(pdf, page, character);
   }
@@ -455,8 +493,136 @@ public class ShowText extends OperatorProcessor {
   protected Rectangle computeType3GlyphBoundingBox(PdfDocument pdf, Page page,
       int code, PDFont font, Matrix trm) throws IOException {
     PDType3Font type3Font = (PDType3Font) font;
-    this.engine.processType3Stream(pdf, page, type3Font.getCharProc(code), trm);
-    return this.engine.getCurrentType3GlyphBoundingBox();
+
+    // Interpreting the glyph description is expensive. If the glyph
+    // description only defines the bounding box of the glyph (and e.g. draws
+    // a bitmap), the bounding box in glyph space is computed only once per
+    // font and code.
+    float[] bounds = this.glyphBoundsCache.getGlyphBounds(font, code);
+    if (bounds == null) {
+      PDType3CharProc charProc = type3Font.getCharProc(code);
+      if (charProc == null) {
+        // Let the engine handle the missing glyph description, as before.
+        this.engine.processType3Stream(pdf, page, charProc, trm);
+        return this.engine.getCurrentType3GlyphBoundingBox();
+      }
+      bounds = computeType3GlyphSpaceBoundingBox(charProc);
+      this.glyphBoundsCache.putGlyphBounds(font, code, bounds);
+    }
+
+    if (bounds == PdfBoxGlyphBoundsCache.VARIABLE_BOUNDS) {
+      // The glyph description must be interpreted for each occurrence.
+      PDType3CharProc charProc = type3Font.getCharProc(code);
+      this.engine.processType3Stream(pdf, page, charProc, trm);
+      return this.engine.getCurrentType3GlyphBoundingBox();
+    }
+
+    // Transform the bounding box exactly like on interpreting the glyph
+    // description: the font matrix is concatenated to the text rendering
+    // matrix (in place) and the "d1" operator transforms the corners of the
+    // bounding box by the resulting matrix.
+    trm.concatenate(type3Font.getFontMatrix());
+
+    Point ll = this.lowerLeft;
+    Point ur = this.upperRight;
+    ll.setX(bounds[0]);
+    ll.setY(bounds[1]);
+    ur.setX(bounds[2]);
+    ur.setY(bounds[3]);
+    this.engine.transform(ll, trm);
+    this.engine.transform(ur, trm);
+
+    float minX = Math.min(ll.getX(), ur.getX());
+    float minY = Math.min(ll.getY(), ur.getY());
+    float maxX = Math.max(ll.getX(), ur.getX());
+    float maxY = Math.max(ll.getY(), ur.getY());
+
+    Rectangle box = this.rectangleFactory.create(minX, minY, maxX, maxY);
+    this.engine.setCurrentType3GlyphBoundingBox(box);
+    return box;
+  }
+
+  /**
+   * Computes the bounding box in glyph space for the given Type3 glyph
+   * description, as defined by its "d1" operator.
+   * 
+   * @param charProc
+   *        The glyph description.
+   * 
+   * @return The bounding box of the glyph in glyph space, given as {minX, minY,
+   *         maxX, maxY}; or {@link PdfBoxGlyphBoundsCache#VARIABLE_BOUNDS} if
+   *         the glyph description must be interpreted for each occurrence of
+   *         the glyph, because it doesn't start with a "d1" operator or
+   *         contains operators that produce any output or change the text
+   *         rendering matrix.
+   * @throws IOException
+   *         if something went wrong on parsing the glyph description.
+   */
+  protected float[] computeType3GlyphSpaceBoundingBox(PDType3CharProc charProc)
+      throws IOException {
+    PDFStreamParser parser = new PDFStreamParser(charProc);
+    parser.parse();
+
+    float[] bounds = null;
+    int depth = 0;
+    List<COSBase> arguments = new ArrayList<>();
+    for (Object token : parser.getTokens()) {
+      if (token instanceof COSBase) {
+        arguments.add((COSBase) token);
+        continue;
+      }
+      if (!(token instanceof Operator)) {
+        return PdfBoxGlyphBoundsCache.VARIABLE_BOUNDS;
+      }
+
+      String name = ((Operator) token).getName();
+      if (bounds == null) {
+        // The glyph description must start with a "d1" operator.
+        bounds = toType3GlyphSpaceBoundingBox(name, arguments);
+        if (bounds == null) {
+          return PdfBoxGlyphBoundsCache.VARIABLE_BOUNDS;
+        }
+      } else if (!TYPE3_CACHEABLE_OPERATORS.contains(name)) {
+        return PdfBoxGlyphBoundsCache.VARIABLE_BOUNDS;
+      } else if ("q".equals(name)) {
+        depth++;
+      } else if ("Q".equals(name)) {
+        depth--;
+      } else if ("cm".equals(name) && depth <= 0) {
+        // A "cm" outside of a "q"/"Q" block would modify the text rendering
+        // matrix of the glyph.
+        return PdfBoxGlyphBoundsCache.VARIABLE_BOUNDS;
+      }
+      arguments.clear();
+    }
+    return bounds != null ? bounds : PdfBoxGlyphBoundsCache.VARIABLE_BOUNDS;
+  }
+
+  /**
+   * Translates the given "d1" operation to a bounding box in glyph space.
+   * 
+   * @param operator
+   *        The name of the operator.
+   * @param args
+   *        The arguments of the operator.
+   * 
+   * @return The bounding box, given as {llx, lly, urx, ury}; or null if the
+   *         given operation is not a valid "d1" operation.
+   */
+  protected float[] toType3GlyphSpaceBoundingBox(String operator,
+      List<COSBase> args) {
+    if (!"d1".equals(operator) || args.size() != 6) {
+      return null;
+    }
+    float[] bounds = new float[4];
+    for (int i = 0; i < bounds.length; i++) {
+      COSBase arg = args.get(i + 2);
+      if (!(arg instanceof COSNumber)) {
+        return null;
+      }
+      bounds[i] = ((COSNumber) arg).floatValue();
+    }
+    return bounds;
   }
 
   /**
@@ -486,68 +652,128 @@ public class ShowText extends OperatorProcessor {
       return null;
     }
 
-    PDSimpleFont simpleFont = (PDSimpleFont) font;
+    // The bounding box in glyph space only depends on the font and the code,
+    // so compute it only once per font and code.
+    float[] bounds = this.glyphBoundsCache.getGlyphBounds(font, code);
+    if (bounds == null) {
+      bounds = computeNonType3GlyphSpaceBoundingBox(code, (PDSimpleFont) font);
+      this.glyphBoundsCache.putGlyphBounds(font, code, bounds);
+    }
 
+    if (bounds == null || bounds == PdfBoxGlyphBoundsCache.NO_BOUNDS) {
+      return null;
+    }
+    return transformBoundingBox(bounds[0], bounds[1], bounds[2], bounds[3],
+        font, trm);
+  }
+
+  /**
+   * Computes the bounding box in glyph space for the given glyph, given in any
+   * font, different from a Type3 font.
+   * 
+   * @param code
+   *        The internal PDF character code for the glyph
+   * @param simpleFont
+   *        The font of the glyph.
+   * 
+   * @return The bounding box of the glyph in glyph space, given as {minX, minY,
+   *         maxX, maxY}; or null, if the bounding box could not be computed.
+   * @throws IOException
+   *         if something went wrong on computing the bounding box.
+   */
+  protected float[] computeNonType3GlyphSpaceBoundingBox(int code,
+      PDSimpleFont simpleFont) throws IOException {
     // Obtain the associated glyph name.
     Encoding encoding = simpleFont.getEncoding();
-    if (encoding != null) {
-      String glyphName = encoding.getName(code);
-
-      if (glyphName != null) {
-        // Check, if the font is a type1 font.
-        if (simpleFont instanceof PDType1Font) {
-          PDType1Font t1Font = (PDType1Font) simpleFont;
-
-          // Check, if the font contains an embedded FontFile.
-          Type1Font afmFont = t1Font.getType1Font();
-          if (afmFont != null) {
-            Type1CharString charString = afmFont.getType1CharString(glyphName);
-            if (charString != null) {
-              Rectangle2D boundingBox = charString.getBounds();
-              float minX = (float) boundingBox.getMinX();
-              float minY = (float) boundingBox.getMinY();
-              float maxX = (float) boundingBox.getMaxX();
-              float maxY = (float) boundingBox.getMaxY();
-              return transformBoundingBox(minX, minY, maxX, maxY, font, trm);
-            }
-          }
-
-          // Check, if the additional AFM map contains an entry for the font.
-          CharMetric metric = PdfBoxAFMUtils.getCharMetric(glyphName, t1Font);
-          if (metric != null) {
-            BoundingBox boundingBox = metric.getBoundingBox();
-            float minX = boundingBox.getLowerLeftX();
-            float minY = boundingBox.getLowerLeftY();
-            float maxX = boundingBox.getUpperRightX();
-            float maxY = boundingBox.getUpperRightY();
-            return transformBoundingBox(minX, minY, maxX, maxY, font, trm);
-          }
-        }
+    if (encoding == null) {
+      return null;
+    }
 
-        // Check, if the font contains an embedded FontFile3.
-        if (simpleFont instanceof PDType1CFont) {
-          // This font has an embedded font program represented in the Compact
-          // Font Format (CFF).
-          PDType1CFont type1CFont = (PDType1CFont) simpleFont;
-          CFFType1Font cffFont = type1CFont.getCFFType1Font();
-          if (cffFont != null) {
-            Type1CharString charString = cffFont.getType1CharString(glyphName);
-
-            if (charString != null) {
-              Rectangle2D boundingBox = charString.getBounds();
-              float minX = (float) boundingBox.getMinX();
-              float minY = (float) boundingBox.getMinY();
-              float maxX = (float) boundingBox.getMaxX();
-              float maxY = (float) boundingBox.getMaxY();
-              return transformBoundingBox(minX, minY, maxX, maxY, font, trm);
-            }
-          }
-        }
+    String glyphName = encoding.getName(code);
+    if (glyphName == null) {
+      return null;
+    }
+
+    // Check, if the glyph was already computed for the embedded font program
+    // (possibly while processing another document).
+    float[] bounds =
+        this.glyphBoundsCache.getFontProgramGlyphBounds(simpleFont, glyphName);
+    if (bounds == null) {
+      bounds = computeEmbeddedGlyphSpaceBoundingBox(glyphName, simpleFont);
+      this.glyphBoundsCache.putFontProgramGlyphBounds(simpleFont, glyphName,
+          bounds);
+    }
+    if (bounds != null && bounds != PdfBoxGlyphBoundsCache.NO_BOUNDS) {
+      return bounds;
+    }
+
+    // The font program doesn't contain the glyph. Check, if the additional
+    // AFM map contains an entry for the font (this depends on the font, not
+    // on the font program, so it is done even if the font program is known).
+    if (simpleFont instanceof PDType1Font) {
+      PDType1Font t1Font = (PDType1Font) simpleFont;
+      CharMetric metric = PdfBoxAFMUtils.getCharMetric(glyphName, t1Font);
+      if (metric != null) {
+        BoundingBox boundingBox = metric.getBoundingBox();
+        return new float[] { boundingBox.getLowerLeftX(),
+            boundingBox.getLowerLeftY(), boundingBox.getUpperRightX(),
+            boundingBox.getUpperRightY() };
       }
     }
     return null;
   }
 
+  /**
+   * Computes the bounding box in glyph space for the given glyph from the font
+   * program embedded by the given font.
+   * 
+   * @param glyphName
+   *        The name of the glyph.
+   * @param simpleFont
+   *        The font of the glyph.
+   * 
+   * @return The bounding box of the glyph in glyph space, given as {minX, minY,
+   *         maxX, maxY}; or null, if the font doesn't embed a font program or
+   *         the font program doesn't contain the glyph.
+   * @throws IOException
+   *         if something went wrong on computing the bounding box.
+   */
+  protected float[] computeEmbeddedGlyphSpaceBoundingBox(String glyphName,
+      PDSimpleFont simpleFont) throws IOException {
+    Type1CharString charString = null;
+
+    // Check, if the font is a type1 font.
+    if (simpleFont instanceof PDType1Font) {
+      PDType1Font t1Font = (PDType1Font) simpleFont;
+
+      // Check, if the font contains an embedded FontFile.
+      Type1Font afmFont = t1Font.getType1Font();
+      if (afmFont != null) {
+        charString = afmFont.getType1CharString(glyphName);
+      }
+    }
+
+    // Check, if the font contains an embedded FontFile3.
+    if (charString == null && simpleFont instanceof PDType1CFont) {
+      // This font has an embedded font program represented in the Compact
+      // Font Format (CFF).
+      PDType1CFont type1CFont = (PDType1CFont) simpleFont;
+      CFFType1Font cffFont = type1CFont.getCFFType1Font();
+      if (cffFont != null) {
+        charString = cffFont.getType1CharString(glyphName);
+      }
+    }
+
+    if (charString == null) {
+      return null;
+    }
+
+    Rectangle2D boundingBox = charString.getBounds();
+    return new float[] { (float) boundingBox.getMinX(),
+        (float) boundingBox.getMinY(), (float) boundingBox.getMaxX(),
+        (float) boundingBox.getMaxY() };
+  }
+
   /**
    * Transforms the given bounding box into the device space.
    * 
@@ -572,8 +798,14 @@ public class ShowText extends OperatorProcessor {
       return null;
     }
 
-    Point lowerLeft = this.pointFactory.create(minX, minY);
-    Point upperRight = this.pointFactory.create(maxX, maxY);
+    // Transform the corners in the reused points, only the resulting
+    // rectangle is created per glyph.
+    Point lowerLeft = this.lowerLeft;
+    Point upperRight = this.upperRight;
+    lowerLeft.setX(minX);
+    lowerLeft.setY(minY);
+    upperRight.setX(maxX);
+    upperRight.setY(maxY);
 
     Matrix fontMatrix = font.getFontMatrix();
 
@@ -585,7 +817,8 @@ public class ShowText extends OperatorProcessor {
     this.engine.transform(lowerLeft, trm);
     this.engine.transform(upperRight, trm);
 
-    return this.rectangleFactory.create(lowerLeft, upperRight);
+    return this.rectangleFactory.create(lowerLeft.getX(), lowerLeft.getY(),
+        upperRight.getX(), upperRight.getY());
   }
 
   /**
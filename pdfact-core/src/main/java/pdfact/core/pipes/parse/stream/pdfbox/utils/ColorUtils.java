@@ -43,21 +43,25 @@ public class ColorUtils {
       return null;
     }
 
-    int lastRgb = Integer.MAX_VALUE;
-    for (int i = 0; i < im.getWidth(); i++) {
-      for (int j = 0; j < im.getHeight(); j++) {
-        int rgb = im.getRGB(i, j);
-        if (lastRgb != Integer.MAX_VALUE && lastRgb != rgb) {
+    int width = im.getWidth();
+    int height = im.getHeight();
+    if (width <= 0 || height <= 0) {
+      return null;
+    }
+
+    // Check the pixels row by row (in the order in which they are stored),
+    // reading a whole row at once.
+    int firstRgb = im.getRGB(0, 0);
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      im.getRGB(0, y, width, 1, row, 0, width);
+      for (int x = 0; x < width; x++) {
+        if (row[x] != firstRgb) {
           return null;
         }
-        lastRgb = rgb;
       }
     }
 
-    if (lastRgb == Integer.MAX_VALUE) {
-      return null;
-    }
-
-    return toRGBArray(lastRgb);
+    return toRGBArray(firstRgb);
   }
 }
@@ -0,0 +1,337 @@
+package pdfact.core.pipes.parse.stream.pdfbox.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDFontDescriptor;
+
+import pdfact.core.util.log.InjectLogger;
+
+/**
+ * A cache for the bounding boxes of glyphs in glyph space (that is, before the
+ * glyphs are transformed by the font matrix and the text rendering matrix).
+ * The bounding box of a glyph only depends on the font and the character code
+ * of the glyph, so it needs to be computed only once per font and code.
+ *
+ * <p>
+ * The cache consists of two levels:
+ * <ul>
+ * <li>The bounding boxes per font and character code. The fonts are identified
+ * by their font dictionaries. This level is scoped to the document of a font:
+ * its entries are released together with the document.</li>
+ * <li>The bounding boxes per embedded font program and glyph name. The font
+ * programs are identified by a hash of their streams, such that documents
+ * that embed the same font program share the bounding boxes of its glyphs.
+ * The number of the font programs in this level is bounded.</li>
+ * </ul>
+ *
+ * Both levels also store the glyphs for which no bounding box could be
+ * computed, see {@link #NO_BOUNDS}. In the second level, this only means that
+ * the font program doesn't contain the glyph; the bounding box may still be
+ * given by another source (like the AFM files), which depends on the font
+ * and must be looked up per font. The first level also stores the glyphs
+ * whose bounding boxes must be computed for each occurrence, see
+ * {@link #VARIABLE_BOUNDS}.
+ *
+ * @author Claudius Korzen
+ */
+public class PdfBoxGlyphBoundsCache {
+  /**
+   * The logger.
+   */
+  @InjectLogger
+  protected static Logger log;
+
+  /**
+   * The bounding box that represents a glyph for which no bounding box could
+   * be computed.
+   */
+  public static final float[] NO_BOUNDS = new float[0];
+
+  /**
+   * The bounding box that represents a glyph whose bounding box can't be
+   * cached, because it must be computed for each occurrence of the glyph (for
+   * example, because it depends on the graphics state).
+   */
+  public static final float[] VARIABLE_BOUNDS = new float[0];
+
+  /**
+   * The maximum number of font programs for which the bounding boxes are kept.
+   */
+  protected static final int MAX_NUM_FONT_PROGRAMS = 256;
+
+  /**
+   * The name of the algorithm to use on hashing the font programs.
+   */
+  protected static final String FONT_PROGRAM_HASH_ALGORITHM = "SHA-1";
+
+  /**
+   * The cached bounding boxes per font dictionary.
+   */
+  protected Map<COSDictionary, FontGlyphBounds> boundsByFont;
+
+  /**
+   * The cached bounding boxes per font program hash.
+   */
+  protected Map<String, Map<String, float[]>> boundsByFontProgram;
+
+  // ==========================================================================
+
+  /**
+   * Creates a new glyph bounds cache.
+   */
+  public PdfBoxGlyphBoundsCache() {
+    // The font dictionaries don't override equals(), so they are compared by
+    // identity. A weak map releases the entries of a document as soon as the
+    // document is no longer referenced.
+    this.boundsByFont = Collections.synchronizedMap(new WeakHashMap<>());
+    this.boundsByFontProgram = Collections.synchronizedMap(
+        new LinkedHashMap<String, Map<String, float[]>>(16, 0.75f, true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(
+              Map.Entry<String, Map<String, float[]>> eldest) {
+            return size() > MAX_NUM_FONT_PROGRAMS;
+          }
+        });
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the cached bounding box of the glyph with the given code in the
+   * given font.
+   *
+   * @param font
+   *        The font of the glyph.
+   * @param code
+   *        The character code of the glyph.
+   *
+   * @return The bounding box of the glyph in glyph space, given as {minX,
+   *         minY, maxX, maxY}; {@link #NO_BOUNDS} if it is known that no
+   *         bounding box could be computed for the glyph;
+   *         {@link #VARIABLE_BOUNDS} if the bounding box must be computed for
+   *         each occurrence; or null if the glyph isn't cached yet.
+   */
+  public float[] getGlyphBounds(PDFont font, int code) {
+    return getFontGlyphBounds(font).boundsByCode.get(code);
+  }
+
+  /**
+   * Caches the bounding box of the glyph with the given code in the given
+   * font.
+   *
+   * @param font
+   *        The font of the glyph.
+   * @param code
+   *        The character code of the glyph.
+   * @param bounds
+   *        The bounding box of the glyph in glyph space, given as {minX, minY,
+   *        maxX, maxY}; {@link #VARIABLE_BOUNDS} if the bounding box must be
+   *        computed for each occurrence; or null if no bounding box could be
+   *        computed.
+   */
+  public void putGlyphBounds(PDFont font, int code, float[] bounds) {
+    getFontGlyphBounds(font).boundsByCode.put(code, toEntry(bounds));
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the cached bounding box of the glyph with the given name in the
+   * font program embedded by the given font.
+   *
+   * @param font
+   *        The font of the glyph.
+   * @param glyphName
+   *        The name of the glyph.
+   *
+   * @return The bounding box of the glyph in glyph space, given as {minX,
+   *         minY, maxX, maxY}; {@link #NO_BOUNDS} if it is known that the
+   *         font program doesn't contain the glyph; or null if the glyph
+   *         isn't cached yet or the font doesn't embed a font program.
+   */
+  public float[] getFontProgramGlyphBounds(PDFont font, String glyphName) {
+    Map<String, float[]> bounds = getFontProgramBounds(font);
+    return bounds != null ? bounds.get(glyphName) : null;
+  }
+
+  /**
+   * Caches the bounding box of the glyph with the given name in the font
+   * program embedded by the given font. Does nothing if the font doesn't
+   * embed a font program.
+   *
+   * @param font
+   *        The font of the glyph.
+   * @param glyphName
+   *        The name of the glyph.
+   * @param bounds
+   *        The bounding box of the glyph in glyph space, given as {minX, minY,
+   *        maxX, maxY}; or null if no bounding box could be computed.
+   */
+  public void putFontProgramGlyphBounds(PDFont font, String glyphName,
+      float[] bounds) {
+    Map<String, float[]> fontProgramBounds = getFontProgramBounds(font);
+    if (fontProgramBounds != null) {
+      fontProgramBounds.put(glyphName, toEntry(bounds));
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the cached bounding boxes of the given font. Creates the entry if
+   * it doesn't exist yet.
+   *
+   * @param font
+   *        The font to process.
+   *
+   * @return The cached bounding boxes of the given font.
+   */
+  protected FontGlyphBounds getFontGlyphBounds(PDFont font) {
+    COSDictionary dict = font.getCOSObject();
+    synchronized (this.boundsByFont) {
+      FontGlyphBounds bounds = this.boundsByFont.get(dict);
+      if (bounds == null) {
+        bounds = new FontGlyphBounds();
+        this.boundsByFont.put(dict, bounds);
+      }
+      return bounds;
+    }
+  }
+
+  /**
+   * Returns the cached bounding boxes of the font program embedded by the
+   * given font. Creates the entry if it doesn't exist yet.
+   *
+   * @param font
+   *        The font to process.
+   *
+   * @return The cached bounding boxes of the font program, per glyph name; or
+   *         null if the font doesn't embed a font program.
+   */
+  protected Map<String, float[]> getFontProgramBounds(PDFont font) {
+    FontGlyphBounds fontBounds = getFontGlyphBounds(font);
+
+    String hash;
+    synchronized (fontBounds) {
+      // Hash the font program only once per font.
+      if (!fontBounds.isFontProgramHashComputed) {
+        fontBounds.fontProgramHash = computeFontProgramHash(font);
+        fontBounds.isFontProgramHashComputed = true;
+      }
+      hash = fontBounds.fontProgramHash;
+    }
+
+    if (hash == null) {
+      return null;
+    }
+
+    synchronized (this.boundsByFontProgram) {
+      Map<String, float[]> bounds = this.boundsByFontProgram.get(hash);
+      if (bounds == null) {
+        bounds = new ConcurrentHashMap<>();
+        this.boundsByFontProgram.put(hash, bounds);
+      }
+      return bounds;
+    }
+  }
+
+  /**
+   * Computes a hash of the font program embedded by the given font.
+   *
+   * @param font
+   *        The font to process.
+   *
+   * @return The hash of the embedded font program; or null if the font
+   *         doesn't embed a font program or the font program couldn't be read.
+   */
+  protected String computeFontProgramHash(PDFont font) {
+    PDFontDescriptor descriptor = font.getFontDescriptor();
+    if (descriptor == null) {
+      return null;
+    }
+
+    PDStream fontFile = descriptor.getFontFile();
+    if (fontFile == null) {
+      fontFile = descriptor.getFontFile2();
+    }
+    if (fontFile == null) {
+      fontFile = descriptor.getFontFile3();
+    }
+    if (fontFile == null) {
+      return null;
+    }
+
+    try (InputStream in = fontFile.getCOSObject().createRawInputStream()) {
+      MessageDigest digest =
+          MessageDigest.getInstance(FONT_PROGRAM_HASH_ALGORITHM);
+      byte[] buffer = new byte[8192];
+      int numRead;
+      while ((numRead = in.read(buffer)) > 0) {
+        digest.update(buffer, 0, numRead);
+      }
+
+      // Include the type of the font, as the same program could be
+      // interpreted differently by different font types.
+      StringBuilder hash = new StringBuilder(font.getSubType()).append(":");
+      for (byte b : digest.digest()) {
+        hash.append(String.format("%02x", b));
+      }
+      return hash.toString();
+    } catch (IOException | NoSuchAlgorithmException e) {
+      log.debug("Couldn't hash the font program of font " + font.getName(), e);
+      return null;
+    }
+  }
+
+  /**
+   * Translates the given bounding box to an entry of the cache.
+   *
+   * @param bounds
+   *        The bounding box to translate (could be null).
+   *
+   * @return The given bounding box, or {@link #NO_BOUNDS} if the given
+   *         bounding box is null.
+   */
+  protected static float[] toEntry(float[] bounds) {
+    return bounds != null ? bounds : NO_BOUNDS;
+  }
+
+  // ==========================================================================
+
+  /**
+   * The cached bounding boxes of a single font.
+   *
+   * @author Claudius Korzen
+   */
+  protected static class FontGlyphBounds {
+    /**
+     * The bounding boxes per character code.
+     */
+    protected Map<Integer, float[]> boundsByCode = new ConcurrentHashMap<>();
+
+    /**
+     * The hash of the font program embedded by the font.
+     */
+    protected String fontProgramHash;
+
+    /**
+     * The boolean flag that indicates whether the hash of the font program
+     * was already computed.
+     */
+    protected boolean isFontProgramHashComputed;
+  }
+}
@@ -0,0 +1,330 @@
+package pdfact.core.pipes.parse.stream.pdfbox.utils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace;
+import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceGray;
+import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceRGB;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImage;
+
+import pdfact.core.util.log.InjectLogger;
+
+/**
+ * A classifier that checks if an image consists only of a single color (in
+ * which case the image is considered as a shape and not as a figure).
+ *
+ * <p>
+ * For images in the DeviceGray or DeviceRGB color space without any masks or
+ * decode arrays, the classifier reads the decoded samples directly from the
+ * image stream, without rendering the image. All other images are rendered.
+ * In both cases, the pixels are checked row by row and the check stops at the
+ * first row that contains a pixel different from the first pixel. Images that
+ * would need to be rendered and are larger than
+ * {@link #MAX_NUM_PIXELS_TO_RENDER} pixels are considered as multi-colored
+ * without checking them.
+ *
+ * <p>
+ * The results for image XObjects are cached per image stream, such that an
+ * image that is used several times (like a logo on each page) is checked only
+ * once.
+ *
+ * @author Claudius Korzen
+ */
+public class PdfBoxImageColorClassifier {
+  /**
+   * The logger.
+   */
+  @InjectLogger
+  protected static Logger log;
+
+  /**
+   * The maximum number of pixels of an image that needs to be rendered to
+   * check if it consists only of a single color.
+   */
+  protected static final long MAX_NUM_PIXELS_TO_RENDER = 4000000;
+
+  /**
+   * The result that represents an image with at least two different colors.
+   */
+  protected static final float[] NO_EXCLUSIVE_COLOR = new float[0];
+
+  /**
+   * The packed RGB value that represents an image with at least two different
+   * colors (the packed RGB value of an opaque pixel is never 0).
+   */
+  protected static final int NO_RGB = 0;
+
+  /**
+   * The results per image stream.
+   */
+  protected Map<COSStream, float[]> exclusiveColors;
+
+  // ==========================================================================
+
+  /**
+   * Creates a new image color classifier.
+   */
+  public PdfBoxImageColorClassifier() {
+    // A weak map releases the entries of a document as soon as the document
+    // is no longer referenced.
+    this.exclusiveColors = Collections.synchronizedMap(new WeakHashMap<>());
+  }
+
+  // ==========================================================================
+
+  /**
+   * Checks if the given image consists only of a single color and returns the
+   * color if so. Returns null if there are at least two different colors.
+   *
+   * @param image
+   *        The image to process.
+   *
+   * @return The color (in the format of {@link ColorUtils#toRGBArray(int)}),
+   *         if the image consists only of a single color; null otherwise.
+   * @throws IOException
+   *         If something went wrong on reading the image.
+   */
+  public float[] getExclusiveColor(PDImage image) throws IOException {
+    if (image == null) {
+      return null;
+    }
+
+    // Image XObjects are streams and can be cached; inline images can't.
+    COSBase cos = image.getCOSObject();
+    COSStream stream = cos instanceof COSStream ? (COSStream) cos : null;
+
+    float[] color = stream != null ? this.exclusiveColors.get(stream) : null;
+    if (color == null) {
+      color = computeExclusiveColor(image);
+      if (color == null) {
+        color = NO_EXCLUSIVE_COLOR;
+      }
+      if (stream != null) {
+        this.exclusiveColors.put(stream, color);
+      }
+    }
+    return color != NO_EXCLUSIVE_COLOR ? color : null;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Checks if the given image consists only of a single color.
+   *
+   * @param image
+   *        The image to process.
+   *
+   * @return The color, if the image consists only of a single color; null
+   *         otherwise.
+   * @throws IOException
+   *         If something went wrong on reading the image.
+   */
+  protected float[] computeExclusiveColor(PDImage image) throws IOException {
+    if (isReadableFromStream(image)) {
+      try {
+        int rgb = getExclusiveRgbFromStream(image);
+        if (rgb != Integer.MAX_VALUE) {
+          return rgb != NO_RGB ? ColorUtils.toRGBArray(rgb) : null;
+        }
+      } catch (IOException e) {
+        log.debug("Couldn't read the samples of the image from its stream.", e);
+      }
+      // The stream couldn't be read completely; render the image.
+    }
+
+    long numPixels = (long) image.getWidth() * image.getHeight();
+    if (numPixels > MAX_NUM_PIXELS_TO_RENDER) {
+      log.debug("The image is too large to be rendered (" + numPixels
+          + " pixels). Considering it as multi-colored.");
+      return null;
+    }
+
+    return ColorUtils.getExclusiveColor(image.getImage());
+  }
+
+  /**
+   * Reads the decoded samples of the given image from its stream and checks
+   * if all pixels have the same color.
+   *
+   * @param image
+   *        The image to process.
+   *
+   * @return The packed RGB value of the color, if the image consists only of
+   *         a single color; {@link #NO_RGB} if the image consists of at least
+   *         two different colors; or Integer.MAX_VALUE if the image is empty
+   *         or its stream ends too early.
+   * @throws IOException
+   *         If something went wrong on reading the stream.
+   */
+  protected int getExclusiveRgbFromStream(PDImage image) throws IOException {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    int bitsPerComponent = image.getBitsPerComponent();
+    int numComponents = image.getColorSpace().getNumberOfComponents();
+    if (width <= 0 || height <= 0) {
+      return Integer.MAX_VALUE;
+    }
+
+    // The rows are padded to full bytes.
+    int bytesPerRow =
+        (int) (((long) width * bitsPerComponent * numComponents + 7) / 8);
+    // The bits of the last byte of a row that belong to the image.
+    int lastByteMask = 0xff;
+    if (bitsPerComponent == 1 && width % 8 != 0) {
+      lastByteMask = (0xff << (8 - width % 8)) & 0xff;
+    }
+
+    byte[] row = new byte[bytesPerRow];
+    byte[] expectedRow = null;
+
+    try (InputStream in = new BufferedInputStream(image.createInputStream())) {
+      for (int y = 0; y < height; y++) {
+        if (!readFully(in, row)) {
+          return Integer.MAX_VALUE;
+        }
+        row[bytesPerRow - 1] &= lastByteMask;
+
+        if (expectedRow == null) {
+          // Fill the expected row with the first pixel.
+          expectedRow = new byte[bytesPerRow];
+          if (bitsPerComponent == 1) {
+            byte firstPixel = (row[0] & 0x80) != 0 ? (byte) 0xff : 0;
+            Arrays.fill(expectedRow, firstPixel);
+          } else {
+            for (int i = 0; i < bytesPerRow; i++) {
+              expectedRow[i] = row[i % numComponents];
+            }
+          }
+          expectedRow[bytesPerRow - 1] &= lastByteMask;
+        }
+
+        if (!Arrays.equals(row, expectedRow)) {
+          return NO_RGB;
+        }
+      }
+    }
+
+    // Translate the color of the first pixel to a packed RGB value, like it
+    // is done on rendering the image.
+    int r = expectedRow[0] & 0xff;
+    if (bitsPerComponent == 1) {
+      r = (expectedRow[0] & 0x80) != 0 ? 0xff : 0x00;
+    }
+    int g = r;
+    int b = r;
+    if (numComponents == 3) {
+      g = expectedRow[1] & 0xff;
+      b = expectedRow[2] & 0xff;
+    }
+    return (0xff << 24) | (r << 16) | (g << 8) | b;
+  }
+
+  /**
+   * Checks if the decoded samples of the given image can be read directly from
+   * its stream, that is if the image is given in DeviceGray (with 1 or 8 bits
+   * per component) or in DeviceRGB (with 8 bits per component) and doesn't
+   * have any masks or decode arrays.
+   *
+   * @param image
+   *        The image to check.
+   *
+   * @return True, if the decoded samples of the given image can be read
+   *         directly from its stream; false otherwise.
+   */
+  protected boolean isReadableFromStream(PDImage image) {
+    if (image.isStencil() || image.isEmpty() || image.getDecode() != null) {
+      return false;
+    }
+
+    COSBase cos = image.getCOSObject();
+    if (!(cos instanceof COSDictionary)) {
+      return false;
+    }
+    COSDictionary dict = (COSDictionary) cos;
+    if (dict.containsKey(COSName.SMASK) || dict.containsKey(COSName.MASK)) {
+      return false;
+    }
+    // The color space of JPX images may be given by the image data.
+    if (hasFilter(dict, COSName.JPX_DECODE)) {
+      return false;
+    }
+
+    PDColorSpace colorSpace;
+    try {
+      colorSpace = image.getColorSpace();
+    } catch (IOException e) {
+      return false;
+    }
+
+    int bitsPerComponent = image.getBitsPerComponent();
+    if (colorSpace instanceof PDDeviceGray) {
+      return bitsPerComponent == 1 || bitsPerComponent == 8;
+    }
+    if (colorSpace instanceof PDDeviceRGB) {
+      return bitsPerComponent == 8;
+    }
+    return false;
+  }
+
+  /**
+   * Checks if the given image dictionary lists the given filter.
+   *
+   * @param dict
+   *        The image dictionary.
+   * @param filter
+   *        The filter to check.
+   *
+   * @return True, if the given image dictionary lists the given filter.
+   */
+  protected static boolean hasFilter(COSDictionary dict, COSName filter) {
+    COSBase filters = dict.getDictionaryObject(COSName.F, COSName.FILTER);
+    if (filters instanceof COSName) {
+      return filter.equals(filters);
+    }
+    if (filters instanceof COSArray) {
+      for (COSBase f : (COSArray) filters) {
+        if (filter.equals(f)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Reads bytes from the given stream until the given buffer is full.
+   *
+   * @param in
+   *        The stream to read from.
+   * @param buffer
+   *        The buffer to fill.
+   *
+   * @return True, if the buffer was filled; false if the stream ended before.
+   * @throws IOException
+   *         If something went wrong on reading the stream.
+   */
+  protected static boolean readFully(InputStream in, byte[] buffer)
+      throws IOException {
+    int offset = 0;
+    while (offset < buffer.length) {
+      int numRead = in.read(buffer, offset, buffer.length - offset);
+      if (numRead < 0) {
+        return false;
+      }
+      offset += numRead;
+    }
+    return true;
+  }
+}
@@ -1,13 +1,14 @@
 package pdfact.core.pipes.semanticize;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.util.pipeline.ParallelizablePipe;
 
 /**
- * A pipe to semanticize the text blocks of a PDF document.
+ * A pipe to semanticize the text blocks of a PDF document. The semanticizer
+ * modules that don't depend on each other are executed concurrently.
  * 
  * @author Claudius Korzen
  */
-public interface DetectSemanticsPipe extends Pipe {
+public interface DetectSemanticsPipe extends ParallelizablePipe {
   /**
    * The factory to create instances of {@link DetectSemanticsPipe}.
    * 
@@ -1,19 +1,47 @@
 package pdfact.core.pipes.semanticize;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.apache.log4j.Logger;
 
 import com.google.inject.Inject;
 
+import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
+import pdfact.core.model.TextBlock;
+import pdfact.core.pipes.semanticize.modules.BlockFeatures;
+import pdfact.core.pipes.semanticize.modules.BlockVisitorModule;
+import pdfact.core.pipes.semanticize.modules.ModuleDeclaration;
 import pdfact.core.pipes.semanticize.modules.PdfTextSemanticizerModule;
+import pdfact.core.pipes.semanticize.modules.RoleAssignments;
 import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActExecuteException;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.ResourceMeter;
 
 /**
  * A plain implementation of {@link DetectSemanticsPipe}.
- * 
+ *
+ * <p>
+ * The modules are arranged in stages, based on the data they declare to read
+ * and to write: a module is placed in a later stage than each module
+ * registered before it whose written data it reads, and in no earlier stage
+ * than each module registered before it that it conflicts with. The modules of
+ * a stage are executed concurrently on the PDF document as produced by the
+ * previous stages, where the text blocks are visited only once for all
+ * modules of the stage that are block visitors, sharing the features computed
+ * per block. Afterwards, the roles assigned by the modules are applied
+ * in the order in which the modules are registered, so the result is the same
+ * as if the modules were executed one after another in this order.
+ *
  * @author Claudius Korzen
  */
 public class PlainDetectSemanticsPipe
@@ -29,15 +57,31 @@ public class PlainDetectSemanticsPipe
    */
   protected Set<PdfTextSemanticizerModule> modules;
 
+  /**
+   * The stages of the modules, in execution order.
+   */
+  protected List<List<PdfTextSemanticizerModule>> stages;
+
+  /**
+   * The declarations of the modules, per stage.
+   */
+  protected List<List<ModuleDeclaration>> stageDeclarations;
+
+  /**
+   * The pool in which the modules of a stage are executed.
+   */
+  protected ForkJoinPool forkJoinPool;
+
   /**
    * The default constructor.
-   * 
+   *
    * @param set
-   *        The semanticizer modules.
+   *        The semanticizer modules, in the order of registration.
    */
   @Inject
   public PlainDetectSemanticsPipe(Set<PdfTextSemanticizerModule> set) {
     this.modules = set;
+    computeStages();
   }
 
   // ==========================================================================
@@ -48,6 +92,13 @@ public class PlainDetectSemanticsPipe
 
     log.debug("Process: Detecting the semantics of the text blocks.");
     log.debug("# registered semanticizer modules: " + this.modules.size());
+    for (int i = 0; i < this.stages.size(); i++) {
+      List<String> names = new ArrayList<>();
+      for (PdfTextSemanticizerModule module : this.stages.get(i)) {
+        names.add(module.getClass().getSimpleName());
+      }
+      log.debug("Stage " + i + " of semanticizer modules: " + names);
+    }
     detectSemantics(pdf);
 
     log.debug("Detecting the semantics of the text blocks done.");
@@ -58,16 +109,236 @@ public class PlainDetectSemanticsPipe
 
   /**
    * Detects the semantics of the text blocks in the given PDF document.
-   * 
+   *
    * @param pdf
    *        The PDF document to process.
-   * 
+   *
    * @return The processed PDF document.
+   *
+   * @throws PdfActException
+   *         If a module failed.
    */
-  protected PdfDocument detectSemantics(PdfDocument pdf) {
-    for (PdfTextSemanticizerModule module : this.modules) {
-      module.semanticize(pdf);
+  protected PdfDocument detectSemantics(PdfDocument pdf)
+      throws PdfActException {
+    // The features of the text blocks, computed once and shared by all stages.
+    Map<TextBlock, BlockFeatures> features = new IdentityHashMap<>();
+
+    for (int i = 0; i < this.stages.size(); i++) {
+      List<PdfTextSemanticizerModule> stage = this.stages.get(i);
+      List<ModuleDeclaration> declarations = this.stageDeclarations.get(i);
+
+      List<RoleAssignments> assignments = executeStage(pdf, stage, features);
+
+      // Apply the roles in the order of registration of the modules.
+      for (int j = 0; j < stage.size(); j++) {
+        assignments.get(j).apply(declarations.get(j).isOverwritingRoles());
+      }
     }
     return pdf;
   }
+
+  /**
+   * Executes the given modules on the given PDF document. The text blocks are
+   * visited once for all block visitor modules; this pass and each other
+   * module are executed either sequentially in the calling thread or
+   * concurrently in the pool of this pipe.
+   *
+   * @param pdf
+   *        The PDF document to process.
+   * @param stage
+   *        The modules to execute.
+   * @param features
+   *        The features of the text blocks computed so far.
+   *
+   * @return The roles assigned by the modules, in the order of the modules.
+   *
+   * @throws PdfActException
+   *         If a module failed.
+   */
+  protected List<RoleAssignments> executeStage(PdfDocument pdf,
+      List<PdfTextSemanticizerModule> stage,
+      Map<TextBlock, BlockFeatures> features) throws PdfActException {
+    List<RoleAssignments> result = new ArrayList<>(stage.size());
+    List<BlockVisitorModule> visitors = new ArrayList<>();
+    List<RoleAssignments> visitorAssignments = new ArrayList<>();
+    List<Callable<Void>> tasks = new ArrayList<>();
+
+    for (PdfTextSemanticizerModule module : stage) {
+      RoleAssignments assignments = new RoleAssignments();
+      result.add(assignments);
+      if (module instanceof BlockVisitorModule) {
+        visitors.add((BlockVisitorModule) module);
+        visitorAssignments.add(assignments);
+      } else {
+        tasks.add(() -> {
+          module.semanticize(pdf, assignments);
+          return null;
+        });
+      }
+    }
+
+    if (!visitors.isEmpty()) {
+      tasks.add(0, () -> {
+        visitBlocks(pdf, visitors, visitorAssignments, features);
+        return null;
+      });
+    }
+
+    // Execute the tasks sequentially if there is nothing to parallelize.
+    ForkJoinPool pool = this.forkJoinPool;
+    if (pool == null || pool.getParallelism() < 2 || tasks.size() < 2) {
+      for (Callable<Void> task : tasks) {
+        try {
+          task.call();
+        } catch (RuntimeException e) {
+          throw e;
+        } catch (Exception e) {
+          throw new PdfActExecuteException("Couldn't detect the semantics.",
+              e);
+        }
+      }
+      return result;
+    }
+
+    List<Callable<Void>> callables = new ArrayList<>(tasks.size());
+    for (Callable<Void> task : tasks) {
+      // Attribute the usage of the worker threads to this pipe.
+      callables.add(ResourceMeter.wrap(task));
+    }
+
+    // Wait for all tasks and report the errors in the order of the tasks.
+    for (Future<Void> future : pool.invokeAll(callables)) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PdfActExecuteException(
+            "Interrupted while detecting the semantics.", e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new PdfActExecuteException("Couldn't detect the semantics.",
+            cause);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Visits the text blocks of the given PDF document once and offers each
+   * block to the given modules, in the given order. A module that isn't
+   * interested in text blocks with a role is not offered a block that has a
+   * role already, or that was assigned a role by a module before.
+   *
+   * @param pdf
+   *        The PDF document to process.
+   * @param visitors
+   *        The modules to which the text blocks should be offered.
+   * @param assignments
+   *        The assignments of the modules, in the order of the modules.
+   * @param features
+   *        The features of the text blocks computed so far.
+   */
+  protected void visitBlocks(PdfDocument pdf, List<BlockVisitorModule> visitors,
+      List<RoleAssignments> assignments,
+      Map<TextBlock, BlockFeatures> features) {
+    List<Page> pages = pdf.getPages();
+    if (pages == null) {
+      return;
+    }
+
+    boolean[] isVisitingAssignedBlocks = new boolean[visitors.size()];
+    for (int i = 0; i < visitors.size(); i++) {
+      isVisitingAssignedBlocks[i] = visitors.get(i).isVisitingAssignedBlocks();
+      visitors.get(i).startVisit(pdf);
+    }
+
+    for (Page page : pages) {
+      if (page == null) {
+        continue;
+      }
+
+      for (TextBlock block : page.getTextBlocks()) {
+        if (block == null) {
+          continue;
+        }
+
+        BlockFeatures blockFeatures = features.get(block);
+        if (blockFeatures == null) {
+          blockFeatures = new BlockFeatures(block);
+          features.put(block, blockFeatures);
+        }
+
+        boolean isAssigned = block.getSemanticRole() != null;
+        for (int i = 0; i < visitors.size(); i++) {
+          if (isAssigned && !isVisitingAssignedBlocks[i]) {
+            continue;
+          }
+          RoleAssignments moduleAssignments = assignments.get(i);
+          int numAssignments = moduleAssignments.size();
+          visitors.get(i).visit(page, block, blockFeatures, moduleAssignments);
+          // The role of a module takes precedence over the roles of the
+          // modules after it, if those don't overwrite roles.
+          isAssigned |= moduleAssignments.size() > numAssignments;
+        }
+      }
+    }
+
+    for (int i = 0; i < visitors.size(); i++) {
+      visitors.get(i).endVisit(pdf, assignments.get(i));
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * Arranges the modules in stages, based on their declarations.
+   */
+  protected void computeStages() {
+    List<ModuleDeclaration> declarations = new ArrayList<>();
+    List<Integer> moduleStages = new ArrayList<>();
+    this.stages = new ArrayList<>();
+    this.stageDeclarations = new ArrayList<>();
+
+    for (PdfTextSemanticizerModule module : this.modules) {
+      ModuleDeclaration declaration = module.getDeclaration();
+
+      // Compute the earliest stage allowed by the modules registered before.
+      int stage = 0;
+      for (int i = 0; i < declarations.size(); i++) {
+        ModuleDeclaration other = declarations.get(i);
+        if (declaration.dependsOn(other)) {
+          stage = Math.max(stage, moduleStages.get(i) + 1);
+        } else if (declaration.conflictsWith(other)) {
+          stage = Math.max(stage, moduleStages.get(i));
+        }
+      }
+      declarations.add(declaration);
+      moduleStages.add(stage);
+
+      if (stage == this.stages.size()) {
+        this.stages.add(new ArrayList<>());
+        this.stageDeclarations.add(new ArrayList<>());
+      }
+      this.stages.get(stage).add(module);
+      this.stageDeclarations.get(stage).add(declaration);
+    }
+  }
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
 }
@@ -1,7 +1,5 @@
 package pdfact.core.pipes.semanticize.modules;
 
-import java.util.List;
-
 import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
@@ -12,7 +10,7 @@ import pdfact.core.model.TextBlock;
  * 
  * @author Claudius Korzen
  */
-public class AbstractModule implements PdfTextSemanticizerModule {
+public class AbstractModule extends BlockVisitorModule {
   /**
    * A boolean flag that indicates whether the current text block is a member of
    * the abstract or not.
@@ -20,46 +18,42 @@ public class AbstractModule implements PdfTextSemanticizerModule {
   protected boolean isAbstract = false;
 
   @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
-      return;
-    }
+  public void startVisit(PdfDocument pdf) {
+    this.isAbstract = false;
+  }
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
+  @Override
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    SemanticRole role = block.getSemanticRole();
+    SemanticRole secondaryRole = block.getSecondarySemanticRole();
+
+    // Check if the current block is a section heading (which would
+    // denote the end of the abstract).
+    if (this.isAbstract && role == SemanticRole.HEADING) {
+      this.isAbstract = false;
     }
 
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
-
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
-
-        SemanticRole role = block.getSemanticRole();
-        SemanticRole secondaryRole = block.getSecondarySemanticRole();
+    if (this.isAbstract) {
+      assignments.assign(block, SemanticRole.ABSTRACT);
+    }
 
-        // Check if the current block is a section heading (which would
-        // denote the end of the abstract).
-        if (this.isAbstract && role == SemanticRole.HEADING) {
-          this.isAbstract = false;
-        }
+    // Check if the current block is the heading of the abstract (which
+    // would denote the start of the abstract).
+    if (role == SemanticRole.HEADING
+        && secondaryRole == SemanticRole.ABSTRACT) {
+      this.isAbstract = true;
+    }
+  }
 
-        if (this.isAbstract) {
-          block.setSemanticRole(SemanticRole.ABSTRACT);
-        }
+  // ==========================================================================
 
-        // Check if the current block is the heading of the abstract (which
-        // would denote the start of the abstract).
-        if (role == SemanticRole.HEADING
-            && secondaryRole == SemanticRole.ABSTRACT) {
-          this.isAbstract = true;
-        }
-      }
-    }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .reads(ModuleDeclaration.role(SemanticRole.HEADING),
+            ModuleDeclaration.secondaryRole(SemanticRole.ABSTRACT))
+        .writes(ModuleDeclaration.role(SemanticRole.ABSTRACT))
+        .overwritesRoles();
   }
 }
@@ -1,7 +1,5 @@
 package pdfact.core.pipes.semanticize.modules;
 
-import java.util.List;
-
 import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
@@ -13,7 +11,7 @@ import pdfact.core.model.TextBlock;
  * 
  * @author Claudius Korzen
  */
-public class AcknowledgmentsModule implements PdfTextSemanticizerModule {
+public class AcknowledgmentsModule extends BlockVisitorModule {
   /**
    * A boolean flag that indicates whether the current text block is a member of
    * the Acknowledgments section or not.
@@ -21,47 +19,43 @@ public class AcknowledgmentsModule implements PdfTextSemanticizerModule {
   protected boolean isAcknowledgments = false;
 
   @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
-      return;
-    }
+  public void startVisit(PdfDocument pdf) {
+    this.isAcknowledgments = false;
+  }
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
+  @Override
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    SemanticRole role = block.getSemanticRole();
+    SemanticRole secondRole = block.getSecondarySemanticRole();
+
+    // Check if the current block is a section heading (which would
+    // denote the end of the Acknowledgments section).
+    if (this.isAcknowledgments && role == SemanticRole.HEADING) {
+      this.isAcknowledgments = false;
     }
 
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
-
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
-
-        SemanticRole role = block.getSemanticRole();
-        SemanticRole secondRole = block.getSecondarySemanticRole();
+    if (this.isAcknowledgments) {
+      assignments.assign(block, SemanticRole.ACKNOWLEDGMENTS);
+    }
 
-        // Check if the current block is a section heading (which would
-        // denote the end of the Acknowledgments section).
-        if (this.isAcknowledgments && role == SemanticRole.HEADING) {
-          this.isAcknowledgments = false;
-        }
+    // Check if the current block is the heading of the Acknowledgments
+    // section (which would denote the start of the Acknowledgments
+    // section).
+    if (role == SemanticRole.HEADING
+        && secondRole == SemanticRole.ACKNOWLEDGMENTS) {
+      this.isAcknowledgments = true;
+    }
+  }
 
-        if (this.isAcknowledgments) {
-          block.setSemanticRole(SemanticRole.ACKNOWLEDGMENTS);
-        }
+  // ==========================================================================
 
-        // Check if the current block is the heading of the Acknowledgments
-        // section (which would denote the start of the Acknowledgments
-        // section).
-        if (role == SemanticRole.HEADING
-            && secondRole == SemanticRole.ACKNOWLEDGMENTS) {
-          this.isAcknowledgments = true;
-        }
-      }
-    }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .reads(ModuleDeclaration.role(SemanticRole.HEADING),
+            ModuleDeclaration.secondaryRole(SemanticRole.ACKNOWLEDGMENTS))
+        .writes(ModuleDeclaration.role(SemanticRole.ACKNOWLEDGMENTS))
+        .overwritesRoles();
   }
 }
@@ -1,7 +1,5 @@
 package pdfact.core.pipes.semanticize.modules;
 
-import java.util.List;
-
 import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
@@ -12,7 +10,7 @@ import pdfact.core.model.TextBlock;
  * 
  * @author Claudius Korzen
  */
-public class AppendixModule implements PdfTextSemanticizerModule {
+public class AppendixModule extends BlockVisitorModule {
   /**
    * A boolean flag that indicates whether the current text block is a member of
    * the appendix or not.
@@ -20,46 +18,42 @@ public class AppendixModule implements PdfTextSemanticizerModule {
   protected boolean isAppendix = false;
 
   @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
-      return;
-    }
+  public void startVisit(PdfDocument pdf) {
+    this.isAppendix = false;
+  }
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
+  @Override
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    SemanticRole role = block.getSemanticRole();
+    SemanticRole secondaryRole = block.getSecondarySemanticRole();
+
+    // Check if the current block is a section heading (which would
+    // denote the end of the appendix).
+    if (this.isAppendix && role == SemanticRole.HEADING) {
+      this.isAppendix = false;
     }
 
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
-
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
-
-        SemanticRole role = block.getSemanticRole();
-        SemanticRole secondaryRole = block.getSecondarySemanticRole();
+    if (this.isAppendix) {
+      assignments.assign(block, SemanticRole.APPENDIX);
+    }
 
-        // Check if the current block is a section heading (which would
-        // denote the end of the appendix).
-        if (this.isAppendix && role == SemanticRole.HEADING) {
-          this.isAppendix = false;
-        }
+    // Check if the current block is the heading of the appendix (which
+    // would denote the start of the appendix).
+    if (role == SemanticRole.HEADING
+        && secondaryRole == SemanticRole.APPENDIX) {
+      this.isAppendix = true;
+    }
+  }
 
-        if (this.isAppendix) {
-          block.setSemanticRole(SemanticRole.APPENDIX);
-        }
+  // ==========================================================================
 
-        // Check if the current block is the heading of the appendix (which
-        // would denote the start of the appendix).
-        if (role == SemanticRole.HEADING
-            && secondaryRole == SemanticRole.APPENDIX) {
-          this.isAppendix = true;
-        }
-      }
-    }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .reads(ModuleDeclaration.role(SemanticRole.HEADING),
+            ModuleDeclaration.secondaryRole(SemanticRole.APPENDIX))
+        .writes(ModuleDeclaration.role(SemanticRole.APPENDIX))
+        .overwritesRoles();
   }
 }
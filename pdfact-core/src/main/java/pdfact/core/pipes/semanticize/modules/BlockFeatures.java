@@ -0,0 +1,155 @@
+package pdfact.core.pipes.semanticize.modules;
+
+import pdfact.core.model.Character;
+import pdfact.core.model.CharacterStatistic;
+import pdfact.core.model.FontFace;
+import pdfact.core.model.Line;
+import pdfact.core.model.Position;
+import pdfact.core.model.Rectangle;
+import pdfact.core.model.TextBlock;
+import pdfact.core.model.TextLine;
+import pdfact.core.model.Word;
+
+/**
+ * The features of a text block that are needed by the semanticizer modules.
+ * The features are computed once per text block and are shared by all
+ * modules, instead of being recomputed by each module.
+ *
+ * @author Claudius Korzen
+ */
+public class BlockFeatures {
+  /**
+   * The text of the block.
+   */
+  protected String text;
+
+  /**
+   * The text of the block, reduced to lowercased letters.
+   */
+  protected String normalizedText;
+
+  /**
+   * The most common font face in the block.
+   */
+  protected FontFace fontFace;
+
+  /**
+   * The first text line of the block.
+   */
+  protected TextLine firstTextLine;
+
+  /**
+   * The baseline of the first text line of the block.
+   */
+  protected Line firstBaseline;
+
+  /**
+   * The first character of the block.
+   */
+  protected Character firstCharacter;
+
+  /**
+   * The bounding box of the block.
+   */
+  protected Rectangle rectangle;
+
+  // ==========================================================================
+
+  /**
+   * Computes the features of the given text block.
+   *
+   * @param block
+   *        The text block.
+   */
+  public BlockFeatures(TextBlock block) {
+    this.text = block.getText();
+    if (this.text != null) {
+      this.normalizedText =
+          this.text.replaceAll("[^A-Za-z]", "").toLowerCase().trim();
+    }
+
+    CharacterStatistic statistic = block.getCharacterStatistic();
+    if (statistic != null) {
+      this.fontFace = statistic.getMostCommonFontFace();
+    }
+
+    this.firstTextLine = block.getFirstTextLine();
+    if (this.firstTextLine != null) {
+      this.firstBaseline = this.firstTextLine.getBaseline();
+      Word firstWord = this.firstTextLine.getFirstWord();
+      if (firstWord != null) {
+        this.firstCharacter = firstWord.getFirstCharacter();
+      }
+    }
+
+    Position position = block.getPosition();
+    if (position != null) {
+      this.rectangle = position.getRectangle();
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the text of the block.
+   *
+   * @return The text of the block.
+   */
+  public String getText() {
+    return this.text;
+  }
+
+  /**
+   * Returns the text of the block, reduced to lowercased letters.
+   *
+   * @return The normalized text of the block.
+   */
+  public String getNormalizedText() {
+    return this.normalizedText;
+  }
+
+  /**
+   * Returns the most common font face in the block.
+   *
+   * @return The most common font face in the block.
+   */
+  public FontFace getFontFace() {
+    return this.fontFace;
+  }
+
+  /**
+   * Returns the first text line of the block.
+   *
+   * @return The first text line of the block.
+   */
+  public TextLine getFirstTextLine() {
+    return this.firstTextLine;
+  }
+
+  /**
+   * Returns the baseline of the first text line of the block.
+   *
+   * @return The baseline of the first text line of the block.
+   */
+  public Line getFirstBaseline() {
+    return this.firstBaseline;
+  }
+
+  /**
+   * Returns the first character of the block.
+   *
+   * @return The first character of the block.
+   */
+  public Character getFirstCharacter() {
+    return this.firstCharacter;
+  }
+
+  /**
+   * Returns the bounding box of the block.
+   *
+   * @return The bounding box of the block.
+   */
+  public Rectangle getRectangle() {
+    return this.rectangle;
+  }
+}
@@ -0,0 +1,110 @@
+package pdfact.core.pipes.semanticize.modules;
+
+import java.util.List;
+
+import pdfact.core.model.Page;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.model.TextBlock;
+
+/**
+ * A semanticizer module that classifies the text blocks one by one, in the
+ * order of the PDF document. The text blocks are offered to the module by the
+ * semantics pipe, which iterates the text blocks once for all such modules and
+ * offers each block to the modules in the order of their registration.
+ *
+ * <p>
+ * By default, a module that doesn't overwrite existing roles is offered only
+ * the text blocks that don't have a role yet, neither from a previous stage
+ * nor from a module registered before it.
+ *
+ * @author Claudius Korzen
+ */
+public abstract class BlockVisitorModule implements PdfTextSemanticizerModule {
+  /**
+   * Prepares the visit of the text blocks of the given PDF document.
+   *
+   * @param pdf
+   *        The PDF document to be visited.
+   */
+  public void startVisit(PdfDocument pdf) {
+    // Nothing to do by default.
+  }
+
+  /**
+   * Classifies the given text block. Only a role of the given block may be
+   * assigned here; roles of other blocks must be assigned in
+   * {@link #endVisit(PdfDocument, RoleAssignments)}.
+   *
+   * @param page
+   *        The page to which the block belongs to.
+   * @param block
+   *        The text block.
+   * @param features
+   *        The features of the text block.
+   * @param assignments
+   *        The assignments to which the identified roles should be added.
+   */
+  public abstract void visit(Page page, TextBlock block,
+      BlockFeatures features, RoleAssignments assignments);
+
+  /**
+   * Finishes the visit of the text blocks of the given PDF document.
+   *
+   * @param pdf
+   *        The visited PDF document.
+   * @param assignments
+   *        The assignments to which the identified roles should be added.
+   */
+  public void endVisit(PdfDocument pdf, RoleAssignments assignments) {
+    // Nothing to do by default.
+  }
+
+  /**
+   * Returns true if this module should be offered also the text blocks that
+   * already have a role. By default, only modules that overwrite existing
+   * roles are offered such blocks.
+   *
+   * @return True if this module should be offered all text blocks; false if
+   *         it should be offered only the text blocks without a role.
+   */
+  public boolean isVisitingAssignedBlocks() {
+    return getDeclaration().isOverwritingRoles();
+  }
+
+  // ==========================================================================
+
+  @Override
+  public void semanticize(PdfDocument pdf, RoleAssignments assignments) {
+    if (pdf == null) {
+      return;
+    }
+
+    List<Page> pages = pdf.getPages();
+    if (pages == null) {
+      return;
+    }
+
+    boolean isVisitingAssignedBlocks = isVisitingAssignedBlocks();
+
+    startVisit(pdf);
+    for (Page page : pages) {
+      if (page == null) {
+        continue;
+      }
+
+      for (TextBlock block : page.getTextBlocks()) {
+        if (block == null) {
+          continue;
+        }
+
+        // Don't offer blocks with a role, if they aren't of interest.
+        if (!isVisitingAssignedBlocks && block.getSemanticRole() != null) {
+          continue;
+        }
+
+        visit(page, block, new BlockFeatures(block), assignments);
+      }
+    }
+    endVisit(pdf, assignments);
+  }
+}
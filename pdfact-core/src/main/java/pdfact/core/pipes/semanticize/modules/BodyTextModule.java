@@ -1,7 +1,5 @@
 package pdfact.core.pipes.semanticize.modules;
 
-import java.util.List;
-
 import pdfact.core.model.CharacterStatistic;
 import pdfact.core.model.FontFace;
 import pdfact.core.model.Page;
@@ -14,44 +12,37 @@ import pdfact.core.model.TextBlock;
  * 
  * @author Claudius Korzen
  */
-public class BodyTextModule implements PdfTextSemanticizerModule {
-  @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
-      return;
-    }
+public class BodyTextModule extends BlockVisitorModule {
+  /**
+   * The most common font face in the PDF document.
+   */
+  protected FontFace pdfFontFace;
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
-    }
+  // ==========================================================================
 
+  @Override
+  public void startVisit(PdfDocument pdf) {
     // Compute the most common font face in the PDF document.
     CharacterStatistic pdfCharStats = pdf.getCharacterStatistic();
-    FontFace pdfFontFace = pdfCharStats.getMostCommonFontFace();
-
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
+    this.pdfFontFace = pdfCharStats.getMostCommonFontFace();
+  }
 
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
+  @Override
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    // The text block is a member of the body text if its font face is
+    // equal to the most common font face.
+    if (features.getFontFace() == this.pdfFontFace) {
+      assignments.assign(block, SemanticRole.BODY_TEXT);
+    }
+  }
 
-        if (block.getSemanticRole() != null) {
-          continue;
-        }
+  // ==========================================================================
 
-        // The text block is a member of the body text if its font face is
-        // equal to the most common font face.
-        CharacterStatistic blockCharStats = block.getCharacterStatistic();
-        FontFace fontFace = blockCharStats.getMostCommonFontFace();
-        if (fontFace == pdfFontFace) {
-          block.setSemanticRole(SemanticRole.BODY_TEXT);
-        }
-      }
-    }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .reads(ModuleDeclaration.CHARACTER_STATISTIC)
+        .writes(ModuleDeclaration.role(SemanticRole.BODY_TEXT));
   }
 }
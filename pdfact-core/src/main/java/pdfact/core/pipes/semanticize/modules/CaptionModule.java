@@ -1,13 +1,11 @@
 package pdfact.core.pipes.semanticize.modules;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import pdfact.core.model.Page;
-import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.model.TextBlock;
 
@@ -16,7 +14,7 @@ import pdfact.core.model.TextBlock;
  * 
  * @author Claudius Korzen
  */
-public class CaptionModule implements PdfTextSemanticizerModule {
+public class CaptionModule extends BlockVisitorModule {
   /**
    * The patterns to identify caption, per *secondary* role.
    */
@@ -37,45 +35,35 @@ public class CaptionModule implements PdfTextSemanticizerModule {
   // ==========================================================================
 
   @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    if (features.getText() == null) {
       return;
     }
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
-    }
-
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
+    // The text block is a caption if its text matches to one of the given
+    // patterns.
+    for (SemanticRole role : CAPTION_PATTERNS.keySet()) {
+      Pattern captionPattern = CAPTION_PATTERNS.get(role);
+      Matcher captionMatcher = captionPattern.matcher(features.getText());
+      if (captionMatcher.find()) {
+        // Set also the secondary role, e.g. "figure" for a figures
+        // caption.
+        assignments.assign(block, SemanticRole.CAPTION, role);
+        break;
       }
+    }
+  }
 
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
-
-        // Don't overwrite existing roles.
-        if (block.getSemanticRole() != null) {
-          continue;
-        }
+  // ==========================================================================
 
-        // The text block is a caption if its text matches to one of the given
-        // patterns.
-        for (SemanticRole role : CAPTION_PATTERNS.keySet()) {
-          Pattern captionPattern = CAPTION_PATTERNS.get(role);
-          Matcher captionMatcher = captionPattern.matcher(block.getText());
-          if (captionMatcher.find()) {
-            block.setSemanticRole(SemanticRole.CAPTION);
-            // Set also the secondary role, e.g. "figure" for a figures
-            // caption.
-            block.setSecondarySemanticRole(role);
-            break;
-          }
-        }
-      }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    ModuleDeclaration declaration = new ModuleDeclaration()
+        .writes(ModuleDeclaration.role(SemanticRole.CAPTION));
+    for (SemanticRole role : CAPTION_PATTERNS.keySet()) {
+      declaration.writes(ModuleDeclaration.secondaryRole(role));
     }
+    return declaration;
   }
 }
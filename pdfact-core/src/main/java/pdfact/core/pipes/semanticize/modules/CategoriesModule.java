@@ -1,7 +1,5 @@
 package pdfact.core.pipes.semanticize.modules;
 
-import java.util.List;
-
 import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
@@ -12,7 +10,7 @@ import pdfact.core.model.TextBlock;
  * 
  * @author Claudius Korzen
  */
-public class CategoriesModule implements PdfTextSemanticizerModule {
+public class CategoriesModule extends BlockVisitorModule {
   /**
    * A boolean flag that indicates whether the current text block is a member of
    * the Categories section or not.
@@ -20,46 +18,42 @@ public class CategoriesModule implements PdfTextSemanticizerModule {
   protected boolean isCategories = false;
 
   @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
-      return;
-    }
+  public void startVisit(PdfDocument pdf) {
+    this.isCategories = false;
+  }
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
+  @Override
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    SemanticRole role = block.getSemanticRole();
+    SemanticRole secondaryRole = block.getSecondarySemanticRole();
+
+    // Check if the current block is a section heading (which would
+    // denote the end of the Categories section).
+    if (this.isCategories && role == SemanticRole.HEADING) {
+      this.isCategories = false;
     }
 
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
-
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
-
-        SemanticRole role = block.getSemanticRole();
-        SemanticRole secondaryRole = block.getSecondarySemanticRole();
+    if (this.isCategories) {
+      assignments.assign(block, SemanticRole.CATEGORIES);
+    }
 
-        // Check if the current block is a section heading (which would
-        // denote the end of the Categories section).
-        if (this.isCategories && role == SemanticRole.HEADING) {
-          this.isCategories = false;
-        }
+    // Check if the current block is the heading of the Categories section
+    // (which would denote the start of the Categories section).
+    if (role == SemanticRole.HEADING
+        && secondaryRole == SemanticRole.CATEGORIES) {
+      this.isCategories = true;
+    }
+  }
 
-        if (this.isCategories) {
-          block.setSemanticRole(SemanticRole.CATEGORIES);
-        }
+  // ==========================================================================
 
-        // Check if the current block is the heading of the Categories section
-        // (which would denote the start of the Categories section).
-        if (role == SemanticRole.HEADING
-            && secondaryRole == SemanticRole.CATEGORIES) {
-          this.isCategories = true;
-        }
-      }
-    }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .reads(ModuleDeclaration.role(SemanticRole.HEADING),
+            ModuleDeclaration.secondaryRole(SemanticRole.CATEGORIES))
+        .writes(ModuleDeclaration.role(SemanticRole.CATEGORIES))
+        .overwritesRoles();
   }
 }
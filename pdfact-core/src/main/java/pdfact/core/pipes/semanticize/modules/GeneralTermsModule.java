@@ -1,7 +1,5 @@
 package pdfact.core.pipes.semanticize.modules;
 
-import java.util.List;
-
 import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
@@ -13,7 +11,7 @@ import pdfact.core.model.TextBlock;
  * 
  * @author Claudius Korzen
  */
-public class GeneralTermsModule implements PdfTextSemanticizerModule {
+public class GeneralTermsModule extends BlockVisitorModule {
   /**
    * A boolean flag that indicates whether the current text block is a member of
    * the "General Terms" section or not.
@@ -21,47 +19,43 @@ public class GeneralTermsModule implements PdfTextSemanticizerModule {
   protected boolean isGeneralTerms = false;
 
   @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
-      return;
-    }
+  public void startVisit(PdfDocument pdf) {
+    this.isGeneralTerms = false;
+  }
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
+  @Override
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    SemanticRole role = block.getSemanticRole();
+    SemanticRole secondaryRole = block.getSecondarySemanticRole();
+
+    // Check if the current block is a section heading (which would
+    // denote the end of the "General Terms" section).
+    if (this.isGeneralTerms && role == SemanticRole.HEADING) {
+      this.isGeneralTerms = false;
     }
 
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
-
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
-
-        SemanticRole role = block.getSemanticRole();
-        SemanticRole secondaryRole = block.getSecondarySemanticRole();
+    if (this.isGeneralTerms) {
+      assignments.assign(block, SemanticRole.GENERAL_TERMS);
+    }
 
-        // Check if the current block is a section heading (which would
-        // denote the end of the "General Terms" section).
-        if (this.isGeneralTerms && role == SemanticRole.HEADING) {
-          this.isGeneralTerms = false;
-        }
+    // Check if the current block is the heading of the "General Terms"
+    // section heading (which would denote the start of the "General Terms"
+    // section).
+    if (role == SemanticRole.HEADING
+        && secondaryRole == SemanticRole.GENERAL_TERMS) {
+      this.isGeneralTerms = true;
+    }
+  }
 
-        if (this.isGeneralTerms) {
-          block.setSemanticRole(SemanticRole.GENERAL_TERMS);
-        }
+  // ==========================================================================
 
-        // Check if the current block is the heading of the "General Terms"
-        // section heading (which would denote the start of the "General Terms"
-        // section).
-        if (role == SemanticRole.HEADING
-            && secondaryRole == SemanticRole.GENERAL_TERMS) {
-          this.isGeneralTerms = true;
-        }
-      }
-    }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .reads(ModuleDeclaration.role(SemanticRole.HEADING),
+            ModuleDeclaration.secondaryRole(SemanticRole.GENERAL_TERMS))
+        .writes(ModuleDeclaration.role(SemanticRole.GENERAL_TERMS))
+        .overwritesRoles();
   }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package pdfact.core.pipes.semanticize.modules;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -26,7 +27,7 @@ import pdfact.core.util.statistician.CharacterStatistician;
  * 
  * @author Claudius Korzen
  */
-public class HeadingModule implements PdfTextSemanticizerModule {
+public class HeadingModule extends BlockVisitorModule {
   /**
    * The factory to create lists of characters.
    */
@@ -37,6 +38,32 @@ public class HeadingModule implements PdfTextSemanticizerModule {
    */
   protected CharacterStatistician charStatistician;
 
+  /**
+   * The most common font face in the visited PDF document.
+   */
+  protected FontFace pdfFontFace;
+
+  /**
+   * The characters of the known section headings in the visited PDF document.
+   */
+  protected ElementList<Character> headingChars;
+
+  /**
+   * The visited text blocks without a role, that may be headings.
+   */
+  protected List<TextBlock> candidateBlocks;
+
+  /**
+   * The most common font faces of the candidate blocks.
+   */
+  protected List<FontFace> candidateFontFaces;
+
+  /**
+   * The secondary roles of the candidate blocks (null if a block isn't a
+   * known section heading).
+   */
+  protected List<SemanticRole> candidateRoles;
+
   /**
    * The texts of known headings, per *secondary* role.
    */
@@ -118,141 +145,106 @@ public class HeadingModule implements PdfTextSemanticizerModule {
   // ==========================================================================
 
   @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
-      return;
-    }
-
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
-    }
-
-    // Compute the expected font face of section headings.
-    FontFace headingFontFace = findSectionHeadingFontFace(pdf);
-
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
-
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
-
-        // Don't overwrite existing roles.
-        if (block.getSemanticRole() != null) {
-          continue;
-        }
+  public void startVisit(PdfDocument pdf) {
+    CharacterStatistic pdfCharStats = pdf.getCharacterStatistic();
+    this.pdfFontFace = pdfCharStats.getMostCommonFontFace();
+    this.headingChars = this.charListFactory.create();
+    this.candidateBlocks = new ArrayList<>();
+    this.candidateFontFaces = new ArrayList<>();
+    this.candidateRoles = new ArrayList<>();
+  }
 
-        CharacterStatistic blockCharStats = block.getCharacterStatistic();
-        FontFace fontFace = blockCharStats.getMostCommonFontFace();
-        String text = toNormalizedText(block);
-
-        // The text block is a heading if its font face is equal to the
-        // computed section heading font face.
-        if (headingFontFace == fontFace) {
-          block.setSemanticRole(SemanticRole.HEADING);
-          // Iterate through the known headings to obtain the secondary role.
-          for (SemanticRole role : KNOWN_HEADINGS.keySet()) {
-            Set<String> headings = KNOWN_HEADINGS.get(role);
-            if (headings.contains(text)) {
-              block.setSecondarySemanticRole(role);
-              break;
-            }
-          }
+  @Override
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    FontFace fontFace = features.getFontFace();
+    SemanticRole knownHeadingRole =
+        getKnownHeadingRole(features.getNormalizedText());
+
+    // Collect the characters of the known section headings, to compute the
+    // expected font face of section headings.
+    // TODO: Find a reliable criteria to distinguish headings from the rest.
+    if (knownHeadingRole != null && fontFace != null && this.pdfFontFace != null
+        && fontFace.getFontSize() - this.pdfFontFace.getFontSize() > 1) {
+      for (TextLine line : block.getTextLines()) {
+        for (Word word : line.getWords()) {
+          this.headingChars.addAll(word.getCharacters());
         }
       }
     }
-  }
 
-  /**
-   * Searches the PDF document for known section headings and analyzes their
-   * font faces.
-   * 
-   * @param pdf
-   *        The PDF document.
-   * 
-   * @return The most common font face of all known section headings.
-   */
-  protected FontFace findSectionHeadingFontFace(PdfDocument pdf) {
-    if (pdf == null) {
-      return null;
+    // Don't overwrite existing roles. The block is a heading if its font face
+    // is equal to the expected font face of section headings, which is known
+    // not until all blocks were visited.
+    if (block.getSemanticRole() == null) {
+      this.candidateBlocks.add(block);
+      this.candidateFontFaces.add(fontFace);
+      this.candidateRoles.add(knownHeadingRole);
     }
+  }
 
-    CharacterStatistic pdfCharStats = pdf.getCharacterStatistic();
-    FontFace pdfFontFace = pdfCharStats.getMostCommonFontFace();
-
-    if (pdfFontFace == null) {
-      return null;
+  @Override
+  public void endVisit(PdfDocument pdf, RoleAssignments assignments) {
+    // Compute the expected font face of section headings.
+    FontFace headingFontFace = null;
+    if (this.pdfFontFace != null) {
+      CharacterStatistic stats = this.charStatistician.compute(
+          this.headingChars);
+      headingFontFace = stats.getMostCommonFontFace();
     }
 
-    // The characters of all known section headings.
-    ElementList<Character> headingChars = this.charListFactory.create();
-
-    for (Page page : pdf.getPages()) {
-      for (TextBlock block : page.getTextBlocks()) {
-        if (!hasKnownSectionHeadingText(block)) {
-          continue;
-        }
+    for (int i = 0; i < this.candidateBlocks.size(); i++) {
+      if (headingFontFace == this.candidateFontFaces.get(i)) {
+        // Set also the secondary role of known headings.
+        assignments.assign(this.candidateBlocks.get(i), SemanticRole.HEADING,
+            this.candidateRoles.get(i));
+      }
+    }
 
-        CharacterStatistic blockCharStats = block.getCharacterStatistic();
-        FontFace fontFace = blockCharStats.getMostCommonFontFace();
+    this.headingChars = null;
+    this.candidateBlocks = null;
+    this.candidateFontFaces = null;
+    this.candidateRoles = null;
+  }
 
-        if (fontFace == null) {
-          continue;
-        }
+  @Override
+  public boolean isVisitingAssignedBlocks() {
+    // The known section headings are analyzed in all blocks.
+    return true;
+  }
 
-        // TODO: Find a reliable criteria to distinguish headings from the
-        // rest.
+  // ==========================================================================
 
-        if (fontFace.getFontSize() - pdfFontFace.getFontSize() > 1) {
-          for (TextLine line : block.getTextLines()) {
-            for (Word word : line.getWords()) {
-              headingChars.addAll(word.getCharacters());
-            }
-          }
-        }
-      }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    ModuleDeclaration declaration = new ModuleDeclaration()
+        .reads(ModuleDeclaration.CHARACTER_STATISTIC)
+        .writes(ModuleDeclaration.role(SemanticRole.HEADING));
+    for (SemanticRole role : KNOWN_HEADINGS.keySet()) {
+      declaration.writes(ModuleDeclaration.secondaryRole(role));
     }
-
-    CharacterStatistic stats = this.charStatistician.compute(headingChars);
-    return stats.getMostCommonFontFace();
+    return declaration;
   }
 
+  // ==========================================================================
+
   /**
-   * Checks if the text of the given text block is a known section heading.
+   * Returns the secondary role of the known section heading with the given
+   * text.
    * 
-   * @param block
-   *        The block to check.
+   * @param normalizedText
+   *        The normalized text of a text block.
    * 
-   * @return True if the text of the given text block is a known section
-   *         heading.
+   * @return The secondary role of the known section heading, or null if the
+   *         text isn't a known section heading.
    */
-  protected boolean hasKnownSectionHeadingText(TextBlock block) {
-    String text = toNormalizedText(block);
+  protected SemanticRole getKnownHeadingRole(String normalizedText) {
     for (SemanticRole role : KNOWN_HEADINGS.keySet()) {
       Set<String> headings = KNOWN_HEADINGS.get(role);
-      if (headings.contains(text)) {
-        return true;
+      if (headings.contains(normalizedText)) {
+        return role;
       }
     }
-    return false;
-  }
-
-  /**
-   * Normalizes the text of the given text block.
-   * 
-   * @param block
-   *        The text block to normalize.
-   * @return The normalized text of the given text block.
-   */
-  @Deprecated
-  protected static String toNormalizedText(TextBlock block) {
-    if (block == null || block.getText() == null) {
-      return null;
-    }
-    return block.getText().replaceAll("[^A-Za-z]", "").toLowerCase().trim();
+    return null;
   }
 }
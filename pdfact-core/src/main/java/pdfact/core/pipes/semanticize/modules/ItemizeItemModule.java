@@ -6,7 +6,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import pdfact.core.model.Page;
-import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.model.TextBlock;
 
@@ -15,7 +14,7 @@ import pdfact.core.model.TextBlock;
  * 
  * @author Claudius Korzen
  */
-public class ItemizeItemModule implements PdfTextSemanticizerModule {
+public class ItemizeItemModule extends BlockVisitorModule {
   /**
    * A list of patterns to identify items of itemizes.
    */
@@ -59,41 +58,28 @@ public class ItemizeItemModule implements PdfTextSemanticizerModule {
   // ==========================================================================
 
   @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    if (features.getText() == null) {
       return;
     }
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
-    }
-
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
+    // The text block is a itemize item if its text matches to one of the
+    // given patterns.
+    for (Pattern pattern : ITEMIZE_ITEM_PATTERNS) {
+      Matcher matcher = pattern.matcher(features.getText());
+      if (matcher.find() && !matcher.group(1).isEmpty()) {
+        assignments.assign(block, SemanticRole.ITEMIZE_ITEM);
+        break;
       }
+    }
+  }
 
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
-
-        // Don't overwrite existing roles.
-        if (block.getSemanticRole() != null) {
-          continue;
-        }
+  // ==========================================================================
 
-        // The text block is a itemize item if its text matches to one of the
-        // given patterns.
-        for (Pattern pattern : ITEMIZE_ITEM_PATTERNS) {
-          Matcher matcher = pattern.matcher(block.getText());
-          if (matcher.find() && !matcher.group(1).isEmpty()) {
-            block.setSemanticRole(SemanticRole.ITEMIZE_ITEM);
-            break;
-          }
-        }
-      }
-    }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .writes(ModuleDeclaration.role(SemanticRole.ITEMIZE_ITEM));
   }
 }
@@ -1,7 +1,5 @@
 package pdfact.core.pipes.semanticize.modules;
 
-import java.util.List;
-
 import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
@@ -12,7 +10,7 @@ import pdfact.core.model.TextBlock;
  * 
  * @author Claudius Korzen
  */
-public class KeywordsModule implements PdfTextSemanticizerModule {
+public class KeywordsModule extends BlockVisitorModule {
   /**
    * A boolean flag that indicates whether the current text block is a member of
    * the Keywords section or not.
@@ -20,46 +18,42 @@ public class KeywordsModule implements PdfTextSemanticizerModule {
   protected boolean isKeywords = false;
 
   @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
-      return;
-    }
+  public void startVisit(PdfDocument pdf) {
+    this.isKeywords = false;
+  }
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
+  @Override
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    SemanticRole role = block.getSemanticRole();
+    SemanticRole secondaryRole = block.getSecondarySemanticRole();
+
+    // Check if the current block is a section heading (which would
+    // denote the end of the Keywords section).
+    if (this.isKeywords && role == SemanticRole.HEADING) {
+      this.isKeywords = false;
     }
 
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
-
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
-
-        SemanticRole role = block.getSemanticRole();
-        SemanticRole secondaryRole = block.getSecondarySemanticRole();
+    if (this.isKeywords) {
+      assignments.assign(block, SemanticRole.KEYWORDS);
+    }
 
-        // Check if the current block is a section heading (which would
-        // denote the end of the Keywords section).
-        if (this.isKeywords && role == SemanticRole.HEADING) {
-          this.isKeywords = false;
-        }
+    // Check if the current block is the heading of the Keywords section
+    // (which would denote the start of the Keywords section).
+    if (role == SemanticRole.HEADING
+        && secondaryRole == SemanticRole.KEYWORDS) {
+      this.isKeywords = true;
+    }
+  }
 
-        if (this.isKeywords) {
-          block.setSemanticRole(SemanticRole.KEYWORDS);
-        }
+  // ==========================================================================
 
-        // Check if the current block is the heading of the Keywords section
-        // (which would denote the start of the Keywords section).
-        if (role == SemanticRole.HEADING
-            && secondaryRole == SemanticRole.KEYWORDS) {
-          this.isKeywords = true;
-        }
-      }
-    }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .reads(ModuleDeclaration.role(SemanticRole.HEADING),
+            ModuleDeclaration.secondaryRole(SemanticRole.KEYWORDS))
+        .writes(ModuleDeclaration.role(SemanticRole.KEYWORDS))
+        .overwritesRoles();
   }
 }
@@ -0,0 +1,201 @@
+package pdfact.core.pipes.semanticize.modules;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import pdfact.core.model.SemanticRole;
+
+/**
+ * A declaration of the data a semanticizer module reads and writes, given as
+ * a set of resources, for example the semantic role "heading" (written by the
+ * heading module and read by the abstract module). The declarations are used
+ * to compute the order in which the modules must be executed and which
+ * modules can be executed concurrently.
+ *
+ * @author Claudius Korzen
+ */
+public class ModuleDeclaration {
+  /**
+   * The resource that represents the character statistics of the PDF
+   * document and its elements.
+   */
+  public static final String CHARACTER_STATISTIC = "statistic:characters";
+
+  /**
+   * The resources read by the module.
+   */
+  protected Set<String> reads = new HashSet<>();
+
+  /**
+   * The resources written by the module.
+   */
+  protected Set<String> writes = new HashSet<>();
+
+  /**
+   * The boolean flag that indicates whether the module overwrites the roles of
+   * text blocks that already have a role.
+   */
+  protected boolean isOverwritingRoles;
+
+  // ==========================================================================
+
+  /**
+   * Returns the resource that represents the given semantic role of text
+   * blocks.
+   *
+   * @param role
+   *        The semantic role.
+   *
+   * @return The resource that represents the given semantic role.
+   */
+  public static String role(SemanticRole role) {
+    return "role:" + role.getName();
+  }
+
+  /**
+   * Returns the resource that represents the given secondary semantic role of
+   * text blocks.
+   *
+   * @param role
+   *        The secondary semantic role.
+   *
+   * @return The resource that represents the given secondary semantic role.
+   */
+  public static String secondaryRole(SemanticRole role) {
+    return "secondary-role:" + role.getName();
+  }
+
+  // ==========================================================================
+
+  /**
+   * Declares that the module reads the given resources.
+   *
+   * @param resources
+   *        The resources read by the module.
+   *
+   * @return This declaration.
+   */
+  public ModuleDeclaration reads(String... resources) {
+    Collections.addAll(this.reads, resources);
+    return this;
+  }
+
+  /**
+   * Declares that the module writes the given resources.
+   *
+   * @param resources
+   *        The resources written by the module.
+   *
+   * @return This declaration.
+   */
+  public ModuleDeclaration writes(String... resources) {
+    Collections.addAll(this.writes, resources);
+    return this;
+  }
+
+  /**
+   * Declares that the module overwrites the roles of text blocks that already
+   * have a role. By default, a module assigns roles only to text blocks
+   * without a role.
+   *
+   * @return This declaration.
+   */
+  public ModuleDeclaration overwritesRoles() {
+    this.isOverwritingRoles = true;
+    return this;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the resources read by the module.
+   *
+   * @return The resources read by the module.
+   */
+  public Set<String> getReads() {
+    return this.reads;
+  }
+
+  /**
+   * Returns the resources written by the module.
+   *
+   * @return The resources written by the module.
+   */
+  public Set<String> getWrites() {
+    return this.writes;
+  }
+
+  /**
+   * Returns true if the module overwrites the roles of text blocks that
+   * already have a role.
+   *
+   * @return True if the module overwrites existing roles; false otherwise.
+   */
+  public boolean isOverwritingRoles() {
+    return this.isOverwritingRoles;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns true if the module of this declaration reads a resource written
+   * by the module of the given declaration, such that it must not be executed
+   * until the other module is finished.
+   *
+   * @param other
+   *        The declaration of a module registered before this module.
+   *
+   * @return True if this module depends on the other module; false otherwise.
+   */
+  public boolean dependsOn(ModuleDeclaration other) {
+    return !Collections.disjoint(this.reads, other.writes);
+  }
+
+  /**
+   * Returns true if the modules of this and the given declaration access a
+   * common resource and at least one of them writes it. The roles assigned by
+   * such modules must be applied in the order in which the modules are
+   * registered. Since every written role may replace or preclude the role of
+   * another module, two modules that both write any role always conflict.
+   *
+   * @param other
+   *        The declaration of another module.
+   *
+   * @return True if the modules conflict; false otherwise.
+   */
+  public boolean conflictsWith(ModuleDeclaration other) {
+    if (!Collections.disjoint(this.writes, other.writes)) {
+      return true;
+    }
+    if (!Collections.disjoint(this.reads, other.writes)) {
+      return true;
+    }
+    if (!Collections.disjoint(other.reads, this.writes)) {
+      return true;
+    }
+    return isWritingRoles() && other.isWritingRoles();
+  }
+
+  /**
+   * Returns true if the module writes any (primary) semantic role.
+   *
+   * @return True if the module writes any role; false otherwise.
+   */
+  protected boolean isWritingRoles() {
+    for (String resource : this.writes) {
+      if (resource.startsWith("role:")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public String toString() {
+    return "ModuleDeclaration(reads: " + this.reads + ", writes: "
+        + this.writes + ", overwrites roles: " + this.isOverwritingRoles + ")";
+  }
+}
@@ -41,7 +41,7 @@ public class PageHeaderFooterModule implements PdfTextSemanticizerModule {
   // ==========================================================================
 
   @Override
-  public void semanticize(PdfDocument pdf) {
+  public void semanticize(PdfDocument pdf, RoleAssignments assignments) {
     if (pdf == null) {
       return;
     }
@@ -73,8 +73,18 @@ public class PageHeaderFooterModule implements PdfTextSemanticizerModule {
       topMostBlocks.add(sortedBlocks.get(sortedBlocks.size() - 1));
     }
 
-    semanticizeBlocks(lowestBlocks, SemanticRole.PAGE_FOOTER);
-    semanticizeBlocks(topMostBlocks, SemanticRole.PAGE_HEADER);
+    semanticizeBlocks(lowestBlocks, SemanticRole.PAGE_FOOTER, assignments);
+    semanticizeBlocks(topMostBlocks, SemanticRole.PAGE_HEADER, assignments);
+  }
+
+  // ==========================================================================
+
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .writes(ModuleDeclaration.role(SemanticRole.PAGE_HEADER),
+            ModuleDeclaration.role(SemanticRole.PAGE_FOOTER))
+        .overwritesRoles();
   }
 
   // ==========================================================================
@@ -88,8 +98,11 @@ public class PageHeaderFooterModule implements PdfTextSemanticizerModule {
    *        The text blocks to process.
    * @param role
    *        The semantic role to assign to the related text blocks.
+   * @param assignments
+   *        The assignments to which the identified roles should be added.
    */
-  protected void semanticizeBlocks(List<TextBlock> blocks, SemanticRole role) {
+  protected void semanticizeBlocks(List<TextBlock> blocks, SemanticRole role,
+      RoleAssignments assignments) {
     if (blocks == null || blocks.isEmpty()) {
       return;
     }
@@ -109,7 +122,7 @@ public class PageHeaderFooterModule implements PdfTextSemanticizerModule {
     for (TextBlock block : blocks) {
       String normalizedText = getNormalizedText(block);
       if (normalizedText.equals(mostCommonText)) {
-        block.setSemanticRole(role);
+        assignments.assign(block, role);
       }
     }
   }
@@ -10,10 +10,22 @@ import pdfact.core.model.PdfDocument;
  */
 public interface PdfTextSemanticizerModule {
   /**
-   * Identifies the text blocks of a specific semantic role.
+   * Identifies the text blocks of a specific semantic role. The module must
+   * not change the PDF document, but must record the identified roles in the
+   * given assignments, since other modules may process the same PDF document
+   * at the same time.
    * 
    * @param pdf
    *        The PDF document to semanticize.
+   * @param assignments
+   *        The assignments to which the identified roles should be added.
    */
-  void semanticize(PdfDocument pdf);
-}
\ No newline at end of file
+  void semanticize(PdfDocument pdf, RoleAssignments assignments);
+
+  /**
+   * Returns the declaration of the data this module reads and writes.
+   * 
+   * @return The declaration of this module.
+   */
+  ModuleDeclaration getDeclaration();
+}
@@ -1,7 +1,5 @@
 package pdfact.core.pipes.semanticize.modules;
 
-import java.util.List;
-
 import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.SemanticRole;
@@ -12,7 +10,7 @@ import pdfact.core.model.TextBlock;
  * 
  * @author Claudius Korzen
  */
-public class ReferenceModule implements PdfTextSemanticizerModule {
+public class ReferenceModule extends BlockVisitorModule {
   /**
    * A boolean flag that indicates whether the current text block is a member of
    * the Reference section or not.
@@ -20,46 +18,42 @@ public class ReferenceModule implements PdfTextSemanticizerModule {
   protected boolean isReferences = false;
 
   @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
-      return;
-    }
+  public void startVisit(PdfDocument pdf) {
+    this.isReferences = false;
+  }
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
+  @Override
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    SemanticRole role = block.getSemanticRole();
+    SemanticRole secondaryRole = block.getSecondarySemanticRole();
+
+    // Check if the current block is a section heading (which would
+    // denote the end of the Reference section).
+    if (this.isReferences && role == SemanticRole.HEADING) {
+      this.isReferences = false;
     }
 
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
-
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
-
-        SemanticRole role = block.getSemanticRole();
-        SemanticRole secondaryRole = block.getSecondarySemanticRole();
+    if (this.isReferences) {
+      assignments.assign(block, SemanticRole.REFERENCE);
+    }
 
-        // Check if the current block is a section heading (which would
-        // denote the end of the Reference section).
-        if (this.isReferences && role == SemanticRole.HEADING) {
-          this.isReferences = false;
-        }
+    // Check if the current block is the section heading of the Reference
+    // section (which would denote the end of the Reference section).
+    if (role == SemanticRole.HEADING
+        && secondaryRole == SemanticRole.REFERENCE) {
+      this.isReferences = true;
+    }
+  }
 
-        if (this.isReferences) {
-          block.setSemanticRole(SemanticRole.REFERENCE);
-        }
+  // ==========================================================================
 
-        // Check if the current block is the section heading of the Reference
-        // section (which would denote the end of the Reference section).
-        if (role == SemanticRole.HEADING
-            && secondaryRole == SemanticRole.REFERENCE) {
-          this.isReferences = true;
-        }
-      }
-    }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .reads(ModuleDeclaration.role(SemanticRole.HEADING),
+            ModuleDeclaration.secondaryRole(SemanticRole.REFERENCE))
+        .writes(ModuleDeclaration.role(SemanticRole.REFERENCE))
+        .overwritesRoles();
   }
 }
@@ -0,0 +1,96 @@
+package pdfact.core.pipes.semanticize.modules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import pdfact.core.model.SemanticRole;
+import pdfact.core.model.TextBlock;
+
+/**
+ * The semantic roles assigned by a semanticizer module to text blocks. A
+ * module doesn't set the roles of the text blocks directly, but records them
+ * here, such that modules can be executed concurrently on an unchanged PDF
+ * document. The recorded roles are applied afterwards, in the order in which
+ * the modules are registered.
+ *
+ * @author Claudius Korzen
+ */
+public class RoleAssignments {
+  /**
+   * The text blocks to which a role was assigned.
+   */
+  protected List<TextBlock> blocks = new ArrayList<>();
+
+  /**
+   * The assigned roles, in the order of the text blocks.
+   */
+  protected List<SemanticRole> roles = new ArrayList<>();
+
+  /**
+   * The assigned secondary roles, in the order of the text blocks (null if no
+   * secondary role was assigned).
+   */
+  protected List<SemanticRole> secondaryRoles = new ArrayList<>();
+
+  // ==========================================================================
+
+  /**
+   * Assigns the given role to the given text block.
+   *
+   * @param block
+   *        The text block.
+   * @param role
+   *        The role to assign.
+   */
+  public void assign(TextBlock block, SemanticRole role) {
+    assign(block, role, null);
+  }
+
+  /**
+   * Assigns the given role and secondary role to the given text block.
+   *
+   * @param block
+   *        The text block.
+   * @param role
+   *        The role to assign.
+   * @param secondaryRole
+   *        The secondary role to assign, or null if the secondary role of the
+   *        block should be left unchanged.
+   */
+  public void assign(TextBlock block, SemanticRole role,
+      SemanticRole secondaryRole) {
+    this.blocks.add(block);
+    this.roles.add(role);
+    this.secondaryRoles.add(secondaryRole);
+  }
+
+  /**
+   * Applies the assigned roles to the text blocks, in the order of
+   * assignment.
+   *
+   * @param overwrite
+   *        True, if the roles of text blocks that already have a role should be
+   *        overwritten; false if such blocks should be left unchanged.
+   */
+  public void apply(boolean overwrite) {
+    for (int i = 0; i < this.blocks.size(); i++) {
+      TextBlock block = this.blocks.get(i);
+      if (!overwrite && block.getSemanticRole() != null) {
+        continue;
+      }
+      block.setSemanticRole(this.roles.get(i));
+      if (this.secondaryRoles.get(i) != null) {
+        block.setSecondarySemanticRole(this.secondaryRoles.get(i));
+      }
+    }
+  }
+
+  /**
+   * Returns the number of assigned roles.
+   *
+   * @return The number of assigned roles.
+   */
+  public int size() {
+    return this.blocks.size();
+  }
+}
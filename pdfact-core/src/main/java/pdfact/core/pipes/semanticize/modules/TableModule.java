@@ -1,65 +1,49 @@
 package pdfact.core.pipes.semanticize.modules;
 
-import java.util.List;
-
 import pdfact.core.model.Page;
-import pdfact.core.model.PdfDocument;
 import pdfact.core.model.Rectangle;
 import pdfact.core.model.SemanticRole;
 import pdfact.core.model.Shape;
 import pdfact.core.model.TextBlock;
+import pdfact.core.util.index.SpatialIndex;
 
 /**
  * A module that identifies the text blocks with the semantic role "table".
  * 
  * @author Claudius Korzen
  */
-public class TableModule implements PdfTextSemanticizerModule {
+public class TableModule extends BlockVisitorModule {
   @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
-      return;
-    }
-
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
+    Rectangle blockRectangle = features.getRectangle();
+    if (blockRectangle == null) {
       return;
     }
 
-    for (Page page : pages) {
-      if (page == null) {
+    // Find the shapes that overlap a block via the spatial index of the
+    // shapes, instead of testing each block against each shape.
+    SpatialIndex<Shape> shapeIndex = page.getShapeIndex();
+
+    for (Shape shape : shapeIndex.findOverlapping(blockRectangle)) {
+      // The block is a part of a table if there is a shape that overlaps
+      // the block, but the shape is not completely included in the block
+      // (that avoids that blocks that contains underlined words would be
+      // identified as table).
+      Rectangle shapeRectangle = shape.getPosition().getRectangle();
+      if (blockRectangle.contains(shapeRectangle)) {
         continue;
       }
+      assignments.assign(block, SemanticRole.TABLE);
+      break;
+    }
+  }
 
-      List<Shape> shapes = page.getShapes();
-
-      for (TextBlock block : page.getTextBlocks()) {
-        if (block == null) {
-          continue;
-        }
-
-        if (block.getSemanticRole() != null) {
-          continue;
-        }
-
-        Rectangle blockRectangle = block.getPosition().getRectangle();
+  // ==========================================================================
 
-        for (Shape shape : shapes) {
-          // The block is a part of a table if there is a shape that overlaps
-          // the block, but the shape is not completely included in the block
-          // (that avoids that blocks that contains underlined words would be
-          // identified as table).
-          Rectangle shapeRectangle = shape.getPosition().getRectangle();
-          if (blockRectangle.contains(shapeRectangle)) {
-            continue;
-          }
-          if (!shapeRectangle.overlaps(blockRectangle)) {
-            continue;
-          }
-          block.setSemanticRole(SemanticRole.TABLE);
-          break;
-        }
-      }
-    }
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .writes(ModuleDeclaration.role(SemanticRole.TABLE));
   }
 }
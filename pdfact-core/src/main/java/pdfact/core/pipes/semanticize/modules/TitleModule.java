@@ -2,7 +2,6 @@ package pdfact.core.pipes.semanticize.modules;
 
 import java.util.List;
 
-import pdfact.core.model.CharacterStatistic;
 import pdfact.core.model.FontFace;
 import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
@@ -14,48 +13,64 @@ import pdfact.core.model.TextBlock;
  * 
  * @author Claudius Korzen
  */
-public class TitleModule implements PdfTextSemanticizerModule {
-  @Override
-  public void semanticize(PdfDocument pdf) {
-    if (pdf == null) {
-      return;
-    }
+public class TitleModule extends BlockVisitorModule {
+  /**
+   * The first page of the PDF document.
+   */
+  protected Page firstPage;
+
+  /**
+   * The largest font size of the blocks visited so far.
+   */
+  protected float largestFontsize;
+
+  /**
+   * The block with the largest font size visited so far.
+   */
+  protected TextBlock largestFontSizeBlock;
 
+  // ==========================================================================
+
+  @Override
+  public void startVisit(PdfDocument pdf) {
     List<Page> pages = pdf.getPages();
-    if (pages == null || pages.isEmpty()) {
-      return;
-    }
+    this.firstPage = pages.isEmpty() ? null : pages.get(0);
+    this.largestFontsize = -Float.MAX_VALUE;
+    this.largestFontSizeBlock = null;
+  }
 
+  @Override
+  public void visit(Page page, TextBlock block, BlockFeatures features,
+      RoleAssignments assignments) {
     // Search the text blocks of only the first page.
-    Page firstPage = pages.get(0);
-    if (firstPage == null) {
-      return;
-    }
-
-    List<TextBlock> textBlocks = firstPage.getTextBlocks();
-    if (textBlocks == null) {
+    if (page != this.firstPage) {
       return;
     }
 
     // Find the block with largest font size in the first page.
-    float largestFontsize = -Float.MAX_VALUE;
-    TextBlock largestFontSizeBlock = null;
-
-    for (TextBlock block : textBlocks) {
-      if (block == null) {
-        continue;
-      }
-
-      CharacterStatistic blockCharStats = block.getCharacterStatistic();
-      FontFace fontFace = blockCharStats.getMostCommonFontFace();
-      if (fontFace.getFontSize() > largestFontsize) {
-        largestFontsize = fontFace.getFontSize();
-        largestFontSizeBlock = block;
-      }
+    FontFace fontFace = features.getFontFace();
+    if (fontFace != null && fontFace.getFontSize() > this.largestFontsize) {
+      this.largestFontsize = fontFace.getFontSize();
+      this.largestFontSizeBlock = block;
     }
+  }
 
-    if (largestFontSizeBlock != null) {
-      largestFontSizeBlock.setSemanticRole(SemanticRole.TITLE);
+  @Override
+  public void endVisit(PdfDocument pdf, RoleAssignments assignments) {
+    if (this.largestFontSizeBlock != null) {
+      assignments.assign(this.largestFontSizeBlock, SemanticRole.TITLE);
     }
+    this.firstPage = null;
+    this.largestFontSizeBlock = null;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public ModuleDeclaration getDeclaration() {
+    return new ModuleDeclaration()
+        .reads(ModuleDeclaration.CHARACTER_STATISTIC)
+        .writes(ModuleDeclaration.role(SemanticRole.TITLE))
+        .overwritesRoles();
   }
 }
@@ -1,13 +1,13 @@
 package pdfact.core.pipes.tokenize.areas;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.util.pipeline.ParallelizablePipe;
 
 /**
  * A pipe that tokenizes the pages of a PDF document into text areas.
  * 
  * @author Claudius Korzen
  */
-public interface TokenizeToTextAreasPipe extends Pipe {
+public interface TokenizeToTextAreasPipe extends ParallelizablePipe {
   /**
    * The factory to create instances of {@link TokenizeToTextAreasPipe}.
    * 
@@ -1,8 +1,9 @@
 package pdfact.core.pipes.tokenize.areas;
 
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.log4j.Logger;
 
@@ -23,8 +24,10 @@ import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
 import pdfact.core.util.log.InjectLogger;
-import pdfact.core.util.statistician.CharacterStatistician;
+import pdfact.core.util.pipeline.HasCounters;
+import pdfact.core.util.pipeline.PageExecutor;
 import pdfact.core.util.xycut.XYCut;
+import pdfact.core.util.xycut.XYCutAggregates;
 
 /**
  * An implementation of {@link TokenizeToTextAreasPipe} based on XYCut.
@@ -32,7 +35,7 @@ import pdfact.core.util.xycut.XYCut;
  * @author Claudius Korzen
  */
 public class XYCutTokenizeToTextAreasPipe extends XYCut
-    implements TokenizeToTextAreasPipe {
+    implements TokenizeToTextAreasPipe, HasCounters {
   /**
    * The logger.
    */
@@ -60,9 +63,10 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut
   protected RectangleFactory rectangleFactory;
 
   /**
-   * The statistician to compute statistics about characters.
+   * The pool in which the pages are processed (null if the pages should be
+   * processed sequentially).
    */
-  protected CharacterStatistician characterStatistician;
+  protected ForkJoinPool forkJoinPool;
 
   /**
    * The number of processed pages.
@@ -86,21 +90,17 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut
    *        The factory to create instances of {@link Position}.
    * @param rectangleFactory
    *        The factory to create instances of {@link Rectangle}.
-   * @param characterStatistician
-   *        The statistician to compute statistics about characters.
    */
   @Inject
   public XYCutTokenizeToTextAreasPipe(
       ElementListFactory<TextArea> textAreaListFactory,
       TextAreaFactory textAreaFactory,
       PositionFactory positionFactory,
-      RectangleFactory rectangleFactory,
-      CharacterStatistician characterStatistician) {
+      RectangleFactory rectangleFactory) {
     this.textAreaListFactory = textAreaListFactory;
     this.textAreaFactory = textAreaFactory;
     this.positionFactory = positionFactory;
     this.rectangleFactory = rectangleFactory;
-    this.characterStatistician = characterStatistician;
   }
 
   // ==========================================================================
@@ -136,23 +136,15 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut
       return;
     }
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
-    }
-
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
-
-      this.numProcessedPages++;
-
+    PageExecutor.execute(pdf.getPages(), this.forkJoinPool, page -> {
       ElementList<TextArea> textAreas = tokenizeToTextAreas(pdf, page);
-
       page.setTextAreas(textAreas);
-      this.numTokenizedTextAreas += textAreas.size();
-    }
+
+      synchronized (this) {
+        this.numProcessedPages++;
+        this.numTokenizedTextAreas += textAreas.size();
+      }
+    });
   }
 
   /**
@@ -179,7 +171,6 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut
         TextArea area = this.textAreaFactory.create();
         area.setCharacters(areaChars);
         area.setPosition(computePosition(pdf, page, area));
-        area.setCharacterStatistic(computeCharacterStatistic(pdf, page, area));
         result.add(area);
       }
     }
@@ -200,44 +191,18 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut
    * @return The computed position.
    */
   protected Position computePosition(PdfDocument pdf, Page page, TextArea a) {
-    ElementList<Character> characters = a.getCharacters();
-    Rectangle r = this.rectangleFactory.fromHasPositionElements(characters);
+    Rectangle r = a.getBoundingBox().toRectangle(this.rectangleFactory);
     return this.positionFactory.create(page, r);
   }
 
-  /**
-   * Computes the statistic about the given characters.
-   * 
-   * @param pdf
-   *        The PDF document to which the given text area belongs to.
-   * @param page
-   *        The PDF page to which the given text area belongs to.
-   * @param area
-   *        The text area to process.
-   * 
-   * @return The computed statistic.
-   */
-  protected CharacterStatistic computeCharacterStatistic(PdfDocument pdf,
-      Page page, TextArea area) {
-    return this.characterStatistician.compute(area.getCharacters());
-  }
-
   // ==========================================================================
 
   @Override
   public float assessVerticalCut(PdfDocument pdf, Page page,
-      List<ElementList<Character>> halves) {
-    // Compute the statistics for the characters in the left half.
-    ElementList<Character> left = halves.get(0);
-    CharacterStatistic leftStats = this.characterStatistician.compute(left);
-
-    // Compute the statistics for the characters in the right half.
-    ElementList<Character> right = halves.get(1);
-    CharacterStatistic rightStats = this.characterStatistician.compute(right);
-
+      XYCutAggregates aggregates, int index) {
     // Compute the (fictive) lane between the left and right half.
-    float laneMinX = leftStats.getLargestMaxX();
-    float laneMaxX = rightStats.getSmallestMinX();
+    float laneMinX = aggregates.getFirstHalfLargestMaxX(index);
+    float laneMaxX = aggregates.getSecondHalfSmallestMinX(index);
     float laneWidth = laneMaxX - laneMinX;
 
     CharacterStatistic pdfCharStats = pdf.getCharacterStatistic();
@@ -251,7 +216,7 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut
     }
 
     // Don't allow the lane, if it separates consecutive chars.
-    if (separatesConsecutiveCharacters(left, leftStats, right, rightStats)) {
+    if (separatesConsecutiveCharacters(aggregates, index)) {
       return -1;
     }
 
@@ -262,18 +227,10 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut
 
   @Override
   public float assessHorizontalCut(PdfDocument pdf, Page page,
-      List<ElementList<Character>> halves) {
-    // Compute the statistics for the characters in the upper half.
-    ElementList<Character> upper = halves.get(0);
-    CharacterStatistic upperStats = this.characterStatistician.compute(upper);
-
-    // Compute the statistics for the characters in the lower half.
-    ElementList<Character> lower = halves.get(1);
-    CharacterStatistic lowerStats = this.characterStatistician.compute(lower);
-
+      XYCutAggregates aggregates, int index) {
     // Compute the (fictive) lane between the lower and upper half.
-    float laneMinY = lowerStats.getLargestMaxY();
-    float laneMaxY = upperStats.getSmallestMinY();
+    float laneMinY = aggregates.getSecondHalfLargestMaxY(index);
+    float laneMaxY = aggregates.getFirstHalfSmallestMinY(index);
     float laneHeight = laneMaxY - laneMinY;
 
     // Don't allow lanes with negative heights.
@@ -296,62 +253,75 @@ public class XYCutTokenizeToTextAreasPipe extends XYCut
   // Utility methods.
 
   /**
-   * Checks if there is a character in the first given list of characters with
-   * an extraction order number i and a character in the second given list of
-   * characters with extraction order number i + 1, where both characters
-   * overlap vertically.
+   * Checks if there is a character in the left half of the vertical cut at
+   * the given index with an extraction order number i and a character in the
+   * right half with extraction order number i + 1, where both characters are
+   * adjacent to the lane and overlap vertically.
    * 
-   * @param left
-   *        The characters in the left half.
-   * @param leftStats
-   *        The statistics about the characters in the left half.
-   * @param right
-   *        The characters in the right half.
-   * @param rightStats
-   *        The statistics about the characters in the right half.
+   * @param aggregates
+   *        The aggregates of the characters, sorted by minX.
+   * @param index
+   *        The index of the cut.
    * @return True if there is such a character pair, false otherwise.
    */
-  protected boolean separatesConsecutiveCharacters(ElementList<Character> left,
-      CharacterStatistic leftStats, ElementList<Character> right,
-      CharacterStatistic rightStats) {
-    float largestMaxX = leftStats.getLargestMaxX();
-    Set<Character> leftChars = new HashSet<>();
-    for (Character c : left) {
+  protected boolean separatesConsecutiveCharacters(XYCutAggregates aggregates,
+      int index) {
+    ElementList<Character> chars = aggregates.getCharacters();
+    float largestMaxX = aggregates.getFirstHalfLargestMaxX(index);
+    float smallestMinX = aggregates.getSecondHalfSmallestMinX(index);
+
+    // The characters are sorted by minX, so the characters of the right half
+    // that are adjacent to the lane are at the beginning of the right half.
+    for (int i = index; i < chars.size(); i++) {
+      Character rightChar = chars.get(i);
       // TODO: Allow a certain threshold value.
-      Rectangle rect = c.getPosition().getRectangle();
-      if (PdfActUtils.isEqual(rect.getMaxX(), largestMaxX, 1f)) {
-        leftChars.add(c);
+      if (!PdfActUtils.isEqual(aggregates.getMinX(i), smallestMinX, 1f)) {
+        break;
+      }
+
+      // Check if the preceding character is in the left half.
+      int rank = rightChar.getExtractionRank();
+      int leftIndex = aggregates.indexOfExtractionRank(rank - 1);
+      if (leftIndex < 0 || leftIndex >= index) {
+        continue;
       }
-    }
 
-    float smallestMinX = rightStats.getSmallestMinX();
-    Set<Character> rightChars = new HashSet<>();
-    for (Character c : right) {
+      // Check if the preceding character is adjacent to the lane.
       // TODO: Allow a certain threshold value.
-      Rectangle rect = c.getPosition().getRectangle();
-      if (PdfActUtils.isEqual(rect.getMinX(), smallestMinX, 1f)) {
-        rightChars.add(c);
+      if (!PdfActUtils.isEqual(aggregates.getMaxX(leftIndex), largestMaxX,
+          1f)) {
+        continue;
       }
-    }
 
-    for (Character leftChar : leftChars) {
-      int leftCharNum = leftChar.getExtractionRank();
-      Rectangle leftCharBox = leftChar.getPosition().getRectangle();
-      for (Character rightChar : rightChars) {
-        int rightCharNum = rightChar.getExtractionRank();
-        Rectangle rightCharNox = rightChar.getPosition().getRectangle();
-
-        // Check if the characters are consecutive.
-        if (rightCharNum != leftCharNum + 1) {
-          continue;
-        }
-        // Check if the characters overlap.
-        if (!leftCharBox.overlapsVertically(rightCharNox)) {
-          continue;
-        }
-        return true;
+      // Check if the characters overlap.
+      if (aggregates.getMinY(leftIndex) > aggregates.getMaxY(i)
+          || aggregates.getMaxY(leftIndex) < aggregates.getMinY(i)) {
+        continue;
       }
+      return true;
     }
     return false;
   }
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public synchronized Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("processed-pages", this.numProcessedPages);
+    counters.put("tokenized-text-areas", this.numTokenizedTextAreas);
+    return counters;
+  }
 }
@@ -1,6 +1,8 @@
 package pdfact.core.pipes.tokenize.blocks;
 
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 
 import org.apache.log4j.Logger;
@@ -26,6 +28,8 @@ import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.HasCounters;
+import pdfact.core.util.pipeline.PageExecutor;
 import pdfact.core.util.statistician.CharacterStatistician;
 import pdfact.core.util.statistician.TextLineStatistician;
 
@@ -34,7 +38,8 @@ import pdfact.core.util.statistician.TextLineStatistician;
  * 
  * @author Claudius Korzen
  */
-public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
+public class PlainTokenizeToTextBlocksPipe
+    implements TokenizeToTextBlocksPipe, HasCounters {
   /**
    * The logger.
    */
@@ -71,6 +76,12 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
    */
   protected TextLineStatistician textLineStatistician;
 
+  /**
+   * The pool in which the pages are processed (null if the pages should be
+   * processed sequentially).
+   */
+  protected ForkJoinPool forkJoinPool;
+
   /**
    * The number of processed text lines.
    */
@@ -147,18 +158,8 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
       return;
     }
 
-    List<Page> pages = pdf.getPages();
-    if (pages == null) {
-      return;
-    }
-
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
-
-      page.setTextBlocks(tokenizeToTextBlocks(pdf, page));
-    }
+    PageExecutor.execute(pdf.getPages(), this.forkJoinPool,
+        page -> page.setTextBlocks(tokenizeToTextBlocks(pdf, page)));
   }
 
   // ==========================================================================
@@ -187,8 +188,6 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
       TextLine line = lines.get(i);
       TextLine next = i < lines.size() - 1 ? lines.get(i + 1) : null;
 
-      this.numProcessedTextLines++;
-
       if (introducesNewTextBlock(pdf, page, textBlock, prev, line, next)) {
         if (!textBlock.getTextLines().isEmpty()) {
           textBlocks.add(textBlock);
@@ -213,7 +212,10 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
       block.setText(computeText(block));
     }
 
-    this.numTokenizedTextBlocks += textBlocks.size();
+    synchronized (this) {
+      this.numProcessedTextLines += lines.size();
+      this.numTokenizedTextBlocks += textBlocks.size();
+    }
 
     return textBlocks;
   }
@@ -254,8 +256,7 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
    * @return The position for the given text block.
    */
   protected Position computePosition(Page page, TextBlock block) {
-    ElementList<TextLine> textLines = block.getTextLines();
-    Rectangle rect = this.rectangleFactory.fromHasPositionElements(textLines);
+    Rectangle rect = block.getBoundingBox().toRectangle(this.rectangleFactory);
     return this.positionFactory.create(page, rect);
   }
 
@@ -368,14 +369,14 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
       return false;
     }
 
-    ElementList<TextLine> lines = block.getTextLines();
-    Rectangle blockRect = this.rectangleFactory.fromHasPositionElements(lines);
+    // Use the bounding box maintained by the block, instead of computing the
+    // bounding box around all lines of the block for each line to add.
     Rectangle lineRect = line.getPosition().getRectangle();
-    if (blockRect == null || lineRect == null) {
+    if (lineRect == null) {
       return false;
     }
 
-    return blockRect.overlapsHorizontally(lineRect);
+    return block.getBoundingBox().overlapsHorizontally(lineRect);
   }
 
   /**
@@ -711,4 +712,26 @@ public class PlainTokenizeToTextBlocksPipe implements TokenizeToTextBlocksPipe {
     // TODO
     return Math.abs(rectangle1.getMinX() - rectangle2.getMinX()) < 1;
   }
-}
\ No newline at end of file
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public synchronized Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("processed-text-lines", this.numProcessedTextLines);
+    counters.put("tokenized-text-blocks", this.numTokenizedTextBlocks);
+    return counters;
+  }
+}
@@ -1,7 +1,11 @@
 package pdfact.core.pipes.tokenize.lines;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.log4j.Logger;
 
@@ -28,9 +32,12 @@ import pdfact.core.util.lexicon.CharacterLexicon;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.HasCounters;
+import pdfact.core.util.pipeline.PageExecutor;
 import pdfact.core.util.statistician.CharacterStatistician;
 import pdfact.core.util.statistician.TextLineStatistician;
 import pdfact.core.util.xycut.XYCut;
+import pdfact.core.util.xycut.XYCutAggregates;
 
 /**
  * A plain implementation of {@link TokenizeToTextLinesPipe}.
@@ -38,7 +45,7 @@ import pdfact.core.util.xycut.XYCut;
  * @author Claudius Korzen
  */
 public class PlainTokenizeToTextLinesPipe extends XYCut
-    implements TokenizeToTextLinesPipe {
+    implements TokenizeToTextLinesPipe, HasCounters {
   /**
    * The logger.
    */
@@ -85,6 +92,12 @@ public class PlainTokenizeToTextLinesPipe extends XYCut
    */
   protected FloatCounterFactory floatCounterFactory;
 
+  /**
+   * The pool in which the pages are processed (null if the pages should be
+   * processed sequentially).
+   */
+  protected ForkJoinPool forkJoinPool;
+
   /**
    * The number of processed text areas.
    */
@@ -175,15 +188,13 @@ public class PlainTokenizeToTextLinesPipe extends XYCut
       return;
     }
 
-    for (Page page : pages) {
-      if (page == null) {
-        continue;
-      }
-
+    PageExecutor.execute(pages, this.forkJoinPool, page -> {
       ElementList<TextLine> textLines = tokenizeToTextLines(pdf, page);
       page.setTextLineStatistic(this.textLineStatistician.compute(textLines));
       page.setTextLines(textLines);
-    }
+    });
+
+    // The statistic about the whole document needs the statistics of all pages.
     pdf.setTextLineStatistic(this.textLineStatistician.aggregate(pages));
   }
 
@@ -204,24 +215,35 @@ public class PlainTokenizeToTextLinesPipe extends XYCut
       Page page) throws PdfActException {
     ElementList<TextLine> result = this.textLineListFactory.create();
 
+    int numProcessed = 0;
     for (TextArea area : page.getTextAreas()) {
       ElementList<Character> characters = area.getCharacters();
       List<ElementList<Character>> charLists = cut(pdf, page, characters);
 
-      this.numProcessedTextAreas++;
+      numProcessed++;
 
+      List<TextLine> areaTextLines = new ArrayList<>(charLists.size());
       for (ElementList<Character> charList : charLists) {
         // Create a PdfTextLine object.
         TextLine textLine = this.textLineFactory.create();
         textLine.setCharacters(charList);
         textLine.setBaseline(computeBaseline(charList));
         textLine.setCharacterStatistic(computeCharacterStatistic(charList));
-        textLine.setPosition(computePosition(page, charList));
-        result.add(textLine);
+        textLine.setPosition(computePosition(page, textLine));
+        areaTextLines.add(textLine);
       }
+      result.addAll(areaTextLines);
+
+      // The text lines partition the characters of the area, so the statistic
+      // of the area can be merged from the statistics of the lines.
+      area.setCharacterStatistic(
+          this.characterStatistician.aggregate(areaTextLines));
     }
 
-    this.numTokenizedTextLines += result.size();
+    synchronized (this) {
+      this.numProcessedTextAreas += numProcessed;
+      this.numTokenizedTextLines += result.size();
+    }
 
     return result;
   }
@@ -246,11 +268,11 @@ public class PlainTokenizeToTextLinesPipe extends XYCut
       float maxX = -Float.MAX_VALUE;
       for (Character character : characters) {
         if (CharacterLexicon.isBaselineCharacter(character)) {
-          minYCounter.add(character.getPosition().getRectangle().getMinY());
+          minYCounter.add(character.getMinY());
         }
 
-        minX = Math.min(minX, character.getPosition().getRectangle().getMinX());
-        maxX = Math.max(maxX, character.getPosition().getRectangle().getMaxX());
+        minX = Math.min(minX, character.getMinX());
+        maxX = Math.max(maxX, character.getMaxX());
       }
 
       if (!minYCounter.isEmpty()) {
@@ -279,12 +301,12 @@ public class PlainTokenizeToTextLinesPipe extends XYCut
    * 
    * @param page
    *        The PDF page in which the line is located.
-   * @param chars
-   *        The characters of the text line.
+   * @param line
+   *        The text line to process.
    * @return The position for the given text line.
    */
-  protected Position computePosition(Page page, ElementList<Character> chars) {
-    Rectangle rect = this.rectangleFactory.fromHasPositionElements(chars);
+  protected Position computePosition(Page page, TextLine line) {
+    Rectangle rect = line.getBoundingBox().toRectangle(this.rectangleFactory);
     return this.positionFactory.create(page, rect);
   }
 
@@ -292,7 +314,7 @@ public class PlainTokenizeToTextLinesPipe extends XYCut
 
   @Override
   public float assessVerticalCut(PdfDocument pdf, Page page,
-      List<ElementList<Character>> halves) {
+      XYCutAggregates aggregates, int index) {
     return -1;
   }
 
@@ -300,15 +322,32 @@ public class PlainTokenizeToTextLinesPipe extends XYCut
 
   @Override
   public float assessHorizontalCut(PdfDocument pdf, Page page,
-      List<ElementList<Character>> halves) {
-    ElementList<Character> upper = halves.get(0);
-    CharacterStatistic upperStats = this.characterStatistician.compute(upper);
-    float upperMinY = upperStats.getSmallestMinY();
-
-    ElementList<Character> lower = halves.get(1);
-    CharacterStatistic lowerStats = this.characterStatistician.compute(lower);
-    float lowerMaxY = lowerStats.getLargestMaxY();
+      XYCutAggregates aggregates, int index) {
+    float upperMinY = aggregates.getFirstHalfSmallestMinY(index);
+    float lowerMaxY = aggregates.getSecondHalfLargestMaxY(index);
 
     return upperMinY - lowerMaxY;
   }
-}
\ No newline at end of file
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public synchronized Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("processed-text-areas", this.numProcessedTextAreas);
+    counters.put("tokenized-text-lines", this.numTokenizedTextLines);
+    return counters;
+  }
+}
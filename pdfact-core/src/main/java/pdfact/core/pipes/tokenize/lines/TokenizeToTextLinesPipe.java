@@ -1,13 +1,15 @@
 package pdfact.core.pipes.tokenize.lines;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.util.pipeline.ParallelizablePipe;
 
 /**
- * A pipe that tokenize the text areas of a PDF page into text lines.
+ * A pipe that tokenize the text areas of a PDF page into text lines. The
+ * character statistic of each text area is merged from the statistics of its
+ * text lines.
  * 
  * @author Claudius Korzen
  */
-public interface TokenizeToTextLinesPipe extends Pipe {
+public interface TokenizeToTextLinesPipe extends ParallelizablePipe {
   /**
    * The factory to create instances of {@link TokenizeToTextLinesPipe}.
    * 
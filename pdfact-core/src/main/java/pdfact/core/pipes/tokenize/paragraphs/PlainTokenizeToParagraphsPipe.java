@@ -1,7 +1,9 @@
 package pdfact.core.pipes.tokenize.paragraphs;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.log4j.Logger;
 
@@ -26,6 +28,7 @@ import pdfact.core.util.lexicon.CharacterLexicon;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.HasCounters;
 import pdfact.core.util.statistician.CharacterStatistician;
 import pdfact.core.util.statistician.TextLineStatistician;
 
@@ -34,7 +37,8 @@ import pdfact.core.util.statistician.TextLineStatistician;
  * 
  * @author Claudius Korzen
  */
-public class PlainTokenizeToParagraphsPipe implements TokenizeToParagraphsPipe {
+public class PlainTokenizeToParagraphsPipe
+    implements TokenizeToParagraphsPipe, HasCounters {
   /**
    * The logger.
    */
@@ -137,7 +141,7 @@ public class PlainTokenizeToParagraphsPipe implements TokenizeToParagraphsPipe {
       paragraph.setText(computeText(paragraph));
       paragraph.setPositions(computePositions(segment));
       paragraph.setSemanticRole(computeRole(segment));
-      paragraph.setCharacterStatistic(computeCharacterStatistic(paragraph));
+      paragraph.setCharacterStatistic(computeCharacterStatistic(segment));
       paragraphs.add(paragraph);
     }
 
@@ -190,15 +194,18 @@ public class PlainTokenizeToParagraphsPipe implements TokenizeToParagraphsPipe {
   }
 
   /**
-   * Computes the statistic about the characters of the given paragraph.
+   * Computes the statistic about the characters of a paragraph by merging the
+   * statistics of its text blocks, which describe the same characters as the
+   * words of the paragraph.
    * 
-   * @param paragraph
-   *        The paragraph to process.
+   * @param blocks
+   *        The blocks of the paragraph to process.
    * 
    * @return The statistic.
    */
-  protected CharacterStatistic computeCharacterStatistic(Paragraph paragraph) {
-    return this.characterStatistician.aggregate(paragraph.getWords());
+  protected CharacterStatistic computeCharacterStatistic(
+      List<TextBlock> blocks) {
+    return this.characterStatistician.aggregate(blocks);
   }
 
   // ==========================================================================
@@ -302,4 +309,14 @@ public class PlainTokenizeToParagraphsPipe implements TokenizeToParagraphsPipe {
 
     return false;
   }
-}
\ No newline at end of file
+
+  // ==========================================================================
+
+  @Override
+  public Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("processed-text-blocks", this.numProcessedTextBlocks);
+    counters.put("tokenized-paragraphs", this.numTokenizedParagraphs);
+    return counters;
+  }
+}
@@ -1,13 +1,13 @@
 package pdfact.core.pipes.tokenize.words;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.util.pipeline.ParallelizablePipe;
 
 /**
  * A pipe that tokenize the text lines of a PDF page into words.
  * 
  * @author Claudius Korzen
  */
-public interface TokenizeToWordsPipe extends Pipe {
+public interface TokenizeToWordsPipe extends ParallelizablePipe {
   /**
    * The factory to create instances of {@link TokenizeToWordsPipe}.
    * 
@@ -2,22 +2,25 @@ package pdfact.core.pipes.tokenize.words;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.log4j.Logger;
 
 import com.google.inject.Inject;
 
+import pdfact.core.model.Character;
 import pdfact.core.model.CharacterStatistic;
 import pdfact.core.model.Page;
-import pdfact.core.model.Character;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.model.Position;
+import pdfact.core.model.Position.PositionFactory;
 import pdfact.core.model.Rectangle;
+import pdfact.core.model.Rectangle.RectangleFactory;
 import pdfact.core.model.TextLine;
 import pdfact.core.model.Word;
-import pdfact.core.model.Position.PositionFactory;
-import pdfact.core.model.Rectangle.RectangleFactory;
 import pdfact.core.model.Word.WordFactory;
 import pdfact.core.util.PdfActUtils;
 import pdfact.core.util.comparator.MinXComparator;
@@ -26,8 +29,11 @@ import pdfact.core.util.lexicon.CharacterLexicon;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.HasCounters;
+import pdfact.core.util.pipeline.PageExecutor;
 import pdfact.core.util.statistician.CharacterStatistician;
 import pdfact.core.util.xycut.XYCut;
+import pdfact.core.util.xycut.XYCutAggregates;
 
 /**
  * An implementation of {@link TokenizeToWordsPipe} based on XYCut.
@@ -35,7 +41,7 @@ import pdfact.core.util.xycut.XYCut;
  * @author Claudius Korzen
  */
 public class XYCutTokenizeToWordsPipe extends XYCut
-    implements TokenizeToWordsPipe {
+    implements TokenizeToWordsPipe, HasCounters {
   /**
    * The logger.
    */
@@ -67,6 +73,12 @@ public class XYCutTokenizeToWordsPipe extends XYCut
    */
   protected RectangleFactory rectangleFactory;
 
+  /**
+   * The pool in which the pages are processed (null if the pages should be
+   * processed sequentially).
+   */
+  protected ForkJoinPool forkJoinPool;
+
   /**
    * The number of processed text lines.
    */
@@ -139,16 +151,23 @@ public class XYCutTokenizeToWordsPipe extends XYCut
       return;
     }
 
-    for (Page page : pdf.getPages()) {
+    PageExecutor.execute(pdf.getPages(), this.forkJoinPool, page -> {
+      int numProcessed = 0;
+      int numTokenized = 0;
       for (TextLine line : page.getTextLines()) {
         ElementList<Word> words = tokenizeToWords(pdf, page, line);
         line.setWords(words);
         line.setText(PdfActUtils.join(words, " "));
 
-        this.numProcessedTextLines++;
-        this.numTokenizedWords += words.size();
+        numProcessed++;
+        numTokenized += words.size();
       }
-    }
+
+      synchronized (this) {
+        this.numProcessedTextLines += numProcessed;
+        this.numTokenizedWords += numTokenized;
+      }
+    });
   }
 
   /**
@@ -194,14 +213,9 @@ public class XYCutTokenizeToWordsPipe extends XYCut
 
   @Override
   public float assessVerticalCut(PdfDocument pdf, Page page,
-      List<ElementList<Character>> halves) {
-    ElementList<Character> left = halves.get(0);
-    CharacterStatistic leftStats = this.charStatistician.compute(left);
-    float leftMaxX = leftStats.getLargestMaxX();
-
-    ElementList<Character> right = halves.get(1);
-    CharacterStatistic rightStats = this.charStatistician.compute(right);
-    float rightMinX = rightStats.getSmallestMinX();
+      XYCutAggregates aggregates, int index) {
+    float leftMaxX = aggregates.getFirstHalfLargestMaxX(index);
+    float rightMinX = aggregates.getSecondHalfSmallestMinX(index);
 
     float width = rightMinX - leftMaxX;
     if (width < 1f) {
@@ -214,7 +228,7 @@ public class XYCutTokenizeToWordsPipe extends XYCut
 
   @Override
   public float assessHorizontalCut(PdfDocument pdf, Page page,
-      List<ElementList<Character>> halves) {
+      XYCutAggregates aggregates, int index) {
     return -1;
   }
 
@@ -242,8 +256,7 @@ public class XYCutTokenizeToWordsPipe extends XYCut
    */
   protected List<Position> computePositions(Page page, Word word) {
     List<Position> positions = new ArrayList<>();
-    ElementList<Character> characters = word.getCharacters();
-    Rectangle rect = this.rectangleFactory.fromHasPositionElements(characters);
+    Rectangle rect = word.getBoundingBox().toRectangle(this.rectangleFactory);
     Position position = this.positionFactory.create(page, rect);
     positions.add(position);
     return positions;
@@ -280,4 +293,26 @@ public class XYCutTokenizeToWordsPipe extends XYCut
 
     return CharacterLexicon.isHyphen(word.getLastCharacter());
   }
-}
\ No newline at end of file
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public synchronized Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("processed-text-lines", this.numProcessedTextLines);
+    counters.put("tokenized-words", this.numTokenizedWords);
+    return counters;
+  }
+}
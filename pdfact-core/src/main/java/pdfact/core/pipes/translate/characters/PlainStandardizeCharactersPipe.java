@@ -1,8 +1,10 @@
 package pdfact.core.pipes.translate.characters;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.log4j.Logger;
 
@@ -11,6 +13,8 @@ import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.HasCounters;
+import pdfact.core.util.pipeline.PageExecutor;
 
 /**
  * A plain implementation of {@link StandardizeCharactersPipe}.
@@ -18,7 +22,7 @@ import pdfact.core.util.log.InjectLogger;
  * @author Claudius Korzen
  */
 public class PlainStandardizeCharactersPipe
-    implements StandardizeCharactersPipe {
+    implements StandardizeCharactersPipe, HasCounters {
   /**
    * The logger.
    */
@@ -31,6 +35,12 @@ public class PlainStandardizeCharactersPipe
    */
   protected static final Map<String, String> CHARACTER_SYNONYMS;
 
+  /**
+   * The pool in which the pages are processed (null if the pages should be
+   * processed sequentially).
+   */
+  protected ForkJoinPool forkJoinPool;
+
   /**
    * The number of processed characters.
    */
@@ -80,15 +90,15 @@ public class PlainStandardizeCharactersPipe
    * 
    * @param pdf
    *        The PDF document to process.
+   * 
+   * @throws PdfActException
+   *         If something went wrong while standardizing the characters.
    */
-  protected void standardizeCharacters(PdfDocument pdf) {
+  protected void standardizeCharacters(PdfDocument pdf)
+      throws PdfActException {
     if (pdf != null) {
-      List<Page> pages = pdf.getPages();
-      if (pages != null) {
-        for (Page page : pages) {
-          standardizeCharacters(page);
-        }
-      }
+      PageExecutor.execute(pdf.getPages(), this.forkJoinPool,
+          page -> standardizeCharacters(page));
     }
   }
 
@@ -108,8 +118,21 @@ public class PlainStandardizeCharactersPipe
       return;
     }
 
+    int numProcessed = 0;
+    int numStandardized = 0;
     for (Character character : characters) {
-      standardizeCharacter(character);
+      if (character == null) {
+        continue;
+      }
+      if (standardizeCharacter(character)) {
+        numStandardized++;
+      }
+      numProcessed++;
+    }
+
+    synchronized (this) {
+      this.numProcessedCharacters += numProcessed;
+      this.numStandardizedCharacters += numStandardized;
     }
   }
 
@@ -118,16 +141,41 @@ public class PlainStandardizeCharactersPipe
    * 
    * @param ch
    *        The character to process.
+   * 
+   * @return True if the text of the given character was changed; false
+   *         otherwise.
    */
-  protected void standardizeCharacter(Character ch) {
+  protected boolean standardizeCharacter(Character ch) {
     if (ch == null) {
-      return;
+      return false;
     }
 
     if (CHARACTER_SYNONYMS.containsKey(ch.getText())) {
       ch.setText(CHARACTER_SYNONYMS.get(ch.getText()));
-      this.numStandardizedCharacters++;
+      return true;
     }
-    this.numProcessedCharacters++;
+    return false;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public synchronized Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("processed-characters", this.numProcessedCharacters);
+    counters.put("standardized-characters", this.numStandardizedCharacters);
+    return counters;
   }
 }
@@ -1,6 +1,6 @@
 package pdfact.core.pipes.translate.characters;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.util.pipeline.ParallelizablePipe;
 
 /**
  * A pipe that standardizes characters, i.e. translates characters with
@@ -9,7 +9,7 @@ import pdfact.core.util.pipeline.Pipe;
  * 
  * @author Claudius Korzen
  */
-public interface StandardizeCharactersPipe extends Pipe {
+public interface StandardizeCharactersPipe extends ParallelizablePipe {
   /**
    * The factory to create instances of {@link StandardizeCharactersPipe}.
    * 
@@ -1,13 +1,13 @@
 package pdfact.core.pipes.translate.diacritics;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.util.pipeline.ParallelizablePipe;
 
 /**
  * A pipe that merges characters with related diacritical marks.
  * 
  * @author Claudius Korzen
  */
-public interface MergeDiacriticsPipe extends Pipe {
+public interface MergeDiacriticsPipe extends ParallelizablePipe {
   /**
    * The factory to create instances of {@link MergeDiacriticsPipe}.
    * 
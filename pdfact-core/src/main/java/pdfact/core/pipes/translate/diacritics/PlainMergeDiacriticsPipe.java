@@ -2,8 +2,9 @@ package pdfact.core.pipes.translate.diacritics;
 
 import java.text.Normalizer;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.log4j.Logger;
 
@@ -19,13 +20,16 @@ import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.list.ElementList;
 import pdfact.core.util.list.ElementList.ElementListFactory;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.HasCounters;
+import pdfact.core.util.pipeline.PageExecutor;
 
 /**
  * A plain implementation of {@link MergeDiacriticsPipe}.
  * 
  * @author Claudius Korzen
  */
-public class PlainMergeDiacriticsPipe implements MergeDiacriticsPipe {
+public class PlainMergeDiacriticsPipe
+    implements MergeDiacriticsPipe, HasCounters {
   /**
    * The logger.
    */
@@ -42,6 +46,12 @@ public class PlainMergeDiacriticsPipe implements MergeDiacriticsPipe {
    */
   protected RectangleFactory rectangleFactory;
 
+  /**
+   * The pool in which the pages are processed (null if the pages should be
+   * processed sequentially).
+   */
+  protected ForkJoinPool forkJoinPool;
+
   /**
    * The number of processed characters.
    */
@@ -94,34 +104,52 @@ public class PlainMergeDiacriticsPipe implements MergeDiacriticsPipe {
    * 
    * @param pdf
    *        The PDF document to process.
+   * 
+   * @throws PdfActException
+   *         If something went wrong while merging the diacritics.
    */
-  protected void mergeDiacritics(PdfDocument pdf) {
+  protected void mergeDiacritics(PdfDocument pdf) throws PdfActException {
     if (pdf != null) {
-      List<Page> pages = pdf.getPages();
-      if (pages != null) {
-        for (Page page : pages) {
-          ElementList<Character> before = page.getCharacters();
-          ElementList<Character> after =
-              this.characterListFactory.create(before.size());
-          if (before != null) {
-            for (int i = 0; i < before.size(); i++) {
-              Character prev = i > 0 ? before.get(i - 1) : null;
-              Character character = before.get(i);
-              Character next = i < before.size() - 1 ? before.get(i + 1) : null;
-
-              // Don't proceed if the character in question is not a diacritic.
-              if (isDiacritic(character)) {
-                mergeDiacritic(prev, character, next);
-                this.numMergedDiacritics++;
-              } else {
-                after.add(character);
-              }
-              this.numProcessedCharacters++;
-            }
-            page.setCharacters(after);
-          }
+      PageExecutor.execute(pdf.getPages(), this.forkJoinPool,
+          page -> mergeDiacritics(page));
+    }
+  }
+
+  /**
+   * Merges the diacritical marks in the given page with their related
+   * characters.
+   * 
+   * @param page
+   *        The page to process.
+   */
+  protected void mergeDiacritics(Page page) {
+    int numProcessed = 0;
+    int numMerged = 0;
+
+    ElementList<Character> before = page.getCharacters();
+    ElementList<Character> after =
+        this.characterListFactory.create(before.size());
+    if (before != null) {
+      for (int i = 0; i < before.size(); i++) {
+        Character prev = i > 0 ? before.get(i - 1) : null;
+        Character character = before.get(i);
+        Character next = i < before.size() - 1 ? before.get(i + 1) : null;
+
+        // Don't proceed if the character in question is not a diacritic.
+        if (isDiacritic(character)) {
+          mergeDiacritic(prev, character, next);
+          numMerged++;
+        } else {
+          after.add(character);
         }
+        numProcessed++;
       }
+      page.setCharacters(after);
+    }
+
+    synchronized (this) {
+      this.numProcessedCharacters += numProcessed;
+      this.numMergedDiacritics += numMerged;
     }
   }
 
@@ -330,4 +358,26 @@ public class PlainMergeDiacriticsPipe implements MergeDiacriticsPipe {
     COMBINING_DIACRITICS.put(0x005F, "\u0332");
     COMBINING_DIACRITICS.put(0x204E, "\u0359");
   }
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public synchronized Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("processed-characters", this.numProcessedCharacters);
+    counters.put("merged-diacritics", this.numMergedDiacritics);
+    return counters;
+  }
 }
@@ -1,8 +1,10 @@
 package pdfact.core.pipes.translate.ligatures;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.log4j.Logger;
 
@@ -11,6 +13,8 @@ import pdfact.core.model.Page;
 import pdfact.core.model.PdfDocument;
 import pdfact.core.util.exception.PdfActException;
 import pdfact.core.util.log.InjectLogger;
+import pdfact.core.util.pipeline.HasCounters;
+import pdfact.core.util.pipeline.PageExecutor;
 
 // FIXME: Adjust bounding box.
 
@@ -19,7 +23,8 @@ import pdfact.core.util.log.InjectLogger;
  * 
  * @author Claudius Korzen
  */
-public class PlainSplitLigaturesPipe implements SplitLigaturesPipe {
+public class PlainSplitLigaturesPipe
+    implements SplitLigaturesPipe, HasCounters {
   /**
    * The logger.
    */
@@ -31,6 +36,12 @@ public class PlainSplitLigaturesPipe implements SplitLigaturesPipe {
    */
   protected static final Map<String, String> LIGATURES;
 
+  /**
+   * The pool in which the pages are processed (null if the pages should be
+   * processed sequentially).
+   */
+  protected ForkJoinPool forkJoinPool;
+
   /**
    * The number of processed characters.
    */
@@ -101,21 +112,41 @@ public class PlainSplitLigaturesPipe implements SplitLigaturesPipe {
    * 
    * @param pdf
    *        The PDF document to process.
+   * 
+   * @throws PdfActException
+   *         If something went wrong while splitting the ligatures.
    */
-  protected void splitLigatures(PdfDocument pdf) {
+  protected void splitLigatures(PdfDocument pdf) throws PdfActException {
     if (pdf != null) {
-      List<Page> pages = pdf.getPages();
-      if (pages != null) {
-        for (Page page : pages) {
-          List<Character> characters = page.getCharacters();
-          if (characters != null) {
-            for (Character character : characters) {
-              splitLigature(character);
-            }
-          }
+      PageExecutor.execute(pdf.getPages(), this.forkJoinPool,
+          page -> splitLigatures(page));
+    }
+  }
+
+  /**
+   * Splits the ligatures of the given page into its individual characters.
+   * 
+   * @param page
+   *        The page to process.
+   */
+  protected void splitLigatures(Page page) {
+    int numProcessed = 0;
+    int numSplit = 0;
+
+    List<Character> characters = page.getCharacters();
+    if (characters != null) {
+      for (Character character : characters) {
+        if (splitLigature(character)) {
+          numSplit++;
         }
+        numProcessed++;
       }
     }
+
+    synchronized (this) {
+      this.numProcessedCharacters += numProcessed;
+      this.numSplitLigatures += numSplit;
+    }
   }
 
   /**
@@ -125,13 +156,16 @@ public class PlainSplitLigaturesPipe implements SplitLigaturesPipe {
    * 
    * @param character
    *        The PDF character to process.
+   * 
+   * @return True if the given character was a ligature and was split; false
+   *         otherwise.
    */
-  protected void splitLigature(Character character) {
+  protected boolean splitLigature(Character character) {
     if (isLigature(character)) {
       character.setText(getResolvedLigatureText(character));
-      this.numSplitLigatures++;
+      return true;
     }
-    this.numProcessedCharacters++;
+    return false;
   }
 
   /**
@@ -159,4 +193,26 @@ public class PlainSplitLigaturesPipe implements SplitLigaturesPipe {
   protected String getResolvedLigatureText(Character character) {
     return LIGATURES.get(character.getText());
   }
+
+  // ==========================================================================
+
+  @Override
+  public ForkJoinPool getForkJoinPool() {
+    return this.forkJoinPool;
+  }
+
+  @Override
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.forkJoinPool = pool;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public synchronized Map<String, Integer> getCounters() {
+    Map<String, Integer> counters = new LinkedHashMap<>();
+    counters.put("processed-characters", this.numProcessedCharacters);
+    counters.put("split-ligatures", this.numSplitLigatures);
+    return counters;
+  }
 }
@@ -1,13 +1,13 @@
 package pdfact.core.pipes.translate.ligatures;
 
-import pdfact.core.util.pipeline.Pipe;
+import pdfact.core.util.pipeline.ParallelizablePipe;
 
 /**
  * A pipe that splits ligatures.
  * 
  * @author Claudius Korzen
  */
-public interface SplitLigaturesPipe extends Pipe {
+public interface SplitLigaturesPipe extends ParallelizablePipe {
   /**
    * The factory to create instances of {@link SplitLigaturesPipe}.
    * 
@@ -16,6 +16,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -590,4 +591,73 @@ public class PdfActUtils {
     }
     return false;
   }
+
+  // ==========================================================================
+
+  /**
+   * The resource that contains the version and the build id of PdfAct.
+   */
+  protected static final String VERSION_RESOURCE = "pdfact-version.properties";
+
+  /**
+   * The value returned for a property of the version resource that couldn't
+   * be read.
+   */
+  protected static final String UNKNOWN_VERSION = "unknown";
+
+  /**
+   * The properties of the version resource, read on the first call of
+   * {@link #getVersion()} or {@link #getBuildId()}.
+   */
+  protected static Properties versionProperties;
+
+  /**
+   * Returns the version of PdfAct.
+   * 
+   * @return The version of PdfAct, or "unknown" if the version couldn't be
+   *         read.
+   */
+  public static String getVersion() {
+    return getVersionProperty("version");
+  }
+
+  /**
+   * Returns the id of the build of PdfAct (the time when PdfAct was built),
+   * which differs between two builds of the same version.
+   * 
+   * @return The id of the build of PdfAct, or "unknown" if the id couldn't
+   *         be read (for example, if PdfAct wasn't built with Maven).
+   */
+  public static String getBuildId() {
+    return getVersionProperty("build");
+  }
+
+  /**
+   * Returns the given property of the version resource.
+   * 
+   * @param key
+   *        The key of the property.
+   * 
+   * @return The value of the property, or "unknown" if the property couldn't
+   *         be read or wasn't filled in on building the project.
+   */
+  protected static synchronized String getVersionProperty(String key) {
+    if (versionProperties == null) {
+      versionProperties = new Properties();
+      ClassLoader classLoader = PdfActUtils.class.getClassLoader();
+      try (InputStream stream =
+          classLoader.getResourceAsStream(VERSION_RESOURCE)) {
+        if (stream != null) {
+          versionProperties.load(stream);
+        }
+      } catch (IOException e) {
+        // Nothing to do.
+      }
+    }
+    String value = versionProperties.getProperty(key);
+    if (value == null || value.startsWith("${")) {
+      return UNKNOWN_VERSION;
+    }
+    return value;
+  }
 }
@@ -0,0 +1,215 @@
+package pdfact.core.util.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The constants and the primitive encodings of the binary serialization
+ * format of PdfAct, shared by the serializer and by the
+ * {@link PdfBinaryReader}.
+ * 
+ * <p>
+ * A serialization starts with the {@link #MAGIC_NUMBER} (4 bytes), the
+ * {@link #FORMAT_VERSION} and the {@link #COORDINATE_SCALE} (both as
+ * variable-length integers), followed by a stream of records. Each record
+ * consists of its type, the length of its payload (both as variable-length
+ * integers) and the payload, such that a reader can skip records of unknown
+ * types. The stream ends with a record of type {@link #RECORD_END}.
+ * 
+ * <p>
+ * Strings that are used repeatedly (font ids and names, color ids and role
+ * names), fonts and colors are defined by a record of their own, just before
+ * they are used for the first time. The n-th definition of a kind gets the id
+ * n (starting at 1); elements refer to the definitions by their ids (0 means
+ * "none"). The payload of an element record consists of:
+ * 
+ * <ul>
+ * <li>the number of positions, followed by the page number, the minX, the
+ * minY, the width and the height of each position (the coordinates multiplied
+ * by the coordinate scale, rounded, and zigzag-encoded),</li>
+ * <li>the id of the string of the semantic role,</li>
+ * <li>the id of the font, followed by the (scaled) font size if the id isn't
+ * 0,</li>
+ * <li>the id of the color,</li>
+ * <li>the length of the text in UTF-8 + 1 (0 if there is no text), followed
+ * by the bytes of the text.</li>
+ * </ul>
+ * 
+ * @author Claudius Korzen
+ */
+public class PdfBinaryFormat {
+  /**
+   * The magic number at the beginning of each serialization ("PDFB").
+   */
+  public static final int MAGIC_NUMBER = 0x50444642;
+
+  /**
+   * The version of the format. Must be increased on each incompatible change
+   * of the format.
+   */
+  public static final int FORMAT_VERSION = 1;
+
+  /**
+   * The factor by which the coordinates and font sizes are multiplied before
+   * they are rounded to integers (that is, the precision is 1/100 pt).
+   */
+  public static final int COORDINATE_SCALE = 100;
+
+  // ==========================================================================
+  // The types of the records.
+
+  /**
+   * The type of the record that ends the stream.
+   */
+  public static final int RECORD_END = 0;
+
+  /**
+   * The type of the record that defines a string. Payload: the string in
+   * UTF-8.
+   */
+  public static final int RECORD_STRING = 1;
+
+  /**
+   * The type of the record that defines a font. Payload: the ids of the
+   * strings of the id and of the name of the font.
+   */
+  public static final int RECORD_FONT = 2;
+
+  /**
+   * The type of the record that defines a color. Payload: the id of the
+   * string of the id of the color, the number of the RGB components and the
+   * components (as floats).
+   */
+  public static final int RECORD_COLOR = 3;
+
+  /**
+   * The type of the record that describes a paragraph.
+   */
+  public static final int RECORD_PARAGRAPH = 16;
+
+  /**
+   * The type of the record that describes a word.
+   */
+  public static final int RECORD_WORD = 17;
+
+  /**
+   * The type of the record that describes a character.
+   */
+  public static final int RECORD_CHARACTER = 18;
+
+  // ==========================================================================
+  // The primitive encodings.
+
+  /**
+   * Writes the given integer as a variable-length integer (7 bits per byte,
+   * least significant group first).
+   * 
+   * @param out
+   *        The output to write to.
+   * @param value
+   *        The integer to write (interpreted as unsigned).
+   * 
+   * @throws IOException
+   *         If writing failed.
+   */
+  public static void writeVarInt(DataOutput out, int value)
+      throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  /**
+   * Reads a variable-length integer.
+   * 
+   * @param in
+   *        The input to read from.
+   * 
+   * @return The integer.
+   * 
+   * @throws IOException
+   *         If reading failed or the integer is invalid.
+   */
+  public static int readVarInt(DataInput in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      byte b = in.readByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Invalid variable-length integer.");
+  }
+
+  /**
+   * Writes the given signed integer as a zigzag-encoded variable-length
+   * integer (such that integers close to zero need few bytes).
+   * 
+   * @param out
+   *        The output to write to.
+   * @param value
+   *        The integer to write.
+   * 
+   * @throws IOException
+   *         If writing failed.
+   */
+  public static void writeSignedVarInt(DataOutput out, int value)
+      throws IOException {
+    writeVarInt(out, (value << 1) ^ (value >> 31));
+  }
+
+  /**
+   * Reads a zigzag-encoded variable-length integer.
+   * 
+   * @param in
+   *        The input to read from.
+   * 
+   * @return The integer.
+   * 
+   * @throws IOException
+   *         If reading failed or the integer is invalid.
+   */
+  public static int readSignedVarInt(DataInput in) throws IOException {
+    int value = readVarInt(in);
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Writes the given coordinate (or font size), scaled by the
+   * {@link #COORDINATE_SCALE}.
+   * 
+   * @param out
+   *        The output to write to.
+   * @param value
+   *        The coordinate to write.
+   * 
+   * @throws IOException
+   *         If writing failed.
+   */
+  public static void writeCoordinate(DataOutput out, float value)
+      throws IOException {
+    writeSignedVarInt(out, Math.round(value * COORDINATE_SCALE));
+  }
+
+  /**
+   * Reads a coordinate (or font size).
+   * 
+   * @param in
+   *        The input to read from.
+   * @param scale
+   *        The scale of the coordinates, as given in the header.
+   * 
+   * @return The coordinate.
+   * 
+   * @throws IOException
+   *         If reading failed.
+   */
+  public static float readCoordinate(DataInput in, int scale)
+      throws IOException {
+    return readSignedVarInt(in) / (float) scale;
+  }
+}
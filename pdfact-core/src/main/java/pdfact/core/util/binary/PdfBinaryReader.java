@@ -0,0 +1,52 @@
+package pdfact.core.util.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import pdfact.core.model.Element;
+
+/**
+ * A reader of serializations in the binary format of PdfAct (see
+ * {@link PdfBinaryFormat}), to load the output of PdfAct in JVM applications
+ * without parsing text.
+ * 
+ * <p>
+ * The elements are restored as {@link pdfact.core.model.Paragraph},
+ * {@link pdfact.core.model.Word} and {@link pdfact.core.model.Character}
+ * objects, with the serialized attributes (positions, semantic role, font
+ * face, color and text) set.
+ * 
+ * @author Claudius Korzen
+ */
+public interface PdfBinaryReader {
+  /**
+   * Reads the elements of the serialization in the given stream.
+   * 
+   * @param stream
+   *        The stream to read from. The stream is not closed.
+   * 
+   * @return The elements, in the order of the serialization.
+   * 
+   * @throws IOException
+   *         If reading failed or the stream doesn't contain a valid
+   *         serialization.
+   */
+  List<Element> read(InputStream stream) throws IOException;
+
+  // ==========================================================================
+
+  /**
+   * The factory to create instances of {@link PdfBinaryReader}.
+   * 
+   * @author Claudius Korzen
+   */
+  public interface PdfBinaryReaderFactory {
+    /**
+     * Creates a new instance of {@link PdfBinaryReader}.
+     * 
+     * @return A new instance of {@link PdfBinaryReader}.
+     */
+    PdfBinaryReader create();
+  }
+}
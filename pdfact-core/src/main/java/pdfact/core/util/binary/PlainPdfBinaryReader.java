@@ -0,0 +1,442 @@
+package pdfact.core.util.binary;
+
+import static pdfact.core.util.binary.PdfBinaryFormat.FORMAT_VERSION;
+import static pdfact.core.util.binary.PdfBinaryFormat.MAGIC_NUMBER;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_CHARACTER;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_COLOR;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_END;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_FONT;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_PARAGRAPH;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_STRING;
+import static pdfact.core.util.binary.PdfBinaryFormat.RECORD_WORD;
+import static pdfact.core.util.binary.PdfBinaryFormat.readCoordinate;
+import static pdfact.core.util.binary.PdfBinaryFormat.readVarInt;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.inject.Inject;
+
+import pdfact.core.model.Character;
+import pdfact.core.model.Character.CharacterFactory;
+import pdfact.core.model.Color;
+import pdfact.core.model.Color.ColorFactory;
+import pdfact.core.model.Element;
+import pdfact.core.model.Font;
+import pdfact.core.model.Font.FontFactory;
+import pdfact.core.model.FontFace.FontFaceFactory;
+import pdfact.core.model.Page;
+import pdfact.core.model.Page.PageFactory;
+import pdfact.core.model.Paragraph;
+import pdfact.core.model.Paragraph.ParagraphFactory;
+import pdfact.core.model.Position;
+import pdfact.core.model.Position.PositionFactory;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.model.Word;
+import pdfact.core.model.Word.WordFactory;
+
+/**
+ * A plain implementation of {@link PdfBinaryReader}.
+ *
+ * @author Claudius Korzen
+ */
+public class PlainPdfBinaryReader implements PdfBinaryReader {
+  /**
+   * The factory to create pages.
+   */
+  protected PageFactory pageFactory;
+
+  /**
+   * The factory to create paragraphs.
+   */
+  protected ParagraphFactory paragraphFactory;
+
+  /**
+   * The factory to create words.
+   */
+  protected WordFactory wordFactory;
+
+  /**
+   * The factory to create characters.
+   */
+  protected CharacterFactory characterFactory;
+
+  /**
+   * The factory to create positions.
+   */
+  protected PositionFactory positionFactory;
+
+  /**
+   * The factory to create fonts.
+   */
+  protected FontFactory fontFactory;
+
+  /**
+   * The factory to create font faces.
+   */
+  protected FontFaceFactory fontFaceFactory;
+
+  /**
+   * The factory to create colors.
+   */
+  protected ColorFactory colorFactory;
+
+  // ==========================================================================
+
+  /**
+   * The scale of the coordinates of the current serialization.
+   */
+  protected int scale;
+
+  /**
+   * The strings defined so far (the string with id n at index n - 1).
+   */
+  protected List<String> strings;
+
+  /**
+   * The fonts defined so far (the font with id n at index n - 1).
+   */
+  protected List<Font> fonts;
+
+  /**
+   * The colors defined so far (the color with id n at index n - 1).
+   */
+  protected List<Color> colors;
+
+  /**
+   * The pages per page number.
+   */
+  protected Map<Integer, Page> pages;
+
+  // ==========================================================================
+
+  /**
+   * Creates a new reader.
+   *
+   * @param pageFactory
+   *        The factory to create pages.
+   * @param paragraphFactory
+   *        The factory to create paragraphs.
+   * @param wordFactory
+   *        The factory to create words.
+   * @param characterFactory
+   *        The factory to create characters.
+   * @param positionFactory
+   *        The factory to create positions.
+   * @param fontFactory
+   *        The factory to create fonts.
+   * @param fontFaceFactory
+   *        The factory to create font faces.
+   * @param colorFactory
+   *        The factory to create colors.
+   */
+  @Inject
+  public PlainPdfBinaryReader(
+      PageFactory pageFactory,
+      ParagraphFactory paragraphFactory,
+      WordFactory wordFactory,
+      CharacterFactory characterFactory,
+      PositionFactory positionFactory,
+      FontFactory fontFactory,
+      FontFaceFactory fontFaceFactory,
+      ColorFactory colorFactory) {
+    this.pageFactory = pageFactory;
+    this.paragraphFactory = paragraphFactory;
+    this.wordFactory = wordFactory;
+    this.characterFactory = characterFactory;
+    this.positionFactory = positionFactory;
+    this.fontFactory = fontFactory;
+    this.fontFaceFactory = fontFaceFactory;
+    this.colorFactory = colorFactory;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public List<Element> read(InputStream stream) throws IOException {
+    DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+
+    if (in.readInt() != MAGIC_NUMBER) {
+      throw new IOException("The stream doesn't contain a serialization.");
+    }
+    int version = readVarInt(in);
+    if (version != FORMAT_VERSION) {
+      throw new IOException("Unsupported version of the format: " + version);
+    }
+    this.scale = readVarInt(in);
+    if (this.scale <= 0) {
+      throw new IOException("Invalid coordinate scale: " + this.scale);
+    }
+
+    this.strings = new ArrayList<>();
+    this.fonts = new ArrayList<>();
+    this.colors = new ArrayList<>();
+    this.pages = new HashMap<>();
+
+    List<Element> elements = new ArrayList<>();
+    while (true) {
+      int type = readVarInt(in);
+      if (type == RECORD_END) {
+        return elements;
+      }
+      byte[] payload = new byte[readVarInt(in)];
+      in.readFully(payload);
+      DataInputStream record = new DataInputStream(
+          new ByteArrayInputStream(payload));
+
+      switch (type) {
+        case RECORD_STRING:
+          this.strings.add(new String(payload, StandardCharsets.UTF_8));
+          break;
+        case RECORD_FONT:
+          this.fonts.add(readFont(record));
+          break;
+        case RECORD_COLOR:
+          this.colors.add(readColor(record));
+          break;
+        case RECORD_PARAGRAPH:
+          elements.add(readParagraph(record));
+          break;
+        case RECORD_WORD:
+          elements.add(readWord(record));
+          break;
+        case RECORD_CHARACTER:
+          elements.add(readCharacter(record));
+          break;
+        default:
+          // Skip records of unknown types (written by newer versions).
+          break;
+      }
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * Reads a paragraph from the given payload.
+   *
+   * @param in
+   *        The payload of the record.
+   *
+   * @return The paragraph.
+   *
+   * @throws IOException
+   *         If reading failed.
+   */
+  protected Paragraph readParagraph(DataInputStream in) throws IOException {
+    Paragraph paragraph = this.paragraphFactory.create();
+    paragraph.setPositions(readPositions(in));
+    paragraph.setSemanticRole(readSemanticRole(in));
+    skipFontFaceAndColor(in);
+    paragraph.setText(readText(in));
+    return paragraph;
+  }
+
+  /**
+   * Reads a word from the given payload.
+   *
+   * @param in
+   *        The payload of the record.
+   *
+   * @return The word.
+   *
+   * @throws IOException
+   *         If reading failed.
+   */
+  protected Word readWord(DataInputStream in) throws IOException {
+    Word word = this.wordFactory.create();
+    word.setPositions(readPositions(in));
+    readSemanticRole(in);
+    skipFontFaceAndColor(in);
+    word.setText(readText(in));
+    return word;
+  }
+
+  /**
+   * Reads a character from the given payload.
+   *
+   * @param in
+   *        The payload of the record.
+   *
+   * @return The character.
+   *
+   * @throws IOException
+   *         If reading failed.
+   */
+  protected Character readCharacter(DataInputStream in) throws IOException {
+    Character character = this.characterFactory.create();
+    List<Position> positions = readPositions(in);
+    if (!positions.isEmpty()) {
+      character.setPosition(positions.get(0));
+    }
+    readSemanticRole(in);
+    Font font = lookup(this.fonts, readVarInt(in));
+    if (font != null) {
+      float fontSize = readCoordinate(in, this.scale);
+      character.setFontFace(this.fontFaceFactory.create(font, fontSize));
+    }
+    character.setColor(lookup(this.colors, readVarInt(in)));
+    character.setText(readText(in));
+    return character;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Reads the positions of an element.
+   *
+   * @param in
+   *        The payload of the record.
+   *
+   * @return The positions.
+   *
+   * @throws IOException
+   *         If reading failed.
+   */
+  protected List<Position> readPositions(DataInputStream in)
+      throws IOException {
+    int numPositions = readVarInt(in);
+    List<Position> positions = new ArrayList<>(numPositions);
+    for (int i = 0; i < numPositions; i++) {
+      int pageNumber = readVarInt(in);
+      Page page = this.pages.get(pageNumber);
+      if (page == null) {
+        page = this.pageFactory.create(pageNumber);
+        this.pages.put(pageNumber, page);
+      }
+      float minX = readCoordinate(in, this.scale);
+      float minY = readCoordinate(in, this.scale);
+      float maxX = minX + readCoordinate(in, this.scale);
+      float maxY = minY + readCoordinate(in, this.scale);
+      positions.add(this.positionFactory.create(page, minX, minY, maxX, maxY));
+    }
+    return positions;
+  }
+
+  /**
+   * Reads the semantic role of an element.
+   *
+   * @param in
+   *        The payload of the record.
+   *
+   * @return The semantic role or null if the element has no role.
+   *
+   * @throws IOException
+   *         If reading failed.
+   */
+  protected SemanticRole readSemanticRole(DataInputStream in)
+      throws IOException {
+    String name = lookup(this.strings, readVarInt(in));
+    return name != null ? SemanticRole.fromString(name) : null;
+  }
+
+  /**
+   * Skips the font face and the color of an element that doesn't have them.
+   *
+   * @param in
+   *        The payload of the record.
+   *
+   * @throws IOException
+   *         If reading failed.
+   */
+  protected void skipFontFaceAndColor(DataInputStream in) throws IOException {
+    if (readVarInt(in) != 0) {
+      readCoordinate(in, this.scale);
+    }
+    readVarInt(in);
+  }
+
+  /**
+   * Reads the text of an element.
+   *
+   * @param in
+   *        The payload of the record.
+   *
+   * @return The text or null if the element has no text.
+   *
+   * @throws IOException
+   *         If reading failed.
+   */
+  protected String readText(DataInputStream in) throws IOException {
+    int length = readVarInt(in) - 1;
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Reads a font from the given payload.
+   *
+   * @param in
+   *        The payload of the record.
+   *
+   * @return The font.
+   *
+   * @throws IOException
+   *         If reading failed.
+   */
+  protected Font readFont(DataInputStream in) throws IOException {
+    Font font = this.fontFactory.create();
+    font.setId(lookup(this.strings, readVarInt(in)));
+    font.setNormalizedName(lookup(this.strings, readVarInt(in)));
+    return font;
+  }
+
+  /**
+   * Reads a color from the given payload.
+   *
+   * @param in
+   *        The payload of the record.
+   *
+   * @return The color.
+   *
+   * @throws IOException
+   *         If reading failed.
+   */
+  protected Color readColor(DataInputStream in) throws IOException {
+    Color color = this.colorFactory.create();
+    color.setId(lookup(this.strings, readVarInt(in)));
+    float[] rgb = new float[readVarInt(in)];
+    for (int i = 0; i < rgb.length; i++) {
+      rgb[i] = in.readFloat();
+    }
+    color.setRGB(rgb);
+    return color;
+  }
+
+  /**
+   * Returns the definition with the given id.
+   *
+   * @param definitions
+   *        The definitions read so far.
+   * @param id
+   *        The id of the definition (0 for none).
+   *
+   * @return The definition or null if the id is 0.
+   *
+   * @throws IOException
+   *         If there is no definition with the given id.
+   */
+  protected <T> T lookup(List<T> definitions, int id) throws IOException {
+    if (id == 0) {
+      return null;
+    }
+    if (id < 0 || id > definitions.size()) {
+      throw new IOException("Reference to an undefined id: " + id);
+    }
+    return definitions.get(id - 1);
+  }
+}
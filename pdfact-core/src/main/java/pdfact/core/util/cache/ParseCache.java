@@ -0,0 +1,81 @@
+package pdfact.core.util.cache;
+
+import java.nio.file.Path;
+
+import pdfact.core.model.PdfDocument;
+
+/**
+ * An on-disk cache of processed PDF documents. Stores a snapshot of each PDF
+ * document after the core pipeline, keyed by a hash of the content of the PDF
+ * file, of the version of PdfAct and of the options that affect the parsing
+ * (like the selection of the pages), such that a PDF file that was processed
+ * before doesn't need to be parsed and tokenized again. The least recently
+ * used snapshots are deleted as soon as the total size of the snapshots
+ * exceeds the maximum size of the cache.
+ * 
+ * @author Claudius Korzen
+ */
+public interface ParseCache {
+  /**
+   * Restores the elements of the given PDF document from the cache.
+   * 
+   * @param pdf
+   *        The PDF document to restore (with its path set).
+   * @param options
+   *        A string representation of the options that affect the parsing,
+   *        or null if the default options were used.
+   * 
+   * @return True, if the cache contains a snapshot of the given PDF document
+   *         and the elements were restored; false otherwise (in which case
+   *         the given PDF document is left unchanged).
+   */
+  boolean load(PdfDocument pdf, String options);
+
+  /**
+   * Stores a snapshot of the given (processed) PDF document to the cache.
+   * Failures are logged, but are not propagated, since the cache is an
+   * optimization only.
+   * 
+   * @param pdf
+   *        The PDF document to store.
+   * @param options
+   *        A string representation of the options that affect the parsing,
+   *        or null if the default options were used.
+   */
+  void store(PdfDocument pdf, String options);
+
+  /**
+   * Returns the directory where the snapshots are stored.
+   * 
+   * @return The directory where the snapshots are stored.
+   */
+  Path getDirectory();
+
+  /**
+   * Returns the maximum total size of the snapshots in this cache, in bytes.
+   * 
+   * @return The maximum total size of the snapshots in bytes.
+   */
+  long getMaximumSize();
+
+  // ==========================================================================
+
+  /**
+   * The factory to create instances of {@link ParseCache}.
+   * 
+   * @author Claudius Korzen
+   */
+  public interface ParseCacheFactory {
+    /**
+     * Creates a new instance of {@link ParseCache}.
+     * 
+     * @param directory
+     *        The directory where the snapshots should be stored.
+     * @param maxSize
+     *        The maximum total size of the snapshots in bytes.
+     * 
+     * @return A new instance of {@link ParseCache}.
+     */
+    ParseCache create(Path directory, long maxSize);
+  }
+}
@@ -0,0 +1,51 @@
+package pdfact.core.util.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import pdfact.core.model.PdfDocument;
+
+/**
+ * A codec that writes the elements of a processed PDF document to a compact
+ * binary snapshot and restores the elements from such a snapshot.
+ * 
+ * <p>
+ * A snapshot contains the pages of the document (with their characters,
+ * figures, shapes, text areas, text lines and text blocks) and the paragraphs
+ * of the document, that is everything that is needed to serialize and to
+ * visualize the document. Each font, color, font face, string, character,
+ * word and text line is stored only once and is referenced on any further
+ * occurrence. The statistics about characters and text lines are not part of
+ * a snapshot.
+ * 
+ * @author Claudius Korzen
+ */
+public interface PdfDocumentSnapshotCodec {
+  /**
+   * Writes a snapshot of the given PDF document to the given stream.
+   * 
+   * @param pdf
+   *        The PDF document to write.
+   * @param stream
+   *        The stream to write the snapshot to. The stream is not closed.
+   * 
+   * @throws IOException
+   *         If writing the snapshot failed.
+   */
+  void write(PdfDocument pdf, OutputStream stream) throws IOException;
+
+  /**
+   * Reads a snapshot from the given stream and sets the restored pages and
+   * paragraphs to the given PDF document.
+   * 
+   * @param stream
+   *        The stream to read the snapshot from. The stream is not closed.
+   * @param pdf
+   *        The PDF document to which the restored elements should be set.
+   * 
+   * @throws IOException
+   *         If reading the snapshot failed or the snapshot is invalid.
+   */
+  void read(InputStream stream, PdfDocument pdf) throws IOException;
+}
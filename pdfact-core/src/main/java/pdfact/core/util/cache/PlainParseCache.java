@@ -0,0 +1,315 @@
+package pdfact.core.util.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.log4j.Logger;
+
+import com.google.inject.Inject;
+import com.google.inject.assistedinject.Assisted;
+
+import pdfact.core.model.PdfDocument;
+import pdfact.core.util.PdfActUtils;
+import pdfact.core.util.log.InjectLogger;
+
+/**
+ * A plain implementation of {@link ParseCache}, storing each snapshot in a
+ * file of its own (named by the key of the snapshot). The time of the last
+ * modification of a file is used as the time of its last use.
+ * 
+ * @author Claudius Korzen
+ */
+public class PlainParseCache implements ParseCache {
+  /**
+   * The logger.
+   */
+  @InjectLogger
+  protected static Logger log;
+
+  /**
+   * The file extension of the snapshots.
+   */
+  protected static final String SNAPSHOT_FILE_EXTENSION = ".pdfact";
+
+  /**
+   * The file extension of the snapshots that are currently written.
+   */
+  protected static final String TMP_FILE_EXTENSION = ".tmp";
+
+  /**
+   * The algorithm to compute the keys of the snapshots.
+   */
+  protected static final String KEY_ALGORITHM = "SHA-256";
+
+  /**
+   * The size of the buffer on hashing PDF files.
+   */
+  protected static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * The version of the pipeline that creates the snapshots. Must be increased
+   * each time a change of the parsing or tokenizing changes the content of
+   * the snapshots, such that the snapshots of older code aren't restored even
+   * if the code wasn't built with Maven (and hence has no build id).
+   */
+  protected static final int PIPELINE_VERSION = 1;
+
+  /**
+   * The codec to write and read the snapshots.
+   */
+  protected PdfDocumentSnapshotCodec codec;
+
+  /**
+   * The directory where the snapshots are stored.
+   */
+  protected Path directory;
+
+  /**
+   * The maximum total size of the snapshots in bytes.
+   */
+  protected long maxSize;
+
+  // ==========================================================================
+
+  /**
+   * Creates a new parse cache.
+   * 
+   * @param codec
+   *        The codec to write and read the snapshots.
+   * @param directory
+   *        The directory where the snapshots should be stored.
+   * @param maxSize
+   *        The maximum total size of the snapshots in bytes.
+   */
+  @Inject
+  public PlainParseCache(PdfDocumentSnapshotCodec codec,
+      @Assisted Path directory, @Assisted long maxSize) {
+    this.codec = codec;
+    this.directory = directory;
+    this.maxSize = maxSize;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public boolean load(PdfDocument pdf, String options) {
+    try {
+      Path file = getSnapshotFile(pdf, options);
+      if (!Files.isRegularFile(file)) {
+        log.debug("No snapshot of " + pdf.getPath() + " in the cache.");
+        return false;
+      }
+
+      try (InputStream stream = Files.newInputStream(file)) {
+        this.codec.read(stream, pdf);
+      }
+      // Mark the snapshot as recently used.
+      Files.setLastModifiedTime(file,
+          FileTime.fromMillis(System.currentTimeMillis()));
+
+      log.debug("Restored " + pdf.getPath() + " from snapshot " + file + ".");
+      return true;
+    } catch (IOException e) {
+      log.warn("Couldn't restore " + pdf.getPath() + " from the cache.", e);
+      return false;
+    }
+  }
+
+  @Override
+  public void store(PdfDocument pdf, String options) {
+    Path tmpFile = null;
+    try {
+      Path file = getSnapshotFile(pdf, options);
+      Files.createDirectories(this.directory);
+
+      // Write to a temporary file first, such that concurrent readers never
+      // see an incomplete snapshot. The file isn't created via
+      // Files.createTempFile(), which would restrict its permissions to the
+      // owner, such that the cache can be shared like any other directory.
+      tmpFile = file.resolveSibling(file.getFileName() + "."
+          + UUID.randomUUID() + TMP_FILE_EXTENSION);
+      try (OutputStream stream = Files.newOutputStream(tmpFile,
+          StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+        this.codec.write(pdf, stream);
+      }
+      Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      tmpFile = null;
+
+      log.debug("Stored " + pdf.getPath() + " to snapshot " + file + ".");
+
+      evict();
+    } catch (IOException e) {
+      log.warn("Couldn't store " + pdf.getPath() + " to the cache.", e);
+    } finally {
+      if (tmpFile != null) {
+        try {
+          Files.deleteIfExists(tmpFile);
+        } catch (IOException e) {
+          log.warn("Couldn't delete " + tmpFile + ".", e);
+        }
+      }
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * Deletes the least recently used snapshots until the total size of the
+   * snapshots doesn't exceed the maximum size of the cache.
+   * 
+   * @throws IOException
+   *         If the snapshots couldn't be listed.
+   */
+  protected synchronized void evict() throws IOException {
+    final Map<Path, FileTime> times = new HashMap<>();
+    Map<Path, Long> sizes = new HashMap<>();
+    long totalSize = 0;
+
+    String glob = "*" + SNAPSHOT_FILE_EXTENSION;
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(this.directory, glob)) {
+      for (Path file : files) {
+        try {
+          times.put(file, Files.getLastModifiedTime(file));
+          sizes.put(file, Files.size(file));
+          totalSize += sizes.get(file);
+        } catch (NoSuchFileException e) {
+          // The snapshot was deleted in the meantime.
+          times.remove(file);
+        }
+      }
+    }
+
+    if (totalSize <= this.maxSize) {
+      return;
+    }
+
+    // Delete the snapshots in the order of the times of their last use.
+    List<Path> files = new ArrayList<>(sizes.keySet());
+    Collections.sort(files, new Comparator<Path>() {
+      @Override
+      public int compare(Path file1, Path file2) {
+        return times.get(file1).compareTo(times.get(file2));
+      }
+    });
+
+    for (Path file : files) {
+      if (totalSize <= this.maxSize) {
+        break;
+      }
+      Files.deleteIfExists(file);
+      totalSize -= sizes.get(file);
+      log.debug("Evicted snapshot " + file + " from the cache.");
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the file of the snapshot of the given PDF document.
+   * 
+   * @param pdf
+   *        The PDF document.
+   * @param options
+   *        A string representation of the options that affect the parsing,
+   *        or null if the default options were used.
+   * 
+   * @return The file of the snapshot.
+   * 
+   * @throws IOException
+   *         If the PDF file couldn't be read.
+   */
+  protected Path getSnapshotFile(PdfDocument pdf, String options)
+      throws IOException {
+    String key = computeKey(pdf, options);
+    return this.directory.resolve(key + SNAPSHOT_FILE_EXTENSION);
+  }
+
+  /**
+   * Computes the key of the snapshot of the given PDF document, that is the
+   * hash of the version, the build id and the pipeline version of PdfAct, the
+   * options and the content of the PDF file. Hence, a new build of PdfAct
+   * never restores the snapshots created by another build.
+   * 
+   * @param pdf
+   *        The PDF document.
+   * @param options
+   *        A string representation of the options that affect the parsing,
+   *        or null if the default options were used.
+   * 
+   * @return The key (a hexadecimal string).
+   * 
+   * @throws IOException
+   *         If the PDF file couldn't be read.
+   */
+  protected String computeKey(PdfDocument pdf, String options)
+      throws IOException {
+    if (pdf.getPath() == null) {
+      throw new IOException("The PDF document has no path.");
+    }
+
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(KEY_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException("Couldn't compute the key of the snapshot.", e);
+    }
+
+    digest.update(PdfActUtils.getVersion().getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+    digest.update(PdfActUtils.getBuildId().getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+    digest.update(Integer.toString(PIPELINE_VERSION)
+        .getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+    if (options != null) {
+      digest.update(options.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+    }
+
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try (InputStream stream = Files.newInputStream(pdf.getPath())) {
+      int n;
+      while ((n = stream.read(buffer)) > 0) {
+        digest.update(buffer, 0, n);
+      }
+    }
+
+    StringBuilder key = new StringBuilder();
+    for (byte b : digest.digest()) {
+      key.append(String.format("%02x", b));
+    }
+    return key.toString();
+  }
+
+  // ==========================================================================
+
+  @Override
+  public Path getDirectory() {
+    return this.directory;
+  }
+
+  @Override
+  public long getMaximumSize() {
+    return this.maxSize;
+  }
+}
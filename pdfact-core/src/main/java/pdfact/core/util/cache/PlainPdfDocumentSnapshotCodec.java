@@ -0,0 +1,1225 @@
+package pdfact.core.util.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.inject.Inject;
+
+import pdfact.core.model.Character;
+import pdfact.core.model.Character.CharacterFactory;
+import pdfact.core.model.Color;
+import pdfact.core.model.Color.ColorFactory;
+import pdfact.core.model.Figure;
+import pdfact.core.model.Figure.FigureFactory;
+import pdfact.core.model.Font;
+import pdfact.core.model.Font.FontFactory;
+import pdfact.core.model.FontFace;
+import pdfact.core.model.FontFace.FontFaceFactory;
+import pdfact.core.model.Line;
+import pdfact.core.model.Line.LineFactory;
+import pdfact.core.model.Page;
+import pdfact.core.model.Page.PageFactory;
+import pdfact.core.model.Paragraph;
+import pdfact.core.model.Paragraph.ParagraphFactory;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.model.Position;
+import pdfact.core.model.Position.PositionFactory;
+import pdfact.core.model.Rectangle;
+import pdfact.core.model.SemanticRole;
+import pdfact.core.model.Shape;
+import pdfact.core.model.Shape.ShapeFactory;
+import pdfact.core.model.TextArea;
+import pdfact.core.model.TextArea.TextAreaFactory;
+import pdfact.core.model.TextBlock;
+import pdfact.core.model.TextBlock.TextBlockFactory;
+import pdfact.core.model.TextLine;
+import pdfact.core.model.TextLine.TextLineFactory;
+import pdfact.core.model.Word;
+import pdfact.core.model.Word.WordFactory;
+import pdfact.core.util.list.ElementList;
+import pdfact.core.util.list.ElementList.ElementListFactory;
+
+/**
+ * A plain implementation of {@link PdfDocumentSnapshotCodec}.
+ *
+ * <p>
+ * Non-negative integers (sizes, page numbers, references) are written as
+ * variable-length integers (7 bits per byte), coordinates and font sizes as
+ * raw floats (such that a restored document is serialized exactly like the
+ * original one). Each string, font, color, font face, character, word and
+ * text line is written inline on its first occurrence only and is referenced
+ * by its id on any further occurrence.
+ *
+ * @author Claudius Korzen
+ */
+public class PlainPdfDocumentSnapshotCodec implements PdfDocumentSnapshotCodec {
+  /**
+   * The magic number at the beginning of each snapshot ("PDFS").
+   */
+  protected static final int MAGIC_NUMBER = 0x50444653;
+
+  /**
+   * The version of the format of the snapshots. Must be increased on each
+   * change of the format.
+   */
+  protected static final int FORMAT_VERSION = 1;
+
+  /**
+   * The reference to denote a null value.
+   */
+  protected static final int NULL_REFERENCE = 0;
+
+  /**
+   * The reference to denote a value that is written inline.
+   */
+  protected static final int INLINE_REFERENCE = 1;
+
+  /**
+   * The offset between the id of a value and the reference to the value.
+   */
+  protected static final int REFERENCE_OFFSET = 2;
+
+  // ==========================================================================
+
+  /**
+   * The factory to create pages.
+   */
+  protected PageFactory pageFactory;
+
+  /**
+   * The factory to create characters.
+   */
+  protected CharacterFactory characterFactory;
+
+  /**
+   * The factory to create figures.
+   */
+  protected FigureFactory figureFactory;
+
+  /**
+   * The factory to create shapes.
+   */
+  protected ShapeFactory shapeFactory;
+
+  /**
+   * The factory to create text areas.
+   */
+  protected TextAreaFactory textAreaFactory;
+
+  /**
+   * The factory to create text lines.
+   */
+  protected TextLineFactory textLineFactory;
+
+  /**
+   * The factory to create words.
+   */
+  protected WordFactory wordFactory;
+
+  /**
+   * The factory to create text blocks.
+   */
+  protected TextBlockFactory textBlockFactory;
+
+  /**
+   * The factory to create paragraphs.
+   */
+  protected ParagraphFactory paragraphFactory;
+
+  /**
+   * The factory to create lists of paragraphs.
+   */
+  protected ElementListFactory<Paragraph> paragraphListFactory;
+
+  /**
+   * The factory to create fonts.
+   */
+  protected FontFactory fontFactory;
+
+  /**
+   * The factory to create font faces.
+   */
+  protected FontFaceFactory fontFaceFactory;
+
+  /**
+   * The factory to create colors.
+   */
+  protected ColorFactory colorFactory;
+
+  /**
+   * The factory to create positions.
+   */
+  protected PositionFactory positionFactory;
+
+  /**
+   * The factory to create lines.
+   */
+  protected LineFactory lineFactory;
+
+  // ==========================================================================
+
+  /**
+   * Creates a new codec for snapshots of PDF documents.
+   *
+   * @param pageFactory
+   *        The factory to create pages.
+   * @param characterFactory
+   *        The factory to create characters.
+   * @param figureFactory
+   *        The factory to create figures.
+   * @param shapeFactory
+   *        The factory to create shapes.
+   * @param textAreaFactory
+   *        The factory to create text areas.
+   * @param textLineFactory
+   *        The factory to create text lines.
+   * @param wordFactory
+   *        The factory to create words.
+   * @param textBlockFactory
+   *        The factory to create text blocks.
+   * @param paragraphFactory
+   *        The factory to create paragraphs.
+   * @param paragraphListFactory
+   *        The factory to create lists of paragraphs.
+   * @param fontFactory
+   *        The factory to create fonts.
+   * @param fontFaceFactory
+   *        The factory to create font faces.
+   * @param colorFactory
+   *        The factory to create colors.
+   * @param positionFactory
+   *        The factory to create positions.
+   * @param lineFactory
+   *        The factory to create lines.
+   */
+  @Inject
+  public PlainPdfDocumentSnapshotCodec(
+      PageFactory pageFactory,
+      CharacterFactory characterFactory,
+      FigureFactory figureFactory,
+      ShapeFactory shapeFactory,
+      TextAreaFactory textAreaFactory,
+      TextLineFactory textLineFactory,
+      WordFactory wordFactory,
+      TextBlockFactory textBlockFactory,
+      ParagraphFactory paragraphFactory,
+      ElementListFactory<Paragraph> paragraphListFactory,
+      FontFactory fontFactory,
+      FontFaceFactory fontFaceFactory,
+      ColorFactory colorFactory,
+      PositionFactory positionFactory,
+      LineFactory lineFactory) {
+    this.pageFactory = pageFactory;
+    this.characterFactory = characterFactory;
+    this.figureFactory = figureFactory;
+    this.shapeFactory = shapeFactory;
+    this.textAreaFactory = textAreaFactory;
+    this.textLineFactory = textLineFactory;
+    this.wordFactory = wordFactory;
+    this.textBlockFactory = textBlockFactory;
+    this.paragraphFactory = paragraphFactory;
+    this.paragraphListFactory = paragraphListFactory;
+    this.fontFactory = fontFactory;
+    this.fontFaceFactory = fontFaceFactory;
+    this.colorFactory = colorFactory;
+    this.positionFactory = positionFactory;
+    this.lineFactory = lineFactory;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public void write(PdfDocument pdf, OutputStream stream) throws IOException {
+    DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(stream));
+    new SnapshotWriter(out).writeDocument(pdf);
+    out.flush();
+  }
+
+  @Override
+  public void read(InputStream stream, PdfDocument pdf) throws IOException {
+    DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+    new SnapshotReader(in).readDocument(pdf);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Writes the elements of a single PDF document. Keeps the ids of the values
+   * written so far.
+   *
+   * @author Claudius Korzen
+   */
+  protected class SnapshotWriter {
+    /**
+     * The stream to write to.
+     */
+    protected DataOutputStream out;
+
+    /**
+     * The indexes of the pages of the document.
+     */
+    protected Map<Page, Integer> pageIndexes = new IdentityHashMap<>();
+
+    /**
+     * The ids of the strings written so far.
+     */
+    protected Map<String, Integer> stringIds = new HashMap<>();
+
+    /**
+     * The ids of the fonts written so far.
+     */
+    protected Map<Font, Integer> fontIds = new IdentityHashMap<>();
+
+    /**
+     * The ids of the font faces written so far.
+     */
+    protected Map<FontFace, Integer> fontFaceIds = new IdentityHashMap<>();
+
+    /**
+     * The ids of the colors written so far.
+     */
+    protected Map<Color, Integer> colorIds = new IdentityHashMap<>();
+
+    /**
+     * The ids of the characters written so far.
+     */
+    protected Map<Character, Integer> characterIds = new IdentityHashMap<>();
+
+    /**
+     * The ids of the words written so far.
+     */
+    protected Map<Word, Integer> wordIds = new IdentityHashMap<>();
+
+    /**
+     * The ids of the text lines written so far.
+     */
+    protected Map<TextLine, Integer> textLineIds = new IdentityHashMap<>();
+
+    /**
+     * Creates a new writer.
+     *
+     * @param out
+     *        The stream to write to.
+     */
+    protected SnapshotWriter(DataOutputStream out) {
+      this.out = out;
+    }
+
+    // ========================================================================
+
+    /**
+     * Writes the given PDF document.
+     *
+     * @param pdf
+     *        The PDF document to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeDocument(PdfDocument pdf) throws IOException {
+      this.out.writeInt(MAGIC_NUMBER);
+      writeVarInt(FORMAT_VERSION);
+
+      List<Page> pages = pdf.getPages();
+      writeSize(pages);
+      if (pages != null) {
+        for (Page page : pages) {
+          this.pageIndexes.put(page, this.pageIndexes.size());
+          writeVarInt(page.getPageNumber());
+        }
+        for (Page page : pages) {
+          writePage(page);
+        }
+      }
+
+      List<Paragraph> paragraphs = pdf.getParagraphs();
+      writeSize(paragraphs);
+      if (paragraphs != null) {
+        for (Paragraph paragraph : paragraphs) {
+          writeWords(paragraph.getWords());
+          writeString(paragraph.getText());
+          writePositions(paragraph.getPositions());
+          writeSemanticRole(paragraph.getSemanticRole());
+          writeSemanticRole(paragraph.getSecondarySemanticRole());
+        }
+      }
+    }
+
+    /**
+     * Writes the elements of the given page.
+     *
+     * @param page
+     *        The page to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writePage(Page page) throws IOException {
+      writeCharacters(page.getCharacters());
+
+      List<Figure> figures = page.getFigures();
+      writeSize(figures);
+      if (figures != null) {
+        for (Figure figure : figures) {
+          writePosition(figure.getPosition());
+        }
+      }
+
+      List<Shape> shapes = page.getShapes();
+      writeSize(shapes);
+      if (shapes != null) {
+        for (Shape shape : shapes) {
+          writePosition(shape.getPosition());
+          writeColor(shape.getColor());
+        }
+      }
+
+      List<TextArea> areas = page.getTextAreas();
+      writeSize(areas);
+      if (areas != null) {
+        for (TextArea area : areas) {
+          writePosition(area.getPosition());
+          writeCharacters(area.getCharacters());
+        }
+      }
+
+      writeTextLines(page.getTextLines());
+
+      List<TextBlock> blocks = page.getTextBlocks();
+      writeSize(blocks);
+      if (blocks != null) {
+        for (TextBlock block : blocks) {
+          writeTextLines(block.getTextLines());
+          writeString(block.getText());
+          writePosition(block.getPosition());
+          writeSemanticRole(block.getSemanticRole());
+          writeSemanticRole(block.getSecondarySemanticRole());
+        }
+      }
+    }
+
+    // ========================================================================
+
+    /**
+     * Writes the given list of text lines.
+     *
+     * @param lines
+     *        The text lines to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeTextLines(List<TextLine> lines) throws IOException {
+      writeSize(lines);
+      if (lines != null) {
+        for (TextLine line : lines) {
+          writeTextLine(line);
+        }
+      }
+    }
+
+    /**
+     * Writes the given text line.
+     *
+     * @param line
+     *        The text line to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeTextLine(TextLine line) throws IOException {
+      if (writeReference(this.textLineIds, line)) {
+        writeCharacters(line.getCharacters());
+        writeWords(line.getWords());
+        writeString(line.getText());
+        writePosition(line.getPosition());
+
+        Line baseline = line.getBaseline();
+        this.out.writeBoolean(baseline != null);
+        if (baseline != null) {
+          this.out.writeFloat(baseline.getStartX());
+          this.out.writeFloat(baseline.getStartY());
+          this.out.writeFloat(baseline.getEndX());
+          this.out.writeFloat(baseline.getEndY());
+        }
+      }
+    }
+
+    /**
+     * Writes the given list of words.
+     *
+     * @param words
+     *        The words to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeWords(List<Word> words) throws IOException {
+      writeSize(words);
+      if (words != null) {
+        for (Word word : words) {
+          writeWord(word);
+        }
+      }
+    }
+
+    /**
+     * Writes the given word.
+     *
+     * @param word
+     *        The word to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeWord(Word word) throws IOException {
+      if (writeReference(this.wordIds, word)) {
+        writeCharacters(word.getCharacters());
+        writeString(word.getText());
+        writePositions(word.getPositions());
+        this.out.writeBoolean(word.isHyphenated());
+        this.out.writeBoolean(word.isDehyphenated());
+      }
+    }
+
+    /**
+     * Writes the given list of characters.
+     *
+     * @param characters
+     *        The characters to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeCharacters(List<Character> characters)
+        throws IOException {
+      writeSize(characters);
+      if (characters != null) {
+        for (Character character : characters) {
+          writeCharacter(character);
+        }
+      }
+    }
+
+    /**
+     * Writes the given character.
+     *
+     * @param character
+     *        The character to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeCharacter(Character character) throws IOException {
+      if (writeReference(this.characterIds, character)) {
+        writePosition(character.getPosition());
+        writeString(character.getText());
+        writeFontFace(character.getFontFace());
+        writeColor(character.getColor());
+        writeVarInt(character.getExtractionRank());
+      }
+    }
+
+    // ========================================================================
+
+    /**
+     * Writes the given list of positions.
+     *
+     * @param positions
+     *        The positions to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writePositions(List<Position> positions)
+        throws IOException {
+      writeSize(positions);
+      if (positions != null) {
+        for (Position position : positions) {
+          writePosition(position);
+        }
+      }
+    }
+
+    /**
+     * Writes the given position, as the index of its page and the
+     * coordinates of its rectangle.
+     *
+     * @param position
+     *        The position to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writePosition(Position position) throws IOException {
+      Rectangle rect = position != null ? position.getRectangle() : null;
+      this.out.writeBoolean(rect != null);
+      if (rect != null) {
+        Integer pageIndex = this.pageIndexes.get(position.getPage());
+        writeVarInt(pageIndex != null ? pageIndex + 1 : 0);
+        this.out.writeFloat(rect.getMinX());
+        this.out.writeFloat(rect.getMinY());
+        this.out.writeFloat(rect.getMaxX());
+        this.out.writeFloat(rect.getMaxY());
+      }
+    }
+
+    /**
+     * Writes the given font face.
+     *
+     * @param fontFace
+     *        The font face to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeFontFace(FontFace fontFace) throws IOException {
+      if (writeReference(this.fontFaceIds, fontFace)) {
+        writeFont(fontFace.getFont());
+        this.out.writeFloat(fontFace.getFontSize());
+      }
+    }
+
+    /**
+     * Writes the given font.
+     *
+     * @param font
+     *        The font to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeFont(Font font) throws IOException {
+      if (writeReference(this.fontIds, font)) {
+        writeString(font.getId());
+        writeString(font.getNormalizedName());
+        writeString(font.getBaseName());
+        writeString(font.getFontFamilyName());
+        this.out.writeBoolean(font.isType3Font());
+        this.out.writeBoolean(font.isBold());
+        this.out.writeBoolean(font.isItalic());
+      }
+    }
+
+    /**
+     * Writes the given color.
+     *
+     * @param color
+     *        The color to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeColor(Color color) throws IOException {
+      if (writeReference(this.colorIds, color)) {
+        writeString(color.getId());
+        writeString(color.getName());
+        float[] rgb = color.getRGB();
+        writeVarInt(rgb != null ? rgb.length + 1 : 0);
+        if (rgb != null) {
+          for (float value : rgb) {
+            this.out.writeFloat(value);
+          }
+        }
+      }
+    }
+
+    /**
+     * Writes the given semantic role, by its name.
+     *
+     * @param role
+     *        The semantic role to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeSemanticRole(SemanticRole role) throws IOException {
+      writeString(role != null ? role.getName() : null);
+    }
+
+    /**
+     * Writes the given string (in UTF-8).
+     *
+     * @param string
+     *        The string to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeString(String string) throws IOException {
+      if (writeReference(this.stringIds, string)) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        this.out.write(bytes);
+      }
+    }
+
+    // ========================================================================
+
+    /**
+     * Writes the reference to the given value. If the value wasn't written
+     * before, a new id is assigned to the value and the value must be written
+     * inline by the caller.
+     *
+     * @param ids
+     *        The ids of the values written so far.
+     * @param value
+     *        The value to write.
+     *
+     * @return True, if the value must be written inline; false otherwise.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected <T> boolean writeReference(Map<T, Integer> ids, T value)
+        throws IOException {
+      if (value == null) {
+        writeVarInt(NULL_REFERENCE);
+        return false;
+      }
+      Integer id = ids.get(value);
+      if (id != null) {
+        writeVarInt(id + REFERENCE_OFFSET);
+        return false;
+      }
+      ids.put(value, ids.size());
+      writeVarInt(INLINE_REFERENCE);
+      return true;
+    }
+
+    /**
+     * Writes the size of the given collection (0 if the collection is null,
+     * the number of elements + 1 otherwise).
+     *
+     * @param collection
+     *        The collection.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeSize(Collection<?> collection) throws IOException {
+      writeVarInt(collection != null ? collection.size() + 1 : 0);
+    }
+
+    /**
+     * Writes the given integer as a variable-length integer.
+     *
+     * @param value
+     *        The integer to write.
+     *
+     * @throws IOException
+     *         If writing failed.
+     */
+    protected void writeVarInt(int value) throws IOException {
+      while ((value & ~0x7F) != 0) {
+        this.out.writeByte((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      this.out.writeByte(value);
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * Reads the elements of a single PDF document. Keeps the values read so
+   * far, in the order of their ids.
+   *
+   * @author Claudius Korzen
+   */
+  protected class SnapshotReader {
+    /**
+     * The stream to read from.
+     */
+    protected DataInputStream in;
+
+    /**
+     * The pages of the document.
+     */
+    protected List<Page> pages = new ArrayList<>();
+
+    /**
+     * The strings read so far.
+     */
+    protected List<String> strings = new ArrayList<>();
+
+    /**
+     * The fonts read so far.
+     */
+    protected List<Font> fonts = new ArrayList<>();
+
+    /**
+     * The font faces read so far.
+     */
+    protected List<FontFace> fontFaces = new ArrayList<>();
+
+    /**
+     * The colors read so far.
+     */
+    protected List<Color> colors = new ArrayList<>();
+
+    /**
+     * The characters read so far.
+     */
+    protected List<Character> characters = new ArrayList<>();
+
+    /**
+     * The words read so far.
+     */
+    protected List<Word> words = new ArrayList<>();
+
+    /**
+     * The text lines read so far.
+     */
+    protected List<TextLine> textLines = new ArrayList<>();
+
+    /**
+     * Creates a new reader.
+     *
+     * @param in
+     *        The stream to read from.
+     */
+    protected SnapshotReader(DataInputStream in) {
+      this.in = in;
+    }
+
+    // ========================================================================
+
+    /**
+     * Reads the elements of a PDF document and sets them to the given PDF
+     * document. The given PDF document is only modified if the snapshot
+     * could be read completely.
+     *
+     * @param pdf
+     *        The PDF document to which the elements should be set.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected void readDocument(PdfDocument pdf) throws IOException {
+      if (this.in.readInt() != MAGIC_NUMBER) {
+        throw new IOException("The stream doesn't contain a snapshot.");
+      }
+      int formatVersion = readVarInt();
+      if (formatVersion != FORMAT_VERSION) {
+        throw new IOException("Unsupported version of the snapshot format: "
+            + formatVersion);
+      }
+
+      int numPages = readSize();
+      for (int i = 0; i < numPages; i++) {
+        this.pages.add(pageFactory.create(readVarInt()));
+      }
+      for (Page page : this.pages) {
+        readPage(page);
+      }
+
+      int numParagraphs = readSize();
+      ElementList<Paragraph> paragraphs =
+          paragraphListFactory.create(Math.max(numParagraphs, 0));
+      for (int i = 0; i < numParagraphs; i++) {
+        Paragraph paragraph = paragraphFactory.create();
+        readWords(paragraph.getWords());
+        paragraph.setText(readString());
+        paragraph.setPositions(readPositions());
+        paragraph.setSemanticRole(readSemanticRole());
+        paragraph.setSecondarySemanticRole(readSemanticRole());
+        paragraphs.add(paragraph);
+      }
+
+      pdf.setPages(this.pages);
+      pdf.setParagraphs(paragraphs);
+    }
+
+    /**
+     * Reads the elements of the given page.
+     *
+     * @param page
+     *        The page to which the elements should be added.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected void readPage(Page page) throws IOException {
+      readCharacters(page.getCharacters());
+
+      int numFigures = readSize();
+      for (int i = 0; i < numFigures; i++) {
+        Figure figure = figureFactory.create();
+        figure.setPosition(readPosition());
+        page.addFigure(figure);
+      }
+
+      int numShapes = readSize();
+      for (int i = 0; i < numShapes; i++) {
+        Shape shape = shapeFactory.create();
+        shape.setPosition(readPosition());
+        shape.setColor(readColor());
+        page.addShape(shape);
+      }
+
+      int numAreas = readSize();
+      for (int i = 0; i < numAreas; i++) {
+        TextArea area = textAreaFactory.create();
+        area.setPosition(readPosition());
+        readCharacters(area.getCharacters());
+        page.addTextArea(area);
+      }
+
+      readTextLines(page.getTextLines());
+
+      int numBlocks = readSize();
+      for (int i = 0; i < numBlocks; i++) {
+        TextBlock block = textBlockFactory.create();
+        readTextLines(block.getTextLines());
+        block.setText(readString());
+        block.setPosition(readPosition());
+        block.setSemanticRole(readSemanticRole());
+        block.setSecondarySemanticRole(readSemanticRole());
+        page.addTextBlock(block);
+      }
+    }
+
+    // ========================================================================
+
+    /**
+     * Reads a list of text lines and adds them to the given list.
+     *
+     * @param target
+     *        The list to which the text lines should be added.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected void readTextLines(List<TextLine> target) throws IOException {
+      int numLines = readSize();
+      for (int i = 0; i < numLines; i++) {
+        target.add(readTextLine());
+      }
+    }
+
+    /**
+     * Reads a text line.
+     *
+     * @return The text line.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected TextLine readTextLine() throws IOException {
+      int reference = readVarInt();
+      if (reference != INLINE_REFERENCE) {
+        return lookup(this.textLines, reference);
+      }
+      TextLine line = textLineFactory.create();
+      this.textLines.add(line);
+      readCharacters(line.getCharacters());
+      readWords(line.getWords());
+      line.setText(readString());
+      line.setPosition(readPosition());
+      if (this.in.readBoolean()) {
+        line.setBaseline(lineFactory.create(this.in.readFloat(),
+            this.in.readFloat(), this.in.readFloat(), this.in.readFloat()));
+      }
+      return line;
+    }
+
+    /**
+     * Reads a list of words and adds them to the given list.
+     *
+     * @param target
+     *        The list to which the words should be added.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected void readWords(List<Word> target) throws IOException {
+      int numWords = readSize();
+      for (int i = 0; i < numWords; i++) {
+        target.add(readWord());
+      }
+    }
+
+    /**
+     * Reads a word.
+     *
+     * @return The word.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected Word readWord() throws IOException {
+      int reference = readVarInt();
+      if (reference != INLINE_REFERENCE) {
+        return lookup(this.words, reference);
+      }
+      Word word = wordFactory.create();
+      this.words.add(word);
+      readCharacters(word.getCharacters());
+      word.setText(readString());
+      word.setPositions(readPositions());
+      word.setIsHyphenated(this.in.readBoolean());
+      word.setIsDehyphenated(this.in.readBoolean());
+      return word;
+    }
+
+    /**
+     * Reads a list of characters and adds them to the given list.
+     *
+     * @param target
+     *        The list to which the characters should be added.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected void readCharacters(List<Character> target) throws IOException {
+      int numCharacters = readSize();
+      for (int i = 0; i < numCharacters; i++) {
+        target.add(readCharacter());
+      }
+    }
+
+    /**
+     * Reads a character.
+     *
+     * @return The character.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected Character readCharacter() throws IOException {
+      int reference = readVarInt();
+      if (reference != INLINE_REFERENCE) {
+        return lookup(this.characters, reference);
+      }
+      Character character = characterFactory.create();
+      this.characters.add(character);
+      character.setPosition(readPosition());
+      character.setText(readString());
+      character.setFontFace(readFontFace());
+      character.setColor(readColor());
+      character.setExtractionRank(readVarInt());
+      return character;
+    }
+
+    // ========================================================================
+
+    /**
+     * Reads a list of positions.
+     *
+     * @return The list of positions.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected List<Position> readPositions() throws IOException {
+      int numPositions = readSize();
+      if (numPositions < 0) {
+        return null;
+      }
+      List<Position> positions = new ArrayList<>(numPositions);
+      for (int i = 0; i < numPositions; i++) {
+        positions.add(readPosition());
+      }
+      return positions;
+    }
+
+    /**
+     * Reads a position.
+     *
+     * @return The position.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected Position readPosition() throws IOException {
+      if (!this.in.readBoolean()) {
+        return null;
+      }
+      // The index of the page is written + 1 (0 if the page is unknown).
+      int pageReference = readVarInt();
+      Page page = null;
+      if (pageReference > 0) {
+        page = lookup(this.pages, pageReference - 1 + REFERENCE_OFFSET);
+      }
+      return positionFactory.create(page, this.in.readFloat(),
+          this.in.readFloat(), this.in.readFloat(), this.in.readFloat());
+    }
+
+    /**
+     * Reads a font face.
+     *
+     * @return The font face.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected FontFace readFontFace() throws IOException {
+      int reference = readVarInt();
+      if (reference != INLINE_REFERENCE) {
+        return lookup(this.fontFaces, reference);
+      }
+      Font font = readFont();
+      FontFace fontFace = fontFaceFactory.create(font, this.in.readFloat());
+      this.fontFaces.add(fontFace);
+      return fontFace;
+    }
+
+    /**
+     * Reads a font.
+     *
+     * @return The font.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected Font readFont() throws IOException {
+      int reference = readVarInt();
+      if (reference != INLINE_REFERENCE) {
+        return lookup(this.fonts, reference);
+      }
+      Font font = fontFactory.create();
+      this.fonts.add(font);
+      font.setId(readString());
+      font.setNormalizedName(readString());
+      font.setBasename(readString());
+      font.setFontFamilyName(readString());
+      font.setIsType3Font(this.in.readBoolean());
+      font.setIsBold(this.in.readBoolean());
+      font.setIsItalic(this.in.readBoolean());
+      return font;
+    }
+
+    /**
+     * Reads a color.
+     *
+     * @return The color.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected Color readColor() throws IOException {
+      int reference = readVarInt();
+      if (reference != INLINE_REFERENCE) {
+        return lookup(this.colors, reference);
+      }
+      Color color = colorFactory.create();
+      this.colors.add(color);
+      color.setId(readString());
+      color.setName(readString());
+      int numValues = readVarInt() - 1;
+      if (numValues >= 0) {
+        float[] rgb = new float[numValues];
+        for (int i = 0; i < numValues; i++) {
+          rgb[i] = this.in.readFloat();
+        }
+        color.setRGB(rgb);
+      }
+      return color;
+    }
+
+    /**
+     * Reads a semantic role.
+     *
+     * @return The semantic role.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected SemanticRole readSemanticRole() throws IOException {
+      String name = readString();
+      return name != null ? SemanticRole.fromString(name) : null;
+    }
+
+    /**
+     * Reads a string.
+     *
+     * @return The string.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected String readString() throws IOException {
+      int reference = readVarInt();
+      if (reference != INLINE_REFERENCE) {
+        return lookup(this.strings, reference);
+      }
+      byte[] bytes = new byte[readVarInt()];
+      this.in.readFully(bytes);
+      String string = new String(bytes, StandardCharsets.UTF_8);
+      this.strings.add(string);
+      return string;
+    }
+
+    // ========================================================================
+
+    /**
+     * Returns the value with the given reference.
+     *
+     * @param values
+     *        The values read so far.
+     * @param reference
+     *        The reference to the value.
+     *
+     * @return The value or null if the reference denotes a null value.
+     *
+     * @throws IOException
+     *         If the reference is invalid.
+     */
+    protected <T> T lookup(List<T> values, int reference) throws IOException {
+      if (reference == NULL_REFERENCE) {
+        return null;
+      }
+      int id = reference - REFERENCE_OFFSET;
+      if (id < 0 || id >= values.size()) {
+        throw new IOException("Invalid reference in snapshot: " + reference);
+      }
+      return values.get(id);
+    }
+
+    /**
+     * Reads the size of a collection.
+     *
+     * @return The size of the collection or -1 if the collection is null.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected int readSize() throws IOException {
+      return readVarInt() - 1;
+    }
+
+    /**
+     * Reads a variable-length integer.
+     *
+     * @return The integer.
+     *
+     * @throws IOException
+     *         If reading failed.
+     */
+    protected int readVarInt() throws IOException {
+      int value = 0;
+      for (int shift = 0; shift < 35; shift += 7) {
+        byte b = this.in.readByte();
+        value |= (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IOException("Invalid variable-length integer in snapshot.");
+    }
+  }
+}
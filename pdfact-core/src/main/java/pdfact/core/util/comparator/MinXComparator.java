@@ -3,6 +3,7 @@ package pdfact.core.util.comparator;
 import java.io.Serializable;
 import java.util.Comparator;
 
+import pdfact.core.model.Character;
 import pdfact.core.model.HasPosition;
 import pdfact.core.model.Page;
 import pdfact.core.model.Position;
@@ -31,6 +32,12 @@ public class MinXComparator implements Comparator<HasPosition>, Serializable {
       return -1;
     }
 
+    // Compare characters via their accessors, which don't create any objects
+    // (unlike the positions of characters that are stored in a table).
+    if (element1 instanceof Character && element2 instanceof Character) {
+      return compareCharacters((Character) element1, (Character) element2);
+    }
+
     Position pos1 = element1.getPosition();
     Position pos2 = element2.getPosition();
     if (pos1 == null && pos2 == null) {
@@ -75,4 +82,38 @@ public class MinXComparator implements Comparator<HasPosition>, Serializable {
 
     return Float.compare(rect1.getMinX(), rect2.getMinX());
   }
+
+  /**
+   * Compares the given characters by their pages and their minX values.
+   *
+   * @param character1
+   *        The first character.
+   * @param character2
+   *        The second character.
+   *
+   * @return A negative integer, zero, or a positive integer as the first
+   *         character is less than, equal to, or greater than the second.
+   */
+  protected int compareCharacters(Character character1,
+      Character character2) {
+    Page page1 = character1.getPage();
+    Page page2 = character2.getPage();
+    if (page1 == null && page2 == null) {
+      return 0;
+    }
+    if (page1 == null) {
+      return 1;
+    }
+    if (page2 == null) {
+      return -1;
+    }
+
+    int pageNum1 = page1.getPageNumber();
+    int pageNum2 = page2.getPageNumber();
+    if (pageNum1 != pageNum2) {
+      return pageNum1 - pageNum2;
+    }
+
+    return Float.compare(character1.getMinX(), character2.getMinX());
+  }
 }
@@ -2,6 +2,8 @@ package pdfact.core.util.counter;
 
 import com.google.inject.assistedinject.Assisted;
 
+import gnu.trove.iterator.TFloatIntIterator;
+
 /**
  * A counter to compute some statistics about float values.
  * 
@@ -17,10 +19,11 @@ public interface FloatCounter {
   void add(float f);
 
   /**
-   * Adds the given float counter to this counter.
+   * Adds the given float counter to this counter, in time linear to the number
+   * of unique floats in the given counter.
    * 
    * @param f
-   *        The float to add.
+   *        The float counter to add.
    */
   void add(FloatCounter f);
 
@@ -50,6 +53,18 @@ public interface FloatCounter {
    */
   float getAverageFloat();
 
+  /**
+   * Returns the (approximate) p-th percentile of the floats, that is the
+   * smallest float for which at least the fraction p of all floats in this
+   * counter are smaller or equal.
+   * 
+   * @param p
+   *        The percentile, as a fraction between 0 and 1.
+   * 
+   * @return The p-th percentile or Float.NaN if the counter is empty.
+   */
+  float getPercentile(float p);
+
   // ==========================================================================
 
   /**
@@ -71,6 +86,15 @@ public interface FloatCounter {
 
   // ==========================================================================
 
+  /**
+   * Returns an iterator over this counter.
+   * 
+   * @return An iterator over this counter.
+   */
+  TFloatIntIterator iterator();
+
+  // ==========================================================================
+
   /**
    * Returns true if this counter is empty.
    * 
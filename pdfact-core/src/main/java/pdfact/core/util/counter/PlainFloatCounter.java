@@ -1,5 +1,7 @@
 package pdfact.core.util.counter;
 
+import java.util.Arrays;
+
 import com.google.inject.assistedinject.Assisted;
 import com.google.inject.assistedinject.AssistedInject;
 
@@ -31,7 +33,7 @@ public class PlainFloatCounter extends TFloatIntHashMap
   /**
    * A flag that indicates whether the statistics were already computed.
    */
-  protected boolean isStatisticsComputed;
+  protected volatile boolean isStatisticsComputed;
 
   /**
    * Creates a new FloatCounter with the default initial capacity.
@@ -57,13 +59,20 @@ public class PlainFloatCounter extends TFloatIntHashMap
   @Override
   public void add(float f) {
     adjustOrPutValue(f, 1, 1);
+    this.isStatisticsComputed = false;
   }
 
   @Override
   public void add(FloatCounter f) {
-    for (float key : f.getFloats()) {
-      adjustOrPutValue(key, f.getFrequency(key), f.getFrequency(key));
+    if (f == null || f.isEmpty()) {
+      return;
+    }
+    TFloatIntIterator itr = f.iterator();
+    while (itr.hasNext()) {
+      itr.advance();
+      adjustOrPutValue(itr.key(), itr.value(), itr.value());
     }
+    this.isStatisticsComputed = false;
   }
 
   // ==========================================================================
@@ -91,6 +100,32 @@ public class PlainFloatCounter extends TFloatIntHashMap
     return this.averageFloat;
   }
 
+  @Override
+  public float getPercentile(float p) {
+    if (isEmpty()) {
+      return Float.NaN;
+    }
+
+    float[] floats = keys();
+    Arrays.sort(floats);
+
+    // Compute the rank of the percentile and walk the floats up to it.
+    int numFloats = 0;
+    for (float f : floats) {
+      numFloats += get(f);
+    }
+    long rank = Math.max(1, (long) Math.ceil(p * (double) numFloats));
+
+    long numSeen = 0;
+    for (float f : floats) {
+      numSeen += get(f);
+      if (numSeen >= rank) {
+        return f;
+      }
+    }
+    return floats[floats.length - 1];
+  }
+
   // ==========================================================================
 
   @Override
@@ -106,9 +141,12 @@ public class PlainFloatCounter extends TFloatIntHashMap
   // ==========================================================================
 
   /**
-   * Computes the statistic about the float values.
+   * Computes the statistic about the float values. The statistic is computed
+   * into local variables first and published afterwards, such that concurrent
+   * readers never see a partially computed statistic.
    */
   protected void computeStatistic() {
+    float mostCommon = Float.NaN;
     float sumFloats = 0;
     float sumFreqs = 0;
     int largestFreq = -1;
@@ -120,7 +158,7 @@ public class PlainFloatCounter extends TFloatIntHashMap
       int freq = itr.value();
 
       if (freq > largestFreq) {
-        this.mostCommonFloat = f;
+        mostCommon = f;
         largestFreq = freq;
       }
 
@@ -128,6 +166,7 @@ public class PlainFloatCounter extends TFloatIntHashMap
       sumFreqs += freq;
     }
 
+    this.mostCommonFloat = mostCommon;
     this.averageFloat = sumFreqs > 0 ? sumFloats / sumFreqs : 0;
     this.isStatisticsComputed = true;
   }
@@ -29,7 +29,7 @@ public class PlainObjectCounter<T> extends TObjectIntHashMap<T>
   /**
    * A flag that indicates whether the statistics were already computed.
    */
-  protected boolean isStatisticsComputed;
+  protected volatile boolean isStatisticsComputed;
 
   /**
    * Creates a new ObjectCounter with the default initial capacity.
@@ -60,6 +60,7 @@ public class PlainObjectCounter<T> extends TObjectIntHashMap<T>
    */
   public void add(T o) {
     adjustOrPutValue(o, 1, 1);
+    this.isStatisticsComputed = false;
   }
 
   /**
@@ -69,6 +70,9 @@ public class PlainObjectCounter<T> extends TObjectIntHashMap<T>
    *        The object to add.
    */
   public void add(ObjectCounter<T> o) {
+    if (o == null || o.isEmpty()) {
+      return;
+    }
     TObjectIntIterator<T> itr = o.iterator();
     while (itr.hasNext()) {
       itr.advance();
@@ -76,6 +80,7 @@ public class PlainObjectCounter<T> extends TObjectIntHashMap<T>
       int count = itr.value();
       adjustOrPutValue(key, count, count);
     }
+    this.isStatisticsComputed = false;
   }
 
   /**
@@ -115,9 +120,12 @@ public class PlainObjectCounter<T> extends TObjectIntHashMap<T>
   // ==========================================================================
 
   /**
-   * Computes some statistics about the objects.
+   * Computes some statistics about the objects. The statistics are computed
+   * into local variables first and published afterwards, such that concurrent
+   * readers never see partially computed statistics.
    */
   protected void computeStatistics() {
+    T mostCommon = null;
     int largestFreq = -1;
 
     TObjectIntIterator<T> itr = iterator();
@@ -126,10 +134,11 @@ public class PlainObjectCounter<T> extends TObjectIntHashMap<T>
       T object = itr.key();
       int freq = itr.value();
       if (freq > largestFreq) {
-        this.mostCommonObject = object;
+        mostCommon = object;
         largestFreq = freq;
       }
     }
+    this.mostCommonObject = mostCommon;
     this.isStatisticsComputed = true;
   }
 }
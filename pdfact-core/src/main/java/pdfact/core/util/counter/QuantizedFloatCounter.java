@@ -0,0 +1,563 @@
+package pdfact.core.util.counter;
+
+import static pdfact.core.PdfActCoreSettings.FLOATING_NUMBER_PRECISION;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import com.google.inject.assistedinject.Assisted;
+import com.google.inject.assistedinject.AssistedInject;
+
+import gnu.trove.iterator.TFloatIntIterator;
+
+/**
+ * An implementation of {@link FloatCounter} that counts the floats in bins,
+ * with {@link #BINS_PER_UNIT} bins per unit as given by the number of decimal
+ * places for floating numbers, instead of counting the exact float values.
+ * Because the coordinates of the elements are already rounded to this
+ * precision, the bins lose (almost) no information, but they allow to count
+ * the floats in plain int arrays.
+ *
+ * <p>
+ * A counter starts with a sparse representation (the sorted bins and their
+ * frequencies) and switches to a dense representation (the frequencies of all
+ * bins within a range) when it holds many different bins within a small
+ * range. The most common float and the average float are updated on each
+ * addition, so they are available in constant time. Two counters are merged
+ * bin by bin, without converting the bins to floats.
+ *
+ * <p>
+ * Unlike {@link PlainFloatCounter}, this counter returns the center of a bin
+ * instead of the exact floats counted in it, and breaks ties between equally
+ * common floats in favor of the float that reached the frequency first. Floats
+ * that are NaN or infinite are ignored.
+ *
+ * @author Claudius Korzen
+ */
+public class QuantizedFloatCounter implements FloatCounter {
+  /**
+   * The number of bins per unit.
+   */
+  protected static final float BINS_PER_UNIT =
+      (float) Math.pow(10, FLOATING_NUMBER_PRECISION);
+
+  /**
+   * The default initial capacity of this counter.
+   */
+  protected static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+  /**
+   * The number of bins from which on the dense representation is used, if the
+   * bins are within a range of at most {@link #MAX_DENSE_RANGE}.
+   */
+  protected static final int MIN_DENSE_BINS = 32;
+
+  /**
+   * The maximum number of bins in the dense representation.
+   */
+  protected static final int MAX_DENSE_RANGE = 8192;
+
+  /**
+   * The bins in the sparse representation, sorted in ascending order (null if
+   * the dense representation is used).
+   */
+  protected int[] sparseBins;
+
+  /**
+   * The frequencies of the bins, either parallel to {@link #sparseBins} or, in
+   * the dense representation, of all bins starting at {@link #denseOffset}.
+   */
+  protected int[] frequencies;
+
+  /**
+   * The bin of the first frequency in the dense representation.
+   */
+  protected int denseOffset;
+
+  /**
+   * The number of bins with a frequency larger than zero.
+   */
+  protected int numBins;
+
+  /**
+   * The number of counted floats.
+   */
+  protected long numFloats;
+
+  /**
+   * The sum of the bins of all counted floats.
+   */
+  protected double sumBins;
+
+  /**
+   * The bin of the most common float.
+   */
+  protected int mostCommonBin;
+
+  /**
+   * The frequency of the most common float.
+   */
+  protected int mostCommonFrequency;
+
+  /**
+   * Creates a new FloatCounter with the default initial capacity.
+   */
+  @AssistedInject
+  public QuantizedFloatCounter() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  /**
+   * Creates a new FloatCounter with the given initial capacity.
+   *
+   * @param initialCapacity
+   *        The initial capacity.
+   */
+  @AssistedInject
+  public QuantizedFloatCounter(@Assisted int initialCapacity) {
+    int capacity = Math.max(1, initialCapacity);
+    this.sparseBins = new int[capacity];
+    this.frequencies = new int[capacity];
+  }
+
+  // ==========================================================================
+
+  @Override
+  public void add(float f) {
+    if (Float.isNaN(f) || Float.isInfinite(f)) {
+      return;
+    }
+    add(toBin(f), 1);
+  }
+
+  @Override
+  public void add(FloatCounter f) {
+    if (f == null || f.isEmpty()) {
+      return;
+    }
+
+    if (f instanceof QuantizedFloatCounter) {
+      // Merge the bins directly, without converting them to floats.
+      QuantizedFloatCounter other = (QuantizedFloatCounter) f;
+      if (other.sparseBins != null) {
+        for (int i = 0; i < other.numBins; i++) {
+          add(other.sparseBins[i], other.frequencies[i]);
+        }
+      } else {
+        for (int i = 0; i < other.frequencies.length; i++) {
+          if (other.frequencies[i] > 0) {
+            add(other.denseOffset + i, other.frequencies[i]);
+          }
+        }
+      }
+      return;
+    }
+
+    TFloatIntIterator itr = f.iterator();
+    while (itr.hasNext()) {
+      itr.advance();
+      float key = itr.key();
+      if (!Float.isNaN(key) && !Float.isInfinite(key)) {
+        add(toBin(key), itr.value());
+      }
+    }
+  }
+
+  /**
+   * Adds the given frequency to the given bin.
+   *
+   * @param bin
+   *        The bin.
+   * @param freq
+   *        The frequency to add.
+   */
+  protected void add(int bin, int freq) {
+    if (freq <= 0) {
+      return;
+    }
+
+    int newFreq;
+    if (this.sparseBins != null) {
+      newFreq = addSparse(bin, freq);
+    } else {
+      newFreq = addDense(bin, freq);
+    }
+
+    this.numFloats += freq;
+    this.sumBins += (double) bin * freq;
+    if (newFreq > this.mostCommonFrequency) {
+      this.mostCommonBin = bin;
+      this.mostCommonFrequency = newFreq;
+    }
+  }
+
+  /**
+   * Adds the given frequency to the given bin in the sparse representation.
+   *
+   * @param bin
+   *        The bin.
+   * @param freq
+   *        The frequency to add.
+   *
+   * @return The new frequency of the bin.
+   */
+  protected int addSparse(int bin, int freq) {
+    int index = Arrays.binarySearch(this.sparseBins, 0, this.numBins, bin);
+    if (index >= 0) {
+      this.frequencies[index] += freq;
+      return this.frequencies[index];
+    }
+
+    // The bin is new. Switch to the dense representation if it pays off.
+    int minBin = this.numBins > 0 ? Math.min(this.sparseBins[0], bin) : bin;
+    int maxBin = this.numBins > 0
+        ? Math.max(this.sparseBins[this.numBins - 1], bin) : bin;
+    if (this.numBins + 1 >= MIN_DENSE_BINS
+        && (long) maxBin - minBin < MAX_DENSE_RANGE) {
+      toDense(minBin, maxBin);
+      return addDense(bin, freq);
+    }
+
+    if (this.numBins == this.sparseBins.length) {
+      int capacity = 2 * this.sparseBins.length;
+      this.sparseBins = Arrays.copyOf(this.sparseBins, capacity);
+      this.frequencies = Arrays.copyOf(this.frequencies, capacity);
+    }
+
+    // Insert the bin at its position in the sorted order.
+    index = -(index + 1);
+    int numMoved = this.numBins - index;
+    System.arraycopy(this.sparseBins, index, this.sparseBins, index + 1,
+        numMoved);
+    System.arraycopy(this.frequencies, index, this.frequencies, index + 1,
+        numMoved);
+    this.sparseBins[index] = bin;
+    this.frequencies[index] = freq;
+    this.numBins++;
+    return freq;
+  }
+
+  /**
+   * Adds the given frequency to the given bin in the dense representation.
+   *
+   * @param bin
+   *        The bin.
+   * @param freq
+   *        The frequency to add.
+   *
+   * @return The new frequency of the bin.
+   */
+  protected int addDense(int bin, int freq) {
+    long index = (long) bin - this.denseOffset;
+    if (index < 0 || index >= this.frequencies.length) {
+      int minBin = Math.min(this.denseOffset, bin);
+      int maxBin = Math.max(this.denseOffset + this.frequencies.length - 1,
+          bin);
+      if ((long) maxBin - minBin >= MAX_DENSE_RANGE) {
+        // The bins are too far apart, switch back to the sparse one.
+        toSparse();
+        return addSparse(bin, freq);
+      }
+      resizeDense(minBin, maxBin);
+      index = (long) bin - this.denseOffset;
+    }
+
+    int i = (int) index;
+    if (this.frequencies[i] == 0) {
+      this.numBins++;
+    }
+    this.frequencies[i] += freq;
+    return this.frequencies[i];
+  }
+
+  // ==========================================================================
+
+  /**
+   * Switches from the sparse to the dense representation.
+   *
+   * @param minBin
+   *        The smallest bin to be covered by the dense representation.
+   * @param maxBin
+   *        The largest bin to be covered by the dense representation.
+   */
+  protected void toDense(int minBin, int maxBin) {
+    int[] dense = new int[denseCapacity(minBin, maxBin)];
+    for (int i = 0; i < this.numBins; i++) {
+      dense[this.sparseBins[i] - minBin] = this.frequencies[i];
+    }
+    this.denseOffset = minBin;
+    this.frequencies = dense;
+    this.sparseBins = null;
+  }
+
+  /**
+   * Switches from the dense to the sparse representation.
+   */
+  protected void toSparse() {
+    int capacity = Math.max(DEFAULT_INITIAL_CAPACITY, 2 * this.numBins);
+    int[] bins = new int[capacity];
+    int[] freqs = new int[capacity];
+    int n = 0;
+    for (int i = 0; i < this.frequencies.length; i++) {
+      if (this.frequencies[i] > 0) {
+        bins[n] = this.denseOffset + i;
+        freqs[n] = this.frequencies[i];
+        n++;
+      }
+    }
+    this.sparseBins = bins;
+    this.frequencies = freqs;
+  }
+
+  /**
+   * Resizes the dense representation, such that it covers the given range.
+   *
+   * @param minBin
+   *        The smallest bin to be covered.
+   * @param maxBin
+   *        The largest bin to be covered.
+   */
+  protected void resizeDense(int minBin, int maxBin) {
+    int[] dense = new int[denseCapacity(minBin, maxBin)];
+    System.arraycopy(this.frequencies, 0, dense, this.denseOffset - minBin,
+        this.frequencies.length);
+    this.denseOffset = minBin;
+    this.frequencies = dense;
+  }
+
+  /**
+   * Returns the capacity of a dense representation that covers the given
+   * range, with some room at the end to avoid frequent resizes.
+   *
+   * @param minBin
+   *        The smallest bin to be covered.
+   * @param maxBin
+   *        The largest bin to be covered.
+   *
+   * @return The capacity.
+   */
+  protected int denseCapacity(int minBin, int maxBin) {
+    int range = maxBin - minBin + 1;
+    return Math.min(MAX_DENSE_RANGE, range + (range >> 1));
+  }
+
+  // ==========================================================================
+
+  @Override
+  public float getMostCommonFloat() {
+    if (this.numBins == 0) {
+      return Float.NaN;
+    }
+    return toFloat(this.mostCommonBin);
+  }
+
+  @Override
+  public float getMostCommonFloatFrequency() {
+    return this.mostCommonFrequency;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public float getAverageFloat() {
+    if (this.numFloats == 0) {
+      return 0;
+    }
+    return (float) (this.sumBins / this.numFloats / BINS_PER_UNIT);
+  }
+
+  @Override
+  public float getPercentile(float p) {
+    if (this.numBins == 0) {
+      return Float.NaN;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(p * (double) this.numFloats));
+    long numSeen = 0;
+    TFloatIntIterator itr = iterator();
+    float f = Float.NaN;
+    while (itr.hasNext()) {
+      itr.advance();
+      f = itr.key();
+      numSeen += itr.value();
+      if (numSeen >= rank) {
+        break;
+      }
+    }
+    return f;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public float[] getFloats() {
+    float[] floats = new float[this.numBins];
+    TFloatIntIterator itr = iterator();
+    for (int i = 0; itr.hasNext(); i++) {
+      itr.advance();
+      floats[i] = itr.key();
+    }
+    return floats;
+  }
+
+  @Override
+  public int getFrequency(float value) {
+    if (Float.isNaN(value) || Float.isInfinite(value)) {
+      return 0;
+    }
+
+    int bin = toBin(value);
+    if (this.sparseBins != null) {
+      int index = Arrays.binarySearch(this.sparseBins, 0, this.numBins, bin);
+      return index >= 0 ? this.frequencies[index] : 0;
+    }
+
+    long index = (long) bin - this.denseOffset;
+    if (index < 0 || index >= this.frequencies.length) {
+      return 0;
+    }
+    return this.frequencies[(int) index];
+  }
+
+  // ==========================================================================
+
+  @Override
+  public TFloatIntIterator iterator() {
+    return new BinIterator();
+  }
+
+  // ==========================================================================
+
+  @Override
+  public boolean isEmpty() {
+    return this.numBins == 0;
+  }
+
+  @Override
+  public int size() {
+    return this.numBins;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the bin of the given float.
+   *
+   * @param f
+   *        The float.
+   *
+   * @return The bin of the given float.
+   */
+  protected static int toBin(float f) {
+    return Math.round(f * BINS_PER_UNIT);
+  }
+
+  /**
+   * Returns the float at the center of the given bin.
+   *
+   * @param bin
+   *        The bin.
+   *
+   * @return The float at the center of the given bin.
+   */
+  protected static float toFloat(int bin) {
+    return bin / BINS_PER_UNIT;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof QuantizedFloatCounter)) {
+      return false;
+    }
+
+    QuantizedFloatCounter other = (QuantizedFloatCounter) o;
+    if (other.numBins != this.numBins) {
+      return false;
+    }
+
+    TFloatIntIterator itr = iterator();
+    TFloatIntIterator otherItr = other.iterator();
+    while (itr.hasNext()) {
+      itr.advance();
+      otherItr.advance();
+      if (itr.key() != otherItr.key() || itr.value() != otherItr.value()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    TFloatIntIterator itr = iterator();
+    while (itr.hasNext()) {
+      itr.advance();
+      hashCode = 31 * hashCode + Float.floatToIntBits(itr.key());
+      hashCode = 31 * hashCode + itr.value();
+    }
+    return hashCode;
+  }
+
+  // ==========================================================================
+
+  /**
+   * An iterator over the bins of this counter, in ascending order of the
+   * bins. The iterator doesn't support modifications of this counter.
+   */
+  protected class BinIterator implements TFloatIntIterator {
+    /**
+     * The position of the current bin.
+     */
+    protected int position = -1;
+
+    /**
+     * The number of visited bins.
+     */
+    protected int numVisited;
+
+    @Override
+    public boolean hasNext() {
+      return this.numVisited < QuantizedFloatCounter.this.numBins;
+    }
+
+    @Override
+    public void advance() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      int[] freqs = QuantizedFloatCounter.this.frequencies;
+      do {
+        this.position++;
+      } while (freqs[this.position] == 0);
+      this.numVisited++;
+    }
+
+    @Override
+    public float key() {
+      QuantizedFloatCounter counter = QuantizedFloatCounter.this;
+      if (counter.sparseBins != null) {
+        return toFloat(counter.sparseBins[this.position]);
+      }
+      return toFloat(counter.denseOffset + this.position);
+    }
+
+    @Override
+    public int value() {
+      return QuantizedFloatCounter.this.frequencies[this.position];
+    }
+
+    @Override
+    public int setValue(int val) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
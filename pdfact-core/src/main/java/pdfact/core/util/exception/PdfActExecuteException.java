@@ -0,0 +1,40 @@
+package pdfact.core.util.exception;
+
+/**
+ * The exception to throw on errors while executing the tasks of a pipe.
+ * 
+ * @author Claudius Korzen
+ */
+public class PdfActExecuteException extends PdfActException {
+  /**
+   * The serial id.
+   */
+  protected static final long serialVersionUID = 4631508722359241183L;
+
+  /**
+   * The default exit code of this exception.
+   */
+  protected static final int EXIT_CODE = 50;
+
+  /**
+   * Creates a new execution exception.
+   * 
+   * @param message
+   *        The error message to show when the exception was caught.
+   */
+  public PdfActExecuteException(String message) {
+    super(EXIT_CODE, message);
+  }
+
+  /**
+   * Creates a new execution exception.
+   * 
+   * @param message
+   *        The error message to show when the exception was caught.
+   * @param cause
+   *        The cause of this exception (can be used to trace the error).
+   */
+  public PdfActExecuteException(String message, Throwable cause) {
+    super(EXIT_CODE, message, cause);
+  }
+}
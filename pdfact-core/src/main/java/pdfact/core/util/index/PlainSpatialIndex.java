@@ -0,0 +1,718 @@
+package pdfact.core.util.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.google.inject.assistedinject.Assisted;
+import com.google.inject.assistedinject.AssistedInject;
+
+import gnu.trove.list.array.TFloatArrayList;
+import gnu.trove.list.array.TIntArrayList;
+
+import pdfact.core.model.Character;
+import pdfact.core.model.HasPosition;
+import pdfact.core.model.Position;
+import pdfact.core.model.Rectangle;
+
+/**
+ * A plain implementation of {@link SpatialIndex}: a static R-tree that is
+ * packed by the Sort-Tile-Recursive (STR) algorithm on creation.
+ *
+ * <p>
+ * The elements are sorted by the x-coordinates of their midpoints and are cut
+ * into vertical slices; the elements of each slice are sorted by the
+ * y-coordinates of their midpoints and are packed into leaves of
+ * {@link #NODE_CAPACITY} elements each. The upper levels of the tree are
+ * packed from the leaves the same way, until there is a single root. The
+ * bounding boxes of the elements and of the nodes are kept in primitive
+ * arrays.
+ *
+ * @param <T>
+ *        The type of the indexed elements.
+ *
+ * @author Claudius Korzen
+ */
+public class PlainSpatialIndex<T extends HasPosition>
+    implements SpatialIndex<T> {
+  /**
+   * The maximum number of children of a node.
+   */
+  protected static final int NODE_CAPACITY = 16;
+
+  /**
+   * The indexed elements, in the order in which they were given (elements
+   * without a position are not indexed).
+   */
+  protected List<T> elements;
+
+  /**
+   * The minX values of the indexed elements.
+   */
+  protected float[] minX;
+
+  /**
+   * The minY values of the indexed elements.
+   */
+  protected float[] minY;
+
+  /**
+   * The maxX values of the indexed elements.
+   */
+  protected float[] maxX;
+
+  /**
+   * The maxY values of the indexed elements.
+   */
+  protected float[] maxY;
+
+  /**
+   * The indexes of the elements, in the order of the leaves.
+   */
+  protected int[] entries;
+
+  /**
+   * The minX values of the bounding boxes of the nodes.
+   */
+  protected TFloatArrayList nodeMinX = new TFloatArrayList();
+
+  /**
+   * The minY values of the bounding boxes of the nodes.
+   */
+  protected TFloatArrayList nodeMinY = new TFloatArrayList();
+
+  /**
+   * The maxX values of the bounding boxes of the nodes.
+   */
+  protected TFloatArrayList nodeMaxX = new TFloatArrayList();
+
+  /**
+   * The maxY values of the bounding boxes of the nodes.
+   */
+  protected TFloatArrayList nodeMaxY = new TFloatArrayList();
+
+  /**
+   * The start positions (inclusive) of the children of the nodes: in
+   * {@link #entries} for leaves and in {@link #nodeChildren} for inner nodes.
+   */
+  protected TIntArrayList nodeStarts = new TIntArrayList();
+
+  /**
+   * The end positions (exclusive) of the children of the nodes.
+   */
+  protected TIntArrayList nodeEnds = new TIntArrayList();
+
+  /**
+   * The children of the inner nodes.
+   */
+  protected TIntArrayList nodeChildren = new TIntArrayList();
+
+  /**
+   * The number of leaves. The nodes 0, ..., numLeaves - 1 are the leaves.
+   */
+  protected int numLeaves;
+
+  /**
+   * The root node, or -1 if this index is empty.
+   */
+  protected int root = -1;
+
+  /**
+   * Creates a new index of the given elements.
+   *
+   * @param elements
+   *        The elements to index.
+   */
+  @AssistedInject
+  public PlainSpatialIndex(@Assisted List<T> elements) {
+    int size = elements != null ? elements.size() : 0;
+    this.elements = new ArrayList<>(size);
+    this.minX = new float[size];
+    this.minY = new float[size];
+    this.maxX = new float[size];
+    this.maxY = new float[size];
+
+    if (elements != null) {
+      for (T element : elements) {
+        int index = this.elements.size();
+        if (element instanceof Character) {
+          // Don't create the position objects of characters stored in a
+          // table.
+          Character character = (Character) element;
+          this.minX[index] = character.getMinX();
+          this.minY[index] = character.getMinY();
+          this.maxX[index] = character.getMaxX();
+          this.maxY[index] = character.getMaxY();
+        } else {
+          Rectangle rect = getRectangle(element);
+          if (rect == null) {
+            continue;
+          }
+          this.minX[index] = rect.getMinX();
+          this.minY[index] = rect.getMinY();
+          this.maxX[index] = rect.getMaxX();
+          this.maxY[index] = rect.getMaxY();
+        }
+        this.elements.add(element);
+      }
+    }
+
+    build();
+  }
+
+  // ==========================================================================
+
+  /**
+   * Packs the tree from the indexed elements.
+   */
+  protected void build() {
+    int n = this.elements.size();
+    if (n == 0) {
+      return;
+    }
+
+    // Pack the elements into the leaves.
+    this.entries = new int[n];
+    for (int i = 0; i < n; i++) {
+      this.entries[i] = i;
+    }
+    sortTileRecursive(this.entries, this.minX, this.minY, this.maxX,
+        this.maxY);
+    for (int start = 0; start < n; start += NODE_CAPACITY) {
+      int end = Math.min(n, start + NODE_CAPACITY);
+      int node = addNode(start, end);
+      for (int i = start; i < end; i++) {
+        extendNode(node, this.entries[i], this.minX, this.minY, this.maxX,
+            this.maxY);
+      }
+    }
+    this.numLeaves = this.nodeStarts.size();
+
+    // Pack the nodes of each level into the nodes of the next upper level.
+    int[] level = new int[this.numLeaves];
+    for (int i = 0; i < level.length; i++) {
+      level[i] = i;
+    }
+    while (level.length > 1) {
+      float[] minXs = this.nodeMinX.toArray();
+      float[] minYs = this.nodeMinY.toArray();
+      float[] maxXs = this.nodeMaxX.toArray();
+      float[] maxYs = this.nodeMaxY.toArray();
+      sortTileRecursive(level, minXs, minYs, maxXs, maxYs);
+
+      int offset = this.nodeChildren.size();
+      this.nodeChildren.add(level);
+
+      int[] upperLevel = new int[(level.length - 1) / NODE_CAPACITY + 1];
+      for (int i = 0; i < upperLevel.length; i++) {
+        int start = i * NODE_CAPACITY;
+        int end = Math.min(level.length, start + NODE_CAPACITY);
+        int node = addNode(offset + start, offset + end);
+        for (int j = start; j < end; j++) {
+          extendNode(node, level[j], minXs, minYs, maxXs, maxYs);
+        }
+        upperLevel[i] = node;
+      }
+      level = upperLevel;
+    }
+    this.root = level[0];
+  }
+
+  /**
+   * Sorts the given ids of boxes in the order of the Sort-Tile-Recursive
+   * algorithm, such that each NODE_CAPACITY consecutive ids can be packed into
+   * a node.
+   *
+   * @param ids
+   *        The ids of the boxes to sort.
+   * @param minXs
+   *        The minX values of the boxes, by id.
+   * @param minYs
+   *        The minY values of the boxes, by id.
+   * @param maxXs
+   *        The maxX values of the boxes, by id.
+   * @param maxYs
+   *        The maxY values of the boxes, by id.
+   */
+  protected static void sortTileRecursive(int[] ids, float[] minXs,
+      float[] minYs, float[] maxXs, float[] maxYs) {
+    int n = ids.length;
+    if (n <= NODE_CAPACITY) {
+      return;
+    }
+    int numNodes = (n - 1) / NODE_CAPACITY + 1;
+    int numSlices = (int) Math.ceil(Math.sqrt(numNodes));
+    int sliceSize = numSlices * NODE_CAPACITY;
+
+    sortByMidpoint(ids, 0, n, minXs, maxXs);
+    for (int start = 0; start < n; start += sliceSize) {
+      sortByMidpoint(ids, start, Math.min(n, start + sliceSize), minYs, maxYs);
+    }
+  }
+
+  /**
+   * Sorts the given range of the given ids of boxes by the midpoints of the
+   * boxes in one dimension (and by the ids on ties).
+   *
+   * @param ids
+   *        The ids of the boxes to sort.
+   * @param start
+   *        The start of the range to sort (inclusive).
+   * @param end
+   *        The end of the range to sort (exclusive).
+   * @param mins
+   *        The minimum coordinates of the boxes in the dimension, by id.
+   * @param maxs
+   *        The maximum coordinates of the boxes in the dimension, by id.
+   */
+  protected static void sortByMidpoint(int[] ids, int start, int end,
+      float[] mins, float[] maxs) {
+    Integer[] range = new Integer[end - start];
+    for (int i = 0; i < range.length; i++) {
+      range[i] = ids[start + i];
+    }
+    // The sum of the coordinates is sufficient to compare the midpoints.
+    Arrays.sort(range, Comparator
+        .<Integer>comparingDouble(id -> (double) mins[id] + maxs[id])
+        .thenComparingInt(id -> id));
+    for (int i = 0; i < range.length; i++) {
+      ids[start + i] = range[i];
+    }
+  }
+
+  /**
+   * Adds a new node with an empty bounding box.
+   *
+   * @param start
+   *        The start position of the children of the node (inclusive).
+   * @param end
+   *        The end position of the children of the node (exclusive).
+   *
+   * @return The new node.
+   */
+  protected int addNode(int start, int end) {
+    this.nodeMinX.add(Float.MAX_VALUE);
+    this.nodeMinY.add(Float.MAX_VALUE);
+    this.nodeMaxX.add(-Float.MAX_VALUE);
+    this.nodeMaxY.add(-Float.MAX_VALUE);
+    this.nodeStarts.add(start);
+    this.nodeEnds.add(end);
+    return this.nodeStarts.size() - 1;
+  }
+
+  /**
+   * Extends the bounding box of the given node by the given box.
+   *
+   * @param node
+   *        The node.
+   * @param id
+   *        The id of the box.
+   * @param minXs
+   *        The minX values of the boxes, by id.
+   * @param minYs
+   *        The minY values of the boxes, by id.
+   * @param maxXs
+   *        The maxX values of the boxes, by id.
+   * @param maxYs
+   *        The maxY values of the boxes, by id.
+   */
+  protected void extendNode(int node, int id, float[] minXs, float[] minYs,
+      float[] maxXs, float[] maxYs) {
+    this.nodeMinX.set(node, Math.min(this.nodeMinX.get(node), minXs[id]));
+    this.nodeMinY.set(node, Math.min(this.nodeMinY.get(node), minYs[id]));
+    this.nodeMaxX.set(node, Math.max(this.nodeMaxX.get(node), maxXs[id]));
+    this.nodeMaxY.set(node, Math.max(this.nodeMaxY.get(node), maxYs[id]));
+  }
+
+  // ==========================================================================
+
+  @Override
+  public List<T> findOverlapping(Rectangle rect) {
+    return find(rect, Query.OVERLAPPING);
+  }
+
+  @Override
+  public List<T> findContained(Rectangle rect) {
+    return find(rect, Query.CONTAINED);
+  }
+
+  @Override
+  public List<T> findContaining(Rectangle rect) {
+    return find(rect, Query.CONTAINING);
+  }
+
+  /**
+   * Returns the elements that match the given query with the given rectangle.
+   *
+   * @param rect
+   *        The rectangle.
+   * @param query
+   *        The query.
+   *
+   * @return The matching elements, in the order in which they were given on
+   *         creating this index.
+   */
+  protected List<T> find(Rectangle rect, Query query) {
+    List<T> result = new ArrayList<>();
+    if (rect == null || this.root < 0) {
+      return result;
+    }
+    float rMinX = rect.getMinX();
+    float rMinY = rect.getMinY();
+    float rMaxX = rect.getMaxX();
+    float rMaxY = rect.getMaxY();
+
+    TIntArrayList matches = new TIntArrayList();
+    TIntArrayList stack = new TIntArrayList();
+    stack.add(this.root);
+    while (!stack.isEmpty()) {
+      int node = stack.removeAt(stack.size() - 1);
+      if (!query.mayMatch(this.nodeMinX.get(node), this.nodeMinY.get(node),
+          this.nodeMaxX.get(node), this.nodeMaxY.get(node), rMinX, rMinY,
+          rMaxX, rMaxY)) {
+        continue;
+      }
+      int start = this.nodeStarts.get(node);
+      int end = this.nodeEnds.get(node);
+      if (node >= this.numLeaves) {
+        for (int i = start; i < end; i++) {
+          stack.add(this.nodeChildren.get(i));
+        }
+        continue;
+      }
+      for (int i = start; i < end; i++) {
+        int e = this.entries[i];
+        if (query.matches(this.minX[e], this.minY[e], this.maxX[e],
+            this.maxY[e], rMinX, rMinY, rMaxX, rMaxY)) {
+          matches.add(e);
+        }
+      }
+    }
+
+    matches.sort();
+    for (int i = 0; i < matches.size(); i++) {
+      result.add(this.elements.get(matches.get(i)));
+    }
+    return result;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public List<T> findNearest(float x, float y, int k) {
+    List<T> result = new ArrayList<>();
+    if (k <= 0 || this.root < 0) {
+      return result;
+    }
+
+    // Visit the nodes and the elements in the order of their distances to the
+    // point. A node is visited before an element with the same distance, such
+    // that elements with the same distance are visited in the given order.
+    PriorityQueue<Candidate> queue = new PriorityQueue<>();
+    queue.add(new Candidate(this.root, false, distance(x, y,
+        this.nodeMinX.get(this.root), this.nodeMinY.get(this.root),
+        this.nodeMaxX.get(this.root), this.nodeMaxY.get(this.root))));
+    while (!queue.isEmpty() && result.size() < k) {
+      Candidate candidate = queue.poll();
+      if (candidate.isElement) {
+        result.add(this.elements.get(candidate.id));
+        continue;
+      }
+      int node = candidate.id;
+      int start = this.nodeStarts.get(node);
+      int end = this.nodeEnds.get(node);
+      for (int i = start; i < end; i++) {
+        if (node >= this.numLeaves) {
+          int child = this.nodeChildren.get(i);
+          queue.add(new Candidate(child, false, distance(x, y,
+              this.nodeMinX.get(child), this.nodeMinY.get(child),
+              this.nodeMaxX.get(child), this.nodeMaxY.get(child))));
+        } else {
+          int e = this.entries[i];
+          queue.add(new Candidate(e, true, distance(x, y, this.minX[e],
+              this.minY[e], this.maxX[e], this.maxY[e])));
+        }
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public T findNearest(float x, float y) {
+    List<T> nearest = findNearest(x, y, 1);
+    return nearest.isEmpty() ? null : nearest.get(0);
+  }
+
+  /**
+   * Computes the squared distance between the given point and the given box.
+   *
+   * @param x
+   *        The x-coordinate of the point.
+   * @param y
+   *        The y-coordinate of the point.
+   * @param minX
+   *        The minX value of the box.
+   * @param minY
+   *        The minY value of the box.
+   * @param maxX
+   *        The maxX value of the box.
+   * @param maxY
+   *        The maxY value of the box.
+   *
+   * @return The squared distance between the point and the box (0 if the box
+   *         contains the point).
+   */
+  protected static double distance(float x, float y, float minX, float minY,
+      float maxX, float maxY) {
+    double dx = Math.max(0, Math.max(minX - x, x - maxX));
+    double dy = Math.max(0, Math.max(minY - y, y - maxY));
+    return dx * dx + dy * dy;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public int size() {
+    return this.elements.size();
+  }
+
+  /**
+   * Returns the rectangle of the given element.
+   *
+   * @param element
+   *        The element.
+   *
+   * @return The rectangle of the given element or null if the element has no
+   *         position.
+   */
+  protected static Rectangle getRectangle(HasPosition element) {
+    if (element == null) {
+      return null;
+    }
+    Position position = element.getPosition();
+    return position != null ? position.getRectangle() : null;
+  }
+
+  // ==========================================================================
+
+  /**
+   * The queries to find elements by a rectangle.
+   *
+   * @author Claudius Korzen
+   */
+  protected enum Query {
+    /**
+     * The query to find the elements that overlap the rectangle.
+     */
+    OVERLAPPING {
+      @Override
+      boolean matches(float minX, float minY, float maxX, float maxY,
+          float rMinX, float rMinY, float rMaxX, float rMaxY) {
+        return overlaps(minX, minY, maxX, maxY, rMinX, rMinY, rMaxX, rMaxY);
+      }
+
+      @Override
+      boolean mayMatch(float minX, float minY, float maxX, float maxY,
+          float rMinX, float rMinY, float rMaxX, float rMaxY) {
+        return overlaps(minX, minY, maxX, maxY, rMinX, rMinY, rMaxX, rMaxY);
+      }
+    },
+
+    /**
+     * The query to find the elements that are contained in the rectangle.
+     */
+    CONTAINED {
+      @Override
+      boolean matches(float minX, float minY, float maxX, float maxY,
+          float rMinX, float rMinY, float rMaxX, float rMaxY) {
+        return contains(rMinX, rMinY, rMaxX, rMaxY, minX, minY, maxX, maxY);
+      }
+
+      @Override
+      boolean mayMatch(float minX, float minY, float maxX, float maxY,
+          float rMinX, float rMinY, float rMaxX, float rMaxY) {
+        return overlaps(minX, minY, maxX, maxY, rMinX, rMinY, rMaxX, rMaxY);
+      }
+    },
+
+    /**
+     * The query to find the elements that contain the rectangle.
+     */
+    CONTAINING {
+      @Override
+      boolean matches(float minX, float minY, float maxX, float maxY,
+          float rMinX, float rMinY, float rMaxX, float rMaxY) {
+        return contains(minX, minY, maxX, maxY, rMinX, rMinY, rMaxX, rMaxY);
+      }
+
+      @Override
+      boolean mayMatch(float minX, float minY, float maxX, float maxY,
+          float rMinX, float rMinY, float rMaxX, float rMaxY) {
+        return contains(minX, minY, maxX, maxY, rMinX, rMinY, rMaxX, rMaxY);
+      }
+    };
+
+    /**
+     * Checks if the given box of an element matches this query.
+     *
+     * @param minX
+     *        The minX value of the box.
+     * @param minY
+     *        The minY value of the box.
+     * @param maxX
+     *        The maxX value of the box.
+     * @param maxY
+     *        The maxY value of the box.
+     * @param rMinX
+     *        The minX value of the rectangle of the query.
+     * @param rMinY
+     *        The minY value of the rectangle of the query.
+     * @param rMaxX
+     *        The maxX value of the rectangle of the query.
+     * @param rMaxY
+     *        The maxY value of the rectangle of the query.
+     *
+     * @return True, if the box matches this query.
+     */
+    abstract boolean matches(float minX, float minY, float maxX, float maxY,
+        float rMinX, float rMinY, float rMaxX, float rMaxY);
+
+    /**
+     * Checks if the given bounding box of a node may contain a box that
+     * matches this query.
+     *
+     * @param minX
+     *        The minX value of the bounding box.
+     * @param minY
+     *        The minY value of the bounding box.
+     * @param maxX
+     *        The maxX value of the bounding box.
+     * @param maxY
+     *        The maxY value of the bounding box.
+     * @param rMinX
+     *        The minX value of the rectangle of the query.
+     * @param rMinY
+     *        The minY value of the rectangle of the query.
+     * @param rMaxX
+     *        The maxX value of the rectangle of the query.
+     * @param rMaxY
+     *        The maxY value of the rectangle of the query.
+     *
+     * @return True, if the bounding box may contain a matching box.
+     */
+    abstract boolean mayMatch(float minX, float minY, float maxX, float maxY,
+        float rMinX, float rMinY, float rMaxX, float rMaxY);
+
+    /**
+     * Checks if the two given boxes overlap, like
+     * {@link Rectangle#overlaps(Rectangle)}.
+     *
+     * @param minX1
+     *        The minX value of the first box.
+     * @param minY1
+     *        The minY value of the first box.
+     * @param maxX1
+     *        The maxX value of the first box.
+     * @param maxY1
+     *        The maxY value of the first box.
+     * @param minX2
+     *        The minX value of the second box.
+     * @param minY2
+     *        The minY value of the second box.
+     * @param maxX2
+     *        The maxX value of the second box.
+     * @param maxY2
+     *        The maxY value of the second box.
+     *
+     * @return True, if the boxes overlap.
+     */
+    static boolean overlaps(float minX1, float minY1, float maxX1,
+        float maxY1, float minX2, float minY2, float maxX2, float maxY2) {
+      return maxX1 >= minX2 && minX1 <= maxX2 && maxY1 >= minY2
+          && minY1 <= maxY2;
+    }
+
+    /**
+     * Checks if the first given box contains the second given box, like
+     * {@link Rectangle#contains(Rectangle)}.
+     *
+     * @param minX1
+     *        The minX value of the first box.
+     * @param minY1
+     *        The minY value of the first box.
+     * @param maxX1
+     *        The maxX value of the first box.
+     * @param maxY1
+     *        The maxY value of the first box.
+     * @param minX2
+     *        The minX value of the second box.
+     * @param minY2
+     *        The minY value of the second box.
+     * @param maxX2
+     *        The maxX value of the second box.
+     * @param maxY2
+     *        The maxY value of the second box.
+     *
+     * @return True, if the first box contains the second box.
+     */
+    static boolean contains(float minX1, float minY1, float maxX1,
+        float maxY1, float minX2, float minY2, float maxX2, float maxY2) {
+      return minX2 >= minX1 && maxX2 <= maxX1 && minY2 >= minY1
+          && maxY2 <= maxY1;
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * A node or an element to visit on finding the nearest elements.
+   *
+   * @author Claudius Korzen
+   */
+  protected static class Candidate implements Comparable<Candidate> {
+    /**
+     * The id of the node or the index of the element.
+     */
+    protected int id;
+
+    /**
+     * The flag that indicates whether this candidate is an element.
+     */
+    protected boolean isElement;
+
+    /**
+     * The squared distance to the point.
+     */
+    protected double distance;
+
+    /**
+     * Creates a new candidate.
+     *
+     * @param id
+     *        The id of the node or the index of the element.
+     * @param isElement
+     *        The flag that indicates whether the candidate is an element.
+     * @param distance
+     *        The squared distance to the point.
+     */
+    public Candidate(int id, boolean isElement, double distance) {
+      this.id = id;
+      this.isElement = isElement;
+      this.distance = distance;
+    }
+
+    @Override
+    public int compareTo(Candidate other) {
+      int result = Double.compare(this.distance, other.distance);
+      if (result != 0) {
+        return result;
+      }
+      if (this.isElement != other.isElement) {
+        return this.isElement ? 1 : -1;
+      }
+      return Integer.compare(this.id, other.id);
+    }
+  }
+}
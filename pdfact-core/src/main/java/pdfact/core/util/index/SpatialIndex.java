@@ -0,0 +1,121 @@
+package pdfact.core.util.index;
+
+import java.util.List;
+
+import pdfact.core.model.HasPosition;
+import pdfact.core.model.Rectangle;
+
+/**
+ * An index of elements by their positions on a page, to find the elements that
+ * overlap or contain a given rectangle (or are contained in the rectangle) and
+ * the elements that are nearest to a given point, without scanning all
+ * elements.
+ * 
+ * <p>
+ * The index is a snapshot of the given elements and of their positions at the
+ * time the index is created. It is not updated on changing the elements.
+ * 
+ * @param <T>
+ *        The type of the indexed elements.
+ * 
+ * @author Claudius Korzen
+ */
+public interface SpatialIndex<T extends HasPosition> {
+  /**
+   * Returns the elements that overlap the given rectangle (that is, whose
+   * rectangles share an area or a border with the given rectangle, as defined
+   * by {@link Rectangle#overlaps(Rectangle)}).
+   * 
+   * @param rect
+   *        The rectangle.
+   * 
+   * @return The elements that overlap the given rectangle, in the order in
+   *         which they were given on creating this index.
+   */
+  List<T> findOverlapping(Rectangle rect);
+
+  /**
+   * Returns the elements that are completely contained in the given
+   * rectangle.
+   * 
+   * @param rect
+   *        The rectangle.
+   * 
+   * @return The elements that are contained in the given rectangle, in the
+   *         order in which they were given on creating this index.
+   */
+  List<T> findContained(Rectangle rect);
+
+  /**
+   * Returns the elements that completely contain the given rectangle.
+   * 
+   * @param rect
+   *        The rectangle.
+   * 
+   * @return The elements that contain the given rectangle, in the order in
+   *         which they were given on creating this index.
+   */
+  List<T> findContaining(Rectangle rect);
+
+  /**
+   * Returns the k elements that are nearest to the given point. The distance
+   * between the point and an element is the distance between the point and
+   * the nearest point of the rectangle of the element (0 if the rectangle
+   * contains the point).
+   * 
+   * @param x
+   *        The x-coordinate of the point.
+   * @param y
+   *        The y-coordinate of the point.
+   * @param k
+   *        The number of elements to find.
+   * 
+   * @return The (at most) k elements that are nearest to the given point,
+   *         sorted by their distances to the point. Elements with the same
+   *         distance are sorted by the order in which they were given on
+   *         creating this index.
+   */
+  List<T> findNearest(float x, float y, int k);
+
+  /**
+   * Returns the element that is nearest to the given point.
+   * 
+   * @param x
+   *        The x-coordinate of the point.
+   * @param y
+   *        The y-coordinate of the point.
+   * 
+   * @return The element that is nearest to the given point or null if this
+   *         index is empty.
+   */
+  T findNearest(float x, float y);
+
+  /**
+   * Returns the number of elements in this index.
+   * 
+   * @return The number of elements in this index.
+   */
+  int size();
+
+  // ==========================================================================
+
+  /**
+   * The factory to create instances of {@link SpatialIndex}.
+   * 
+   * @param <T>
+   *        The type of the indexed elements.
+   * 
+   * @author Claudius Korzen
+   */
+  public interface SpatialIndexFactory<T extends HasPosition> {
+    /**
+     * Creates a new instance of {@link SpatialIndex}.
+     * 
+     * @param elements
+     *        The elements to index.
+     * 
+     * @return A new instance of {@link SpatialIndex}.
+     */
+    SpatialIndex<T> create(List<T> elements);
+  }
+}
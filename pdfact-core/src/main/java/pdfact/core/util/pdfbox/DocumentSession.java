@@ -0,0 +1,93 @@
+package pdfact.core.util.pdfbox;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import pdfact.core.model.MemoryPolicy;
+
+/**
+ * A session on a PDF file that owns a single PDDocument of PDFBox, such that
+ * all pipes that need the PDF file as given by PDFBox (like the parser and
+ * the visualizer) share the same instance instead of loading the PDF file
+ * again. The PDDocument is loaded lazily on the first request and is closed
+ * on closing the session.
+ *
+ * @author Claudius Korzen
+ */
+public interface DocumentSession extends Closeable {
+  /**
+   * Returns the PDF file of this session.
+   *
+   * @return The PDF file of this session.
+   */
+  File getFile();
+
+  /**
+   * Returns the policy that defines how the PDF file is loaded.
+   *
+   * @return The memory policy or null if the default policy is used.
+   */
+  MemoryPolicy getMemoryPolicy();
+
+  /**
+   * Returns the PDF file as given by PDFBox and loads it, if it wasn't loaded
+   * yet. The PDDocument is owned by this session and must not be closed by
+   * the caller. It must not be accessed by multiple threads at once.
+   *
+   * @return The PDF file as given by PDFBox.
+   *
+   * @throws IOException
+   *         If loading the PDF file failed.
+   */
+  PDDocument getPdDocument() throws IOException;
+
+  /**
+   * Returns true if the PDF file was already loaded.
+   *
+   * @return True if the PDF file was already loaded; false otherwise.
+   */
+  boolean isLoaded();
+
+  /**
+   * Returns the registry of the fonts, font faces and colors of the PDF file,
+   * which is shared by all parses of the PDF file in this session (like the
+   * passes of the streaming mode), such that they assign the same ids.
+   *
+   * @return The registry of the fonts, font faces and colors.
+   */
+  ResourceRegistry getResourceRegistry();
+
+  // ==========================================================================
+
+  /**
+   * The factory to create instances of {@link DocumentSession}.
+   *
+   * @author Claudius Korzen
+   */
+  public interface DocumentSessionFactory {
+    /**
+     * Creates a new instance of {@link DocumentSession}.
+     *
+     * @param file
+     *        The PDF file of the session.
+     *
+     * @return A new instance of {@link DocumentSession}.
+     */
+    DocumentSession create(File file);
+
+    /**
+     * Creates a new instance of {@link DocumentSession}.
+     *
+     * @param file
+     *        The PDF file of the session.
+     * @param policy
+     *        The policy that defines how the PDF file is loaded.
+     *
+     * @return A new instance of {@link DocumentSession}.
+     */
+    DocumentSession create(File file, MemoryPolicy policy);
+  }
+}
@@ -0,0 +1,289 @@
+package pdfact.core.util.pdfbox;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+import org.apache.pdfbox.io.RandomAccessRead;
+
+/**
+ * A {@link RandomAccessRead} that reads a file via a memory mapping. The file
+ * is mapped in chunks (since a single mapping is limited to 2 GB), and the
+ * content of the file is paged in by the operating system on demand, so
+ * reading the file doesn't need any buffers on the heap. The mappings are
+ * released on closing the reader (and not only when the mapped buffers are
+ * garbage collected), such that processing many files, like in batch and
+ * server mode, doesn't accumulate mappings of closed files.
+ *
+ * <p>
+ * A reader must not be closed while another thread reads from it, since
+ * accessing a released mapping crashes the virtual machine.
+ *
+ * @author Claudius Korzen
+ */
+public class MappedRandomAccessRead implements RandomAccessRead {
+  /**
+   * The size of a mapped chunk of the file, in bytes.
+   */
+  protected static final int CHUNK_SIZE = 1 << 30;
+
+  /**
+   * The function that releases the mapping of a mapped buffer, or null if
+   * this isn't supported by the running virtual machine (in which case a
+   * mapping is released as soon as its buffer is garbage collected).
+   */
+  protected static final Consumer<ByteBuffer> UNMAPPER = createUnmapper();
+
+  /**
+   * The mapped chunks of the file.
+   */
+  protected MappedByteBuffer[] chunks;
+
+  /**
+   * The length of the file, in bytes.
+   */
+  protected long length;
+
+  /**
+   * The current position in the file.
+   */
+  protected long position;
+
+  /**
+   * The boolean flag that indicates whether this reader was closed.
+   */
+  protected boolean isClosed;
+
+  // ==========================================================================
+
+  /**
+   * Creates a new reader that maps the given file.
+   *
+   * @param file
+   *        The file to read.
+   *
+   * @throws IOException
+   *         If the file couldn't be mapped.
+   */
+  public MappedRandomAccessRead(Path file) throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(file, StandardOpenOption.READ)) {
+      this.length = channel.size();
+      int numChunks = (int) ((this.length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+      this.chunks = new MappedByteBuffer[numChunks];
+      for (int i = 0; i < numChunks; i++) {
+        long offset = (long) i * CHUNK_SIZE;
+        long size = Math.min(CHUNK_SIZE, this.length - offset);
+        this.chunks[i] = channel.map(MapMode.READ_ONLY, offset, size);
+      }
+    }
+  }
+
+  // ==========================================================================
+
+  @Override
+  public int read() throws IOException {
+    checkClosed();
+    if (this.position >= this.length) {
+      return -1;
+    }
+    int chunk = (int) (this.position / CHUNK_SIZE);
+    int offset = (int) (this.position % CHUNK_SIZE);
+    this.position++;
+    return this.chunks[chunk].get(offset) & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b) throws IOException {
+    return read(b, 0, b.length);
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    checkClosed();
+    if (this.position >= this.length) {
+      return -1;
+    }
+    int numBytes = (int) Math.min(len, this.length - this.position);
+    int numRead = 0;
+    while (numRead < numBytes) {
+      int chunk = (int) (this.position / CHUNK_SIZE);
+      int offset = (int) (this.position % CHUNK_SIZE);
+      int n = Math.min(numBytes - numRead, CHUNK_SIZE - offset);
+      // Read from a duplicate, such that the mapped chunk keeps its position.
+      ByteBuffer buffer = this.chunks[chunk].duplicate();
+      buffer.position(offset);
+      buffer.get(b, off + numRead, n);
+      numRead += n;
+      this.position += n;
+    }
+    return numRead;
+  }
+
+  @Override
+  public byte[] readFully(int length) throws IOException {
+    byte[] bytes = new byte[length];
+    int numRead = 0;
+    while (numRead < length) {
+      int n = read(bytes, numRead, length - numRead);
+      if (n < 0) {
+        throw new EOFException("Premature end of file.");
+      }
+      numRead += n;
+    }
+    return bytes;
+  }
+
+  @Override
+  public int peek() throws IOException {
+    int b = read();
+    if (b != -1) {
+      rewind(1);
+    }
+    return b;
+  }
+
+  @Override
+  public void rewind(int bytes) throws IOException {
+    seek(getPosition() - bytes);
+  }
+
+  // ==========================================================================
+
+  @Override
+  public long getPosition() throws IOException {
+    checkClosed();
+    return this.position;
+  }
+
+  @Override
+  public void seek(long position) throws IOException {
+    checkClosed();
+    if (position < 0) {
+      throw new IOException("Invalid position: " + position);
+    }
+    this.position = position;
+  }
+
+  @Override
+  public long length() throws IOException {
+    checkClosed();
+    return this.length;
+  }
+
+  @Override
+  public boolean isEOF() throws IOException {
+    return peek() == -1;
+  }
+
+  @Override
+  public int available() throws IOException {
+    checkClosed();
+    return (int) Math.min(Math.max(0, this.length - this.position),
+        Integer.MAX_VALUE);
+  }
+
+  // ==========================================================================
+
+  @Override
+  public boolean isClosed() {
+    return this.isClosed;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (this.isClosed) {
+      return;
+    }
+    MappedByteBuffer[] chunks = this.chunks;
+    this.chunks = null;
+    this.isClosed = true;
+
+    if (UNMAPPER != null) {
+      for (MappedByteBuffer chunk : chunks) {
+        UNMAPPER.accept(chunk);
+      }
+    }
+  }
+
+  /**
+   * Checks if this reader was closed.
+   *
+   * @throws IOException
+   *         If this reader was closed.
+   */
+  protected void checkClosed() throws IOException {
+    if (this.isClosed) {
+      throw new IOException("The reader is already closed.");
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * Creates the function that releases the mapping of a mapped buffer. There
+   * is no public API to do so, so use sun.misc.Unsafe.invokeCleaner() on
+   * Java 9 and newer and the cleaner of the buffer on Java 8.
+   *
+   * @return The function, or null if the mappings of buffers can't be
+   *         released explicitly by the running virtual machine.
+   */
+  protected static Consumer<ByteBuffer> createUnmapper() {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Method invokeCleaner =
+          unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      Object unsafe = theUnsafe.get(null);
+      return buffer -> invoke(invokeCleaner, unsafe, buffer);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Not Java 9 or newer, try the cleaner of Java 8.
+    }
+
+    try {
+      Class<?> directBufferClass = Class.forName("sun.nio.ch.DirectBuffer");
+      Method cleaner = directBufferClass.getMethod("cleaner");
+      Method clean = cleaner.getReturnType().getMethod("clean");
+      return buffer -> {
+        Object bufferCleaner = invoke(cleaner, buffer);
+        if (bufferCleaner != null) {
+          invoke(clean, bufferCleaner);
+        }
+      };
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Mappings can't be released explicitly.
+    }
+    return null;
+  }
+
+  /**
+   * Invokes the given method and ignores any failure (in which case the
+   * mapping is released by the garbage collector).
+   *
+   * @param method
+   *        The method to invoke.
+   * @param object
+   *        The object on which to invoke the method.
+   * @param args
+   *        The arguments of the method.
+   *
+   * @return The result of the method, or null if the invocation failed.
+   */
+  protected static Object invoke(Method method, Object object,
+      Object... args) {
+    try {
+      return method.invoke(object, args);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+}
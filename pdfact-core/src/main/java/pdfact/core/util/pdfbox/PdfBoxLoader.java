@@ -0,0 +1,36 @@
+package pdfact.core.util.pdfbox;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import pdfact.core.model.MemoryPolicy;
+
+/**
+ * A loader that loads PDF files into PDDocuments of PDFBox, according to a
+ * given memory policy. The memory policy defines whether the data of a
+ * loaded PDF file (like the decoded streams) is buffered in main memory, in
+ * a temporary file or in main memory up to a maximum size (and in a
+ * temporary file beyond), and whether the PDF file is read via a memory
+ * mapping instead of buffered file access.
+ *
+ * @author Claudius Korzen
+ */
+public interface PdfBoxLoader {
+  /**
+   * Loads the given PDF file according to the given memory policy.
+   *
+   * @param file
+   *        The PDF file to load.
+   * @param policy
+   *        The memory policy or null if the default policy of PDFBox should
+   *        be used.
+   *
+   * @return The loaded PDF document. It must be closed by the caller.
+   *
+   * @throws IOException
+   *         If loading the PDF file failed.
+   */
+  PDDocument load(File file, MemoryPolicy policy) throws IOException;
+}
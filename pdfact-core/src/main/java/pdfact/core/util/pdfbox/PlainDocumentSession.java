@@ -0,0 +1,127 @@
+package pdfact.core.util.pdfbox;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import com.google.inject.assistedinject.Assisted;
+import com.google.inject.assistedinject.AssistedInject;
+
+import pdfact.core.model.MemoryPolicy;
+import pdfact.core.util.log.InjectLogger;
+
+/**
+ * A plain implementation of {@link DocumentSession}.
+ *
+ * @author Claudius Korzen
+ */
+public class PlainDocumentSession implements DocumentSession {
+  /**
+   * The logger.
+   */
+  @InjectLogger
+  protected static Logger log;
+
+  /**
+   * The loader to load the PDF file.
+   */
+  protected PdfBoxLoader loader;
+
+  /**
+   * The PDF file of this session.
+   */
+  protected File file;
+
+  /**
+   * The policy that defines how the PDF file is loaded (null if the default
+   * policy should be used).
+   */
+  protected MemoryPolicy memoryPolicy;
+
+  /**
+   * The PDF file as given by PDFBox (null if it wasn't loaded yet).
+   */
+  protected PDDocument pdDocument;
+
+  /**
+   * The registry of the fonts, font faces and colors of the PDF file.
+   */
+  protected ResourceRegistry resourceRegistry = new ResourceRegistry();
+
+  // ==========================================================================
+
+  /**
+   * Creates a new session.
+   *
+   * @param loader
+   *        The loader to load the PDF file.
+   * @param file
+   *        The PDF file of the session.
+   */
+  @AssistedInject
+  public PlainDocumentSession(PdfBoxLoader loader, @Assisted File file) {
+    this.loader = loader;
+    this.file = file;
+  }
+
+  /**
+   * Creates a new session.
+   *
+   * @param loader
+   *        The loader to load the PDF file.
+   * @param file
+   *        The PDF file of the session.
+   * @param policy
+   *        The policy that defines how the PDF file is loaded.
+   */
+  @AssistedInject
+  public PlainDocumentSession(PdfBoxLoader loader, @Assisted File file,
+      @Assisted MemoryPolicy policy) {
+    this(loader, file);
+    this.memoryPolicy = policy;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public File getFile() {
+    return this.file;
+  }
+
+  @Override
+  public MemoryPolicy getMemoryPolicy() {
+    return this.memoryPolicy;
+  }
+
+  @Override
+  public synchronized PDDocument getPdDocument() throws IOException {
+    if (this.pdDocument == null) {
+      log.debug("Loading " + this.file + " for the session.");
+      this.pdDocument = this.loader.load(this.file, this.memoryPolicy);
+    }
+    return this.pdDocument;
+  }
+
+  @Override
+  public synchronized boolean isLoaded() {
+    return this.pdDocument != null;
+  }
+
+  @Override
+  public ResourceRegistry getResourceRegistry() {
+    return this.resourceRegistry;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (this.pdDocument != null) {
+      try {
+        this.pdDocument.close();
+      } finally {
+        this.pdDocument = null;
+      }
+    }
+  }
+}
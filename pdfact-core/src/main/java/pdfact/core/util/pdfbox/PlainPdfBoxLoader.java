@@ -0,0 +1,84 @@
+package pdfact.core.util.pdfbox;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessBufferedFileInputStream;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.ScratchFile;
+import org.apache.pdfbox.pdfparser.PDFParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import pdfact.core.model.MemoryPolicy;
+import pdfact.core.util.log.InjectLogger;
+
+/**
+ * A plain implementation of {@link PdfBoxLoader}.
+ *
+ * @author Claudius Korzen
+ */
+public class PlainPdfBoxLoader implements PdfBoxLoader {
+  /**
+   * The logger.
+   */
+  @InjectLogger
+  protected static Logger log;
+
+  @Override
+  public PDDocument load(File file, MemoryPolicy policy) throws IOException {
+    if (policy == null) {
+      return PDDocument.load(file);
+    }
+
+    log.debug("Loading " + file + " with " + policy + ".");
+
+    RandomAccessRead source = policy.isMemoryMapped()
+        ? new MappedRandomAccessRead(file.toPath())
+        : new RandomAccessBufferedFileInputStream(file);
+    ScratchFile scratchFile = null;
+    try {
+      scratchFile = new ScratchFile(toMemoryUsageSetting(policy));
+      PDFParser parser = new PDFParser(source, "", null, null, scratchFile);
+      parser.parse();
+      // The document takes the ownership of the source and the scratch file.
+      return parser.getPDDocument();
+    } catch (IOException e) {
+      IOUtils.closeQuietly(scratchFile);
+      IOUtils.closeQuietly(source);
+      throw e;
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * Translates the given memory policy to the memory usage setting of PDFBox.
+   *
+   * @param policy
+   *        The memory policy.
+   *
+   * @return The memory usage setting.
+   */
+  protected MemoryUsageSetting toMemoryUsageSetting(MemoryPolicy policy) {
+    MemoryUsageSetting setting;
+    switch (policy.getMode()) {
+      case TEMP_FILE:
+        setting = MemoryUsageSetting.setupTempFileOnly();
+        break;
+      case MIXED:
+        setting = MemoryUsageSetting.setupMixed(policy.getMaxMainMemory());
+        break;
+      case MAIN_MEMORY:
+      default:
+        setting = MemoryUsageSetting.setupMainMemoryOnly();
+        break;
+    }
+    if (policy.getTempDirectory() != null) {
+      setting.setTempDir(policy.getTempDirectory().toFile());
+    }
+    return setting;
+  }
+}
@@ -0,0 +1,99 @@
+package pdfact.core.util.pdfbox;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import pdfact.core.model.Color;
+import pdfact.core.model.Font;
+import pdfact.core.model.FontFace;
+
+/**
+ * The fonts, font faces and colors that were converted so far while parsing a
+ * single PDF file, together with the number of ids assigned to them. Each PDF
+ * file has its own registry, such that the ids in the output of a PDF file
+ * don't depend on the PDF files processed before (and the registry is freed
+ * together with the PDF file).
+ *
+ * <p>
+ * The registry is not synchronized; the converters synchronize on the
+ * registry itself while accessing it.
+ *
+ * @author Claudius Korzen
+ */
+public class ResourceRegistry {
+  /**
+   * The known fonts per normalized name.
+   */
+  protected Map<String, Font> fonts = new HashMap<>();
+
+  /**
+   * The known font faces per key.
+   */
+  protected Map<String, FontFace> fontFaces = new HashMap<>();
+
+  /**
+   * The known colors per name.
+   */
+  protected Map<String, Color> colors = new HashMap<>();
+
+  /**
+   * The number of ids assigned to fonts so far.
+   */
+  protected int numAssignedFontIds;
+
+  /**
+   * The number of ids assigned to colors so far.
+   */
+  protected int numAssignedColorIds;
+
+  // ==========================================================================
+
+  /**
+   * Returns the known fonts per normalized name.
+   *
+   * @return The known fonts.
+   */
+  public Map<String, Font> getFonts() {
+    return this.fonts;
+  }
+
+  /**
+   * Returns the known font faces per key.
+   *
+   * @return The known font faces.
+   */
+  public Map<String, FontFace> getFontFaces() {
+    return this.fontFaces;
+  }
+
+  /**
+   * Returns the known colors per name.
+   *
+   * @return The known colors.
+   */
+  public Map<String, Color> getColors() {
+    return this.colors;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the number of the next id to be assigned to a font and counts it
+   * as assigned.
+   *
+   * @return The number of the next font id, starting at 0.
+   */
+  public int nextFontId() {
+    return this.numAssignedFontIds++;
+  }
+
+  /**
+   * Returns the number of the next id to be assigned to a color and counts it
+   * as assigned.
+   *
+   * @return The number of the next color id, starting at 0.
+   */
+  public int nextColorId() {
+    return this.numAssignedColorIds++;
+  }
+}
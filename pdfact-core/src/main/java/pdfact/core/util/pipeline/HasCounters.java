@@ -0,0 +1,19 @@
+package pdfact.core.util.pipeline;
+
+import java.util.Map;
+
+/**
+ * An interface that is implemented by pipes (and other components) that count
+ * the elements they have processed, produced or removed.
+ * 
+ * @author Claudius Korzen
+ */
+public interface HasCounters {
+  /**
+   * Returns the current values of the counters of this component, keyed by
+   * the names of the counters (e.g., "processed-characters").
+   * 
+   * @return The values of the counters of this component, in a stable order.
+   */
+  Map<String, Integer> getCounters();
+}
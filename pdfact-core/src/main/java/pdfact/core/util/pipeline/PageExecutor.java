@@ -0,0 +1,110 @@
+package pdfact.core.util.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import pdfact.core.model.Page;
+import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.exception.PdfActExecuteException;
+
+/**
+ * A class that executes a task for each page of a PDF document, either
+ * sequentially in the calling thread or in parallel in a given fork-join pool.
+ * In both cases, this method returns not until the task was executed for all
+ * pages, so it acts as a barrier between per-page steps and document-level
+ * steps.
+ * 
+ * @author Claudius Korzen
+ */
+public class PageExecutor {
+  /**
+   * Executes the given task for each of the given pages. Null pages are
+   * skipped.
+   * 
+   * @param pages
+   *        The pages to process.
+   * @param pool
+   *        The pool in which the tasks should be executed. If null, the tasks
+   *        are executed sequentially in the calling thread.
+   * @param task
+   *        The task to execute for each page.
+   * 
+   * @throws PdfActException
+   *         If the task failed for a page. If the task failed for multiple
+   *         pages, the exception of the page with the smallest index is thrown.
+   */
+  public static void execute(List<Page> pages, ForkJoinPool pool,
+      PageTask task) throws PdfActException {
+    if (pages == null || task == null) {
+      return;
+    }
+
+    // Execute the tasks sequentially if there is nothing to parallelize.
+    if (pool == null || pool.getParallelism() < 2 || pages.size() < 2) {
+      for (Page page : pages) {
+        if (page != null) {
+          task.process(page);
+        }
+      }
+      return;
+    }
+
+    List<Callable<Void>> callables = new ArrayList<>(pages.size());
+    for (Page page : pages) {
+      if (page != null) {
+        // Attribute the usage of the worker threads to the calling pipe.
+        callables.add(ResourceMeter.wrap(() -> {
+          task.process(page);
+          return null;
+        }));
+      }
+    }
+
+    // Wait for all tasks and report the errors in page order.
+    for (Future<Void> future : pool.invokeAll(callables)) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PdfActExecuteException("Interrupted while processing pages.",
+            e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof PdfActException) {
+          throw (PdfActException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new PdfActExecuteException("Couldn't process a page.", cause);
+      }
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * A task to be executed for a single page.
+   * 
+   * @author Claudius Korzen
+   */
+  public interface PageTask {
+    /**
+     * Processes the given page.
+     * 
+     * @param page
+     *        The page to process.
+     * 
+     * @throws PdfActException
+     *         If something went wrong while processing the page.
+     */
+    void process(Page page) throws PdfActException;
+  }
+}
@@ -0,0 +1,29 @@
+package pdfact.core.util.pipeline;
+
+import pdfact.core.model.Page;
+import pdfact.core.model.PdfDocument;
+import pdfact.core.util.exception.PdfActException;
+
+/**
+ * A listener that is notified by the core pipe each time a page was processed
+ * in streaming mode, for example to serialize the page. The page is released
+ * after the listener was notified, so the listener must not keep a reference
+ * to it.
+ *
+ * @author Claudius Korzen
+ */
+public interface PageListener {
+  /**
+   * Handles a processed page.
+   *
+   * @param pdf
+   *        The PDF document to which the page belongs to. It doesn't contain
+   *        any pages, but the statistics about the whole document.
+   * @param page
+   *        The processed page, tokenized into text lines and words.
+   *
+   * @throws PdfActException
+   *         If handling the page failed.
+   */
+  void pageProcessed(PdfDocument pdf, Page page) throws PdfActException;
+}
@@ -0,0 +1,28 @@
+package pdfact.core.util.pipeline;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A pipe whose work can be split into independent tasks (usually one task per
+ * page) that may be executed in parallel.
+ * 
+ * @author Claudius Korzen
+ */
+public interface ParallelizablePipe extends Pipe {
+  /**
+   * Returns the pool in which the tasks of this pipe are executed.
+   * 
+   * @return The pool in which the tasks of this pipe are executed, or null if
+   *         the tasks are executed sequentially in the calling thread.
+   */
+  ForkJoinPool getForkJoinPool();
+
+  /**
+   * Sets the pool in which the tasks of this pipe should be executed.
+   * 
+   * @param pool
+   *        The pool in which the tasks of this pipe should be executed. If
+   *        null, the tasks are executed sequentially in the calling thread.
+   */
+  void setForkJoinPool(ForkJoinPool pool);
+}
@@ -0,0 +1,116 @@
+package pdfact.core.util.pipeline;
+
+import java.util.Map;
+
+/**
+ * The metrics of a single execution of a pipe: the elapsed wall time, the
+ * consumed CPU time, the allocated bytes and the values of the counters of the
+ * pipe.
+ * 
+ * @author Claudius Korzen
+ */
+public interface PipeMetrics {
+  /**
+   * Returns the name of the executed pipe.
+   * 
+   * @return The name of the executed pipe.
+   */
+  String getPipeName();
+
+  /**
+   * Sets the name of the executed pipe.
+   * 
+   * @param name
+   *        The name of the executed pipe.
+   */
+  void setPipeName(String name);
+
+  // ==========================================================================
+
+  /**
+   * Returns the elapsed wall time of the execution, in nanoseconds.
+   * 
+   * @return The elapsed wall time of the execution, in nanoseconds.
+   */
+  long getWallTime();
+
+  /**
+   * Sets the elapsed wall time of the execution, in nanoseconds.
+   * 
+   * @param wallTime
+   *        The elapsed wall time of the execution, in nanoseconds.
+   */
+  void setWallTime(long wallTime);
+
+  // ==========================================================================
+
+  /**
+   * Returns the CPU time consumed by the execution (summed up over all threads
+   * that worked on behalf of the pipe), in nanoseconds.
+   * 
+   * @return The consumed CPU time in nanoseconds, or -1 if the JVM doesn't
+   *         support measuring the CPU time of threads.
+   */
+  long getCpuTime();
+
+  /**
+   * Sets the CPU time consumed by the execution, in nanoseconds.
+   * 
+   * @param cpuTime
+   *        The consumed CPU time in nanoseconds, or -1 if unknown.
+   */
+  void setCpuTime(long cpuTime);
+
+  // ==========================================================================
+
+  /**
+   * Returns the number of bytes allocated by the execution (summed up over all
+   * threads that worked on behalf of the pipe).
+   * 
+   * @return The number of allocated bytes, or -1 if the JVM doesn't support
+   *         measuring the allocations of threads.
+   */
+  long getAllocatedBytes();
+
+  /**
+   * Sets the number of bytes allocated by the execution.
+   * 
+   * @param allocatedBytes
+   *        The number of allocated bytes, or -1 if unknown.
+   */
+  void setAllocatedBytes(long allocatedBytes);
+
+  // ==========================================================================
+
+  /**
+   * Returns the values of the counters of the pipe after the execution.
+   * 
+   * @return The values of the counters of the pipe, keyed by their names. The
+   *         map is empty if the pipe doesn't count anything.
+   */
+  Map<String, Integer> getCounters();
+
+  /**
+   * Sets the values of the counters of the pipe after the execution.
+   * 
+   * @param counters
+   *        The values of the counters of the pipe, keyed by their names.
+   */
+  void setCounters(Map<String, Integer> counters);
+
+  // ==========================================================================
+
+  /**
+   * The factory to create instances of {@link PipeMetrics}.
+   * 
+   * @author Claudius Korzen
+   */
+  public interface PipeMetricsFactory {
+    /**
+     * Creates new (empty) metrics.
+     * 
+     * @return A new instance of {@link PipeMetrics}.
+     */
+    PipeMetrics create();
+  }
+}
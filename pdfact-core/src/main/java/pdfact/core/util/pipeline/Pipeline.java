@@ -61,6 +61,40 @@ public interface Pipeline {
 
   // ==========================================================================
 
+  /**
+   * Returns the listeners that are notified each time a pipe was executed.
+   * 
+   * @return The list of registered listeners.
+   */
+  List<PipelineListener> getListeners();
+
+  /**
+   * Registers the given listeners to this pipeline.
+   * 
+   * @param listeners
+   *        The listeners to register.
+   */
+  void addListeners(List<PipelineListener> listeners);
+
+  /**
+   * Registers the given listener to this pipeline.
+   * 
+   * @param listener
+   *        The listener to register.
+   */
+  void addListener(PipelineListener listener);
+
+  /**
+   * Returns the metrics of the pipes executed on the last call of
+   * {@link #process(PdfDocument)}, in the order in which the pipes were
+   * executed.
+   * 
+   * @return The metrics of the executed pipes.
+   */
+  List<PipeMetrics> getMetrics();
+
+  // ==========================================================================
+
   /**
    * Returns the number of pipes in this pipeline.
    * 
@@ -0,0 +1,26 @@
+package pdfact.core.util.pipeline;
+
+import pdfact.core.model.PdfDocument;
+
+/**
+ * A listener that is notified by a {@link Pipeline} each time a pipe was
+ * executed, for example to collect the metrics of the pipes in a report or to
+ * forward them to a monitoring system.
+ * 
+ * <p>
+ * A listener may be registered to several pipelines that process different
+ * documents concurrently, so implementations must be thread-safe.
+ * 
+ * @author Claudius Korzen
+ */
+public interface PipelineListener {
+  /**
+   * Handles the execution of a pipe.
+   * 
+   * @param pdf
+   *        The PDF document that was passed to the pipe.
+   * @param metrics
+   *        The metrics of the execution.
+   */
+  void pipeExecuted(PdfDocument pdf, PipeMetrics metrics);
+}
@@ -0,0 +1,116 @@
+package pdfact.core.util.pipeline;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.google.inject.assistedinject.AssistedInject;
+
+/**
+ * A plain implementation of {@link PipeMetrics}.
+ * 
+ * @author Claudius Korzen
+ */
+public class PlainPipeMetrics implements PipeMetrics {
+  /**
+   * The name of the executed pipe.
+   */
+  protected String pipeName;
+
+  /**
+   * The elapsed wall time, in nanoseconds.
+   */
+  protected long wallTime;
+
+  /**
+   * The consumed CPU time, in nanoseconds.
+   */
+  protected long cpuTime = -1;
+
+  /**
+   * The number of allocated bytes.
+   */
+  protected long allocatedBytes = -1;
+
+  /**
+   * The values of the counters of the pipe.
+   */
+  protected Map<String, Integer> counters = Collections.emptyMap();
+
+  // ==========================================================================
+
+  /**
+   * Creates new (empty) metrics.
+   */
+  @AssistedInject
+  public PlainPipeMetrics() {
+  }
+
+  // ==========================================================================
+
+  @Override
+  public String getPipeName() {
+    return this.pipeName;
+  }
+
+  @Override
+  public void setPipeName(String name) {
+    this.pipeName = name;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public long getWallTime() {
+    return this.wallTime;
+  }
+
+  @Override
+  public void setWallTime(long wallTime) {
+    this.wallTime = wallTime;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public long getCpuTime() {
+    return this.cpuTime;
+  }
+
+  @Override
+  public void setCpuTime(long cpuTime) {
+    this.cpuTime = cpuTime;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public long getAllocatedBytes() {
+    return this.allocatedBytes;
+  }
+
+  @Override
+  public void setAllocatedBytes(long allocatedBytes) {
+    this.allocatedBytes = allocatedBytes;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public Map<String, Integer> getCounters() {
+    return this.counters;
+  }
+
+  @Override
+  public void setCounters(Map<String, Integer> counters) {
+    this.counters = counters;
+  }
+
+  // ==========================================================================
+
+  @Override
+  public String toString() {
+    return "PlainPipeMetrics(pipe: " + this.pipeName + ", wall: "
+        + this.wallTime + ", cpu: " + this.cpuTime + ", alloc: "
+        + this.allocatedBytes + ", counters: " + this.counters + ")";
+  }
+}
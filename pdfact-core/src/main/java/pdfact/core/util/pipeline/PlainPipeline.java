@@ -1,12 +1,14 @@
 package pdfact.core.util.pipeline;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.google.inject.assistedinject.AssistedInject;
 
 import pdfact.core.model.PdfDocument;
 import pdfact.core.util.exception.PdfActException;
+import pdfact.core.util.pipeline.PipeMetrics.PipeMetricsFactory;
 
 /**
  * A plain implementation of {@link Pipeline}.
@@ -14,28 +16,68 @@ import pdfact.core.util.exception.PdfActException;
  * @author Claudius Korzen
  */
 public class PlainPipeline implements Pipeline {
+  /**
+   * The factory to create the metrics of the pipes.
+   */
+  protected PipeMetricsFactory metricsFactory;
+
   /**
    * The registered pipes.
    */
   protected List<Pipe> pipes;
 
+  /**
+   * The registered listeners.
+   */
+  protected List<PipelineListener> listeners;
+
+  /**
+   * The metrics of the pipes executed on the last processing.
+   */
+  protected List<PipeMetrics> metrics;
+
   /**
    * Creates an empty pipeline.
+   * 
+   * @param metricsFactory
+   *        The factory to create the metrics of the pipes.
    */
   @AssistedInject
-  public PlainPipeline() {
+  public PlainPipeline(PipeMetricsFactory metricsFactory) {
+    this.metricsFactory = metricsFactory;
     this.pipes = new ArrayList<>();
+    this.listeners = new ArrayList<>();
+    this.metrics = Collections.emptyList();
   }
 
   // ==========================================================================
 
   @Override
   public PdfDocument process(PdfDocument pdf) throws PdfActException {
-    System.out.println(pdf.getFile());
+    List<PipeMetrics> metrics = new ArrayList<>(size());
     PdfDocument processed = pdf;
     for (Pipe pipe : this.pipes) {
-      processed = pipe.execute(processed);
+      PdfDocument input = processed;
+      ResourceMeter meter = new ResourceMeter();
+      long start = System.nanoTime();
+      processed = meter.measure(() -> pipe.execute(input));
+      long wallTime = System.nanoTime() - start;
+
+      PipeMetrics pipeMetrics = this.metricsFactory.create();
+      pipeMetrics.setPipeName(pipe.getClass().getSimpleName());
+      pipeMetrics.setWallTime(wallTime);
+      pipeMetrics.setCpuTime(meter.getCpuTime());
+      pipeMetrics.setAllocatedBytes(meter.getAllocatedBytes());
+      if (pipe instanceof HasCounters) {
+        pipeMetrics.setCounters(((HasCounters) pipe).getCounters());
+      }
+      metrics.add(pipeMetrics);
+
+      for (PipelineListener listener : this.listeners) {
+        listener.pipeExecuted(input, pipeMetrics);
+      }
     }
+    this.metrics = metrics;
     return processed;
   }
 
@@ -63,6 +105,32 @@ public class PlainPipeline implements Pipeline {
 
   // ==========================================================================
 
+  @Override
+  public List<PipelineListener> getListeners() {
+    return this.listeners;
+  }
+
+  @Override
+  public void addListeners(List<PipelineListener> listeners) {
+    if (listeners != null) {
+      this.listeners.addAll(listeners);
+    }
+  }
+
+  @Override
+  public void addListener(PipelineListener listener) {
+    if (listener != null) {
+      this.listeners.add(listener);
+    }
+  }
+
+  @Override
+  public List<PipeMetrics> getMetrics() {
+    return this.metrics;
+  }
+
+  // ==========================================================================
+
   @Override
   public int size() {
     return this.pipes != null ? this.pipes.size() : 0;
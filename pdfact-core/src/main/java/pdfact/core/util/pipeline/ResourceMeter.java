@@ -0,0 +1,276 @@
+package pdfact.core.util.pipeline;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A meter of the CPU time and of the bytes allocated by a unit of work (like
+ * the execution of a pipe), including the work that is done in other threads
+ * on behalf of the unit (like the per-page tasks in a fork-join pool).
+ * 
+ * <p>
+ * The work done in the calling thread is measured by
+ * {@link #measure(MeteredTask)}. Tasks that are handed over to other threads
+ * must be wrapped by {@link #wrap(Callable)}, such that their usage is added to
+ * the meter that was active in the handing thread (and to the meters that
+ * enclose this meter).
+ * 
+ * @author Claudius Korzen
+ */
+public class ResourceMeter {
+  /**
+   * The bean to read the CPU times and the allocated bytes of threads.
+   */
+  protected static final ThreadMXBean THREAD_MX_BEAN =
+      ManagementFactory.getThreadMXBean();
+
+  /**
+   * The flag that indicates whether the CPU time of threads can be measured.
+   */
+  protected static final boolean IS_CPU_TIME_SUPPORTED = isCpuTimeSupported();
+
+  /**
+   * The flag that indicates whether the allocated bytes of threads can be
+   * measured.
+   */
+  protected static final boolean IS_ALLOCATION_SUPPORTED =
+      isAllocationSupported();
+
+  /**
+   * The meter that is active in the current thread.
+   */
+  protected static final ThreadLocal<ResourceMeter> ACTIVE_METER =
+      new ThreadLocal<>();
+
+  /**
+   * The meter that was active when this meter was started.
+   */
+  protected ResourceMeter parent;
+
+  /**
+   * The consumed CPU time, in nanoseconds.
+   */
+  protected AtomicLong cpuTime = new AtomicLong();
+
+  /**
+   * The number of allocated bytes.
+   */
+  protected AtomicLong allocatedBytes = new AtomicLong();
+
+  // ==========================================================================
+
+  /**
+   * Executes the given task in the calling thread, with this meter as the
+   * active meter, and adds the CPU time and the allocated bytes of the task
+   * to this meter.
+   * 
+   * @param task
+   *        The task to execute.
+   * 
+   * @return The result of the task.
+   * 
+   * @param <T>
+   *        The type of the result of the task.
+   * @param <E>
+   *        The type of the exception thrown by the task.
+   * 
+   * @throws E
+   *         If the task failed.
+   */
+  public <T, E extends Exception> T measure(MeteredTask<T, E> task) throws E {
+    ResourceMeter active = ACTIVE_METER.get();
+    if (encloses(active)) {
+      // The usage of the current thread is already measured by this meter
+      // (e.g., because a fork-join pool executes a task in the waiting thread).
+      return task.call();
+    }
+
+    long startCpuTime = getCurrentThreadCpuTime();
+    long startAllocatedBytes = getCurrentThreadAllocatedBytes();
+    if (active != null) {
+      this.parent = active;
+    }
+    ACTIVE_METER.set(this);
+    try {
+      return task.call();
+    } finally {
+      ACTIVE_METER.set(active);
+      long cpu = getCurrentThreadCpuTime() - startCpuTime;
+      long bytes = getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+      if (active != null) {
+        // The enclosing meters measure the current thread themselves.
+        this.cpuTime.addAndGet(cpu);
+        this.allocatedBytes.addAndGet(bytes);
+      } else {
+        // The current thread works on behalf of this meter (or is the first
+        // thread measured by this meter), so the enclosing meters don't know
+        // about this usage.
+        for (ResourceMeter m = this; m != null; m = m.parent) {
+          m.cpuTime.addAndGet(cpu);
+          m.allocatedBytes.addAndGet(bytes);
+        }
+      }
+    }
+  }
+
+  /**
+   * Wraps the given task, such that its usage is added to the meter that is
+   * active in the calling thread, no matter in which thread the task is
+   * executed. Returns the given task itself if there is no active meter.
+   * 
+   * @param task
+   *        The task to wrap.
+   * 
+   * @return The wrapped task.
+   * 
+   * @param <T>
+   *        The type of the result of the task.
+   */
+  public static <T> Callable<T> wrap(Callable<T> task) {
+    ResourceMeter meter = ACTIVE_METER.get();
+    if (meter == null || task == null) {
+      return task;
+    }
+    return () -> meter.measure(task::call);
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the CPU time measured by this meter.
+   * 
+   * @return The CPU time in nanoseconds, or -1 if the JVM doesn't support
+   *         measuring the CPU time of threads.
+   */
+  public long getCpuTime() {
+    return IS_CPU_TIME_SUPPORTED ? this.cpuTime.get() : -1;
+  }
+
+  /**
+   * Returns the number of allocated bytes measured by this meter.
+   * 
+   * @return The number of allocated bytes, or -1 if the JVM doesn't support
+   *         measuring the allocations of threads.
+   */
+  public long getAllocatedBytes() {
+    return IS_ALLOCATION_SUPPORTED ? this.allocatedBytes.get() : -1;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Checks if the given meter is this meter or is nested in this meter.
+   * 
+   * @param meter
+   *        The meter to check.
+   * 
+   * @return True, if the given meter is this meter or is nested in this
+   *         meter.
+   */
+  protected boolean encloses(ResourceMeter meter) {
+    for (ResourceMeter m = meter; m != null; m = m.parent) {
+      if (m == this) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the CPU time of the current thread.
+   * 
+   * @return The CPU time of the current thread in nanoseconds, or 0 if it
+   *         can't be measured.
+   */
+  protected static long getCurrentThreadCpuTime() {
+    return IS_CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0;
+  }
+
+  /**
+   * Returns the number of bytes allocated by the current thread.
+   * 
+   * @return The number of bytes allocated by the current thread, or 0 if it
+   *         can't be measured.
+   */
+  protected static long getCurrentThreadAllocatedBytes() {
+    if (!IS_ALLOCATION_SUPPORTED) {
+      return 0;
+    }
+    return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN)
+        .getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Checks if the JVM supports measuring the CPU time of threads (and enables
+   * the measurement if needed).
+   * 
+   * @return True, if the CPU time of threads can be measured.
+   */
+  protected static boolean isCpuTimeSupported() {
+    try {
+      if (!THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+        return false;
+      }
+      if (!THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+        THREAD_MX_BEAN.setThreadCpuTimeEnabled(true);
+      }
+      return true;
+    } catch (UnsupportedOperationException | SecurityException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Checks if the JVM supports measuring the allocated bytes of threads (and
+   * enables the measurement if needed).
+   * 
+   * @return True, if the allocated bytes of threads can be measured.
+   */
+  protected static boolean isAllocationSupported() {
+    try {
+      if (!(THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean)) {
+        return false;
+      }
+      com.sun.management.ThreadMXBean bean =
+          (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+      if (!bean.isThreadAllocatedMemorySupported()) {
+        return false;
+      }
+      if (!bean.isThreadAllocatedMemoryEnabled()) {
+        bean.setThreadAllocatedMemoryEnabled(true);
+      }
+      return true;
+    } catch (UnsupportedOperationException | SecurityException
+        | NoClassDefFoundError e) {
+      return false;
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * A task to be measured by a {@link ResourceMeter}.
+   * 
+   * @param <T>
+   *        The type of the result of the task.
+   * @param <E>
+   *        The type of the exception thrown by the task.
+   * 
+   * @author Claudius Korzen
+   */
+  public interface MeteredTask<T, E extends Exception> {
+    /**
+     * Executes the task.
+     * 
+     * @return The result of the task.
+     * 
+     * @throws E
+     *         If the task failed.
+     */
+    T call() throws E;
+  }
+}
@@ -7,10 +7,12 @@ import com.google.inject.Inject;
 import pdfact.core.model.Character;
 import pdfact.core.model.CharacterStatistic;
 import pdfact.core.model.CharacterStatistic.CharacterStatisticFactory;
+import pdfact.core.model.CharacterTable;
 import pdfact.core.model.Color;
 import pdfact.core.model.FontFace;
 import pdfact.core.model.HasCharacterStatistic;
 import pdfact.core.model.HasCharacters;
+import pdfact.core.model.Page;
 import pdfact.core.model.Position;
 import pdfact.core.model.Rectangle;
 import pdfact.core.util.counter.FloatCounter;
@@ -73,11 +75,32 @@ public class PlainCharacterStatistician implements CharacterStatistician {
 
   @Override
   public CharacterStatistic compute(HasCharacters hasCharacters) {
-    return compute(hasCharacters.getCharacters());
+    CharacterTable table = null;
+    if (hasCharacters instanceof Page) {
+      table = ((Page) hasCharacters).getCharacterTable();
+    }
+    return compute(hasCharacters.getCharacters(), table);
   }
 
   @Override
   public CharacterStatistic compute(ElementList<Character> characters) {
+    return compute(characters, null);
+  }
+
+  /**
+   * Computes the statistic about the given characters. The attributes of the
+   * characters that are backed by the given table are read directly from the
+   * table.
+   * 
+   * @param characters
+   *        The characters to process.
+   * @param table
+   *        The table of the characters of the page (may be null).
+   * 
+   * @return The computed statistic.
+   */
+  protected CharacterStatistic compute(ElementList<Character> characters,
+      CharacterTable table) {
     // Create a new statistic object.
     CharacterStatistic statistic = this.charStatisticFactory.create();
 
@@ -91,29 +114,52 @@ public class PlainCharacterStatistician implements CharacterStatistician {
     ObjectCounter<FontFace> fontFreqs = this.fontFaceCounterFactory.create();
 
     for (Character character : characters) {
-      Position position = character.getPosition();
-      Rectangle rectangle = position.getRectangle();
+      float minX;
+      float minY;
+      float maxX;
+      float maxY;
+      FontFace fontFace;
+      Color color;
+
+      int row = table != null ? table.indexOf(character) : -1;
+      if (row >= 0) {
+        minX = table.getMinX(row);
+        minY = table.getMinY(row);
+        maxX = table.getMaxX(row);
+        maxY = table.getMaxY(row);
+        fontFace = table.getFontFace(row);
+        color = table.getColor(row);
+      } else {
+        Position position = character.getPosition();
+        Rectangle rectangle = position.getRectangle();
+        minX = rectangle.getMinX();
+        minY = rectangle.getMinY();
+        maxX = rectangle.getMaxX();
+        maxY = rectangle.getMaxY();
+        fontFace = character.getFontFace();
+        color = character.getColor();
+      }
 
-      heightsFrequencies.add(rectangle.getHeight());
-      widthsFrequencies.add(rectangle.getWidth());
-      fontFreqs.add(character.getFontFace());
-      fontsizeFrequencies.add(character.getFontFace().getFontSize());
-      colorFreqs.add(character.getColor());
+      heightsFrequencies.add(maxY - minY);
+      widthsFrequencies.add(maxX - minX);
+      fontFreqs.add(fontFace);
+      fontsizeFrequencies.add(fontFace.getFontSize());
+      colorFreqs.add(color);
 
-      if (rectangle.getMinX() < statistic.getSmallestMinX()) {
-        statistic.setSmallestMinX(rectangle.getMinX());
+      if (minX < statistic.getSmallestMinX()) {
+        statistic.setSmallestMinX(minX);
       }
 
-      if (rectangle.getMinY() < statistic.getSmallestMinY()) {
-        statistic.setSmallestMinY(rectangle.getMinY());
+      if (minY < statistic.getSmallestMinY()) {
+        statistic.setSmallestMinY(minY);
       }
 
-      if (rectangle.getMaxX() > statistic.getLargestMaxX()) {
-        statistic.setLargestMaxX(rectangle.getMaxX());
+      if (maxX > statistic.getLargestMaxX()) {
+        statistic.setLargestMaxX(maxX);
       }
 
-      if (rectangle.getMaxY() > statistic.getLargestMaxY()) {
-        statistic.setLargestMaxY(rectangle.getMaxY());
+      if (maxY > statistic.getLargestMaxY()) {
+        statistic.setLargestMaxY(maxY);
       }
     }
 
@@ -132,52 +178,29 @@ public class PlainCharacterStatistician implements CharacterStatistician {
   @Override
   public CharacterStatistic aggregate(
       List<? extends HasCharacterStatistic> stats) {
-    // Create new statistic object.
-    CharacterStatistic statistic = this.charStatisticFactory.create();
-
-    // Initialize counters for the heights, widths and font sizes.
-    FloatCounter heightsFrequencies = this.floatCounterFactory.create();
-    FloatCounter widthsFrequencies = this.floatCounterFactory.create();
-    FloatCounter fontsizeFrequencies = this.floatCounterFactory.create();
-
-    // Initialize counters for the colors and font faces.
-    ObjectCounter<Color> colorFreqs = this.colorCounterFactory.create();
-    ObjectCounter<FontFace> fontFreqs = this.fontFaceCounterFactory.create();
+    CharacterStatistic statistic = createEmptyStatistic();
 
-    // Aggregate the given statistics.
+    // Merge the given statistics, in time linear to their distinct values.
     for (HasCharacterStatistic s : stats) {
-      CharacterStatistic stat = s.getCharacterStatistic();
-
-      heightsFrequencies.add(stat.getHeightFrequencies());
-      widthsFrequencies.add(stat.getWidthFrequencies());
-      fontFreqs.add(stat.getFontFaceFrequencies());
-      fontsizeFrequencies.add(stat.getFontSizeFrequencies());
-      colorFreqs.add(stat.getColorFrequencies());
-
-      if (stat.getSmallestMinX() < statistic.getSmallestMinX()) {
-        statistic.setSmallestMinX(stat.getSmallestMinX());
-      }
-
-      if (stat.getSmallestMinY() < statistic.getSmallestMinY()) {
-        statistic.setSmallestMinY(stat.getSmallestMinY());
-      }
-
-      if (stat.getLargestMaxX() > statistic.getLargestMaxX()) {
-        statistic.setLargestMaxX(stat.getLargestMaxX());
-      }
-
-      if (stat.getLargestMaxY() > statistic.getLargestMaxY()) {
-        statistic.setLargestMaxY(stat.getLargestMaxY());
-      }
+      statistic.add(s.getCharacterStatistic());
     }
 
-    // Fill the statistic object.
-    statistic.setHeightFrequencies(heightsFrequencies);
-    statistic.setWidthFrequencies(widthsFrequencies);
-    statistic.setFontSizeFrequencies(fontsizeFrequencies);
-    statistic.setColorFrequencies(colorFreqs);
-    statistic.setFontFaceFrequencies(fontFreqs);
+    return statistic;
+  }
 
+  /**
+   * Creates a statistic that doesn't describe any character yet, but has
+   * (empty) counters, such that other statistics can be merged into it.
+   * 
+   * @return The created statistic.
+   */
+  protected CharacterStatistic createEmptyStatistic() {
+    CharacterStatistic statistic = this.charStatisticFactory.create();
+    statistic.setHeightFrequencies(this.floatCounterFactory.create());
+    statistic.setWidthFrequencies(this.floatCounterFactory.create());
+    statistic.setFontSizeFrequencies(this.floatCounterFactory.create());
+    statistic.setColorFrequencies(this.colorCounterFactory.create());
+    statistic.setFontFaceFrequencies(this.fontFaceCounterFactory.create());
     return statistic;
   }
 }
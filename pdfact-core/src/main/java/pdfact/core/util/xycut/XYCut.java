@@ -102,18 +102,22 @@ public abstract class XYCut {
       float bestCutScore = 0;
       // The index of the best cut found so far.
       int bestCutIndex = -1;
+      // Compute the aggregates needed to assess each cut in constant time.
+      XYCutAggregates aggregates =
+          new XYCutAggregates(chars, page.getCharacterTable());
+
       // The current position in the list of characters.
-      float currentPos = chars.get(0).getPosition().getRectangle().getMaxX();
+      float currentPos = aggregates.getMaxX(0);
 
       for (int index = 1; index < chars.size(); index++) {
-        Character character = chars.get(index);
+        float minX = aggregates.getMinX(index);
+        float maxX = aggregates.getMaxX(index);
 
-        if (character.getPosition().getRectangle().getMinX() > currentPos) {
-          List<ElementList<Character>> halves = chars.cut(index);
+        if (minX > currentPos) {
           // Find the position of the "best" cut.
           while (index < chars.size()) {
             // The score of the current cut.
-            float cutScore = assessVerticalCut(pdf, page, halves);
+            float cutScore = assessVerticalCut(pdf, page, aggregates, index);
 
             if (cutScore < 0) {
               break;
@@ -121,10 +125,10 @@ public abstract class XYCut {
               bestCutScore = cutScore;
               bestCutIndex = index;
             }
-            halves = chars.cut(++index);
+            index++;
           }
         }
-        currentPos = character.getPosition().getRectangle().getMaxX();
+        currentPos = maxX;
       }
 
       if (bestCutIndex > -1) {
@@ -163,17 +167,21 @@ public abstract class XYCut {
       float bestCutScore = 0;
       // The index of the best cut found so far.
       int bestCutIndex = -1;
+      // Compute the aggregates needed to assess each cut in constant time.
+      XYCutAggregates aggregates =
+          new XYCutAggregates(chars, page.getCharacterTable());
+
       // The current position in the list of characters.
-      float currentPos = chars.get(0).getPosition().getRectangle().getMinY();
+      float currentPos = aggregates.getMinY(0);
 
       for (int index = 1; index < chars.size(); index++) {
-        Character character = chars.get(index);
+        float minY = aggregates.getMinY(index);
+        float maxY = aggregates.getMaxY(index);
 
-        if (character.getPosition().getRectangle().getMaxY() < currentPos) {
-          List<ElementList<Character>> halves = chars.cut(index);
+        if (maxY < currentPos) {
           // Find the position of the "best" cut.
           while (index < chars.size()) {
-            float cutScore = assessHorizontalCut(pdf, page, halves);
+            float cutScore = assessHorizontalCut(pdf, page, aggregates, index);
 
             if (cutScore < 0) {
               break;
@@ -181,10 +189,10 @@ public abstract class XYCut {
               bestCutScore = cutScore;
               bestCutIndex = index;
             }
-            halves = chars.cut(++index);
+            index++;
           }
         }
-        currentPos = character.getPosition().getRectangle().getMinY();
+        currentPos = minY;
       }
 
       if (bestCutIndex > -1) {
@@ -199,36 +207,44 @@ public abstract class XYCut {
   // Abstract methods.
 
   /**
-   * Assesses the given vertical cut. Returns a positive score, if the cut is
-   * valid and a negative score if the cut is invalid. The better the cut, the
-   * higher the returned score.
+   * Assesses the vertical cut at the given index, that is: the cut between the
+   * characters in [0, index) (the left half) and the characters in [index, n)
+   * (the right half) of the characters sorted by minX. Returns a positive
+   * score, if the cut is valid and a negative score if the cut is invalid. The
+   * better the cut, the higher the returned score.
    * 
    * @param pdf
    *        The PDF document to which the characters belong to.
    * @param page
    *        The page in which the characters are located.
-   * @param halves
-   *        The characters of the two halves.
+   * @param aggregates
+   *        The aggregates of the sorted characters.
+   * @param index
+   *        The index of the cut.
    * @return A score that assesses the given cut.
    */
   public abstract float assessVerticalCut(PdfDocument pdf, Page page,
-      List<ElementList<Character>> halves);
+      XYCutAggregates aggregates, int index);
 
   /**
-   * Assesses the given horizontal cut. Returns a positive score, if the cut is
-   * valid and a negative score if the cut is invalid. The better the cut, the
-   * higher the returned score.
+   * Assesses the horizontal cut at the given index, that is: the cut between
+   * the characters in [0, index) (the upper half) and the characters in
+   * [index, n) (the lower half) of the characters sorted by maxY in descending
+   * order. Returns a positive score, if the cut is valid and a negative score
+   * if the cut is invalid. The better the cut, the higher the returned score.
    * 
    * @param pdf
    *        The PDF document to which the characters belong to.
    * @param page
    *        The page in which the characters are located.
-   * @param halves
-   *        The characters of the two halves.
+   * @param aggregates
+   *        The aggregates of the sorted characters.
+   * @param index
+   *        The index of the cut.
    * @return A score that assesses the given cut.
    */
   public abstract float assessHorizontalCut(PdfDocument pdf, Page page,
-      List<ElementList<Character>> halves);
+      XYCutAggregates aggregates, int index);
 
   // /**
   // * Packs the given characters into the target type.
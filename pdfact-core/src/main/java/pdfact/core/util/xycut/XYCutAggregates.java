@@ -0,0 +1,384 @@
+package pdfact.core.util.xycut;
+
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+
+import pdfact.core.model.Character;
+import pdfact.core.model.CharacterTable;
+import pdfact.core.model.Rectangle;
+import pdfact.core.util.list.ElementList;
+
+/**
+ * Some aggregates of a sorted list of characters that allow to assess each
+ * possible cut of the list in constant time: For each index i, the smallest
+ * and largest coordinates of the characters in front of i (the first half of
+ * a cut at i) and of the characters from i on (the second half of a cut at i).
+ * The aggregates are computed once per sorted list, in time linear in the
+ * number of characters.
+ *
+ * @author Claudius Korzen
+ */
+public class XYCutAggregates {
+  /**
+   * The sorted characters.
+   */
+  protected ElementList<Character> characters;
+
+  /**
+   * The minX values of the characters, per index.
+   */
+  protected float[] minX;
+
+  /**
+   * The minY values of the characters, per index.
+   */
+  protected float[] minY;
+
+  /**
+   * The maxX values of the characters, per index.
+   */
+  protected float[] maxX;
+
+  /**
+   * The maxY values of the characters, per index.
+   */
+  protected float[] maxY;
+
+  /**
+   * The smallest minX values of the characters in [0, i), per index i.
+   */
+  protected float[] firstHalfSmallestMinX;
+
+  /**
+   * The smallest minY values of the characters in [0, i), per index i.
+   */
+  protected float[] firstHalfSmallestMinY;
+
+  /**
+   * The largest maxX values of the characters in [0, i), per index i.
+   */
+  protected float[] firstHalfLargestMaxX;
+
+  /**
+   * The largest maxY values of the characters in [0, i), per index i.
+   */
+  protected float[] firstHalfLargestMaxY;
+
+  /**
+   * The smallest minX values of the characters in [i, n), per index i.
+   */
+  protected float[] secondHalfSmallestMinX;
+
+  /**
+   * The smallest minY values of the characters in [i, n), per index i.
+   */
+  protected float[] secondHalfSmallestMinY;
+
+  /**
+   * The largest maxX values of the characters in [i, n), per index i.
+   */
+  protected float[] secondHalfLargestMaxX;
+
+  /**
+   * The largest maxY values of the characters in [i, n), per index i.
+   */
+  protected float[] secondHalfLargestMaxY;
+
+  /**
+   * The indexes of the characters in the sorted list, per extraction rank.
+   * Created on first usage.
+   */
+  protected TIntIntMap indexesByExtractionRank;
+
+  // ==========================================================================
+
+  /**
+   * Computes the aggregates of the given characters. The characters must not
+   * be modified or reordered as long as the aggregates are used.
+   *
+   * @param characters
+   *        The sorted characters.
+   */
+  public XYCutAggregates(ElementList<Character> characters) {
+    this(characters, null);
+  }
+
+  /**
+   * Computes the aggregates of the given characters. The characters must not
+   * be modified or reordered as long as the aggregates are used. The
+   * coordinates of the characters that are backed by the given table are read
+   * directly from the table.
+   *
+   * @param characters
+   *        The sorted characters.
+   * @param table
+   *        The table of the characters of the page (may be null).
+   */
+  public XYCutAggregates(ElementList<Character> characters,
+      CharacterTable table) {
+    this.characters = characters;
+
+    int n = characters.size();
+    this.minX = new float[n];
+    this.minY = new float[n];
+    this.maxX = new float[n];
+    this.maxY = new float[n];
+    for (int i = 0; i < n; i++) {
+      Character character = characters.get(i);
+      int row = table != null ? table.indexOf(character) : -1;
+      if (row >= 0) {
+        this.minX[i] = table.getMinX(row);
+        this.minY[i] = table.getMinY(row);
+        this.maxX[i] = table.getMaxX(row);
+        this.maxY[i] = table.getMaxY(row);
+      } else {
+        Rectangle rect = character.getPosition().getRectangle();
+        this.minX[i] = rect.getMinX();
+        this.minY[i] = rect.getMinY();
+        this.maxX[i] = rect.getMaxX();
+        this.maxY[i] = rect.getMaxY();
+      }
+    }
+
+    this.firstHalfSmallestMinX = new float[n + 1];
+    this.firstHalfSmallestMinY = new float[n + 1];
+    this.firstHalfLargestMaxX = new float[n + 1];
+    this.firstHalfLargestMaxY = new float[n + 1];
+    this.secondHalfSmallestMinX = new float[n + 1];
+    this.secondHalfSmallestMinY = new float[n + 1];
+    this.secondHalfLargestMaxX = new float[n + 1];
+    this.secondHalfLargestMaxY = new float[n + 1];
+
+    // The aggregates of an empty half.
+    this.firstHalfSmallestMinX[0] = Float.MAX_VALUE;
+    this.firstHalfSmallestMinY[0] = Float.MAX_VALUE;
+    this.firstHalfLargestMaxX[0] = -Float.MAX_VALUE;
+    this.firstHalfLargestMaxY[0] = -Float.MAX_VALUE;
+    this.secondHalfSmallestMinX[n] = Float.MAX_VALUE;
+    this.secondHalfSmallestMinY[n] = Float.MAX_VALUE;
+    this.secondHalfLargestMaxX[n] = -Float.MAX_VALUE;
+    this.secondHalfLargestMaxY[n] = -Float.MAX_VALUE;
+
+    for (int i = 0; i < n; i++) {
+      this.firstHalfSmallestMinX[i + 1] =
+          Math.min(this.firstHalfSmallestMinX[i], this.minX[i]);
+      this.firstHalfSmallestMinY[i + 1] =
+          Math.min(this.firstHalfSmallestMinY[i], this.minY[i]);
+      this.firstHalfLargestMaxX[i + 1] =
+          Math.max(this.firstHalfLargestMaxX[i], this.maxX[i]);
+      this.firstHalfLargestMaxY[i + 1] =
+          Math.max(this.firstHalfLargestMaxY[i], this.maxY[i]);
+    }
+
+    for (int i = n - 1; i >= 0; i--) {
+      this.secondHalfSmallestMinX[i] =
+          Math.min(this.secondHalfSmallestMinX[i + 1], this.minX[i]);
+      this.secondHalfSmallestMinY[i] =
+          Math.min(this.secondHalfSmallestMinY[i + 1], this.minY[i]);
+      this.secondHalfLargestMaxX[i] =
+          Math.max(this.secondHalfLargestMaxX[i + 1], this.maxX[i]);
+      this.secondHalfLargestMaxY[i] =
+          Math.max(this.secondHalfLargestMaxY[i + 1], this.maxY[i]);
+    }
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the sorted characters.
+   *
+   * @return The sorted characters.
+   */
+  public ElementList<Character> getCharacters() {
+    return this.characters;
+  }
+
+  /**
+   * Returns the number of the characters.
+   *
+   * @return The number of the characters.
+   */
+  public int size() {
+    return this.characters.size();
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the minX value of the character at the given index.
+   *
+   * @param index
+   *        The index of the character.
+   *
+   * @return The minX value of the character.
+   */
+  public float getMinX(int index) {
+    return this.minX[index];
+  }
+
+  /**
+   * Returns the minY value of the character at the given index.
+   *
+   * @param index
+   *        The index of the character.
+   *
+   * @return The minY value of the character.
+   */
+  public float getMinY(int index) {
+    return this.minY[index];
+  }
+
+  /**
+   * Returns the maxX value of the character at the given index.
+   *
+   * @param index
+   *        The index of the character.
+   *
+   * @return The maxX value of the character.
+   */
+  public float getMaxX(int index) {
+    return this.maxX[index];
+  }
+
+  /**
+   * Returns the maxY value of the character at the given index.
+   *
+   * @param index
+   *        The index of the character.
+   *
+   * @return The maxY value of the character.
+   */
+  public float getMaxY(int index) {
+    return this.maxY[index];
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the smallest minX value of the characters in front of the given
+   * index.
+   *
+   * @param index
+   *        The index of the cut.
+   *
+   * @return The smallest minX value of the characters in [0, index).
+   */
+  public float getFirstHalfSmallestMinX(int index) {
+    return this.firstHalfSmallestMinX[index];
+  }
+
+  /**
+   * Returns the smallest minY value of the characters in front of the given
+   * index.
+   *
+   * @param index
+   *        The index of the cut.
+   *
+   * @return The smallest minY value of the characters in [0, index).
+   */
+  public float getFirstHalfSmallestMinY(int index) {
+    return this.firstHalfSmallestMinY[index];
+  }
+
+  /**
+   * Returns the largest maxX value of the characters in front of the given
+   * index.
+   *
+   * @param index
+   *        The index of the cut.
+   *
+   * @return The largest maxX value of the characters in [0, index).
+   */
+  public float getFirstHalfLargestMaxX(int index) {
+    return this.firstHalfLargestMaxX[index];
+  }
+
+  /**
+   * Returns the largest maxY value of the characters in front of the given
+   * index.
+   *
+   * @param index
+   *        The index of the cut.
+   *
+   * @return The largest maxY value of the characters in [0, index).
+   */
+  public float getFirstHalfLargestMaxY(int index) {
+    return this.firstHalfLargestMaxY[index];
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the smallest minX value of the characters from the given index
+   * on.
+   *
+   * @param index
+   *        The index of the cut.
+   *
+   * @return The smallest minX value of the characters in [index, n).
+   */
+  public float getSecondHalfSmallestMinX(int index) {
+    return this.secondHalfSmallestMinX[index];
+  }
+
+  /**
+   * Returns the smallest minY value of the characters from the given index
+   * on.
+   *
+   * @param index
+   *        The index of the cut.
+   *
+   * @return The smallest minY value of the characters in [index, n).
+   */
+  public float getSecondHalfSmallestMinY(int index) {
+    return this.secondHalfSmallestMinY[index];
+  }
+
+  /**
+   * Returns the largest maxX value of the characters from the given index on.
+   *
+   * @param index
+   *        The index of the cut.
+   *
+   * @return The largest maxX value of the characters in [index, n).
+   */
+  public float getSecondHalfLargestMaxX(int index) {
+    return this.secondHalfLargestMaxX[index];
+  }
+
+  /**
+   * Returns the largest maxY value of the characters from the given index on.
+   *
+   * @param index
+   *        The index of the cut.
+   *
+   * @return The largest maxY value of the characters in [index, n).
+   */
+  public float getSecondHalfLargestMaxY(int index) {
+    return this.secondHalfLargestMaxY[index];
+  }
+
+  // ==========================================================================
+
+  /**
+   * Returns the index of the character with the given extraction rank in the
+   * sorted list.
+   *
+   * @param rank
+   *        The extraction rank.
+   *
+   * @return The index of the character with the given extraction rank or -1
+   *         if there is no such character.
+   */
+  public int indexOfExtractionRank(int rank) {
+    if (this.indexesByExtractionRank == null) {
+      int n = this.characters.size();
+      TIntIntMap indexes = new TIntIntHashMap(n, 0.5f, -1, -1);
+      for (int i = 0; i < n; i++) {
+        indexes.put(this.characters.get(i).getExtractionRank(), i);
+      }
+      this.indexesByExtractionRank = indexes;
+    }
+    return this.indexesByExtractionRank.get(rank);
+  }
+}